@@ -0,0 +1,141 @@
+/*
+ * This file is part of Derivora Testing Data Support.
+ *
+ * Derivora Testing Data Support is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Derivora Testing Data Support is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with Derivora Testing Data Support. If not, see https://www.gnu.org/licenses/lgpl-3.0.html.
+ */
+
+package xyz.derivora.testing.data.support.benchmark;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import xyz.derivora.testing.data.support.aggregator.FlatDataAggregator;
+import xyz.derivora.testing.data.support.aggregator.FlatIntDataAggregator;
+import xyz.derivora.testing.data.support.aggregator.ParallelDataAggregator;
+import xyz.derivora.testing.data.support.supplier.DataSupplier;
+import xyz.derivora.testing.data.support.supplier.IntDataSupplier;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks aggregating the output of multiple suppliers across supplier counts and dataset sizes.
+ *
+ * <p>The dataset is split evenly between the suppliers, and each supplier returns a precomputed array,
+ * so that only the cost of aggregation is measured.</p>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 2, jvmArgsAppend = {"-Xms2g", "-Xmx2g", "-XX:+UseParallelGC"})
+public class AggregatorBenchmark {
+
+    /**
+     * The number of suppliers aggregated.
+     */
+    @Param({"1", "8", "64"})
+    public int supplierCount;
+
+    /**
+     * The total number of elements supplied by all suppliers.
+     */
+    @Param({"64", "4096", "262144"})
+    public int datasetSize;
+
+    /**
+     * The suppliers of strings aggregated by the object aggregators.
+     */
+    private DataSupplier<String>[] suppliers;
+
+    /**
+     * The suppliers of integers aggregated by the primitive aggregator.
+     */
+    private IntDataSupplier[] intSuppliers;
+
+    /**
+     * The aggregator concatenating supplier output into a single array.
+     */
+    private final FlatDataAggregator<String> flatAggregator = new FlatDataAggregator<>(String[]::new);
+
+    /**
+     * The aggregator evaluating suppliers concurrently.
+     */
+    private final ParallelDataAggregator<String> parallelAggregator = new ParallelDataAggregator<>(String[]::new);
+
+    /**
+     * The aggregator concatenating primitive supplier output.
+     */
+    private final FlatIntDataAggregator intAggregator = new FlatIntDataAggregator();
+
+    /**
+     * Creates the suppliers of the current parameter combination.
+     */
+    @Setup
+    public void setUp() {
+        suppliers = BenchmarkData.stringSuppliers(supplierCount, datasetSize);
+        intSuppliers = BenchmarkData.intSuppliers(supplierCount, datasetSize);
+    }
+
+    /**
+     * Measures concatenating supplier output into a new array.
+     *
+     * @return the aggregated array
+     */
+    @Benchmark
+    public String[] flatAggregate() {
+        return flatAggregator.aggregate(suppliers);
+    }
+
+    /**
+     * Measures iterating over a copy-free view of supplier output.
+     *
+     * @param blackhole the sink consuming every element
+     */
+    @Benchmark
+    public void flatAggregateView(Blackhole blackhole) {
+        for (String value : flatAggregator.aggregateView(suppliers)) {
+            blackhole.consume(value);
+        }
+    }
+
+    /**
+     * Measures concatenating supplier output evaluated concurrently.
+     *
+     * @return the aggregated array
+     */
+    @Benchmark
+    public String[] parallelAggregate() {
+        return parallelAggregator.aggregate(suppliers);
+    }
+
+    /**
+     * Measures concatenating primitive supplier output without boxing.
+     *
+     * @return the aggregated array
+     */
+    @Benchmark
+    public int[] flatIntAggregate() {
+        return intAggregator.aggregate(intSuppliers);
+    }
+}
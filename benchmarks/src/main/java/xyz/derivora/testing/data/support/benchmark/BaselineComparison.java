@@ -0,0 +1,189 @@
+/*
+ * This file is part of Derivora Testing Data Support.
+ *
+ * Derivora Testing Data Support is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Derivora Testing Data Support is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with Derivora Testing Data Support. If not, see https://www.gnu.org/licenses/lgpl-3.0.html.
+ */
+
+package xyz.derivora.testing.data.support.benchmark;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * Compares two benchmark results recorded by {@link BaselineRunner} and reports regressions.
+ *
+ * <p>Usage: {@code java -cp benchmarks.jar xyz.derivora.testing.data.support.benchmark.BaselineComparison
+ * <baseline.csv> <candidate.csv> [threshold-percent]}. Only scores measured per operation, such as average
+ * time and normalized allocation, are compared. A score is reported as a regression if it exceeds the
+ * baseline by more than the threshold, 5% by default, and by more than the larger of both error margins.
+ * The process exits with status {@code 1} if any regression is found.</p>
+ */
+public final class BaselineComparison {
+
+    /**
+     * The default relative increase of a score tolerated before it is reported as a regression.
+     */
+    private static final double DEFAULT_THRESHOLD = 0.05;
+
+    /**
+     * Prevents instantiation of this command-line entry point.
+     */
+    private BaselineComparison() {
+    }
+
+    /**
+     * Compares the given result files and prints a report.
+     *
+     * @param args the baseline file, the candidate file and optionally the threshold in percent
+     * @throws IOException if a result file cannot be read
+     */
+    public static void main(String[] args) throws IOException {
+        if (args.length < 2 || args.length > 3) {
+            System.err.println("Usage: BaselineComparison <baseline.csv> <candidate.csv> [threshold-percent]");
+            System.exit(2);
+        }
+
+        double threshold = args.length == 3 ? Double.parseDouble(args[2]) / 100 : DEFAULT_THRESHOLD;
+        Map<String, Score> baseline = read(Path.of(args[0]));
+        Map<String, Score> candidate = read(Path.of(args[1]));
+
+        int regressions = 0;
+        for (Map.Entry<String, Score> entry : candidate.entrySet()) {
+            Score previous = baseline.get(entry.getKey());
+            if (previous == null) {
+                continue;
+            }
+
+            Score current = entry.getValue();
+            double ratio = current.value() / previous.value();
+            boolean regression = ratio > 1 + threshold
+                    && current.value() - previous.value() > Math.max(previous.error(), current.error());
+            if (regression) {
+                regressions++;
+            }
+
+            System.out.printf(Locale.ROOT, "%-12s %8.3fx  %14.3f -> %14.3f %s  %s%n",
+                              regression ? "REGRESSION" : "ok", ratio,
+                              previous.value(), current.value(), current.unit(), entry.getKey());
+        }
+
+        System.out.printf(Locale.ROOT, "%d regression(s) found%n", regressions);
+        if (regressions > 0) {
+            System.exit(1);
+        }
+    }
+
+    /**
+     * Reads the per-operation scores of a CSV result file.
+     *
+     * @param file the result file
+     * @return the scores keyed by benchmark name and parameter values
+     * @throws IOException if the file cannot be read
+     */
+    private static Map<String, Score> read(Path file) throws IOException {
+        List<String> lines = Files.readAllLines(file);
+        Map<String, Score> scores = new LinkedHashMap<>();
+        if (lines.isEmpty()) {
+            return scores;
+        }
+
+        List<String> header = parseLine(lines.get(0));
+        int score = header.indexOf("Score");
+        int error = header.indexOf("Score Error (99.9%)");
+        int unit = header.indexOf("Unit");
+
+        for (String line : lines.subList(1, lines.size())) {
+            List<String> fields = parseLine(line);
+            if (fields.size() != header.size() || !fields.get(unit).endsWith("/op")) {
+                continue;
+            }
+
+            StringBuilder key = new StringBuilder(fields.get(0));
+            for (int i = 0; i < header.size(); i++) {
+                if (header.get(i).startsWith("Param: ") && !fields.get(i).isEmpty()) {
+                    key.append(' ').append(header.get(i).substring(7)).append('=').append(fields.get(i));
+                }
+            }
+
+            double errorValue = parseNumber(fields.get(error));
+            scores.put(key.toString(), new Score(parseNumber(fields.get(score)),
+                                                 Double.isNaN(errorValue) ? 0 : errorValue,
+                                                 fields.get(unit)));
+        }
+
+        return scores;
+    }
+
+    /**
+     * Splits a CSV line into its fields, removing enclosing quotes.
+     *
+     * @param line the line to split
+     * @return the fields of the line
+     */
+    private static List<String> parseLine(String line) {
+        List<String> fields = new ArrayList<>();
+        StringBuilder field = new StringBuilder();
+        boolean quoted = false;
+
+        for (int i = 0; i < line.length(); i++) {
+            char current = line.charAt(i);
+            if (current == '"') {
+                if (quoted && i + 1 < line.length() && line.charAt(i + 1) == '"') {
+                    field.append('"');
+                    i++;
+                } else {
+                    quoted = !quoted;
+                }
+            } else if (current == ',' && !quoted) {
+                fields.add(field.toString());
+                field.setLength(0);
+            } else {
+                field.append(current);
+            }
+        }
+
+        fields.add(field.toString());
+        return fields;
+    }
+
+    /**
+     * Parses a number written by JMH.
+     *
+     * @param value the value to parse
+     * @return the parsed number, or {@link Double#NaN} if the value is not a number
+     */
+    private static double parseNumber(String value) {
+        try {
+            return Double.parseDouble(value);
+        } catch (NumberFormatException e) {
+            return Double.NaN;
+        }
+    }
+
+    /**
+     * A score of a single benchmark and parameter combination.
+     *
+     * @param value the score
+     * @param error the error margin of the score
+     * @param unit the unit of the score
+     */
+    private record Score(double value, double error, String unit) {
+    }
+}
@@ -0,0 +1,74 @@
+/*
+ * This file is part of Derivora Testing Data Support.
+ *
+ * Derivora Testing Data Support is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Derivora Testing Data Support is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with Derivora Testing Data Support. If not, see https://www.gnu.org/licenses/lgpl-3.0.html.
+ */
+
+package xyz.derivora.testing.data.support.benchmark;
+
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.results.format.ResultFormatType;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+/**
+ * Records a baseline of all benchmarks, including allocation profiling, as a CSV file.
+ *
+ * <p>Usage: {@code java -cp benchmarks.jar xyz.derivora.testing.data.support.benchmark.BaselineRunner
+ * <result.csv> [include-regex]}. The benchmark configuration is fixed by the annotations of the
+ * benchmark classes, so that baselines recorded for different releases on the same machine are
+ * comparable with {@link BaselineComparison}.</p>
+ */
+public final class BaselineRunner {
+
+    /**
+     * Prevents instantiation of this command-line entry point.
+     */
+    private BaselineRunner() {
+    }
+
+    /**
+     * Runs the benchmarks and writes their results to the given file.
+     *
+     * @param args the result file, optionally followed by a regular expression selecting benchmarks
+     * @throws IOException if the directory of the result file cannot be created
+     * @throws RunnerException if running the benchmarks fails
+     */
+    public static void main(String[] args) throws IOException, RunnerException {
+        if (args.length < 1 || args.length > 2) {
+            System.err.println("Usage: BaselineRunner <result.csv> [include-regex]");
+            System.exit(2);
+        }
+
+        Path result = Path.of(args[0]).toAbsolutePath();
+        Files.createDirectories(result.getParent());
+
+        String include = args.length == 2 ? args[1] : BaselineRunner.class.getPackageName() + "\\..*Benchmark";
+        Options options = new OptionsBuilder()
+                .include(include)
+                .addProfiler(GCProfiler.class)
+                .resultFormat(ResultFormatType.CSV)
+                .result(result.toString())
+                .shouldFailOnError(true)
+                .build();
+
+        new Runner(options).run();
+    }
+}
@@ -0,0 +1,121 @@
+/*
+ * This file is part of Derivora Testing Data Support.
+ *
+ * Derivora Testing Data Support is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Derivora Testing Data Support is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with Derivora Testing Data Support. If not, see https://www.gnu.org/licenses/lgpl-3.0.html.
+ */
+
+package xyz.derivora.testing.data.support.benchmark;
+
+import xyz.derivora.testing.data.support.supplier.DataSupplier;
+import xyz.derivora.testing.data.support.supplier.IntDataSupplier;
+
+import java.util.Arrays;
+import java.util.SplittableRandom;
+
+/**
+ * Creates the deterministic data sets used by the benchmarks.
+ *
+ * <p>All values are derived from a fixed seed, so that every run of a benchmark, and every release
+ * compared against a baseline, operates on identical data.</p>
+ */
+final class BenchmarkData {
+
+    /**
+     * The seed from which all benchmark data is derived.
+     */
+    static final long SEED = 0x5EED_DA7AL;
+
+    /**
+     * Prevents instantiation of this utility class.
+     */
+    private BenchmarkData() {
+    }
+
+    /**
+     * Creates random strings of a fixed shape.
+     *
+     * @param count the number of strings to create
+     * @return an array of {@code count} strings
+     */
+    static String[] strings(int count) {
+        SplittableRandom random = new SplittableRandom(SEED);
+        String[] values = new String[count];
+        for (int i = 0; i < count; i++) {
+            values[i] = "value-" + Long.toHexString(random.nextLong());
+        }
+
+        return values;
+    }
+
+    /**
+     * Creates random integers.
+     *
+     * @param count the number of integers to create
+     * @return an array of {@code count} integers
+     */
+    static int[] ints(int count) {
+        return new SplittableRandom(SEED).ints(count).toArray();
+    }
+
+    /**
+     * Creates suppliers that together supply the given number of strings, split as evenly as possible.
+     *
+     * @param supplierCount the number of suppliers to create
+     * @param datasetSize the total number of strings supplied
+     * @return an array of {@code supplierCount} suppliers
+     */
+    @SuppressWarnings("unchecked")
+    static DataSupplier<String>[] stringSuppliers(int supplierCount, int datasetSize) {
+        String[] values = strings(datasetSize);
+        DataSupplier<String>[] suppliers = new DataSupplier[supplierCount];
+        for (int i = 0; i < supplierCount; i++) {
+            String[] segment = Arrays.copyOfRange(values, start(i, supplierCount, datasetSize),
+                                                  start(i + 1, supplierCount, datasetSize));
+            suppliers[i] = () -> segment;
+        }
+
+        return suppliers;
+    }
+
+    /**
+     * Creates suppliers that together supply the given number of integers, split as evenly as possible.
+     *
+     * @param supplierCount the number of suppliers to create
+     * @param datasetSize the total number of integers supplied
+     * @return an array of {@code supplierCount} suppliers
+     */
+    static IntDataSupplier[] intSuppliers(int supplierCount, int datasetSize) {
+        int[] values = ints(datasetSize);
+        IntDataSupplier[] suppliers = new IntDataSupplier[supplierCount];
+        for (int i = 0; i < supplierCount; i++) {
+            int[] segment = Arrays.copyOfRange(values, start(i, supplierCount, datasetSize),
+                                               start(i + 1, supplierCount, datasetSize));
+            suppliers[i] = () -> segment;
+        }
+
+        return suppliers;
+    }
+
+    /**
+     * Returns the index at which the segment of the given supplier starts.
+     *
+     * @param index the index of the supplier
+     * @param supplierCount the number of suppliers
+     * @param datasetSize the total number of elements supplied
+     * @return the start index of the segment
+     */
+    private static int start(int index, int supplierCount, int datasetSize) {
+        return (int) ((long) datasetSize * index / supplierCount);
+    }
+}
@@ -0,0 +1,59 @@
+/*
+ * This file is part of Derivora Testing Data Support.
+ *
+ * Derivora Testing Data Support is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Derivora Testing Data Support is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with Derivora Testing Data Support. If not, see https://www.gnu.org/licenses/lgpl-3.0.html.
+ */
+
+package xyz.derivora.testing.data.support.benchmark;
+
+import xyz.derivora.testing.data.support.supplier.DataSupplier;
+
+/**
+ * Shared helpers for the resolver benchmarks.
+ */
+final class BenchmarkResolvers {
+
+    /**
+     * Prevents instantiation of this utility class.
+     */
+    private BenchmarkResolvers() {
+    }
+
+    /**
+     * Creates an array of suppliers of strings.
+     *
+     * @param length the length of the array
+     * @return a new array of the given length
+     */
+    @SuppressWarnings("unchecked")
+    static DataSupplier<String>[] newSupplierArray(int length) {
+        return new DataSupplier[length];
+    }
+
+    /**
+     * A supplier of the simple name of its class, used as the base of resolvable supplier classes.
+     */
+    public abstract static class NamedSupplier implements DataSupplier<String> {
+
+        /**
+         * Supplies the simple name of the class of this supplier.
+         *
+         * @return an array holding the simple class name
+         */
+        @Override
+        public String[] get() {
+            return new String[]{getClass().getSimpleName()};
+        }
+    }
+}
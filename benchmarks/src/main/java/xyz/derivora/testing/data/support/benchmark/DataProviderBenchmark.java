@@ -0,0 +1,262 @@
+/*
+ * This file is part of Derivora Testing Data Support.
+ *
+ * Derivora Testing Data Support is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Derivora Testing Data Support is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with Derivora Testing Data Support. If not, see https://www.gnu.org/licenses/lgpl-3.0.html.
+ */
+
+package xyz.derivora.testing.data.support.benchmark;
+
+import org.junit.jupiter.api.extension.ExtensionContext;
+import org.junit.jupiter.api.parallel.ExecutionMode;
+import org.junit.jupiter.params.provider.Arguments;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import xyz.derivora.testing.data.support.provider.DataProvider;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.util.Arrays;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+/**
+ * Benchmarks {@link DataProvider#provideArguments(ExtensionContext)} across dataset sizes and row shapes.
+ *
+ * <p>The provider returns precomputed data, so that only the conversion of data into arguments and
+ * the consumption of the argument stream are measured.</p>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 2, jvmArgsAppend = {"-Xms2g", "-Xmx2g", "-XX:+UseParallelGC"})
+public class DataProviderBenchmark {
+
+    /**
+     * The number of rows provided.
+     */
+    @Param({"64", "4096", "262144"})
+    public int rowCount;
+
+    /**
+     * The shape of every provided row.
+     */
+    @Param
+    public RowShape rowShape;
+
+    /**
+     * The provider under measurement.
+     */
+    private RowProvider provider;
+
+    /**
+     * The extension context passed to the provider.
+     */
+    private ExtensionContext context;
+
+    /**
+     * Creates the provider and context of the current parameter combination.
+     *
+     * @throws NoSuchMethodException if the annotated method cannot be found
+     */
+    @Setup
+    public void setUp() throws NoSuchMethodException {
+        provider = new RowProvider(rowShape.createRows(rowCount));
+        context = contextOf(DataProviderBenchmark.class.getDeclaredMethod("annotatedMethod"));
+    }
+
+    /**
+     * Measures providing and consuming all arguments.
+     *
+     * @param blackhole the sink consuming every argument
+     * @throws Exception if providing arguments fails
+     */
+    @Benchmark
+    public void provideArguments(Blackhole blackhole) throws Exception {
+        try (Stream<? extends Arguments> arguments = provider.provideArguments(context)) {
+            arguments.forEach(argument -> blackhole.consume(argument.get()));
+        }
+    }
+
+    /**
+     * The method whose annotation is resolved by the provider.
+     */
+    @Rows
+    private static void annotatedMethod() {
+    }
+
+    /**
+     * Creates a minimal extension context of the given test method without configuration parameters.
+     *
+     * <p>Every method returning an {@link Optional} other than the element and test method lookups returns
+     * an empty {@link Optional}, report entries are discarded and the context is its own root, so that
+     * providers using any of these methods can be benchmarked as well. Stores are not supported.</p>
+     *
+     * @param element the test method returned by {@link ExtensionContext#getElement()}
+     * @return an extension context backed by a dynamic proxy
+     */
+    private static ExtensionContext contextOf(Method element) {
+        String uniqueId = "[method:" + element.getName() + "()]";
+        return (ExtensionContext) Proxy.newProxyInstance(
+                ExtensionContext.class.getClassLoader(),
+                new Class<?>[]{ExtensionContext.class},
+                (proxy, method, arguments) -> switch (method.getName()) {
+                    case "getElement", "getTestMethod" -> Optional.of(element);
+                    case "getTestClass" -> Optional.of(element.getDeclaringClass());
+                    case "getRoot" -> proxy;
+                    case "getUniqueId", "getDisplayName", "toString" -> uniqueId;
+                    case "getTags" -> Set.of();
+                    case "getExecutionMode" -> ExecutionMode.SAME_THREAD;
+                    case "publishReportEntry" -> null;
+                    case "hashCode" -> System.identityHashCode(proxy);
+                    case "equals" -> proxy == arguments[0];
+                    default -> {
+                        if (method.getReturnType() == Optional.class) {
+                            yield Optional.empty();
+                        }
+                        throw new UnsupportedOperationException(method.getName());
+                    }
+                }
+        );
+    }
+
+    /**
+     * The shapes of rows provided to parameterized tests.
+     */
+    public enum RowShape {
+
+        /**
+         * Every row is a single value passed as the only argument.
+         */
+        SCALAR {
+            @Override
+            Object[] createRows(int count) {
+                return BenchmarkData.strings(count);
+            }
+        },
+
+        /**
+         * Every row is an object array of three values passed as separate arguments.
+         */
+        TUPLE {
+            @Override
+            Object[] createRows(int count) {
+                String[] values = BenchmarkData.strings(count);
+                Object[][] rows = new Object[count][];
+                for (int i = 0; i < count; i++) {
+                    rows[i] = new Object[]{values[i], i, (long) i};
+                }
+                return rows;
+            }
+        },
+
+        /**
+         * Every row is an object array of sixteen values passed as separate arguments.
+         */
+        WIDE_TUPLE {
+            @Override
+            Object[] createRows(int count) {
+                String[] values = BenchmarkData.strings(count);
+                Object[][] rows = new Object[count][];
+                for (int i = 0; i < count; i++) {
+                    Object[] row = new Object[16];
+                    Arrays.fill(row, values[i]);
+                    rows[i] = row;
+                }
+                return rows;
+            }
+        },
+
+        /**
+         * Every row is a primitive array of four integers passed as separate arguments.
+         */
+        INT_TUPLE {
+            @Override
+            Object[] createRows(int count) {
+                int[] values = BenchmarkData.ints(count);
+                int[][] rows = new int[count][];
+                for (int i = 0; i < count; i++) {
+                    rows[i] = new int[]{values[i], i, -i, values[i] ^ i};
+                }
+                return rows;
+            }
+        };
+
+        /**
+         * Creates the given number of rows of this shape.
+         *
+         * @param count the number of rows to create
+         * @return an array of rows
+         */
+        abstract Object[] createRows(int count);
+    }
+
+    /**
+     * Marks the method whose data is provided by {@link RowProvider}.
+     */
+    @Retention(RetentionPolicy.RUNTIME)
+    @Target(ElementType.METHOD)
+    @interface Rows {
+    }
+
+    /**
+     * A provider returning precomputed rows for every {@link Rows} annotation.
+     */
+    private static final class RowProvider extends DataProvider<Rows> {
+
+        /**
+         * The rows returned for every annotation.
+         */
+        private final Object[] rows;
+
+        /**
+         * Constructs a {@code RowProvider} returning the given rows.
+         *
+         * @param rows the rows returned for every annotation
+         */
+        private RowProvider(Object[] rows) {
+            super(Rows.class);
+            this.rows = rows;
+        }
+
+        /**
+         * Returns the precomputed rows.
+         *
+         * @param context the JUnit {@link ExtensionContext} providing test execution details
+         * @param annotation the annotation instance
+         * @return the precomputed rows
+         */
+        @Override
+        protected Object[] resolveData(ExtensionContext context, Rows annotation) {
+            return rows;
+        }
+    }
+}
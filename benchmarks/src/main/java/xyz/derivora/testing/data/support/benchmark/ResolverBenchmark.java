@@ -0,0 +1,219 @@
+/*
+ * This file is part of Derivora Testing Data Support.
+ *
+ * Derivora Testing Data Support is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Derivora Testing Data Support is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with Derivora Testing Data Support. If not, see https://www.gnu.org/licenses/lgpl-3.0.html.
+ */
+
+package xyz.derivora.testing.data.support.benchmark;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import xyz.derivora.testing.data.support.supplier.DataSupplier;
+import xyz.derivora.testing.data.support.supplier.resolver.DataSupplierResolver;
+import xyz.derivora.testing.data.support.supplier.resolver.SupplierScope;
+import xyz.derivora.testing.data.support.supplier.resolver.enums.EnumDataSupplierResolver;
+
+import java.util.Arrays;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks resolving suppliers from class references and enumeration constant names.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 2, jvmArgsAppend = {"-Xms2g", "-Xmx2g", "-XX:+UseParallelGC"})
+public class ResolverBenchmark {
+
+    /**
+     * All supplier classes available for resolution.
+     */
+    private static final Class<?>[] SUPPLIER_CLASSES = {
+            First.class, Second.class, Third.class, Fourth.class,
+            Fifth.class, Sixth.class, Seventh.class, Eighth.class
+    };
+
+    /**
+     * The number of suppliers resolved by each operation.
+     */
+    @Param({"1", "8"})
+    public int supplierCount;
+
+    /**
+     * The supplier classes resolved by each operation.
+     */
+    private Class<? extends DataSupplier<String>>[] supplierClasses;
+
+    /**
+     * The names of the enumeration constants resolved by each operation.
+     */
+    private String[] constantNames;
+
+    /**
+     * The resolver instantiating suppliers reflectively.
+     */
+    private final DataSupplierResolver<String> reflectiveResolver =
+            DataSupplierResolver.getInstance(BenchmarkResolvers::newSupplierArray);
+
+    /**
+     * The resolver instantiating suppliers through cached constructor handles.
+     */
+    private final DataSupplierResolver<String> invocationScopedResolver =
+            DataSupplierResolver.getInstance(BenchmarkResolvers::newSupplierArray, SupplierScope.INVOCATION);
+
+    /**
+     * The resolver sharing a single instance of every supplier class.
+     */
+    private final DataSupplierResolver<String> runScopedResolver =
+            DataSupplierResolver.getInstance(BenchmarkResolvers::newSupplierArray, SupplierScope.RUN);
+
+    /**
+     * The resolver looking up enumeration constants by name.
+     */
+    private final EnumDataSupplierResolver<String> enumResolver =
+            EnumDataSupplierResolver.getInstance(BenchmarkResolvers::newSupplierArray);
+
+    /**
+     * Selects the supplier classes and constant names of the current parameter combination.
+     */
+    @Setup
+    @SuppressWarnings("unchecked")
+    public void setUp() {
+        supplierClasses = (Class<? extends DataSupplier<String>>[]) Arrays.copyOf(SUPPLIER_CLASSES, supplierCount);
+        constantNames = Arrays.stream(Constants.values())
+                              .limit(supplierCount)
+                              .map(Enum::name)
+                              .toArray(String[]::new);
+    }
+
+    /**
+     * Measures resolving suppliers through reflection.
+     *
+     * @return the resolved suppliers
+     * @throws Exception if resolution fails
+     */
+    @Benchmark
+    public DataSupplier<String>[] reflective() throws Exception {
+        return reflectiveResolver.resolve(supplierClasses);
+    }
+
+    /**
+     * Measures resolving new supplier instances through cached constructor handles.
+     *
+     * @return the resolved suppliers
+     * @throws Exception if resolution fails
+     */
+    @Benchmark
+    public DataSupplier<String>[] invocationScoped() throws Exception {
+        return invocationScopedResolver.resolve(supplierClasses);
+    }
+
+    /**
+     * Measures resolving shared supplier instances.
+     *
+     * @return the resolved suppliers
+     * @throws Exception if resolution fails
+     */
+    @Benchmark
+    public DataSupplier<String>[] runScoped() throws Exception {
+        return runScopedResolver.resolve(supplierClasses);
+    }
+
+    /**
+     * Measures resolving enumeration constants by name.
+     *
+     * @return the resolved suppliers
+     * @throws Exception if resolution fails
+     */
+    @Benchmark
+    public DataSupplier<String>[] enumConstants() throws Exception {
+        return enumResolver.resolve(Constants.class, constantNames);
+    }
+
+    /**
+     * Enumeration constants resolved by {@link #enumConstants()}.
+     */
+    public enum Constants implements DataSupplier<String> {
+        FIRST, SECOND, THIRD, FOURTH, FIFTH, SIXTH, SEVENTH, EIGHTH;
+
+        /**
+         * Supplies the name of this constant.
+         *
+         * @return an array holding the name of this constant
+         */
+        @Override
+        public String[] get() {
+            return new String[]{name()};
+        }
+    }
+
+    /**
+     * A supplier class resolved by the class-based benchmarks.
+     */
+    public static final class First extends BenchmarkResolvers.NamedSupplier {
+    }
+
+    /**
+     * A supplier class resolved by the class-based benchmarks.
+     */
+    public static final class Second extends BenchmarkResolvers.NamedSupplier {
+    }
+
+    /**
+     * A supplier class resolved by the class-based benchmarks.
+     */
+    public static final class Third extends BenchmarkResolvers.NamedSupplier {
+    }
+
+    /**
+     * A supplier class resolved by the class-based benchmarks.
+     */
+    public static final class Fourth extends BenchmarkResolvers.NamedSupplier {
+    }
+
+    /**
+     * A supplier class resolved by the class-based benchmarks.
+     */
+    public static final class Fifth extends BenchmarkResolvers.NamedSupplier {
+    }
+
+    /**
+     * A supplier class resolved by the class-based benchmarks.
+     */
+    public static final class Sixth extends BenchmarkResolvers.NamedSupplier {
+    }
+
+    /**
+     * A supplier class resolved by the class-based benchmarks.
+     */
+    public static final class Seventh extends BenchmarkResolvers.NamedSupplier {
+    }
+
+    /**
+     * A supplier class resolved by the class-based benchmarks.
+     */
+    public static final class Eighth extends BenchmarkResolvers.NamedSupplier {
+    }
+}
@@ -0,0 +1,32 @@
+/*
+ * This file is part of Derivora Testing Data Support.
+ *
+ * Derivora Testing Data Support is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Derivora Testing Data Support is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with Derivora Testing Data Support. If not, see https://www.gnu.org/licenses/lgpl-3.0.html.
+ */
+
+/**
+ * Provides an annotation processor generating reflection-free supplier registries.
+ *
+ * <p>The processor finds the {@code DataSupplier} implementations and enumerations of a compilation
+ * and generates a registry creating them without reflection. It depends on {@code java.compiler} only;
+ * the generated registry depends on {@code derivora.testing.data.support} and {@code derivora.util.kit}.</p>
+ */
+module derivora.testing.data.support.processor {
+    requires java.compiler;
+
+    exports xyz.derivora.testing.data.support.processor;
+
+    provides javax.annotation.processing.Processor
+            with xyz.derivora.testing.data.support.processor.DataSupplierRegistryProcessor;
+}
@@ -0,0 +1,351 @@
+/*
+ * This file is part of Derivora Testing Data Support.
+ *
+ * Derivora Testing Data Support is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Derivora Testing Data Support is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with Derivora Testing Data Support. If not, see https://www.gnu.org/licenses/lgpl-3.0.html.
+ */
+
+package xyz.derivora.testing.data.support.processor;
+
+import javax.annotation.processing.AbstractProcessor;
+import javax.annotation.processing.Filer;
+import javax.annotation.processing.Messager;
+import javax.annotation.processing.RoundEnvironment;
+import javax.lang.model.SourceVersion;
+import javax.lang.model.element.Element;
+import javax.lang.model.element.ElementKind;
+import javax.lang.model.element.ExecutableElement;
+import javax.lang.model.element.Modifier;
+import javax.lang.model.element.NestingKind;
+import javax.lang.model.element.TypeElement;
+import javax.lang.model.type.TypeMirror;
+import javax.lang.model.util.ElementFilter;
+import javax.lang.model.util.Elements;
+import javax.lang.model.util.Types;
+import javax.tools.Diagnostic;
+import javax.tools.JavaFileObject;
+import java.io.IOException;
+import java.io.Writer;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * An annotation processor generating a reflection-free registry of the data suppliers of a compilation.
+ *
+ * <p>The processor inspects every type of the compilation, whether annotated or not, and collects the
+ * concrete classes and enumerations implementing {@code DataSupplier}. It then generates a registry class
+ * holding a constructor reference for each class and a {@code values()} reference for each enumeration,
+ * together with a table of the supplier classes by name. The registry offers:</p>
+ * <ul>
+ *     <li>{@code dataSupplierResolver(ArrayGenerator)}, returning a {@code DataSupplierResolver} that
+ *     instantiates registered supplier classes through their no-argument constructors;</li>
+ *     <li>{@code enumDataSupplierResolver(ArrayGenerator)}, returning an {@code EnumDataSupplierResolver}
+ *     that retrieves the constants of registered enumerations;</li>
+ *     <li>{@code findSupplierClass(String)}, looking up a registered supplier class by its binary name.</li>
+ * </ul>
+ *
+ * <p>Both resolvers extend the abstract resolvers of the library and may replace the reflective resolvers
+ * wherever those are used. Resolving a class that is not registered fails with an
+ * {@link IllegalArgumentException}.</p>
+ *
+ * <p>The registry is generated in the package shared by all suppliers, under the name
+ * {@value #DEFAULT_REGISTRY_NAME}, unless a fully qualified name is given through the
+ * {@value #REGISTRY_OPTION} processor option. Classes that cannot be accessed from that package, or that
+ * have no accessible no-argument constructor, are skipped with a note.</p>
+ *
+ * <p>The registry covers the types of the first processing round, that is, all types of the compiled
+ * sources. Types generated by other processors are not registered. The processor is therefore not
+ * incremental: a compilation that recompiles only the changed sources generates a registry of those
+ * sources alone, so the registry is only complete after a full build of all suppliers.</p>
+ *
+ * <p>Failing to write the registry is reported as a compilation error.</p>
+ */
+public final class DataSupplierRegistryProcessor extends AbstractProcessor {
+
+    /**
+     * The processor option specifying the fully qualified name of the generated registry.
+     */
+    public static final String REGISTRY_OPTION = "derivora.testing.data.registry";
+
+    /**
+     * The simple name of the generated registry if none is specified.
+     */
+    public static final String DEFAULT_REGISTRY_NAME = "GeneratedDataSupplierRegistry";
+
+    /**
+     * The canonical name of the supplier interface.
+     */
+    private static final String DATA_SUPPLIER = "xyz.derivora.testing.data.support.supplier.DataSupplier";
+
+    /**
+     * Whether the registry has already been generated or skipped in an earlier round.
+     */
+    private boolean processed;
+
+    /**
+     * Constructs a {@code DataSupplierRegistryProcessor}.
+     *
+     * <p>Processors are instantiated by the compiler.</p>
+     */
+    public DataSupplierRegistryProcessor() {
+    }
+
+    /**
+     * Returns the annotation types supported by this processor, which are all types, annotated or not.
+     *
+     * @return a set containing {@code "*"}
+     */
+    @Override
+    public Set<String> getSupportedAnnotationTypes() {
+        return Set.of("*");
+    }
+
+    /**
+     * Returns the options recognized by this processor.
+     *
+     * @return a set containing {@value #REGISTRY_OPTION}
+     */
+    @Override
+    public Set<String> getSupportedOptions() {
+        return Set.of(REGISTRY_OPTION);
+    }
+
+    /**
+     * Returns the latest source version supported by the compiler.
+     *
+     * @return the latest supported source version
+     */
+    @Override
+    public SourceVersion getSupportedSourceVersion() {
+        return SourceVersion.latestSupported();
+    }
+
+    /**
+     * Collects the suppliers of the first round and generates their registry.
+     *
+     * <p>No annotations are claimed, so that other processors still receive them.</p>
+     *
+     * @param annotations the annotation types requested to be processed
+     * @param roundEnv the environment of the current round
+     * @return {@code false}, as no annotations are claimed
+     */
+    @Override
+    public boolean process(Set<? extends TypeElement> annotations, RoundEnvironment roundEnv) {
+        if (processed || roundEnv.processingOver()) {
+            return false;
+        }
+        processed = true;
+
+        TypeElement dataSupplier = processingEnv.getElementUtils().getTypeElement(DATA_SUPPLIER);
+        if (dataSupplier == null) {
+            return false;
+        }
+
+        List<TypeElement> candidates = new ArrayList<>();
+        for (TypeElement type : ElementFilter.typesIn(roundEnv.getRootElements())) {
+            collect(type, processingEnv.getTypeUtils().erasure(dataSupplier.asType()), candidates);
+        }
+
+        if (candidates.isEmpty()) {
+            return false;
+        }
+
+        candidates.sort(Comparator.comparing(type -> type.getQualifiedName().toString()));
+        String registryName = registryName(candidates);
+        String registryPackage = packageOf(registryName);
+
+        List<TypeElement> classes = new ArrayList<>();
+        List<TypeElement> enums = new ArrayList<>();
+        for (TypeElement candidate : candidates) {
+            if (!isAccessible(candidate, registryPackage)) {
+                note(candidate, "not accessible from package '" + registryPackage + "'");
+            } else if (candidate.getKind() == ElementKind.ENUM) {
+                enums.add(candidate);
+            } else if (!hasAccessibleConstructor(candidate, registryPackage)) {
+                note(candidate, "no accessible no-argument constructor");
+            } else {
+                classes.add(candidate);
+            }
+        }
+
+        write(registryName, classes, enums, candidates);
+        return false;
+    }
+
+    /**
+     * Collects the given type and its static member types if they are concrete suppliers.
+     *
+     * @param type the type to inspect
+     * @param dataSupplier the erasure of the supplier interface
+     * @param candidates the list receiving the suppliers found
+     */
+    private void collect(TypeElement type, TypeMirror dataSupplier, List<TypeElement> candidates) {
+        Types types = processingEnv.getTypeUtils();
+        boolean concrete = type.getKind() == ElementKind.ENUM
+                || (type.getKind() == ElementKind.CLASS || type.getKind() == ElementKind.RECORD)
+                && !type.getModifiers().contains(Modifier.ABSTRACT);
+        boolean nested = type.getNestingKind() == NestingKind.MEMBER;
+
+        if (concrete && (!nested || type.getModifiers().contains(Modifier.STATIC) || type.getKind() != ElementKind.CLASS)
+                && types.isAssignable(types.erasure(type.asType()), dataSupplier)) {
+            candidates.add(type);
+        }
+
+        for (TypeElement member : ElementFilter.typesIn(type.getEnclosedElements())) {
+            collect(member, dataSupplier, candidates);
+        }
+    }
+
+    /**
+     * Determines the fully qualified name of the registry.
+     *
+     * <p>Without the {@value #REGISTRY_OPTION} option, the registry is placed in the longest package
+     * shared by all suppliers or, if they share none, in the package of the first of them.</p>
+     *
+     * @param suppliers the suppliers found, sorted by name
+     * @return the fully qualified name of the registry
+     */
+    private String registryName(List<TypeElement> suppliers) {
+        String option = processingEnv.getOptions().get(REGISTRY_OPTION);
+        if (option != null && !option.isBlank()) {
+            return option.trim();
+        }
+
+        Elements elements = processingEnv.getElementUtils();
+        String common = null;
+        for (TypeElement supplier : suppliers) {
+            String name = elements.getPackageOf(supplier).getQualifiedName().toString();
+            common = common == null ? name : commonPackage(common, name);
+        }
+
+        if (common == null || common.isEmpty()) {
+            common = elements.getPackageOf(suppliers.get(0)).getQualifiedName().toString();
+        }
+
+        return common.isEmpty() ? DEFAULT_REGISTRY_NAME : common + "." + DEFAULT_REGISTRY_NAME;
+    }
+
+    /**
+     * Checks whether the given type, and every type enclosing it, can be accessed from the registry package.
+     *
+     * @param type the type to check
+     * @param registryPackage the package of the registry
+     * @return {@code true} if the type is accessible, {@code false} otherwise
+     */
+    private boolean isAccessible(TypeElement type, String registryPackage) {
+        boolean samePackage = processingEnv.getElementUtils().getPackageOf(type).getQualifiedName()
+                                           .contentEquals(registryPackage);
+
+        for (Element element = type; element instanceof TypeElement; element = element.getEnclosingElement()) {
+            Set<Modifier> modifiers = element.getModifiers();
+            if (modifiers.contains(Modifier.PRIVATE) || !modifiers.contains(Modifier.PUBLIC) && !samePackage) {
+                return false;
+            }
+        }
+
+        return true;
+    }
+
+    /**
+     * Checks whether the given class declares a no-argument constructor accessible from the registry package.
+     *
+     * @param type the class to check
+     * @param registryPackage the package of the registry
+     * @return {@code true} if such a constructor exists, {@code false} otherwise
+     */
+    private boolean hasAccessibleConstructor(TypeElement type, String registryPackage) {
+        boolean samePackage = processingEnv.getElementUtils().getPackageOf(type).getQualifiedName()
+                                           .contentEquals(registryPackage);
+
+        for (ExecutableElement constructor : ElementFilter.constructorsIn(type.getEnclosedElements())) {
+            Set<Modifier> modifiers = constructor.getModifiers();
+            if (constructor.getParameters().isEmpty() && !modifiers.contains(Modifier.PRIVATE)
+                    && (modifiers.contains(Modifier.PUBLIC) || samePackage)) {
+                return true;
+            }
+        }
+
+        return false;
+    }
+
+    /**
+     * Reports a supplier that is not registered.
+     *
+     * @param type the supplier type
+     * @param reason the reason it is not registered
+     */
+    private void note(TypeElement type, String reason) {
+        Messager messager = processingEnv.getMessager();
+        messager.printMessage(Diagnostic.Kind.NOTE,
+                              "Supplier " + type.getQualifiedName() + " is not registered: " + reason, type);
+    }
+
+    /**
+     * Writes the source file of the registry.
+     *
+     * @param registryName the fully qualified name of the registry
+     * @param classes the supplier classes to register
+     * @param enums the supplier enumerations to register
+     * @param originatingElements the types the registry is generated from
+     */
+    private void write(String registryName, List<TypeElement> classes, List<TypeElement> enums,
+                       List<TypeElement> originatingElements) {
+        Filer filer = processingEnv.getFiler();
+        String source = new RegistryWriter(processingEnv.getElementUtils(), registryName, classes, enums).write();
+
+        try {
+            JavaFileObject file = filer.createSourceFile(registryName, originatingElements.toArray(Element[]::new));
+            try (Writer writer = file.openWriter()) {
+                writer.write(source);
+            }
+        } catch (IOException e) {
+            processingEnv.getMessager().printMessage(Diagnostic.Kind.ERROR,
+                                                     "Failed to write registry " + registryName + ": " + e.getMessage());
+        }
+    }
+
+    /**
+     * Returns the package part of a fully qualified class name.
+     *
+     * @param className the fully qualified class name
+     * @return the package name, or an empty string for the unnamed package
+     */
+    private static String packageOf(String className) {
+        int index = className.lastIndexOf('.');
+        return index < 0 ? "" : className.substring(0, index);
+    }
+
+    /**
+     * Returns the longest package enclosing both given packages.
+     *
+     * @param first the first package name
+     * @param second the second package name
+     * @return the common package name, or an empty string if there is none
+     */
+    private static String commonPackage(String first, String second) {
+        String[] firstParts = first.split("\\.");
+        String[] secondParts = second.split("\\.");
+
+        StringBuilder common = new StringBuilder();
+        for (int i = 0; i < Math.min(firstParts.length, secondParts.length) && firstParts[i].equals(secondParts[i]); i++) {
+            if (i > 0) {
+                common.append('.');
+            }
+            common.append(firstParts[i]);
+        }
+
+        return common.toString();
+    }
+}
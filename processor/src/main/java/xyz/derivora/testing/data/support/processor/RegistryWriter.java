@@ -0,0 +1,329 @@
+/*
+ * This file is part of Derivora Testing Data Support.
+ *
+ * Derivora Testing Data Support is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Derivora Testing Data Support is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with Derivora Testing Data Support. If not, see https://www.gnu.org/licenses/lgpl-3.0.html.
+ */
+
+package xyz.derivora.testing.data.support.processor;
+
+import javax.lang.model.element.TypeElement;
+import javax.lang.model.util.Elements;
+import java.util.List;
+
+/**
+ * Writes the source code of a supplier registry.
+ *
+ * <p>All types are referenced by their canonical names, so that the generated source needs no imports
+ * and cannot clash with the names of registered suppliers.</p>
+ */
+final class RegistryWriter {
+
+    /**
+     * The canonical name of the supplier interface.
+     */
+    private static final String DATA_SUPPLIER = "xyz.derivora.testing.data.support.supplier.DataSupplier";
+
+    /**
+     * The canonical name of the array generator interface.
+     */
+    private static final String ARRAY_GENERATOR = "xyz.derivora.utilkit.arrays.ArrayGenerator";
+
+    /**
+     * The package of the supplier resolvers.
+     */
+    private static final String RESOLVER_PACKAGE = "xyz.derivora.testing.data.support.supplier.resolver";
+
+    /**
+     * The utilities used to obtain binary names.
+     */
+    private final Elements elements;
+
+    /**
+     * The simple name of the registry.
+     */
+    private final String simpleName;
+
+    /**
+     * The package of the registry, or an empty string for the unnamed package.
+     */
+    private final String packageName;
+
+    /**
+     * The supplier classes to register.
+     */
+    private final List<TypeElement> classes;
+
+    /**
+     * The supplier enumerations to register.
+     */
+    private final List<TypeElement> enums;
+
+    /**
+     * The source code being written.
+     */
+    private final StringBuilder source = new StringBuilder();
+
+    /**
+     * Constructs a {@code RegistryWriter} for the given registry and suppliers.
+     *
+     * @param elements the utilities used to obtain binary names
+     * @param registryName the fully qualified name of the registry
+     * @param classes the supplier classes to register
+     * @param enums the supplier enumerations to register
+     */
+    RegistryWriter(Elements elements, String registryName, List<TypeElement> classes, List<TypeElement> enums) {
+        int index = registryName.lastIndexOf('.');
+        this.elements = elements;
+        this.simpleName = registryName.substring(index + 1);
+        this.packageName = index < 0 ? "" : registryName.substring(0, index);
+        this.classes = classes;
+        this.enums = enums;
+    }
+
+    /**
+     * Writes the source code of the registry.
+     *
+     * @return the source code
+     */
+    String write() {
+        if (!packageName.isEmpty()) {
+            line(0, "package " + packageName + ";");
+            line(0, "");
+        }
+
+        line(0, "/**");
+        line(0, " * A registry of the data suppliers of this compilation, creating them without reflection.");
+        line(0, " *");
+        line(0, " * <p>This class is generated by " + DataSupplierRegistryProcessor.class.getName() + ".</p>");
+        line(0, " */");
+        line(0, "public final class " + simpleName + " {");
+        line(0, "");
+
+        writeFields();
+        writeFactories();
+        writeTables();
+        writeResolvers();
+
+        line(0, "}");
+        return source.toString();
+    }
+
+    /**
+     * Writes the fields holding the registry tables and the private constructor.
+     */
+    private void writeFields() {
+        line(1, "/**");
+        line(1, " * The factories of the registered supplier classes.");
+        line(1, " */");
+        line(1, "private static final java.util.Map<Class<?>, java.util.function.Supplier<" + DATA_SUPPLIER
+                + "<?>>> FACTORIES = factories();");
+        line(0, "");
+        line(1, "/**");
+        line(1, " * The constants of the registered supplier enumerations.");
+        line(1, " */");
+        line(1, "private static final java.util.Map<Class<?>, java.util.function.Supplier<" + DATA_SUPPLIER
+                + "<?>[]>> CONSTANTS = constants();");
+        line(0, "");
+        line(1, "/**");
+        line(1, " * The registered supplier classes and enumerations by binary name.");
+        line(1, " */");
+        line(1, "private static final java.util.Map<String, Class<?>> NAMES = names();");
+        line(0, "");
+        line(1, "/**");
+        line(1, " * Prevents instantiation of this registry.");
+        line(1, " */");
+        line(1, "private " + simpleName + "() {");
+        line(1, "}");
+        line(0, "");
+    }
+
+    /**
+     * Writes the public factory methods of the registry.
+     */
+    private void writeFactories() {
+        line(1, "/**");
+        line(1, " * Returns a resolver instantiating the registered supplier classes.");
+        line(1, " *");
+        line(1, " * @param arrayGenerator the generator used to create arrays of suppliers");
+        line(1, " * @param <T> the type of elements supplied by the resolved instances");
+        line(1, " * @return a resolver of the registered supplier classes");
+        line(1, " * @throws NullPointerException if {@code arrayGenerator} is {@code null}");
+        line(1, " */");
+        line(1, "public static <T> " + RESOLVER_PACKAGE + ".DataSupplierResolver<T> dataSupplierResolver("
+                + ARRAY_GENERATOR + "<" + DATA_SUPPLIER + "<T>> arrayGenerator) {");
+        line(2, "return new RegisteredDataSupplierResolver<>(arrayGenerator);");
+        line(1, "}");
+        line(0, "");
+        line(1, "/**");
+        line(1, " * Returns a resolver retrieving the constants of the registered supplier enumerations.");
+        line(1, " *");
+        line(1, " * @param arrayGenerator the generator used to create arrays of suppliers");
+        line(1, " * @param <T> the type of elements supplied by the resolved instances");
+        line(1, " * @return a resolver of the registered supplier enumerations");
+        line(1, " * @throws NullPointerException if {@code arrayGenerator} is {@code null}");
+        line(1, " */");
+        line(1, "public static <T> " + RESOLVER_PACKAGE + ".enums.EnumDataSupplierResolver<T> enumDataSupplierResolver("
+                + ARRAY_GENERATOR + "<" + DATA_SUPPLIER + "<T>> arrayGenerator) {");
+        line(2, "return new RegisteredEnumDataSupplierResolver<>(arrayGenerator);");
+        line(1, "}");
+        line(0, "");
+        line(1, "/**");
+        line(1, " * Looks up a registered supplier class or enumeration by its binary name.");
+        line(1, " *");
+        line(1, " * @param name the binary name of the class, as returned by {@link Class#getName()}");
+        line(1, " * @return the registered class, or an empty {@link java.util.Optional} if none has this name");
+        line(1, " */");
+        line(1, "public static java.util.Optional<Class<?>> findSupplierClass(String name) {");
+        line(2, "return java.util.Optional.ofNullable(NAMES.get(name));");
+        line(1, "}");
+        line(0, "");
+    }
+
+    /**
+     * Writes the methods building the registry tables.
+     */
+    private void writeTables() {
+        line(1, "/**");
+        line(1, " * Builds the factories of the registered supplier classes.");
+        line(1, " *");
+        line(1, " * @return the factories by supplier class");
+        line(1, " */");
+        line(1, "private static java.util.Map<Class<?>, java.util.function.Supplier<" + DATA_SUPPLIER + "<?>>> factories() {");
+        line(2, "java.util.Map<Class<?>, java.util.function.Supplier<" + DATA_SUPPLIER
+                + "<?>>> factories = new java.util.HashMap<>();");
+        for (TypeElement type : classes) {
+            line(2, "factories.put(" + type.getQualifiedName() + ".class, " + type.getQualifiedName() + "::new);");
+        }
+        line(2, "return java.util.Map.copyOf(factories);");
+        line(1, "}");
+        line(0, "");
+        line(1, "/**");
+        line(1, " * Builds the constants of the registered supplier enumerations.");
+        line(1, " *");
+        line(1, " * @return the constants by supplier enumeration");
+        line(1, " */");
+        line(1, "private static java.util.Map<Class<?>, java.util.function.Supplier<" + DATA_SUPPLIER + "<?>[]>> constants() {");
+        line(2, "java.util.Map<Class<?>, java.util.function.Supplier<" + DATA_SUPPLIER
+                + "<?>[]>> constants = new java.util.HashMap<>();");
+        for (TypeElement type : enums) {
+            line(2, "constants.put(" + type.getQualifiedName() + ".class, " + type.getQualifiedName() + "::values);");
+        }
+        line(2, "return java.util.Map.copyOf(constants);");
+        line(1, "}");
+        line(0, "");
+        line(1, "/**");
+        line(1, " * Builds the table of the registered supplier classes and enumerations by binary name.");
+        line(1, " *");
+        line(1, " * @return the registered classes by binary name");
+        line(1, " */");
+        line(1, "private static java.util.Map<String, Class<?>> names() {");
+        line(2, "java.util.Map<String, Class<?>> names = new java.util.HashMap<>();");
+        for (List<TypeElement> types : List.of(classes, enums)) {
+            for (TypeElement type : types) {
+                line(2, "names.put(\"" + elements.getBinaryName(type) + "\", " + type.getQualifiedName() + ".class);");
+            }
+        }
+        line(2, "return java.util.Map.copyOf(names);");
+        line(1, "}");
+        line(0, "");
+    }
+
+    /**
+     * Writes the nested resolver classes.
+     */
+    private void writeResolvers() {
+        line(1, "/**");
+        line(1, " * Resolves the registered supplier classes through their constructor references.");
+        line(1, " *");
+        line(1, " * @param <T> the type of elements supplied by the resolved instances");
+        line(1, " */");
+        line(1, "private static final class RegisteredDataSupplierResolver<T> extends " + RESOLVER_PACKAGE + ".AbstractDataSupplierResolver<T> {");
+        line(0, "");
+        line(2, "/**");
+        line(2, " * Constructs a resolver with the specified array generator.");
+        line(2, " *");
+        line(2, " * @param arrayGenerator the generator used to create arrays of suppliers");
+        line(2, " */");
+        line(2, "private RegisteredDataSupplierResolver(" + ARRAY_GENERATOR + "<" + DATA_SUPPLIER + "<T>> arrayGenerator) {");
+        line(3, "super(arrayGenerator);");
+        line(2, "}");
+        line(0, "");
+        line(2, "/**");
+        line(2, " * Creates an instance of the given registered supplier class.");
+        line(2, " *");
+        line(2, " * @param supplierClass the supplier class to instantiate");
+        line(2, " * @return a new instance of the class");
+        line(2, " * @throws IllegalArgumentException if the class is not registered");
+        line(2, " */");
+        line(2, "@Override");
+        line(2, "@SuppressWarnings(\"unchecked\")");
+        line(2, "protected " + DATA_SUPPLIER + "<T> resolve(Class<? extends " + DATA_SUPPLIER + "<T>> supplierClass) {");
+        line(3, "java.util.function.Supplier<" + DATA_SUPPLIER + "<?>> factory = FACTORIES.get(supplierClass);");
+        line(3, "if (factory == null) {");
+        line(4, "throw new IllegalArgumentException(\"Supplier is not registered: \" + supplierClass.getName());");
+        line(3, "}");
+        line(0, "");
+        line(3, "return (" + DATA_SUPPLIER + "<T>) factory.get();");
+        line(2, "}");
+        line(1, "}");
+        line(0, "");
+        line(1, "/**");
+        line(1, " * Resolves the constants of the registered supplier enumerations through their {@code values()} references.");
+        line(1, " *");
+        line(1, " * @param <T> the type of elements supplied by the resolved instances");
+        line(1, " */");
+        line(1, "private static final class RegisteredEnumDataSupplierResolver<T> extends " + RESOLVER_PACKAGE + ".enums.AbstractEnumDataSupplierResolver<T> {");
+        line(0, "");
+        line(2, "/**");
+        line(2, " * Constructs a resolver with the specified array generator.");
+        line(2, " *");
+        line(2, " * @param arrayGenerator the generator used to create arrays of suppliers");
+        line(2, " */");
+        line(2, "private RegisteredEnumDataSupplierResolver(" + ARRAY_GENERATOR + "<" + DATA_SUPPLIER + "<T>> arrayGenerator) {");
+        line(3, "super(arrayGenerator);");
+        line(2, "}");
+        line(0, "");
+        line(2, "/**");
+        line(2, " * Returns the constants of the given registered supplier enumeration.");
+        line(2, " *");
+        line(2, " * @param enumType the supplier enumeration");
+        line(2, " * @return the constants of the enumeration");
+        line(2, " * @throws IllegalArgumentException if the enumeration is not registered");
+        line(2, " */");
+        line(2, "@Override");
+        line(2, "@SuppressWarnings(\"unchecked\")");
+        line(2, "protected " + DATA_SUPPLIER + "<T>[] resolveConstants(Class<? extends " + DATA_SUPPLIER + "<T>> enumType) {");
+        line(3, "java.util.function.Supplier<" + DATA_SUPPLIER + "<?>[]> constants = CONSTANTS.get(enumType);");
+        line(3, "if (constants == null) {");
+        line(4, "throw new IllegalArgumentException(\"Supplier enumeration is not registered: \" + enumType.getName());");
+        line(3, "}");
+        line(0, "");
+        line(3, "return (" + DATA_SUPPLIER + "<T>[]) constants.get();");
+        line(2, "}");
+        line(1, "}");
+    }
+
+    /**
+     * Appends a line of source code at the given indentation level.
+     *
+     * @param indent the indentation level, in units of four spaces
+     * @param text the text of the line
+     */
+    private void line(int indent, String text) {
+        if (!text.isEmpty()) {
+            source.append("    ".repeat(indent)).append(text);
+        }
+        source.append('\n');
+    }
+}
@@ -0,0 +1,315 @@
+/*
+ * This file is part of Derivora Testing Data Support.
+ *
+ * Derivora Testing Data Support is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Derivora Testing Data Support is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with Derivora Testing Data Support. If not, see https://www.gnu.org/licenses/lgpl-3.0.html.
+ */
+
+package xyz.derivora.testing.data.support.processor.test;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import xyz.derivora.testing.data.support.processor.DataSupplierRegistryProcessor;
+import xyz.derivora.testing.data.support.supplier.DataSupplier;
+import xyz.derivora.testing.data.support.supplier.resolver.DataSupplierResolver;
+import xyz.derivora.testing.data.support.supplier.resolver.enums.EnumDataSupplierResolver;
+import xyz.derivora.utilkit.arrays.ArrayGenerator;
+
+import javax.tools.Diagnostic;
+import javax.tools.DiagnosticCollector;
+import javax.tools.JavaCompiler;
+import javax.tools.JavaFileObject;
+import javax.tools.StandardJavaFileManager;
+import javax.tools.ToolProvider;
+import java.io.File;
+import java.io.IOException;
+import java.net.URISyntaxException;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@Tag("xyz/derivora/testing/data/support/processor")
+@DisplayName("Tests for DataSupplierRegistryProcessor")
+class DataSupplierRegistryProcessorTest {
+
+    private static final String DATA_SUPPLIER = "xyz.derivora.testing.data.support.supplier.DataSupplier";
+
+    @TempDir
+    Path directory;
+
+    @Test
+    @DisplayName("Should generate a registry resolving supplier classes without reflection")
+    @SuppressWarnings("unchecked")
+    void process_withSupplierClasses_shouldGenerateDataSupplierResolver() throws Exception {
+        Compilation compilation = compile(Map.of(
+                "com.example.data.Letters", """
+                        package com.example.data;
+                        public class Letters implements %s<String> {
+                            public String[] get() { return new String[]{"a", "b"}; }
+                        }
+                        """.formatted(DATA_SUPPLIER),
+                "com.example.data.nested.Holder", """
+                        package com.example.data.nested;
+                        public class Holder {
+                            public static class Digits implements %s<String> {
+                                public String[] get() { return new String[]{"1"}; }
+                            }
+                        }
+                        """.formatted(DATA_SUPPLIER)
+        ));
+
+        DataSupplierResolver<String> resolver = compilation.dataSupplierResolver("com.example.data.GeneratedDataSupplierRegistry");
+        DataSupplier<String>[] suppliers = resolver.resolve(compilation.supplierClass("com.example.data.Letters"),
+                                                            compilation.supplierClass("com.example.data.nested.Holder$Digits"));
+
+        assertArrayEquals(new String[]{"a", "b"}, suppliers[0].get());
+        assertArrayEquals(new String[]{"1"}, suppliers[1].get());
+    }
+
+    @Test
+    @DisplayName("Should generate a registry resolving supplier enumeration constants by name")
+    void process_withSupplierEnum_shouldGenerateEnumDataSupplierResolver() throws Exception {
+        Compilation compilation = compile(Map.of(
+                "com.example.Sets", """
+                        package com.example;
+                        public enum Sets implements %s<String> {
+                            EMPTY { public String[] get() { return new String[0]; } },
+                            SINGLE { public String[] get() { return new String[]{"x"}; } }
+                        }
+                        """.formatted(DATA_SUPPLIER)
+        ));
+
+        EnumDataSupplierResolver<String> resolver = compilation.enumDataSupplierResolver("com.example.GeneratedDataSupplierRegistry");
+        DataSupplier<String>[] suppliers = resolver.resolve(compilation.supplierClass("com.example.Sets"), "SINGLE", "EMPTY");
+
+        assertArrayEquals(new String[]{"x"}, suppliers[0].get());
+        assertArrayEquals(new String[0], suppliers[1].get());
+        assertThrows(
+                IllegalArgumentException.class,
+                () -> resolver.resolve(compilation.supplierClass("com.example.Sets"), "MISSING")
+        );
+    }
+
+    @Test
+    @DisplayName("Should look up registered suppliers by binary name")
+    void process_withNestedSupplier_shouldRegisterBinaryName() throws Exception {
+        Compilation compilation = compile(Map.of(
+                "com.example.Outer", """
+                        package com.example;
+                        public class Outer {
+                            public static class Inner implements %s<String> {
+                                public String[] get() { return new String[0]; }
+                            }
+                        }
+                        """.formatted(DATA_SUPPLIER)
+        ));
+
+        Class<?> registry = compilation.load("com.example.GeneratedDataSupplierRegistry");
+        Optional<?> found = (Optional<?>) registry.getMethod("findSupplierClass", String.class)
+                                                 .invoke(null, "com.example.Outer$Inner");
+        Optional<?> missing = (Optional<?>) registry.getMethod("findSupplierClass", String.class)
+                                                   .invoke(null, "com.example.Outer");
+
+        assertEquals(Optional.of(compilation.load("com.example.Outer$Inner")), found);
+        assertEquals(Optional.empty(), missing);
+    }
+
+    @Test
+    @DisplayName("Should generate the registry under the name given by the processor option")
+    @SuppressWarnings("unchecked")
+    void process_withRegistryOption_shouldUseGivenName() throws Exception {
+        Compilation compilation = compile(Map.of(
+                "com.example.Letters", """
+                        package com.example;
+                        public class Letters implements %s<String> {
+                            public String[] get() { return new String[]{"a"}; }
+                        }
+                        """.formatted(DATA_SUPPLIER)
+        ), "-A" + DataSupplierRegistryProcessor.REGISTRY_OPTION + "=org.example.registry.Suppliers");
+
+        DataSupplierResolver<String> resolver = compilation.dataSupplierResolver("org.example.registry.Suppliers");
+
+        assertArrayEquals(new String[]{"a"}, resolver.resolve(compilation.supplierClass("com.example.Letters"))[0].get());
+    }
+
+    @Test
+    @DisplayName("Should skip suppliers that cannot be instantiated from the registry and note them")
+    @SuppressWarnings("unchecked")
+    void process_withInaccessibleSuppliers_shouldSkipThemWithNote() throws Exception {
+        Compilation compilation = compile(Map.of(
+                "com.example.Suppliers", """
+                        package com.example;
+                        public class Suppliers {
+                            public static class Accessible implements %1$s<String> {
+                                public String[] get() { return new String[0]; }
+                            }
+                            private static class Hidden implements %1$s<String> {
+                                public String[] get() { return new String[0]; }
+                            }
+                            public static class WithArguments implements %1$s<String> {
+                                public WithArguments(String value) { }
+                                public String[] get() { return new String[0]; }
+                            }
+                            public abstract static class Base implements %1$s<String> { }
+                        }
+                        """.formatted(DATA_SUPPLIER)
+        ));
+
+        DataSupplierResolver<String> resolver = compilation.dataSupplierResolver("com.example.GeneratedDataSupplierRegistry");
+
+        assertEquals(1, resolver.resolve(compilation.supplierClass("com.example.Suppliers$Accessible")).length);
+        assertThrows(
+                IllegalArgumentException.class,
+                () -> resolver.resolve(compilation.supplierClass("com.example.Suppliers$WithArguments"))
+        );
+        assertTrue(compilation.notes().contains("Supplier com.example.Suppliers.Hidden is not registered"));
+        assertTrue(compilation.notes().contains("Supplier com.example.Suppliers.WithArguments is not registered"));
+        assertFalse(compilation.notes().contains("Suppliers.Base"));
+    }
+
+    @Test
+    @DisplayName("Should not generate a registry when the compilation has no suppliers")
+    void process_withoutSuppliers_shouldNotGenerateRegistry() throws Exception {
+        compile(Map.of(
+                "com.example.Plain", """
+                        package com.example;
+                        public class Plain { }
+                        """
+        ));
+
+        try (Stream<Path> files = Files.walk(directory)) {
+            assertTrue(files.noneMatch(file -> file.getFileName().toString().startsWith("GeneratedDataSupplierRegistry")));
+        }
+    }
+
+    @Test
+    @DisplayName("Should report an error when the registry cannot be written")
+    void process_withUnwritableRegistry_shouldReportError() throws Exception {
+        Compilation compilation = compileWithoutAssertion(Map.of(
+                "com.example.Letters", """
+                        package com.example;
+                        public class Letters implements %s<String> {
+                            public String[] get() { return new String[]{"a"}; }
+                        }
+                        """.formatted(DATA_SUPPLIER)
+        ), "-A" + DataSupplierRegistryProcessor.REGISTRY_OPTION + "=com.example.Letters");
+
+        assertFalse(compilation.succeeded());
+        assertTrue(compilation.errors().contains("Failed to write registry com.example.Letters"));
+    }
+
+    private Compilation compile(Map<String, String> sources, String... options) throws IOException {
+        Compilation compilation = compileWithoutAssertion(sources, options);
+
+        assertTrue(compilation.succeeded(), () -> compilation.diagnostics().toString());
+        return compilation;
+    }
+
+    private Compilation compileWithoutAssertion(Map<String, String> sources, String... options) throws IOException {
+        Path sourceDirectory = Files.createDirectories(directory.resolve("sources"));
+        Path classDirectory = Files.createDirectories(directory.resolve("classes"));
+
+        List<File> files = new ArrayList<>();
+        for (Map.Entry<String, String> source : sources.entrySet()) {
+            Path file = sourceDirectory.resolve(source.getKey().replace('.', '/') + ".java");
+            Files.createDirectories(file.getParent());
+            Files.writeString(file, source.getValue());
+            files.add(file.toFile());
+        }
+
+        String classPath = Stream.of(DataSupplier.class, ArrayGenerator.class)
+                                 .map(DataSupplierRegistryProcessorTest::locationOf)
+                                 .collect(Collectors.joining(File.pathSeparator));
+
+        List<String> arguments = new ArrayList<>(List.of("-classpath", classPath, "-d", classDirectory.toString(),
+                                                         "-s", sourceDirectory.toString()));
+        arguments.addAll(List.of(options));
+
+        JavaCompiler compiler = ToolProvider.getSystemJavaCompiler();
+        DiagnosticCollector<JavaFileObject> diagnostics = new DiagnosticCollector<>();
+        boolean succeeded;
+        try (StandardJavaFileManager fileManager = compiler.getStandardFileManager(diagnostics, null, null)) {
+            JavaCompiler.CompilationTask task = compiler.getTask(null, fileManager, diagnostics, arguments, null,
+                                                                 fileManager.getJavaFileObjectsFromFiles(files));
+            task.setProcessors(List.of(new DataSupplierRegistryProcessor()));
+
+            succeeded = task.call();
+        }
+
+        ClassLoader loader = new URLClassLoader(new URL[]{classDirectory.toUri().toURL()},
+                                                DataSupplierRegistryProcessorTest.class.getClassLoader());
+        return new Compilation(succeeded, loader, diagnostics.getDiagnostics());
+    }
+
+    private static String locationOf(Class<?> type) {
+        try {
+            return Path.of(type.getProtectionDomain().getCodeSource().getLocation().toURI()).toString();
+        } catch (URISyntaxException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private record Compilation(boolean succeeded, ClassLoader loader, List<Diagnostic<? extends JavaFileObject>> diagnostics) {
+
+        Class<?> load(String name) throws ClassNotFoundException {
+            return loader.loadClass(name);
+        }
+
+        @SuppressWarnings("unchecked")
+        Class<? extends DataSupplier<String>> supplierClass(String name) throws Exception {
+            return (Class<? extends DataSupplier<String>>) load(name);
+        }
+
+        @SuppressWarnings("unchecked")
+        DataSupplierResolver<String> dataSupplierResolver(String registryName) throws Exception {
+            ArrayGenerator<DataSupplier<String>> generator = DataSupplier[]::new;
+            return (DataSupplierResolver<String>) load(registryName)
+                                                         .getMethod("dataSupplierResolver", ArrayGenerator.class)
+                                                         .invoke(null, generator);
+        }
+
+        @SuppressWarnings("unchecked")
+        EnumDataSupplierResolver<String> enumDataSupplierResolver(String registryName) throws Exception {
+            ArrayGenerator<DataSupplier<String>> generator = DataSupplier[]::new;
+            return (EnumDataSupplierResolver<String>) load(registryName)
+                                                             .getMethod("enumDataSupplierResolver", ArrayGenerator.class)
+                                                             .invoke(null, generator);
+        }
+
+        String notes() {
+            return messages(Diagnostic.Kind.NOTE);
+        }
+
+        String errors() {
+            return messages(Diagnostic.Kind.ERROR);
+        }
+
+        private String messages(Diagnostic.Kind kind) {
+            return diagnostics.stream()
+                              .filter(diagnostic -> diagnostic.getKind() == kind)
+                              .map(diagnostic -> diagnostic.getMessage(null))
+                              .collect(Collectors.joining("\n"));
+        }
+    }
+}
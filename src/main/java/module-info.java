@@ -23,15 +23,28 @@
  *
  * <p>It requires {@code org.junit.jupiter.params} transitively, making it
  * available to modules depending on this one. Additionally, it depends on
- * {@code derivora.util.kit} for core utilities.</p>
+ * {@code derivora.util.kit} for core utilities, on {@code jdk.jfr}
+ * for recording Java Flight Recorder events, and on {@code org.junit.platform.launcher}
+ * for registering the listener warming up test data when the test plan starts.</p>
  */
 module derivora.testing.data.support {
     requires transitive org.junit.jupiter.params;
     requires derivora.util.kit;
+    requires jdk.jfr;
+    requires org.junit.platform.launcher;
 
     exports xyz.derivora.testing.data.support.aggregator;
+    exports xyz.derivora.testing.data.support.cache;
     exports xyz.derivora.testing.data.support.provider;
+    exports xyz.derivora.testing.data.support.provider.listener;
     exports xyz.derivora.testing.data.support.supplier;
+    exports xyz.derivora.testing.data.support.supplier.file;
+    exports xyz.derivora.testing.data.support.supplier.random;
     exports xyz.derivora.testing.data.support.supplier.resolver;
     exports xyz.derivora.testing.data.support.supplier.resolver.enums;
+
+    uses xyz.derivora.testing.data.support.provider.listener.DataProviderListener;
+
+    provides org.junit.platform.launcher.TestExecutionListener
+            with xyz.derivora.testing.data.support.provider.DataWarmUpListener;
 }
\ No newline at end of file
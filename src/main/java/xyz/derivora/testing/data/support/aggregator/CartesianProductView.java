@@ -0,0 +1,98 @@
+/*
+ * This file is part of Derivora Testing Data Support.
+ *
+ * Derivora Testing Data Support is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Derivora Testing Data Support is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with Derivora Testing Data Support. If not, see https://www.gnu.org/licenses/lgpl-3.0.html.
+ */
+
+package xyz.derivora.testing.data.support.aggregator;
+
+import java.util.AbstractList;
+import java.util.Objects;
+import java.util.RandomAccess;
+
+/**
+ * A read-only list presenting the Cartesian product of several arrays without materializing it.
+ *
+ * <p>Each element of the {@code CartesianProductView} is a row holding one value of every array,
+ * computed on access from its index as a mixed-radix number, so that the view holds no more than
+ * the arrays it was created from. Rows are ordered as by nested loops, the last array varying fastest.</p>
+ *
+ * <p>Every access returns a new row array, so rows may be modified freely without affecting the view.</p>
+ */
+final class CartesianProductView extends AbstractList<Object[]> implements RandomAccess {
+
+    /**
+     * The arrays whose product this view presents, one per position of a row.
+     */
+    private final Object[][] dimensions;
+
+    /**
+     * The total number of rows in the product.
+     */
+    private final int size;
+
+    /**
+     * Constructs a {@code CartesianProductView} over the given arrays.
+     *
+     * <p>The product of no arrays consists of no rows.</p>
+     *
+     * @param dimensions the arrays whose product the view presents, one per position of a row
+     * @throws NullPointerException if {@code dimensions} or any of its elements is {@code null}
+     * @throws IllegalArgumentException if the number of rows exceeds {@link Integer#MAX_VALUE}
+     */
+    CartesianProductView(Object[][] dimensions) {
+        this.dimensions = Objects.requireNonNull(dimensions, "Dimensions array cannot be null");
+
+        long size = dimensions.length == 0 ? 0 : 1;
+        for (int i = 0; i < dimensions.length; i++) {
+            size *= Objects.requireNonNull(dimensions[i], "Dimension at index " + i + " cannot be null").length;
+            if (size > Integer.MAX_VALUE) {
+                throw new IllegalArgumentException("Number of combinations exceeds " + Integer.MAX_VALUE);
+            }
+        }
+
+        this.size = (int) size;
+    }
+
+    /**
+     * Returns the row at the specified position in this view.
+     *
+     * @param index the index of the row to return
+     * @return a new array holding the values of the row
+     * @throws IndexOutOfBoundsException if {@code index} is negative or not less than {@link #size()}
+     */
+    @Override
+    public Object[] get(int index) {
+        Objects.checkIndex(index, size);
+
+        Object[] row = new Object[dimensions.length];
+        for (int i = dimensions.length - 1; i >= 0; i--) {
+            Object[] dimension = dimensions[i];
+            row[i] = dimension[index % dimension.length];
+            index /= dimension.length;
+        }
+
+        return row;
+    }
+
+    /**
+     * Returns the number of rows in the product.
+     *
+     * @return the number of rows in this view
+     */
+    @Override
+    public int size() {
+        return size;
+    }
+}
@@ -0,0 +1,208 @@
+/*
+ * This file is part of Derivora Testing Data Support.
+ *
+ * Derivora Testing Data Support is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Derivora Testing Data Support is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with Derivora Testing Data Support. If not, see https://www.gnu.org/licenses/lgpl-3.0.html.
+ */
+
+package xyz.derivora.testing.data.support.aggregator;
+
+import xyz.derivora.testing.data.support.jfr.AggregationEvent;
+import xyz.derivora.testing.data.support.supplier.DataSupplier;
+import xyz.derivora.testing.data.support.timing.SupplierTimer;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * A {@code DataAggregator} implementation that combines the outputs of multiple {@link DataSupplier}
+ * instances into rows holding one value of every supplier.
+ *
+ * <p>Each supplier provides the values of one test parameter, and each aggregated element is an
+ * {@code Object[]} row holding one value per supplier, in the order the suppliers appear in the argument
+ * list. Such rows are passed by data providers as separate arguments of a single test invocation.</p>
+ *
+ * <p>The aggregator works in one of two modes:</p>
+ * <ul>
+ *     <li>{@link #cartesian()} produces every combination of values. The view returned by
+ *     {@link #aggregateView(DataSupplier[])} computes each row on access, so the product is never held
+ *     in memory, whatever its size.</li>
+ *     <li>{@link #pairwise()} and {@link #nWise(int)} produce a covering array, a set of rows in which
+ *     every combination of values of any two, or {@code n}, parameters appears at least once. Its rows
+ *     are far fewer than those of the full product, while still exercising every interaction between
+ *     that many parameters.</li>
+ * </ul>
+ *
+ * <p>Suppliers of values of different types can be combined by adapting them with
+ * {@link #dimension(DataSupplier)}.</p>
+ */
+public final class CombinatorialDataAggregator implements DataAggregator<Object> {
+
+    /**
+     * The number of parameters whose combinations of values are covered,
+     * or {@code 0} if every combination of all parameters is produced.
+     */
+    private final int strength;
+
+    /**
+     * Constructs a {@code CombinatorialDataAggregator} with the specified strength.
+     *
+     * @param strength the number of parameters whose combinations of values are covered,
+     *                 or {@code 0} if every combination of all parameters is produced
+     */
+    private CombinatorialDataAggregator(int strength) {
+        this.strength = strength;
+    }
+
+    /**
+     * Returns an aggregator producing the Cartesian product of the supplied values.
+     *
+     * @return an aggregator producing every combination of values
+     */
+    public static CombinatorialDataAggregator cartesian() {
+        return new CombinatorialDataAggregator(0);
+    }
+
+    /**
+     * Returns an aggregator producing rows in which every pair of values of any two parameters appears.
+     *
+     * @return an aggregator producing a pairwise covering array
+     */
+    public static CombinatorialDataAggregator pairwise() {
+        return nWise(2);
+    }
+
+    /**
+     * Returns an aggregator producing rows in which every combination of values of any
+     * {@code strength} parameters appears.
+     *
+     * <p>If no more than {@code strength} suppliers are aggregated, the result is their full
+     * Cartesian product.</p>
+     *
+     * @param strength the number of parameters whose combinations of values are covered
+     * @return an aggregator producing a covering array of the given strength
+     * @throws IllegalArgumentException if {@code strength} is not positive
+     */
+    public static CombinatorialDataAggregator nWise(int strength) {
+        if (strength <= 0) {
+            throw new IllegalArgumentException("Strength must be positive: " + strength);
+        }
+
+        return new CombinatorialDataAggregator(strength);
+    }
+
+    /**
+     * Adapts a supplier of values of any type into a supplier of values combined by this aggregator.
+     *
+     * @param supplier the supplier to adapt
+     * @return a supplier returning the values of the given supplier
+     * @throws NullPointerException if {@code supplier} is {@code null}
+     */
+    public static DataSupplier<Object> dimension(DataSupplier<?> supplier) {
+        Objects.requireNonNull(supplier, "Supplier cannot be null");
+        return supplier::get;
+    }
+
+    /**
+     * Combines the values of the provided {@link DataSupplier} instances into an array of rows.
+     *
+     * <p>If no suppliers are provided, or any supplier provides no values, an empty array is returned.</p>
+     *
+     * @param suppliers the data suppliers providing the values of each parameter
+     * @return an array of {@code Object[]} rows holding one value per supplier
+     * @throws NullPointerException if {@code suppliers} or any individual supplier is {@code null}
+     * @throws IllegalArgumentException if the number of combinations exceeds {@link Integer#MAX_VALUE}
+     */
+    @Override
+    @SafeVarargs
+    @SuppressWarnings("varargs")
+    public final Object[] aggregate(DataSupplier<Object>... suppliers) {
+        AggregationEvent event = new AggregationEvent();
+        event.begin();
+
+        Object[] result = combine(suppliers).toArray();
+
+        event.commit(this, suppliers, result.length);
+        return result;
+    }
+
+    /**
+     * Combines the values of the provided {@link DataSupplier} instances into a read-only view of rows.
+     *
+     * <p>In Cartesian mode, each row is computed on access, so the product is not materialized.
+     * Covering arrays are computed in full, as their rows are few.</p>
+     *
+     * @param suppliers the data suppliers providing the values of each parameter
+     * @return an unmodifiable list of {@code Object[]} rows holding one value per supplier
+     * @throws NullPointerException if {@code suppliers} or any individual supplier is {@code null}
+     * @throws IllegalArgumentException if the number of combinations exceeds {@link Integer#MAX_VALUE}
+     */
+    @Override
+    @SafeVarargs
+    @SuppressWarnings("varargs")
+    public final List<Object> aggregateView(DataSupplier<Object>... suppliers) {
+        AggregationEvent event = new AggregationEvent();
+        event.begin();
+
+        List<Object> result = Collections.<Object>unmodifiableList(combine(suppliers));
+
+        event.commit(this, suppliers, result.size());
+        return result;
+    }
+
+    /**
+     * Evaluates the given suppliers and combines their values according to the strength of this aggregator.
+     *
+     * @param suppliers the data suppliers providing the values of each parameter
+     * @return a list of {@code Object[]} rows holding one value per supplier
+     * @throws NullPointerException if {@code suppliers} or any individual supplier is {@code null}
+     */
+    private List<?> combine(DataSupplier<Object>[] suppliers) {
+        Objects.requireNonNull(suppliers, "Suppliers array cannot be null");
+
+        for (int i = 0; i < suppliers.length; i++) {
+            Objects.requireNonNull(suppliers[i], "Supplier at index " + i + " cannot be null");
+        }
+
+        SupplierTimer timer = SupplierTimer.current();
+        Object[][] dimensions = new Object[suppliers.length][];
+        boolean empty = suppliers.length == 0;
+        for (int i = 0; i < suppliers.length; i++) {
+            dimensions[i] = timer.get(suppliers[i]);
+            empty |= dimensions[i].length == 0;
+        }
+
+        if (empty) {
+            return List.of();
+        }
+
+        if (strength == 0 || strength >= dimensions.length) {
+            return new CartesianProductView(dimensions);
+        }
+
+        int[] sizes = new int[dimensions.length];
+        for (int i = 0; i < dimensions.length; i++) {
+            sizes[i] = dimensions[i].length;
+        }
+
+        return CoveringArray.generate(sizes, strength).stream().map(indexes -> {
+            Object[] row = new Object[indexes.length];
+            for (int i = 0; i < indexes.length; i++) {
+                row[i] = dimensions[i][indexes[i]];
+            }
+
+            return row;
+        }).toList();
+    }
+}
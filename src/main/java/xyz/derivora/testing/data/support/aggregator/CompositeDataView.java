@@ -0,0 +1,200 @@
+/*
+ * This file is part of Derivora Testing Data Support.
+ *
+ * Derivora Testing Data Support is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Derivora Testing Data Support is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with Derivora Testing Data Support. If not, see https://www.gnu.org/licenses/lgpl-3.0.html.
+ */
+
+package xyz.derivora.testing.data.support.aggregator;
+
+import java.util.AbstractList;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.RandomAccess;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.function.Consumer;
+
+/**
+ * A read-only list presenting several arrays as a single contiguous sequence without copying them.
+ *
+ * <p>The {@code CompositeDataView} keeps references to the arrays it was created from, together with
+ * the offset at which each array starts within the view. Indexed access locates the containing array
+ * by binary search over these offsets, while iteration walks the arrays one after another.</p>
+ *
+ * <p>The view cannot be modified, but it reflects any later changes made to the underlying arrays.</p>
+ *
+ * @param <T> the type of elements in the view
+ */
+final class CompositeDataView<T> extends AbstractList<T> implements RandomAccess {
+
+    /**
+     * The arrays presented by this view, in order.
+     */
+    private final Object[][] segments;
+
+    /**
+     * The index within the view of the first element of each segment.
+     */
+    private final int[] offsets;
+
+    /**
+     * The total number of elements in all segments.
+     */
+    private final int size;
+
+    /**
+     * Constructs a {@code CompositeDataView} over the given arrays.
+     *
+     * @param segments the arrays presented by the view, in order
+     * @throws NullPointerException if {@code segments} or any of its elements is {@code null}
+     * @throws IllegalArgumentException if the total number of elements exceeds {@link Integer#MAX_VALUE}
+     */
+    CompositeDataView(Object[][] segments) {
+        this.segments = Objects.requireNonNull(segments, "Segments array cannot be null");
+        this.offsets = new int[segments.length];
+
+        long size = 0;
+        for (int i = 0; i < segments.length; i++) {
+            offsets[i] = (int) size;
+            size += Objects.requireNonNull(segments[i], "Segment at index " + i + " cannot be null").length;
+        }
+
+        if (size > Integer.MAX_VALUE) {
+            throw new IllegalArgumentException("Total number of elements exceeds " + Integer.MAX_VALUE);
+        }
+
+        this.size = (int) size;
+    }
+
+    /**
+     * Returns the element at the specified position in this view.
+     *
+     * @param index the index of the element to return
+     * @return the element at the specified position
+     * @throws IndexOutOfBoundsException if {@code index} is negative or not less than {@link #size()}
+     */
+    @Override
+    @SuppressWarnings("unchecked")
+    public T get(int index) {
+        Objects.checkIndex(index, size);
+
+        int segment = Arrays.binarySearch(offsets, index);
+        if (segment < 0) {
+            segment = -segment - 2;
+        } else {
+            while (segments[segment].length == 0) {
+                segment++;
+            }
+        }
+
+        return (T) segments[segment][index - offsets[segment]];
+    }
+
+    /**
+     * Returns the total number of elements in all underlying arrays.
+     *
+     * @return the number of elements in this view
+     */
+    @Override
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Returns an iterator walking the underlying arrays one after another.
+     *
+     * @return an iterator over the elements of this view
+     */
+    @Override
+    public Iterator<T> iterator() {
+        return new SegmentIterator();
+    }
+
+    /**
+     * Performs the given action for each element of this view, in order.
+     *
+     * @param action the action to be performed for each element
+     * @throws NullPointerException if {@code action} is {@code null}
+     */
+    @Override
+    @SuppressWarnings("unchecked")
+    public void forEach(Consumer<? super T> action) {
+        Objects.requireNonNull(action, "Action cannot be null");
+
+        for (Object[] segment : segments) {
+            for (Object element : segment) {
+                action.accept((T) element);
+            }
+        }
+    }
+
+    /**
+     * Returns a sized spliterator traversing the elements through {@link #iterator()}.
+     *
+     * @return a spliterator over the elements of this view
+     */
+    @Override
+    public Spliterator<T> spliterator() {
+        return Spliterators.spliterator(this, Spliterator.ORDERED | Spliterator.IMMUTABLE);
+    }
+
+    /**
+     * Iterates over the elements of all segments in order.
+     */
+    private final class SegmentIterator implements Iterator<T> {
+
+        /**
+         * The index of the segment containing the next element.
+         */
+        private int segment;
+
+        /**
+         * The index of the next element within the current segment.
+         */
+        private int position;
+
+        /**
+         * Checks whether any segment has elements left, skipping exhausted segments.
+         *
+         * @return {@code true} if there are more elements, {@code false} otherwise
+         */
+        @Override
+        public boolean hasNext() {
+            while (segment < segments.length && position == segments[segment].length) {
+                segment++;
+                position = 0;
+            }
+
+            return segment < segments.length;
+        }
+
+        /**
+         * Returns the next element of the current segment.
+         *
+         * @return the next element
+         * @throws NoSuchElementException if all segments are exhausted
+         */
+        @Override
+        @SuppressWarnings("unchecked")
+        public T next() {
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+
+            return (T) segments[segment][position++];
+        }
+    }
+}
@@ -0,0 +1,294 @@
+/*
+ * This file is part of Derivora Testing Data Support.
+ *
+ * Derivora Testing Data Support is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Derivora Testing Data Support is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with Derivora Testing Data Support. If not, see https://www.gnu.org/licenses/lgpl-3.0.html.
+ */
+
+package xyz.derivora.testing.data.support.aggregator;
+
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.List;
+
+/**
+ * Generates covering arrays, sets of rows in which every combination of values of any {@code t}
+ * positions appears at least once.
+ *
+ * <p>Rows are built greedily, one at a time, in the manner of AETG: each row starts from a combination
+ * not covered yet, and the remaining positions are filled in order with the value covering the most
+ * combinations not covered yet. The number of rows thus grows with the logarithm of the number of
+ * positions instead of exponentially, as the full Cartesian product does.</p>
+ *
+ * <p>Generation is deterministic: the same sizes and strength always yield the same rows.</p>
+ */
+final class CoveringArray {
+
+    /**
+     * The number of values available at each position.
+     */
+    private final int[] sizes;
+
+    /**
+     * Every set of {@code t} positions, in lexicographic order.
+     */
+    private final int[][] subsets;
+
+    /**
+     * The indexes within {@link #subsets} of the sets containing each position.
+     */
+    private final int[][] subsetsByPosition;
+
+    /**
+     * The combinations of values covered so far for each set of positions, indexed as mixed-radix numbers.
+     */
+    private final BitSet[] covered;
+
+    /**
+     * The number of combinations of values not covered yet.
+     */
+    private long uncovered;
+
+    /**
+     * Constructs a {@code CoveringArray} generator for the given sizes and strength.
+     *
+     * @param sizes the number of values available at each position, all positive
+     * @param strength the number of positions whose combinations of values must be covered,
+     *                 positive and less than the number of positions
+     * @throws IllegalArgumentException if the combinations of some set of positions exceed {@link Integer#MAX_VALUE}
+     */
+    private CoveringArray(int[] sizes, int strength) {
+        this.sizes = sizes;
+        this.subsets = combinations(sizes.length, strength);
+        this.covered = new BitSet[subsets.length];
+
+        List<List<Integer>> byPosition = new ArrayList<>(sizes.length);
+        for (int i = 0; i < sizes.length; i++) {
+            byPosition.add(new ArrayList<>());
+        }
+
+        for (int s = 0; s < subsets.length; s++) {
+            long count = 1;
+            for (int position : subsets[s]) {
+                count *= sizes[position];
+                if (count > Integer.MAX_VALUE) {
+                    throw new IllegalArgumentException("Number of combinations exceeds " + Integer.MAX_VALUE);
+                }
+                byPosition.get(position).add(s);
+            }
+
+            covered[s] = new BitSet((int) count);
+            uncovered += count;
+        }
+
+        this.subsetsByPosition = byPosition.stream()
+                                           .map(list -> list.stream().mapToInt(Integer::intValue).toArray())
+                                           .toArray(int[][]::new);
+    }
+
+    /**
+     * Generates a covering array for the given sizes and strength.
+     *
+     * @param sizes the number of values available at each position, all positive
+     * @param strength the number of positions whose combinations of values must be covered,
+     *                 positive and less than the number of positions
+     * @return the rows of the covering array, each holding the index of a value at every position
+     * @throws IllegalArgumentException if the combinations of some set of positions exceed {@link Integer#MAX_VALUE}
+     */
+    static List<int[]> generate(int[] sizes, int strength) {
+        return new CoveringArray(sizes, strength).generate();
+    }
+
+    /**
+     * Builds rows until every combination of values is covered.
+     *
+     * @return the rows of the covering array
+     */
+    private List<int[]> generate() {
+        List<int[]> rows = new ArrayList<>();
+
+        while (uncovered > 0) {
+            int[] row = new int[sizes.length];
+            boolean[] assigned = new boolean[sizes.length];
+            seed(row, assigned);
+
+            for (int position = 0; position < sizes.length; position++) {
+                if (!assigned[position]) {
+                    row[position] = bestValue(row, assigned, position, rows.size());
+                    assigned[position] = true;
+                }
+            }
+
+            cover(row);
+            rows.add(row);
+        }
+
+        return rows;
+    }
+
+    /**
+     * Assigns the first combination of values not covered yet to the given row.
+     *
+     * @param row the row being built
+     * @param assigned the positions of the row assigned so far
+     */
+    private void seed(int[] row, boolean[] assigned) {
+        for (int s = 0; s < subsets.length; s++) {
+            int combination = covered[s].nextClearBit(0);
+            if (combination < combinationCount(subsets[s])) {
+                int[] subset = subsets[s];
+                for (int i = subset.length - 1; i >= 0; i--) {
+                    row[subset[i]] = combination % sizes[subset[i]];
+                    assigned[subset[i]] = true;
+                    combination /= sizes[subset[i]];
+                }
+
+                return;
+            }
+        }
+    }
+
+    /**
+     * Chooses the value of a position covering the most combinations not covered yet.
+     *
+     * <p>Only combinations whose other positions are already assigned are counted. Ties are broken
+     * in favor of the value following, in rotation, the number of rows built so far, which spreads
+     * the values evenly among rows.</p>
+     *
+     * @param row the row being built
+     * @param assigned the positions of the row assigned so far
+     * @param position the position to choose a value for
+     * @param rowCount the number of rows built so far
+     * @return the index of the chosen value
+     */
+    private int bestValue(int[] row, boolean[] assigned, int position, int rowCount) {
+        int size = sizes[position];
+        int best = rowCount % size;
+        int bestScore = -1;
+
+        for (int offset = 0; offset < size; offset++) {
+            int value = (rowCount + offset) % size;
+            row[position] = value;
+
+            int score = 0;
+            for (int s : subsetsByPosition[position]) {
+                if (isAssigned(subsets[s], assigned, position) && !covered[s].get(combinationIndex(subsets[s], row))) {
+                    score++;
+                }
+            }
+
+            if (score > bestScore) {
+                best = value;
+                bestScore = score;
+            }
+        }
+
+        return best;
+    }
+
+    /**
+     * Marks every combination of values appearing in the given row as covered.
+     *
+     * @param row the completed row
+     */
+    private void cover(int[] row) {
+        for (int s = 0; s < subsets.length; s++) {
+            int combination = combinationIndex(subsets[s], row);
+            if (!covered[s].get(combination)) {
+                covered[s].set(combination);
+                uncovered--;
+            }
+        }
+    }
+
+    /**
+     * Checks whether every position of a set, except the given one, is already assigned.
+     *
+     * @param subset the set of positions
+     * @param assigned the positions of the row assigned so far
+     * @param position the position being chosen
+     * @return {@code true} if all other positions of the set are assigned, {@code false} otherwise
+     */
+    private static boolean isAssigned(int[] subset, boolean[] assigned, int position) {
+        for (int other : subset) {
+            if (other != position && !assigned[other]) {
+                return false;
+            }
+        }
+
+        return true;
+    }
+
+    /**
+     * Computes the index of the combination of values a row holds at the given set of positions.
+     *
+     * @param subset the set of positions
+     * @param row the row
+     * @return the mixed-radix index of the combination
+     */
+    private int combinationIndex(int[] subset, int[] row) {
+        int index = 0;
+        for (int position : subset) {
+            index = index * sizes[position] + row[position];
+        }
+
+        return index;
+    }
+
+    /**
+     * Computes the number of combinations of values of the given set of positions.
+     *
+     * @param subset the set of positions
+     * @return the number of combinations
+     */
+    private int combinationCount(int[] subset) {
+        int count = 1;
+        for (int position : subset) {
+            count *= sizes[position];
+        }
+
+        return count;
+    }
+
+    /**
+     * Lists every set of {@code k} positions out of {@code n}, in lexicographic order.
+     *
+     * @param n the number of positions
+     * @param k the number of positions in each set
+     * @return the sets of positions, each in ascending order
+     */
+    private static int[][] combinations(int n, int k) {
+        List<int[]> result = new ArrayList<>();
+        int[] current = new int[k];
+        for (int i = 0; i < k; i++) {
+            current[i] = i;
+        }
+
+        while (true) {
+            result.add(current.clone());
+
+            int i = k - 1;
+            while (i >= 0 && current[i] == n - k + i) {
+                i--;
+            }
+            if (i < 0) {
+                return result.toArray(int[][]::new);
+            }
+
+            current[i]++;
+            for (int j = i + 1; j < k; j++) {
+                current[j] = current[j - 1] + 1;
+            }
+        }
+    }
+}
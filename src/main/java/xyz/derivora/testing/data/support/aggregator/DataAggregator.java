@@ -19,12 +19,20 @@ package xyz.derivora.testing.data.support.aggregator;
 
 import xyz.derivora.testing.data.support.supplier.DataSupplier;
 
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
 /**
  * Aggregates data from multiple {@link DataSupplier} instances into a single array.
  *
  * <p>The {@code DataAggregator} interface defines a mechanism for collecting and merging
  * data from multiple suppliers, producing a consolidated result.</p>
  *
+ * <p>Besides the merged array returned by {@link #aggregate(DataSupplier[])}, the result can be obtained
+ * as a read-only view through {@link #aggregateView(DataSupplier[])}, which implementations may
+ * provide without copying the supplied arrays.</p>
+ *
  * @param <T> the type of data supplied and aggregated
  */
 @FunctionalInterface
@@ -40,5 +48,23 @@ public interface DataAggregator<T> {
      * @return an array containing all aggregated elements
      * @throws NullPointerException if {@code suppliers} or any of its elements is {@code null}
      */
+    @SuppressWarnings("unchecked")
     T[] aggregate(DataSupplier<T>... suppliers);
+
+    /**
+     * Aggregates data from the provided {@link DataSupplier} instances into a read-only view.
+     *
+     * <p>The returned list contains the same elements, in the same order, as the array returned by
+     * {@link #aggregate(DataSupplier[])}, and cannot be modified. By default, it wraps the result of
+     * {@link #aggregate(DataSupplier[])}; implementations may override this method to present the
+     * supplied arrays directly instead of merging them.</p>
+     *
+     * @param suppliers the data suppliers providing elements to be aggregated
+     * @return an unmodifiable list containing all aggregated elements
+     * @throws NullPointerException if {@code suppliers} or any of its elements is {@code null}
+     */
+    @SuppressWarnings("unchecked")
+    default List<T> aggregateView(DataSupplier<T>... suppliers) {
+        return Collections.unmodifiableList(Arrays.asList(aggregate(suppliers)));
+    }
 }
@@ -0,0 +1,172 @@
+/*
+ * This file is part of Derivora Testing Data Support.
+ *
+ * Derivora Testing Data Support is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Derivora Testing Data Support is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with Derivora Testing Data Support. If not, see https://www.gnu.org/licenses/lgpl-3.0.html.
+ */
+
+package xyz.derivora.testing.data.support.aggregator;
+
+import xyz.derivora.testing.data.support.jfr.AggregationEvent;
+import xyz.derivora.testing.data.support.supplier.DataSupplier;
+import xyz.derivora.testing.data.support.timing.SupplierTimer;
+import xyz.derivora.utilkit.arrays.ArrayGenerator;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * A {@code DataAggregator} implementation that flattens multiple {@link DataSupplier} outputs
+ * into a single array without duplicate elements.
+ *
+ * <p>The {@code DistinctDataAggregator} concatenates the arrays of its suppliers like
+ * {@link FlatDataAggregator}, but keeps only the first occurrence of each element, so that overlapping
+ * suppliers do not cause identical test invocations. Elements are compared by deep equality: array
+ * elements, which data providers pass as separate arguments, are equal if all their items are equal.</p>
+ *
+ * <p>Duplicates are removed in a single pass over the supplied arrays. By default, every distinct element
+ * is remembered. For very large inputs, a probabilistic mode remembers elements in a Bloom filter of
+ * bounded size instead; it never keeps a duplicate, but may drop a distinct element with the configured
+ * false positive rate.</p>
+ *
+ * @param <T> the type of elements supplied and aggregated
+ */
+public final class DistinctDataAggregator<T> implements DataAggregator<T> {
+
+    /**
+     * Generates arrays for storing the aggregated data.
+     */
+    private final ArrayGenerator<T> arrayGenerator;
+
+    /**
+     * The number of distinct elements the Bloom filter is sized for, or {@code 0} in exact mode.
+     */
+    private final long expectedRows;
+
+    /**
+     * The probability of dropping a distinct element in probabilistic mode.
+     */
+    private final double falsePositiveRate;
+
+    /**
+     * Constructs a {@code DistinctDataAggregator} with the specified array generator
+     * that removes duplicates exactly.
+     *
+     * @param arrayGenerator the generator used to create result arrays
+     * @throws NullPointerException if {@code arrayGenerator} is {@code null}
+     */
+    public DistinctDataAggregator(ArrayGenerator<T> arrayGenerator) {
+        this.arrayGenerator = Objects.requireNonNull(arrayGenerator, "Array generator cannot be null");
+        this.expectedRows = 0;
+        this.falsePositiveRate = 0;
+    }
+
+    /**
+     * Constructs a {@code DistinctDataAggregator} with the specified array generator
+     * that removes duplicates probabilistically, within bounded memory.
+     *
+     * <p>The Bloom filter takes about {@code 1.44 * log2(1 / falsePositiveRate)} bits per expected element,
+     * for instance under 10 bits for a rate of 1%. If more distinct elements than expected are supplied,
+     * the effective false positive rate rises above the configured one.</p>
+     *
+     * @param arrayGenerator the generator used to create result arrays
+     * @param expectedRows the number of distinct elements the filter is sized for
+     * @param falsePositiveRate the probability of dropping a distinct element
+     * @throws NullPointerException if {@code arrayGenerator} is {@code null}
+     * @throws IllegalArgumentException if {@code expectedRows} is not positive or if {@code falsePositiveRate}
+     *                                  is not strictly between {@code 0} and {@code 1}
+     */
+    public DistinctDataAggregator(ArrayGenerator<T> arrayGenerator, long expectedRows, double falsePositiveRate) {
+        this.arrayGenerator = Objects.requireNonNull(arrayGenerator, "Array generator cannot be null");
+        DistinctRowFilter.validate(expectedRows, falsePositiveRate);
+        this.expectedRows = expectedRows;
+        this.falsePositiveRate = falsePositiveRate;
+    }
+
+    /**
+     * Aggregates data from multiple {@link DataSupplier} instances into a single array without duplicates.
+     *
+     * <p>If no suppliers are provided, an empty array is returned. Otherwise, the first occurrence of each
+     * element is kept, in the order the suppliers appear in the argument list.</p>
+     *
+     * @param suppliers the data suppliers providing elements to be aggregated
+     * @return a single array containing the distinct aggregated elements
+     * @throws NullPointerException if {@code suppliers} or any individual supplier is {@code null}
+     */
+    @Override
+    @SafeVarargs
+    @SuppressWarnings("varargs")
+    public final T[] aggregate(DataSupplier<T>... suppliers) {
+        AggregationEvent event = new AggregationEvent();
+        event.begin();
+
+        List<T> distinct = distinct(suppliers);
+        T[] result = distinct.toArray(arrayGenerator.generate(distinct.size()));
+
+        event.commit(this, suppliers, result.length);
+        return result;
+    }
+
+    /**
+     * Aggregates data from multiple {@link DataSupplier} instances into a read-only view without duplicates.
+     *
+     * @param suppliers the data suppliers providing elements to be aggregated
+     * @return an unmodifiable list containing the distinct aggregated elements
+     * @throws NullPointerException if {@code suppliers} or any individual supplier is {@code null}
+     */
+    @Override
+    @SafeVarargs
+    @SuppressWarnings("varargs")
+    public final List<T> aggregateView(DataSupplier<T>... suppliers) {
+        AggregationEvent event = new AggregationEvent();
+        event.begin();
+
+        List<T> result = Collections.unmodifiableList(distinct(suppliers));
+
+        event.commit(this, suppliers, result.size());
+        return result;
+    }
+
+    /**
+     * Collects the first occurrence of each element of the given suppliers, in order.
+     *
+     * @param suppliers the data suppliers providing elements to be aggregated
+     * @return a list of the distinct elements
+     * @throws NullPointerException if {@code suppliers} or any individual supplier is {@code null}
+     */
+    private List<T> distinct(DataSupplier<T>[] suppliers) {
+        Objects.requireNonNull(suppliers, "Suppliers array cannot be null");
+
+        for (int i = 0; i < suppliers.length; i++) {
+            Objects.requireNonNull(suppliers[i], "Supplier at index " + i + " cannot be null");
+        }
+
+        DistinctRowFilter filter = expectedRows == 0
+                ? DistinctRowFilter.exact()
+                : DistinctRowFilter.probabilistic(expectedRows, falsePositiveRate);
+
+        SupplierTimer timer = SupplierTimer.current();
+        List<T> result = new ArrayList<>();
+        for (DataSupplier<T> supplier : suppliers) {
+            for (T element : timer.get(supplier)) {
+                if (filter.test(element)) {
+                    result.add(element);
+                }
+            }
+        }
+
+        return result;
+    }
+}
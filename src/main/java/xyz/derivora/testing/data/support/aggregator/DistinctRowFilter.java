@@ -0,0 +1,272 @@
+/*
+ * This file is part of Derivora Testing Data Support.
+ *
+ * Derivora Testing Data Support is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Derivora Testing Data Support is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with Derivora Testing Data Support. If not, see https://www.gnu.org/licenses/lgpl-3.0.html.
+ */
+
+package xyz.derivora.testing.data.support.aggregator;
+
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.Predicate;
+
+/**
+ * A stateful filter accepting each distinct row only the first time it is tested.
+ *
+ * <p>Rows are compared by deep equality: array rows, including primitive and nested arrays, are equal if
+ * their elements are equal, as by {@link Objects#deepEquals(Object, Object)}. Other rows are compared by
+ * {@link Object#equals(Object)}.</p>
+ *
+ * <p>An exact filter remembers every accepted row. A probabilistic filter remembers only a Bloom filter of
+ * fixed size, so its memory is bounded whatever the number of rows, at the cost of rejecting a distinct row
+ * now and then, as if it were a duplicate. Duplicates are always rejected by both.</p>
+ *
+ * <p>Filters are not thread-safe and are meant for a single sequential pass over rows.</p>
+ */
+abstract class DistinctRowFilter implements Predicate<Object> {
+
+    /**
+     * Returns a filter remembering every accepted row.
+     *
+     * @return a new exact filter
+     */
+    static DistinctRowFilter exact() {
+        return new Exact();
+    }
+
+    /**
+     * Returns a filter remembering accepted rows in a Bloom filter sized for the given number of rows.
+     *
+     * @param expectedRows the number of distinct rows the filter is sized for
+     * @param falsePositiveRate the probability of rejecting a distinct row once {@code expectedRows} rows are accepted
+     * @return a new probabilistic filter
+     * @throws IllegalArgumentException if {@code expectedRows} is not positive, if {@code falsePositiveRate} is not
+     *                                  strictly between {@code 0} and {@code 1}, or if the filter would be too large
+     */
+    static DistinctRowFilter probabilistic(long expectedRows, double falsePositiveRate) {
+        return new Bloom(expectedRows, falsePositiveRate);
+    }
+
+    /**
+     * Validates the parameters of a probabilistic filter.
+     *
+     * @param expectedRows the number of distinct rows the filter is sized for
+     * @param falsePositiveRate the probability of rejecting a distinct row
+     * @throws IllegalArgumentException if {@code expectedRows} is not positive or if {@code falsePositiveRate}
+     *                                  is not strictly between {@code 0} and {@code 1}
+     */
+    static void validate(long expectedRows, double falsePositiveRate) {
+        if (expectedRows <= 0) {
+            throw new IllegalArgumentException("Expected rows must be positive: " + expectedRows);
+        }
+        if (!(falsePositiveRate > 0 && falsePositiveRate < 1)) {
+            throw new IllegalArgumentException("False positive rate must be between 0 and 1: " + falsePositiveRate);
+        }
+    }
+
+    /**
+     * Computes a 64-bit hash of a row consistent with deep equality.
+     *
+     * <p>Strings are hashed over all their characters, so that the hash of string rows is not limited
+     * to the 32 bits of {@link String#hashCode()}.</p>
+     *
+     * @param row the row to hash, possibly {@code null}
+     * @return the hash of the row
+     */
+    static long deepHash(Object row) {
+        if (row == null) {
+            return 0x5DEECE66DL;
+        }
+        if (row instanceof String string) {
+            long hash = 0xCBF29CE484222325L;
+            for (int i = 0; i < string.length(); i++) {
+                hash = (hash ^ string.charAt(i)) * 0x100000001B3L;
+            }
+            return mix(hash);
+        }
+        if (row instanceof Object[] array) {
+            long hash = 1;
+            for (Object element : array) {
+                hash = 31 * hash + deepHash(element);
+            }
+            return mix(hash ^ array.length);
+        }
+        if (row.getClass().isArray()) {
+            return mix(shallowArrayHash(row));
+        }
+
+        return mix(row.hashCode());
+    }
+
+    /**
+     * Computes the hash of a primitive array consistent with {@link Arrays#equals}.
+     *
+     * @param array the primitive array
+     * @return the hash of the array
+     */
+    private static long shallowArrayHash(Object array) {
+        if (array instanceof long[] longs) {
+            long hash = 1;
+            for (long value : longs) {
+                hash = 31 * hash + value;
+            }
+            return hash;
+        }
+        if (array instanceof double[] doubles) {
+            long hash = 1;
+            for (double value : doubles) {
+                hash = 31 * hash + Double.doubleToLongBits(value);
+            }
+            return hash;
+        }
+
+        return Arrays.deepHashCode(new Object[]{array});
+    }
+
+    /**
+     * Spreads the bits of a hash using the finalizer of SplitMix64.
+     *
+     * @param hash the hash to spread
+     * @return the spread hash
+     */
+    private static long mix(long hash) {
+        hash = (hash ^ (hash >>> 30)) * 0xBF58476D1CE4E5B9L;
+        hash = (hash ^ (hash >>> 27)) * 0x94D049BB133111EBL;
+        return hash ^ (hash >>> 31);
+    }
+
+    /**
+     * A filter remembering every accepted row in a hash set.
+     */
+    private static final class Exact extends DistinctRowFilter {
+
+        /**
+         * The keys of the rows accepted so far.
+         */
+        private final Set<RowKey> seen = new HashSet<>();
+
+        /**
+         * Accepts the row if it has not been accepted before.
+         *
+         * @param row the row to test
+         * @return {@code true} if the row is seen for the first time, {@code false} otherwise
+         */
+        @Override
+        public boolean test(Object row) {
+            return seen.add(new RowKey(row));
+        }
+    }
+
+    /**
+     * A filter remembering accepted rows in a Bloom filter.
+     *
+     * <p>The bit positions of a row are derived from its 64-bit {@link #deepHash(Object) deep hash}
+     * by double hashing.</p>
+     */
+    private static final class Bloom extends DistinctRowFilter {
+
+        /**
+         * The bits of the filter.
+         */
+        private final long[] bits;
+
+        /**
+         * The number of bits of the filter.
+         */
+        private final long bitCount;
+
+        /**
+         * The number of bits set for each row.
+         */
+        private final int hashCount;
+
+        /**
+         * Constructs a Bloom filter sized for the given number of rows and false positive rate.
+         *
+         * @param expectedRows the number of distinct rows the filter is sized for
+         * @param falsePositiveRate the probability of rejecting a distinct row
+         * @throws IllegalArgumentException if a parameter is invalid or the filter would be too large
+         */
+        private Bloom(long expectedRows, double falsePositiveRate) {
+            validate(expectedRows, falsePositiveRate);
+
+            double optimalBits = -expectedRows * Math.log(falsePositiveRate) / (Math.log(2) * Math.log(2));
+            if (optimalBits > (double) Integer.MAX_VALUE * Long.SIZE) {
+                throw new IllegalArgumentException("Bloom filter for " + expectedRows + " rows is too large");
+            }
+
+            this.bits = new long[(int) Math.max(1, (long) Math.ceil(optimalBits / Long.SIZE))];
+            this.bitCount = (long) bits.length * Long.SIZE;
+            this.hashCount = (int) Math.max(1, Math.round(bitCount / (double) expectedRows * Math.log(2)));
+        }
+
+        /**
+         * Accepts the row if any of its bits is not set yet, then sets all of them.
+         *
+         * @param row the row to test
+         * @return {@code true} if the row is probably seen for the first time, {@code false} otherwise
+         */
+        @Override
+        public boolean test(Object row) {
+            long hash = deepHash(row);
+            long first = hash >>> 32;
+            long second = (hash & 0xFFFFFFFFL) | 1;
+
+            boolean added = false;
+            for (int i = 0; i < hashCount; i++) {
+                long bit = Math.floorMod(first + i * second, bitCount);
+                int word = (int) (bit >>> 6);
+                long mask = 1L << bit;
+
+                if ((bits[word] & mask) == 0) {
+                    bits[word] |= mask;
+                    added = true;
+                }
+            }
+
+            return added;
+        }
+    }
+
+    /**
+     * Wraps a row to compare it by deep equality.
+     *
+     * @param row the wrapped row
+     */
+    private record RowKey(Object row) {
+
+        /**
+         * Compares the wrapped rows by deep equality.
+         *
+         * @param other the object to compare with
+         * @return {@code true} if the other object wraps a deeply equal row, {@code false} otherwise
+         */
+        @Override
+        public boolean equals(Object other) {
+            return other instanceof RowKey key && Objects.deepEquals(row, key.row);
+        }
+
+        /**
+         * Returns a hash code of the wrapped row consistent with deep equality.
+         *
+         * @return the hash code of the wrapped row
+         */
+        @Override
+        public int hashCode() {
+            return Long.hashCode(deepHash(row));
+        }
+    }
+}
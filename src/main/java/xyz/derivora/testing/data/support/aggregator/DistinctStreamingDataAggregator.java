@@ -0,0 +1,102 @@
+/*
+ * This file is part of Derivora Testing Data Support.
+ *
+ * Derivora Testing Data Support is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Derivora Testing Data Support is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with Derivora Testing Data Support. If not, see https://www.gnu.org/licenses/lgpl-3.0.html.
+ */
+
+package xyz.derivora.testing.data.support.aggregator;
+
+import xyz.derivora.testing.data.support.supplier.StreamingDataSupplier;
+
+import java.util.Objects;
+import java.util.stream.Stream;
+
+/**
+ * A {@code StreamingDataAggregator} implementation that concatenates multiple {@link StreamingDataSupplier}
+ * outputs into a single lazy stream without duplicate elements.
+ *
+ * <p>The {@code DistinctStreamingDataAggregator} is the streaming counterpart of {@link DistinctDataAggregator}.
+ * Elements are filtered as the stream is consumed, keeping the first occurrence of each element by deep
+ * equality. In probabilistic mode, the memory used to remember elements is bounded by a Bloom filter,
+ * so that arbitrarily long streams can be deduplicated.</p>
+ *
+ * <p>The returned stream keeps state while it is traversed and must not be made parallel.</p>
+ *
+ * @param <T> the type of elements supplied and aggregated
+ */
+public final class DistinctStreamingDataAggregator<T> implements StreamingDataAggregator<T> {
+
+    /**
+     * The number of distinct elements the Bloom filter is sized for, or {@code 0} in exact mode.
+     */
+    private final long expectedRows;
+
+    /**
+     * The probability of dropping a distinct element in probabilistic mode.
+     */
+    private final double falsePositiveRate;
+
+    /**
+     * Constructs a {@code DistinctStreamingDataAggregator} that removes duplicates exactly.
+     */
+    public DistinctStreamingDataAggregator() {
+        this.expectedRows = 0;
+        this.falsePositiveRate = 0;
+    }
+
+    /**
+     * Constructs a {@code DistinctStreamingDataAggregator} that removes duplicates probabilistically,
+     * within bounded memory.
+     *
+     * @param expectedRows the number of distinct elements the filter is sized for
+     * @param falsePositiveRate the probability of dropping a distinct element
+     * @throws IllegalArgumentException if {@code expectedRows} is not positive or if {@code falsePositiveRate}
+     *                                  is not strictly between {@code 0} and {@code 1}
+     * @see DistinctDataAggregator#DistinctDataAggregator(xyz.derivora.utilkit.arrays.ArrayGenerator, long, double)
+     */
+    public DistinctStreamingDataAggregator(long expectedRows, double falsePositiveRate) {
+        DistinctRowFilter.validate(expectedRows, falsePositiveRate);
+        this.expectedRows = expectedRows;
+        this.falsePositiveRate = falsePositiveRate;
+    }
+
+    /**
+     * Aggregates data from multiple {@link StreamingDataSupplier} instances into a single stream without duplicates.
+     *
+     * <p>The streams of the suppliers are concatenated in the order they appear in the argument list,
+     * as by {@link FlatStreamingDataAggregator}, and only the first occurrence of each element is kept.</p>
+     *
+     * @param suppliers the data suppliers providing elements to be aggregated
+     * @return a single stream containing the distinct aggregated elements
+     * @throws NullPointerException if {@code suppliers} or any individual supplier is {@code null}
+     */
+    @Override
+    @SafeVarargs
+    @SuppressWarnings("varargs")
+    public final Stream<T> aggregate(StreamingDataSupplier<T>... suppliers) {
+        Objects.requireNonNull(suppliers, "Suppliers array cannot be null");
+
+        for (int i = 0; i < suppliers.length; i++) {
+            Objects.requireNonNull(suppliers[i], "Supplier at index " + i + " cannot be null");
+        }
+
+        DistinctRowFilter filter = expectedRows == 0
+                ? DistinctRowFilter.exact()
+                : DistinctRowFilter.probabilistic(expectedRows, falsePositiveRate);
+
+        return Stream.of(suppliers)
+                     .flatMap(StreamingDataSupplier::stream)
+                     .filter(filter);
+    }
+}
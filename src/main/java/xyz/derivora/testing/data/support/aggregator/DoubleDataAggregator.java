@@ -0,0 +1,42 @@
+/*
+ * This file is part of Derivora Testing Data Support.
+ *
+ * Derivora Testing Data Support is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Derivora Testing Data Support is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with Derivora Testing Data Support. If not, see https://www.gnu.org/licenses/lgpl-3.0.html.
+ */
+
+package xyz.derivora.testing.data.support.aggregator;
+
+import xyz.derivora.testing.data.support.supplier.DoubleDataSupplier;
+
+/**
+ * Aggregates data from multiple {@link DoubleDataSupplier} instances into a single {@code double} array.
+ *
+ * <p>The {@code DoubleDataAggregator} interface is the {@code double}-specialized counterpart
+ * of {@link DataAggregator}.</p>
+ */
+@FunctionalInterface
+public interface DoubleDataAggregator {
+
+    /**
+     * Aggregates data from the provided {@link DoubleDataSupplier} instances.
+     *
+     * <p>Each supplier contributes an array of values, which are combined into a single
+     * resulting array. The exact aggregation strategy depends on the implementation.</p>
+     *
+     * @param suppliers the data suppliers providing values to be aggregated
+     * @return an array containing all aggregated values
+     * @throws NullPointerException if {@code suppliers} or any of its elements is {@code null}
+     */
+    double[] aggregate(DoubleDataSupplier... suppliers);
+}
@@ -17,13 +17,14 @@
 
 package xyz.derivora.testing.data.support.aggregator;
 
+import xyz.derivora.testing.data.support.jfr.AggregationEvent;
 import xyz.derivora.testing.data.support.supplier.DataSupplier;
+import xyz.derivora.testing.data.support.timing.SupplierTimer;
 import xyz.derivora.utilkit.arrays.ArrayGenerator;
 
 import java.util.Arrays;
+import java.util.List;
 import java.util.Objects;
-import java.util.stream.Stream;
-
 
 /**
  * A {@code DataAggregator} implementation that flattens multiple {@link DataSupplier} outputs into a single array.
@@ -32,6 +33,10 @@ import java.util.stream.Stream;
  * their results into a single contiguous array. The aggregation is performed by
  * concatenating the arrays returned by the individual suppliers.</p>
  *
+ * <p>Suppliers are evaluated on the calling thread, except for
+ * {@link xyz.derivora.testing.data.support.supplier.AsyncDataSupplier asynchronous suppliers}, which are
+ * all started before the other suppliers are evaluated, so that their latencies overlap.</p>
+ *
  * @param <T> the type of elements supplied and aggregated
  */
 public final class FlatDataAggregator<T> implements DataAggregator<T> {
@@ -68,20 +73,101 @@ public final class FlatDataAggregator<T> implements DataAggregator<T> {
      */
     @Override
     @SafeVarargs
+    @SuppressWarnings("varargs")
     public final T[] aggregate(DataSupplier<T>... suppliers) {
+        AggregationEvent event = new AggregationEvent();
+        event.begin();
+
+        T[] result = concatenate(suppliers);
+
+        event.commit(this, suppliers, result.length);
+        return result;
+    }
+
+    /**
+     * Aggregates data from multiple {@link DataSupplier} instances into a read-only view
+     * without copying the supplied arrays.
+     *
+     * <p>Each supplier is evaluated exactly once, in the order they appear in the argument list,
+     * asynchronous suppliers being started first, and the returned list presents their arrays
+     * as a single contiguous sequence.</p>
+     *
+     * @param suppliers the data suppliers providing elements to be aggregated
+     * @return an unmodifiable list containing all aggregated elements
+     * @throws NullPointerException if {@code suppliers} or any individual supplier is {@code null}
+     */
+    @Override
+    @SafeVarargs
+    @SuppressWarnings("varargs")
+    public final List<T> aggregateView(DataSupplier<T>... suppliers) {
+        AggregationEvent event = new AggregationEvent();
+        event.begin();
+
+        List<T> result = view(suppliers);
+
+        event.commit(this, suppliers, result.size());
+        return result;
+    }
+
+    /**
+     * Ensures that neither the suppliers array nor any of its elements is {@code null}.
+     *
+     * @param suppliers the data suppliers to check
+     * @throws NullPointerException if {@code suppliers} or any individual supplier is {@code null}
+     */
+    private static void requireNonNullSuppliers(DataSupplier<?>[] suppliers) {
         Objects.requireNonNull(suppliers, "Suppliers array cannot be null");
 
         for (int i = 0; i < suppliers.length; i++) {
             Objects.requireNonNull(suppliers[i], "Supplier at index " + i + " cannot be null");
         }
+    }
+
+    /**
+     * Concatenates the arrays of the given suppliers into a single array.
+     *
+     * @param suppliers the data suppliers providing elements to be aggregated
+     * @return a single array containing all aggregated elements
+     * @throws NullPointerException if {@code suppliers} or any individual supplier is {@code null}
+     */
+    private T[] concatenate(DataSupplier<T>[] suppliers) {
+        requireNonNullSuppliers(suppliers);
 
         return switch (suppliers.length) {
             case 0 -> arrayGenerator.generate(0);
-            case 1 -> Arrays.copyOf(suppliers[0].get(), suppliers[0].get().length);
-            default -> Stream.of(suppliers)
-                             .map(DataSupplier::get)
-                             .flatMap(Arrays::stream)
-                             .toArray(arrayGenerator::generate);
+            case 1 -> {
+                T[] data = SupplierTimer.current().get(suppliers[0]);
+                yield Arrays.copyOf(data, data.length);
+            }
+            default -> {
+                Object[][] segments = SupplierFanOut.evaluate(suppliers);
+
+                int length = 0;
+                for (Object[] segment : segments) {
+                    length = Math.addExact(length, segment.length);
+                }
+
+                T[] result = arrayGenerator.generate(length);
+                int offset = 0;
+                for (Object[] segment : segments) {
+                    System.arraycopy(segment, 0, result, offset, segment.length);
+                    offset += segment.length;
+                }
+
+                yield result;
+            }
         };
     }
+
+    /**
+     * Presents the arrays of the given suppliers as a single read-only view.
+     *
+     * @param suppliers the data suppliers providing elements to be aggregated
+     * @return an unmodifiable list containing all aggregated elements
+     * @throws NullPointerException if {@code suppliers} or any individual supplier is {@code null}
+     */
+    private List<T> view(DataSupplier<T>[] suppliers) {
+        requireNonNullSuppliers(suppliers);
+        return new CompositeDataView<>(SupplierFanOut.evaluate(suppliers));
+    }
 }
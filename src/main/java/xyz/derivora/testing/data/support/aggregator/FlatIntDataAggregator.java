@@ -0,0 +1,102 @@
+/*
+ * This file is part of Derivora Testing Data Support.
+ *
+ * Derivora Testing Data Support is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Derivora Testing Data Support is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with Derivora Testing Data Support. If not, see https://www.gnu.org/licenses/lgpl-3.0.html.
+ */
+
+package xyz.derivora.testing.data.support.aggregator;
+
+import xyz.derivora.testing.data.support.jfr.AggregationEvent;
+import xyz.derivora.testing.data.support.supplier.IntDataSupplier;
+import xyz.derivora.testing.data.support.timing.SupplierTimer;
+
+import java.util.Arrays;
+import java.util.Objects;
+
+/**
+ * An {@code IntDataAggregator} implementation that flattens multiple {@link IntDataSupplier} outputs
+ * into a single {@code int} array.
+ *
+ * <p>The {@code FlatIntDataAggregator} is the {@code int}-specialized counterpart of
+ * {@link FlatDataAggregator}. The arrays returned by the individual suppliers are concatenated
+ * into a presized array without boxing any value.</p>
+ */
+public final class FlatIntDataAggregator implements IntDataAggregator {
+
+    /**
+     * Aggregates data from multiple {@link IntDataSupplier} instances into a single array.
+     *
+     * <p>If no suppliers are provided, an empty array is returned. If only one supplier is provided,
+     * its array is returned as a copy to prevent modifications to the original data.</p>
+     *
+     * <p>If multiple suppliers are provided, their arrays are concatenated in the order they
+     * appear in the argument list.</p>
+     *
+     * @param suppliers the data suppliers providing values to be aggregated
+     * @return a single array containing all aggregated values
+     * @throws NullPointerException if {@code suppliers} or any individual supplier is {@code null}
+     */
+    @Override
+    public int[] aggregate(IntDataSupplier... suppliers) {
+        AggregationEvent event = new AggregationEvent();
+        event.begin();
+
+        int[] result = concatenate(suppliers);
+
+        event.commit(this, suppliers, result.length);
+        return result;
+    }
+
+    /**
+     * Concatenates the arrays of the given suppliers into a single array.
+     *
+     * @param suppliers the data suppliers providing values to be aggregated
+     * @return a single array containing all aggregated values
+     * @throws NullPointerException if {@code suppliers} or any individual supplier is {@code null}
+     */
+    private int[] concatenate(IntDataSupplier[] suppliers) {
+        Objects.requireNonNull(suppliers, "Suppliers array cannot be null");
+
+        for (int i = 0; i < suppliers.length; i++) {
+            Objects.requireNonNull(suppliers[i], "Supplier at index " + i + " cannot be null");
+        }
+
+        if (suppliers.length == 0) {
+            return new int[0];
+        }
+
+        SupplierTimer timer = SupplierTimer.current();
+        int[][] segments = new int[suppliers.length][];
+        int length = 0;
+        for (int i = 0; i < suppliers.length; i++) {
+            long start = timer.start();
+            segments[i] = suppliers[i].get();
+            timer.supplied(suppliers[i], start, segments[i].length);
+            length = Math.addExact(length, segments[i].length);
+        }
+
+        if (segments.length == 1) {
+            return Arrays.copyOf(segments[0], length);
+        }
+
+        int[] result = new int[length];
+        int offset = 0;
+        for (int[] segment : segments) {
+            System.arraycopy(segment, 0, result, offset, segment.length);
+            offset += segment.length;
+        }
+
+        return result;
+    }
+}
@@ -0,0 +1,68 @@
+/*
+ * This file is part of Derivora Testing Data Support.
+ *
+ * Derivora Testing Data Support is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Derivora Testing Data Support is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with Derivora Testing Data Support. If not, see https://www.gnu.org/licenses/lgpl-3.0.html.
+ */
+
+package xyz.derivora.testing.data.support.aggregator;
+
+import xyz.derivora.testing.data.support.supplier.StreamingDataSupplier;
+
+import java.util.Objects;
+import java.util.stream.Stream;
+
+/**
+ * A {@code StreamingDataAggregator} implementation that concatenates multiple
+ * {@link StreamingDataSupplier} outputs into a single lazy stream.
+ *
+ * <p>The {@code FlatStreamingDataAggregator} is the streaming counterpart of {@link FlatDataAggregator}.
+ * Suppliers are consumed one after another in the order they are given, and a supplier's
+ * stream is not requested until all elements of the preceding suppliers have been consumed.
+ * No intermediate array is ever created.</p>
+ *
+ * @param <T> the type of elements supplied and aggregated
+ */
+public final class FlatStreamingDataAggregator<T> implements StreamingDataAggregator<T> {
+
+    /**
+     * Aggregates data from multiple {@link StreamingDataSupplier} instances into a single stream.
+     *
+     * <p>If no suppliers are provided, an empty stream is returned. If only one supplier is provided,
+     * its stream is returned as is.</p>
+     *
+     * <p>If multiple suppliers are provided, their streams are concatenated in the order they
+     * appear in the argument list. Each stream is closed once it has been fully consumed.</p>
+     *
+     * @param suppliers the data suppliers providing elements to be aggregated
+     * @return a single stream containing all aggregated elements
+     * @throws NullPointerException if {@code suppliers} or any individual supplier is {@code null}
+     */
+    @Override
+    @SafeVarargs
+    @SuppressWarnings("varargs")
+    public final Stream<T> aggregate(StreamingDataSupplier<T>... suppliers) {
+        Objects.requireNonNull(suppliers, "Suppliers array cannot be null");
+
+        for (int i = 0; i < suppliers.length; i++) {
+            Objects.requireNonNull(suppliers[i], "Supplier at index " + i + " cannot be null");
+        }
+
+        return switch (suppliers.length) {
+            case 0 -> Stream.empty();
+            case 1 -> suppliers[0].stream();
+            default -> Stream.of(suppliers)
+                             .flatMap(StreamingDataSupplier::stream);
+        };
+    }
+}
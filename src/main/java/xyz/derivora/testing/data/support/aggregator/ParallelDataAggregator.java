@@ -0,0 +1,276 @@
+/*
+ * This file is part of Derivora Testing Data Support.
+ *
+ * Derivora Testing Data Support is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Derivora Testing Data Support is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with Derivora Testing Data Support. If not, see https://www.gnu.org/licenses/lgpl-3.0.html.
+ */
+
+package xyz.derivora.testing.data.support.aggregator;
+
+import xyz.derivora.testing.data.support.jfr.AggregationEvent;
+import xyz.derivora.testing.data.support.supplier.AsyncDataSupplier;
+import xyz.derivora.testing.data.support.supplier.DataSupplier;
+import xyz.derivora.testing.data.support.timing.SupplierTimer;
+import xyz.derivora.utilkit.arrays.ArrayGenerator;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
+
+/**
+ * A {@code DataAggregator} implementation that evaluates multiple {@link DataSupplier} instances
+ * concurrently and flattens their outputs into a single array.
+ *
+ * <p>The {@code ParallelDataAggregator} produces the same result as {@link FlatDataAggregator}, but
+ * the suppliers are evaluated in parallel on the configured {@link Executor}, so that the aggregation
+ * takes about as long as the slowest supplier instead of the sum of all of them. The first supplier is
+ * evaluated on the calling thread while the others run on the executor.</p>
+ *
+ * <p>The order of the aggregated elements is deterministic: the arrays are concatenated in the order
+ * the suppliers appear in the argument list, regardless of the order in which they complete.</p>
+ *
+ * <p>By default, suppliers run on the {@link ForkJoinPool#commonPool() common pool}, which suits
+ * CPU-bound suppliers. For I/O-bound suppliers, a dedicated executor such as
+ * {@code Executors.newVirtualThreadPerTaskExecutor()} (Java 21 or later) may be supplied instead.
+ * {@link AsyncDataSupplier Asynchronous suppliers} are started directly rather than on the executor,
+ * as they do not block the thread starting them.</p>
+ *
+ * @param <T> the type of elements supplied and aggregated
+ */
+public final class ParallelDataAggregator<T> implements DataAggregator<T> {
+
+    /**
+     * Generates arrays for storing the aggregated data.
+     */
+    private final ArrayGenerator<T> arrayGenerator;
+
+    /**
+     * Executes the suppliers evaluated in parallel.
+     */
+    private final Executor executor;
+
+    /**
+     * Constructs a {@code ParallelDataAggregator} with the specified array generator
+     * that evaluates suppliers on the {@link ForkJoinPool#commonPool() common pool}.
+     *
+     * @param arrayGenerator the generator used to create result arrays
+     * @throws NullPointerException if {@code arrayGenerator} is {@code null}
+     */
+    public ParallelDataAggregator(ArrayGenerator<T> arrayGenerator) {
+        this(arrayGenerator, ForkJoinPool.commonPool());
+    }
+
+    /**
+     * Constructs a {@code ParallelDataAggregator} with the specified array generator and executor.
+     *
+     * @param arrayGenerator the generator used to create result arrays
+     * @param executor the executor on which suppliers are evaluated
+     * @throws NullPointerException if {@code arrayGenerator} or {@code executor} is {@code null}
+     */
+    public ParallelDataAggregator(ArrayGenerator<T> arrayGenerator, Executor executor) {
+        this.arrayGenerator = Objects.requireNonNull(arrayGenerator, "Array generator cannot be null");
+        this.executor = Objects.requireNonNull(executor, "Executor cannot be null");
+    }
+
+    /**
+     * Aggregates data from multiple {@link DataSupplier} instances into a single array,
+     * evaluating the suppliers concurrently.
+     *
+     * <p>If no suppliers are provided, an empty array is returned. If only one supplier is provided,
+     * it is evaluated on the calling thread and its array is returned as a copy to prevent
+     * modifications to the original data.</p>
+     *
+     * <p>If multiple suppliers are provided, their arrays are copied into a single presized array
+     * in the order the suppliers appear in the argument list. If any supplier fails, its exception
+     * is rethrown and suppliers that have not started yet are cancelled.</p>
+     *
+     * @param suppliers the data suppliers providing elements to be aggregated
+     * @return a single array containing all aggregated elements
+     * @throws NullPointerException if {@code suppliers} or any individual supplier is {@code null}
+     */
+    @Override
+    @SafeVarargs
+    @SuppressWarnings("varargs")
+    public final T[] aggregate(DataSupplier<T>... suppliers) {
+        AggregationEvent event = new AggregationEvent();
+        event.begin();
+
+        T[] result = concatenate(suppliers);
+
+        event.commit(this, suppliers, result.length);
+        return result;
+    }
+
+    /**
+     * Aggregates data from multiple {@link DataSupplier} instances into a read-only view,
+     * evaluating the suppliers concurrently and without copying the supplied arrays.
+     *
+     * <p>The returned list presents the supplied arrays as a single contiguous sequence
+     * in the order the suppliers appear in the argument list.</p>
+     *
+     * @param suppliers the data suppliers providing elements to be aggregated
+     * @return an unmodifiable list containing all aggregated elements
+     * @throws NullPointerException if {@code suppliers} or any individual supplier is {@code null}
+     */
+    @Override
+    @SafeVarargs
+    @SuppressWarnings("varargs")
+    public final List<T> aggregateView(DataSupplier<T>... suppliers) {
+        AggregationEvent event = new AggregationEvent();
+        event.begin();
+
+        List<T> result = view(suppliers);
+
+        event.commit(this, suppliers, result.size());
+        return result;
+    }
+
+    /**
+     * Evaluates the given suppliers concurrently and collects their arrays in argument order.
+     *
+     * <p>The first supplier is evaluated on the calling thread, after all other suppliers have been
+     * started. If any supplier fails, its exception is rethrown and suppliers that have not started
+     * yet are cancelled.</p>
+     *
+     * @param suppliers the data suppliers to evaluate
+     * @return the arrays returned by the suppliers, in argument order
+     */
+    private Object[][] evaluate(DataSupplier<T>[] suppliers) {
+        SupplierTimer timer = SupplierTimer.current();
+        Object[][] segments = new Object[suppliers.length][];
+        if (suppliers.length <= 1) {
+            for (int i = 0; i < suppliers.length; i++) {
+                segments[i] = timer.get(suppliers[i]);
+            }
+
+            return segments;
+        }
+
+        CompletableFuture<?>[] futures = new CompletableFuture<?>[suppliers.length];
+        long[] starts = new long[suppliers.length];
+        try {
+            for (int i = 1; i < suppliers.length; i++) {
+                if (suppliers[i] instanceof AsyncDataSupplier<T> supplier) {
+                    starts[i] = timer.start();
+                    futures[i] = supplier.getAsync();
+                } else {
+                    DataSupplier<T> supplier = suppliers[i];
+                    futures[i] = CompletableFuture.supplyAsync(() -> timer.get(supplier), executor);
+                }
+            }
+            segments[0] = timer.get(suppliers[0]);
+
+            for (int i = 1; i < futures.length; i++) {
+                segments[i] = (Object[]) futures[i].join();
+                if (suppliers[i] instanceof AsyncDataSupplier<?>) {
+                    timer.supplied(suppliers[i], starts[i], segments[i].length);
+                }
+            }
+
+            return segments;
+        } catch (RuntimeException | Error e) {
+            for (CompletableFuture<?> future : futures) {
+                if (future != null) {
+                    future.cancel(false);
+                }
+            }
+
+            throw unwrap(e);
+        }
+    }
+
+    /**
+     * Ensures that neither the suppliers array nor any of its elements is {@code null}.
+     *
+     * @param suppliers the data suppliers to check
+     * @throws NullPointerException if {@code suppliers} or any individual supplier is {@code null}
+     */
+    private static void requireNonNullSuppliers(DataSupplier<?>[] suppliers) {
+        Objects.requireNonNull(suppliers, "Suppliers array cannot be null");
+
+        for (int i = 0; i < suppliers.length; i++) {
+            Objects.requireNonNull(suppliers[i], "Supplier at index " + i + " cannot be null");
+        }
+    }
+
+    /**
+     * Extracts the exception thrown by a supplier from a {@link CompletionException}.
+     *
+     * @param throwable the exception raised while aggregating
+     * @return the unchecked exception thrown by the supplier, or the given exception if it is not a wrapper
+     * @throws Error if the supplier failed with an error
+     */
+    private static RuntimeException unwrap(Throwable throwable) {
+        Throwable cause = throwable instanceof CompletionException && throwable.getCause() != null
+                ? throwable.getCause()
+                : throwable;
+
+        if (cause instanceof Error error) {
+            throw error;
+        }
+
+        return cause instanceof RuntimeException exception ? exception : new CompletionException(cause);
+    }
+
+    /**
+     * Concatenates the arrays of the given suppliers into a single array.
+     *
+     * @param suppliers the data suppliers providing elements to be aggregated
+     * @return a single array containing all aggregated elements
+     * @throws NullPointerException if {@code suppliers} or any individual supplier is {@code null}
+     */
+    private T[] concatenate(DataSupplier<T>[] suppliers) {
+        requireNonNullSuppliers(suppliers);
+
+        if (suppliers.length == 0) {
+            return arrayGenerator.generate(0);
+        }
+
+        if (suppliers.length == 1) {
+            T[] data = SupplierTimer.current().get(suppliers[0]);
+            return Arrays.copyOf(data, data.length);
+        }
+
+        Object[][] segments = evaluate(suppliers);
+
+        int length = 0;
+        for (Object[] segment : segments) {
+            length = Math.addExact(length, segment.length);
+        }
+
+        T[] result = arrayGenerator.generate(length);
+        int offset = 0;
+        for (Object[] segment : segments) {
+            System.arraycopy(segment, 0, result, offset, segment.length);
+            offset += segment.length;
+        }
+
+        return result;
+    }
+
+    /**
+     * Presents the arrays of the given suppliers as a single read-only view.
+     *
+     * @param suppliers the data suppliers providing elements to be aggregated
+     * @return an unmodifiable list containing all aggregated elements
+     * @throws NullPointerException if {@code suppliers} or any individual supplier is {@code null}
+     */
+    private List<T> view(DataSupplier<T>[] suppliers) {
+        requireNonNullSuppliers(suppliers);
+        return new CompositeDataView<>(evaluate(suppliers));
+    }
+}
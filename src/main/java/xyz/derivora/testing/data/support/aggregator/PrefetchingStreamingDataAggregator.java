@@ -0,0 +1,423 @@
+/*
+ * This file is part of Derivora Testing Data Support.
+ *
+ * Derivora Testing Data Support is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Derivora Testing Data Support is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with Derivora Testing Data Support. If not, see https://www.gnu.org/licenses/lgpl-3.0.html.
+ */
+
+package xyz.derivora.testing.data.support.aggregator;
+
+import xyz.derivora.testing.data.support.supplier.ChunkedDataSupplier;
+import xyz.derivora.testing.data.support.supplier.StreamingDataSupplier;
+
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.Objects;
+import java.util.Spliterator;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+/**
+ * A {@code StreamingDataAggregator} implementation that produces the data of its suppliers on a background
+ * thread ahead of consumption.
+ *
+ * <p>The {@code PrefetchingStreamingDataAggregator} produces the same elements, in the same order, as
+ * {@link FlatStreamingDataAggregator}. A background thread walks the suppliers in order and hands their data
+ * over in chunks through a bounded queue, while the returned stream consumes the chunks. When the stream
+ * feeds a parameterized test, producing data thus overlaps with executing the tests, and at most
+ * {@code capacity} chunks are held in the queue at any time.</p>
+ *
+ * <p>{@link ChunkedDataSupplier Chunked suppliers} are prefetched chunk by chunk. The elements of other
+ * suppliers are prefetched in batches of {@value #BATCH_SIZE}.</p>
+ *
+ * <p>The background thread is started when the first element of the returned stream is requested, so that
+ * streams that are never consumed cost no thread, and stops once all data has been produced or the returned
+ * stream is closed. The thread is never interrupted: closing the stream discards the prefetched chunks and
+ * the thread stops before producing the next one, so that suppliers reading interruptible channels are not
+ * closed asynchronously. If a supplier fails, the exception is rethrown by the stream once the preceding
+ * elements have been consumed.</p>
+ *
+ * @param <T> the type of elements supplied and aggregated
+ */
+public final class PrefetchingStreamingDataAggregator<T> implements StreamingDataAggregator<T> {
+
+    /**
+     * The number of elements of a supplier that is not chunked prefetched together.
+     */
+    public static final int BATCH_SIZE = 64;
+
+    /**
+     * The maximum number of prefetched chunks held in the queue.
+     */
+    private final int capacity;
+
+    /**
+     * Creates the background threads producing data.
+     */
+    private final ThreadFactory threadFactory;
+
+    /**
+     * Constructs a {@code PrefetchingStreamingDataAggregator} with the specified queue capacity
+     * that produces data on daemon threads.
+     *
+     * @param capacity the maximum number of prefetched chunks held in the queue
+     * @throws IllegalArgumentException if {@code capacity} is not positive
+     */
+    public PrefetchingStreamingDataAggregator(int capacity) {
+        this(capacity, new PrefetchThreadFactory());
+    }
+
+    /**
+     * Constructs a {@code PrefetchingStreamingDataAggregator} with the specified queue capacity and thread factory.
+     *
+     * @param capacity the maximum number of prefetched chunks held in the queue
+     * @param threadFactory the factory creating the background threads producing data
+     * @throws IllegalArgumentException if {@code capacity} is not positive
+     * @throws NullPointerException if {@code threadFactory} is {@code null}
+     */
+    public PrefetchingStreamingDataAggregator(int capacity, ThreadFactory threadFactory) {
+        if (capacity <= 0) {
+            throw new IllegalArgumentException("Capacity must be positive: " + capacity);
+        }
+
+        this.capacity = capacity;
+        this.threadFactory = Objects.requireNonNull(threadFactory, "Thread factory cannot be null");
+    }
+
+    /**
+     * Aggregates data from multiple {@link StreamingDataSupplier} instances into a single stream,
+     * producing the data on a background thread.
+     *
+     * <p>If no suppliers are provided, an empty stream is returned and no thread is started. Otherwise,
+     * the elements of the suppliers are streamed in the order the suppliers appear in the argument list.
+     * Closing the returned stream stops the background thread, which closes the stream of the supplier
+     * being read once its current chunk has been produced.</p>
+     *
+     * @param suppliers the data suppliers providing elements to be aggregated
+     * @return a single stream containing all aggregated elements
+     * @throws NullPointerException if {@code suppliers} or any individual supplier is {@code null}
+     */
+    @Override
+    @SafeVarargs
+    @SuppressWarnings("varargs")
+    public final Stream<T> aggregate(StreamingDataSupplier<T>... suppliers) {
+        Objects.requireNonNull(suppliers, "Suppliers array cannot be null");
+
+        for (int i = 0; i < suppliers.length; i++) {
+            Objects.requireNonNull(suppliers[i], "Supplier at index " + i + " cannot be null");
+        }
+
+        if (suppliers.length == 0) {
+            return Stream.empty();
+        }
+
+        Prefetcher<T> prefetcher = new Prefetcher<>(suppliers.clone(), capacity, threadFactory);
+        return StreamSupport.stream(prefetcher, false)
+                            .onClose(prefetcher::close);
+    }
+
+    /**
+     * Produces the data of the suppliers on a background thread and presents it as a spliterator.
+     *
+     * @param <T> the type of elements supplied
+     */
+    private static final class Prefetcher<T> implements Runnable, Spliterator<T> {
+
+        /**
+         * The marker following the last chunk in the queue.
+         */
+        private static final Object END = new Object();
+
+        /**
+         * The suppliers whose data is produced.
+         */
+        private final StreamingDataSupplier<T>[] suppliers;
+
+        /**
+         * The queue of prefetched chunks, followed by {@link #END} or by a {@link Failure}.
+         */
+        private final BlockingQueue<Object> queue;
+
+        /**
+         * Creates the background thread producing data.
+         */
+        private final ThreadFactory threadFactory;
+
+        /**
+         * Whether the background thread has been started.
+         */
+        private boolean started;
+
+        /**
+         * Whether the stream has been closed.
+         */
+        private volatile boolean closed;
+
+        /**
+         * The chunk being consumed.
+         */
+        private Object[] chunk = new Object[0];
+
+        /**
+         * The index of the next element of {@link #chunk}.
+         */
+        private int position;
+
+        /**
+         * Whether all chunks have been consumed.
+         */
+        private boolean finished;
+
+        /**
+         * Constructs a {@code Prefetcher} of the given suppliers.
+         *
+         * @param suppliers the suppliers whose data is produced
+         * @param capacity the maximum number of prefetched chunks held in the queue
+         * @param threadFactory the factory creating the background thread
+         */
+        private Prefetcher(StreamingDataSupplier<T>[] suppliers, int capacity, ThreadFactory threadFactory) {
+            this.suppliers = suppliers;
+            this.queue = new ArrayBlockingQueue<>(capacity);
+            this.threadFactory = threadFactory;
+        }
+
+        /**
+         * Starts producing data on a thread created by the thread factory.
+         */
+        private void start() {
+            started = true;
+            Objects.requireNonNull(threadFactory.newThread(this), "Thread cannot be null").start();
+        }
+
+        /**
+         * Produces the chunks of all suppliers into the queue.
+         */
+        @Override
+        public void run() {
+            try {
+                for (StreamingDataSupplier<T> supplier : suppliers) {
+                    if (supplier instanceof ChunkedDataSupplier<T> chunkedSupplier) {
+                        Iterator<T[]> chunks = Objects.requireNonNull(chunkedSupplier.chunks(),
+                                                                      "Chunk iterator cannot be null");
+                        while (chunks.hasNext()) {
+                            put(chunks.next());
+                        }
+                    } else {
+                        try (Stream<T> stream = supplier.stream()) {
+                            produceBatches(stream.iterator());
+                        }
+                    }
+                }
+
+                put(END);
+            } catch (InterruptedException e) {
+                // the stream has been closed
+            } catch (RuntimeException | Error e) {
+                try {
+                    put(new Failure(e));
+                } catch (InterruptedException interrupted) {
+                    // the stream has been closed
+                }
+            } finally {
+                if (closed) {
+                    queue.clear();
+                }
+            }
+        }
+
+        /**
+         * Produces the elements of the given iterator into the queue in batches of
+         * {@value PrefetchingStreamingDataAggregator#BATCH_SIZE}.
+         *
+         * @param elements the elements to produce
+         * @throws InterruptedException if the stream is closed while waiting for space in the queue
+         */
+        private void produceBatches(Iterator<T> elements) throws InterruptedException {
+            Object[] batch = new Object[BATCH_SIZE];
+            int size = 0;
+            while (elements.hasNext()) {
+                batch[size++] = elements.next();
+                if (size == BATCH_SIZE) {
+                    put(batch);
+                    batch = new Object[BATCH_SIZE];
+                    size = 0;
+                }
+            }
+
+            if (size > 0) {
+                put(Arrays.copyOf(batch, size));
+            }
+        }
+
+        /**
+         * Puts the given item into the queue, waiting for space if needed.
+         *
+         * <p>Closing the stream drains the queue, so a put waiting for space when the stream is closed
+         * completes, and the next put stops the producer.</p>
+         *
+         * @param item the chunk or marker to put
+         * @throws InterruptedException if the stream is closed
+         */
+        private void put(Object item) throws InterruptedException {
+            if (closed) {
+                throw new InterruptedException();
+            }
+
+            queue.put(item);
+        }
+
+        /**
+         * Passes the next element to the given action, waiting for the next chunk if needed.
+         *
+         * <p>The first call starts the background thread.</p>
+         *
+         * @param action the action consuming the element
+         * @return {@code true} if an element was consumed, {@code false} if all elements have been consumed
+         * @throws IllegalStateException if the consuming thread is interrupted while waiting
+         */
+        @Override
+        public boolean tryAdvance(Consumer<? super T> action) {
+            while (position == chunk.length) {
+                if (finished || closed) {
+                    return false;
+                }
+                if (!started) {
+                    start();
+                }
+
+                Object next = take();
+                if (next == END) {
+                    finished = true;
+                    return false;
+                }
+                if (next instanceof Failure failure) {
+                    finished = true;
+                    failure.rethrow();
+                }
+
+                chunk = (Object[]) next;
+                position = 0;
+            }
+
+            @SuppressWarnings("unchecked")
+            T element = (T) chunk[position++];
+            action.accept(element);
+            return true;
+        }
+
+        /**
+         * Takes the next item from the queue, waiting for it if needed.
+         *
+         * @return the next chunk or marker
+         * @throws IllegalStateException if the consuming thread is interrupted while waiting
+         */
+        private Object take() {
+            try {
+                return queue.take();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new IllegalStateException("Interrupted while waiting for prefetched data", e);
+            }
+        }
+
+        /**
+         * Stops producing data and discards the prefetched chunks.
+         *
+         * <p>The background thread is not interrupted, as interrupting a thread reading an interruptible
+         * channel closes the channel. Draining the queue instead releases a thread waiting for space,
+         * which then notices that the stream has been closed.</p>
+         */
+        private void close() {
+            closed = true;
+            queue.clear();
+        }
+
+        /**
+         * Returns {@code null}, as prefetched data is consumed sequentially.
+         *
+         * @return {@code null}
+         */
+        @Override
+        public Spliterator<T> trySplit() {
+            return null;
+        }
+
+        /**
+         * Returns {@link Long#MAX_VALUE}, as the number of elements is unknown.
+         *
+         * @return {@link Long#MAX_VALUE}
+         */
+        @Override
+        public long estimateSize() {
+            return Long.MAX_VALUE;
+        }
+
+        /**
+         * Returns the characteristics of the prefetched data.
+         *
+         * @return {@link Spliterator#ORDERED}
+         */
+        @Override
+        public int characteristics() {
+            return ORDERED;
+        }
+    }
+
+    /**
+     * The exception thrown by a supplier, queued in place of the remaining chunks.
+     *
+     * @param exception the unchecked exception or error thrown by the supplier
+     */
+    private record Failure(Throwable exception) {
+
+        /**
+         * Rethrows the exception thrown by the supplier.
+         */
+        private void rethrow() {
+            if (exception instanceof Error error) {
+                throw error;
+            }
+
+            throw (RuntimeException) exception;
+        }
+    }
+
+    /**
+     * Creates the daemon threads producing data in the background.
+     */
+    private static final class PrefetchThreadFactory implements ThreadFactory {
+
+        /**
+         * The number of threads created so far.
+         */
+        private static final AtomicInteger COUNT = new AtomicInteger();
+
+        /**
+         * Creates a daemon thread running the given task.
+         *
+         * @param task the task to run
+         * @return a new daemon thread
+         */
+        @Override
+        public Thread newThread(Runnable task) {
+            Thread thread = new Thread(task, "derivora-data-prefetch-" + COUNT.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        }
+    }
+}
@@ -0,0 +1,112 @@
+/*
+ * This file is part of Derivora Testing Data Support.
+ *
+ * Derivora Testing Data Support is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Derivora Testing Data Support is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with Derivora Testing Data Support. If not, see https://www.gnu.org/licenses/lgpl-3.0.html.
+ */
+
+package xyz.derivora.testing.data.support.aggregator;
+
+import xyz.derivora.testing.data.support.supplier.AsyncDataSupplier;
+import xyz.derivora.testing.data.support.supplier.DataSupplier;
+import xyz.derivora.testing.data.support.timing.SupplierTimer;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+
+/**
+ * Evaluates suppliers on the calling thread while overlapping the {@link AsyncDataSupplier asynchronous} ones.
+ *
+ * <p>All asynchronous suppliers are started before any other supplier is evaluated, and their data is awaited
+ * only afterwards, so that their latencies overlap with each other and with the blocking suppliers.</p>
+ *
+ * <p>Every supplier call is reported to the {@linkplain SupplierTimer#current() current timer}. The call of an
+ * asynchronous supplier is timed from its start until its data has been awaited.</p>
+ */
+final class SupplierFanOut {
+
+    /**
+     * Prevents instantiation of this utility class.
+     */
+    private SupplierFanOut() {
+    }
+
+    /**
+     * Evaluates the given suppliers and collects their arrays in argument order.
+     *
+     * <p>If any supplier fails, its exception is rethrown and the asynchronous suppliers are cancelled.</p>
+     *
+     * @param suppliers the data suppliers to evaluate, none of which is {@code null}
+     * @return the arrays returned by the suppliers, in argument order
+     */
+    static Object[][] evaluate(DataSupplier<?>[] suppliers) {
+        SupplierTimer timer = SupplierTimer.current();
+        Object[][] segments = new Object[suppliers.length][];
+        CompletableFuture<?>[] futures = new CompletableFuture<?>[suppliers.length];
+        long[] starts = new long[suppliers.length];
+        try {
+            for (int i = 0; i < suppliers.length; i++) {
+                if (suppliers[i] instanceof AsyncDataSupplier<?> supplier) {
+                    starts[i] = timer.start();
+                    futures[i] = supplier.getAsync();
+                }
+            }
+
+            for (int i = 0; i < suppliers.length; i++) {
+                if (futures[i] == null) {
+                    segments[i] = timer.get(suppliers[i]);
+                }
+            }
+
+            for (int i = 0; i < suppliers.length; i++) {
+                if (futures[i] != null) {
+                    segments[i] = join(futures[i]);
+                    timer.supplied(suppliers[i], starts[i], segments[i].length);
+                }
+            }
+
+            return segments;
+        } catch (RuntimeException | Error e) {
+            for (CompletableFuture<?> future : futures) {
+                if (future != null) {
+                    future.cancel(false);
+                }
+            }
+
+            throw e;
+        }
+    }
+
+    /**
+     * Waits for the data of an asynchronous supplier.
+     *
+     * @param future the future returned by the supplier
+     * @return the supplied array
+     * @throws RuntimeException the unchecked exception the supplier failed with, if any
+     * @throws Error the error the supplier failed with, if any
+     */
+    private static Object[] join(CompletableFuture<?> future) {
+        try {
+            return (Object[]) future.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException exception) {
+                throw exception;
+            }
+            if (e.getCause() instanceof Error error) {
+                throw error;
+            }
+
+            throw e;
+        }
+    }
+}
@@ -24,6 +24,28 @@
  *
  * <p>The main implementation provided is {@link xyz.derivora.testing.data.support.aggregator.FlatDataAggregator},
  * which concatenates the arrays supplied by individual {@link xyz.derivora.testing.data.support.supplier.DataSupplier}
- * instances into a single contiguous array.</p>
+ * instances into a single contiguous array. The
+ * {@link xyz.derivora.testing.data.support.aggregator.ParallelDataAggregator} produces the same result
+ * while evaluating the suppliers concurrently. Both start every
+ * {@link xyz.derivora.testing.data.support.supplier.AsyncDataSupplier} before awaiting any supplied data.</p>
+ *
+ * <p>The {@link xyz.derivora.testing.data.support.aggregator.DistinctDataAggregator} and
+ * {@link xyz.derivora.testing.data.support.aggregator.DistinctStreamingDataAggregator} concatenate suppliers
+ * while removing duplicate elements, exactly or within bounded memory.</p>
+ *
+ * <p>The {@link xyz.derivora.testing.data.support.aggregator.CombinatorialDataAggregator} combines the values
+ * of several suppliers into rows of arguments instead, either as their lazily computed Cartesian product
+ * or as a pairwise or n-wise covering array.</p>
+ *
+ * <p>For suppliers producing data lazily, the package also defines the
+ * {@link xyz.derivora.testing.data.support.aggregator.StreamingDataAggregator} interface and its
+ * {@link xyz.derivora.testing.data.support.aggregator.FlatStreamingDataAggregator} implementation,
+ * which concatenate supplier streams without materializing them. The
+ * {@link xyz.derivora.testing.data.support.aggregator.PrefetchingStreamingDataAggregator} produces the same
+ * stream on a background thread, prefetching chunks of data through a bounded queue.</p>
+ *
+ * <p>Primitive-specialized aggregators, such as
+ * {@link xyz.derivora.testing.data.support.aggregator.FlatIntDataAggregator}, combine the arrays of
+ * primitive suppliers without boxing their values.</p>
  */
 package xyz.derivora.testing.data.support.aggregator;
\ No newline at end of file
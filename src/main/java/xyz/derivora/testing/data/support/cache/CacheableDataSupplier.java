@@ -0,0 +1,70 @@
+/*
+ * This file is part of Derivora Testing Data Support.
+ *
+ * Derivora Testing Data Support is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Derivora Testing Data Support is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with Derivora Testing Data Support. If not, see https://www.gnu.org/licenses/lgpl-3.0.html.
+ */
+
+package xyz.derivora.testing.data.support.cache;
+
+import xyz.derivora.testing.data.support.supplier.DataSupplier;
+
+/**
+ * A {@link DataSupplier} whose output may be stored in a persistent {@link DataSupplierCache}.
+ *
+ * <p>Implementing this interface opts a supplier into persistent caching. The output of the supplier
+ * is identified by the supplier class, a fingerprint of its bytecode and the inputs declared through
+ * {@link #cacheInputs()}. As long as none of them change, the cached output is reused instead of
+ * calling {@link #get()}, even across JVM forks and builds.</p>
+ *
+ * <p>The elements of the supplied array must be {@link java.io.Serializable}, and the output must
+ * depend only on the supplier class and its declared inputs. Changes to other classes the supplier
+ * relies on are not detected unless they are declared as inputs as well.</p>
+ *
+ * <p>Only the classes declared through {@link #cacheTypes()} and a fixed set of standard value classes
+ * are accepted when cached output is read back, so that a tampered cache entry cannot instantiate
+ * arbitrary serializable classes.</p>
+ *
+ * @param <T> the type of elements in the supplied array
+ */
+@FunctionalInterface
+public interface CacheableDataSupplier<T> extends DataSupplier<T> {
+
+    /**
+     * Returns the inputs the output of this supplier depends on.
+     *
+     * <p>Inputs of type {@link java.nio.file.Path} are fingerprinted by the content of the file they
+     * denote. Any other input is fingerprinted by its string representation. By default, no inputs
+     * are declared.</p>
+     *
+     * @return the inputs of this supplier
+     */
+    default Object[] cacheInputs() {
+        return new Object[0];
+    }
+
+    /**
+     * Returns the classes that may be read back from the cached output of this supplier.
+     *
+     * <p>The cached output is an array whose elements, and any objects they reference, must be instances
+     * of the returned classes, of their superclasses, or of the standard value classes {@link String},
+     * the primitive wrappers, {@link java.math.BigInteger} and {@link java.math.BigDecimal}. Arrays of
+     * these classes and of primitive types are accepted as well. By default, only the standard value
+     * classes are accepted.</p>
+     *
+     * @return the classes of the cached objects that are not standard value classes
+     */
+    default Class<?>[] cacheTypes() {
+        return new Class<?>[0];
+    }
+}
@@ -0,0 +1,217 @@
+/*
+ * This file is part of Derivora Testing Data Support.
+ *
+ * Derivora Testing Data Support is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Derivora Testing Data Support is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with Derivora Testing Data Support. If not, see https://www.gnu.org/licenses/lgpl-3.0.html.
+ */
+
+package xyz.derivora.testing.data.support.cache;
+
+import xyz.derivora.testing.data.support.aggregator.DataAggregator;
+import xyz.derivora.testing.data.support.jfr.DelegatingSupplier;
+import xyz.derivora.testing.data.support.supplier.AsyncDataSupplier;
+import xyz.derivora.testing.data.support.supplier.DataSupplier;
+
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * A {@link DataAggregator} decorator that serves {@link CacheableDataSupplier} output from a {@link DataSupplierCache}.
+ *
+ * <p>Before delegating aggregation, every supplier implementing {@link CacheableDataSupplier} is replaced by
+ * a supplier reading its output from the cache. Other suppliers are passed to the delegate unchanged.
+ * A cacheable {@link AsyncDataSupplier} is replaced by an asynchronous supplier, which reads the cache on
+ * the {@link java.util.concurrent.ForkJoinPool#commonPool() common pool}, so that aggregators still start
+ * it alongside the other suppliers. Aggregation events still name the classes of the original suppliers.</p>
+ *
+ * @param <T> the type of elements supplied and aggregated
+ */
+public final class CachingDataAggregator<T> implements DataAggregator<T> {
+
+    /**
+     * The aggregator performing the actual aggregation.
+     */
+    private final DataAggregator<T> delegate;
+
+    /**
+     * The cache serving the output of cacheable suppliers.
+     */
+    private final DataSupplierCache cache;
+
+    /**
+     * Constructs a {@code CachingDataAggregator} with the specified delegate and cache.
+     *
+     * @param delegate the aggregator performing the actual aggregation
+     * @param cache the cache serving the output of cacheable suppliers
+     * @throws NullPointerException if {@code delegate} or {@code cache} is {@code null}
+     */
+    public CachingDataAggregator(DataAggregator<T> delegate, DataSupplierCache cache) {
+        this.delegate = Objects.requireNonNull(delegate, "Delegate aggregator cannot be null");
+        this.cache = Objects.requireNonNull(cache, "Cache cannot be null");
+    }
+
+    /**
+     * Returns the given aggregator decorated with the cache configured through system properties.
+     *
+     * <p>If no cache is configured, as described in {@link DataSupplierCache#fromSystemProperties()},
+     * the given aggregator is returned as is.</p>
+     *
+     * @param delegate the aggregator to decorate
+     * @param <T> the type of elements supplied and aggregated
+     * @return the decorated aggregator, or {@code delegate} if no cache is configured
+     * @throws NullPointerException if {@code delegate} is {@code null}
+     */
+    public static <T> DataAggregator<T> fromSystemProperties(DataAggregator<T> delegate) {
+        Objects.requireNonNull(delegate, "Delegate aggregator cannot be null");
+
+        return DataSupplierCache.fromSystemProperties()
+                                .<DataAggregator<T>>map(cache -> new CachingDataAggregator<>(delegate, cache))
+                                .orElse(delegate);
+    }
+
+    /**
+     * Aggregates data from multiple {@link DataSupplier} instances, reading the output
+     * of cacheable suppliers from the cache.
+     *
+     * @param suppliers the data suppliers providing elements to be aggregated
+     * @return the array aggregated by the delegate
+     * @throws NullPointerException if {@code suppliers} or any individual supplier is {@code null}
+     */
+    @Override
+    @SafeVarargs
+    @SuppressWarnings("varargs")
+    public final T[] aggregate(DataSupplier<T>... suppliers) {
+        return delegate.aggregate(cached(suppliers));
+    }
+
+    /**
+     * Aggregates data from multiple {@link DataSupplier} instances into a read-only view, reading
+     * the output of cacheable suppliers from the cache.
+     *
+     * @param suppliers the data suppliers providing elements to be aggregated
+     * @return the view aggregated by the delegate
+     * @throws NullPointerException if {@code suppliers} or any individual supplier is {@code null}
+     */
+    @Override
+    @SafeVarargs
+    @SuppressWarnings("varargs")
+    public final List<T> aggregateView(DataSupplier<T>... suppliers) {
+        return delegate.aggregateView(cached(suppliers));
+    }
+
+    /**
+     * Replaces every cacheable supplier in the given array by a supplier reading from the cache.
+     *
+     * <p>A new array is created, as the component type of the given array may not accept the replacements.</p>
+     *
+     * @param suppliers the data suppliers to replace
+     * @return an array of suppliers with cacheable suppliers replaced
+     * @throws NullPointerException if {@code suppliers} or any individual supplier is {@code null}
+     */
+    @SuppressWarnings("unchecked")
+    private DataSupplier<T>[] cached(DataSupplier<T>[] suppliers) {
+        Objects.requireNonNull(suppliers, "Suppliers array cannot be null");
+
+        DataSupplier<T>[] cached = (DataSupplier<T>[]) new DataSupplier<?>[suppliers.length];
+        for (int i = 0; i < suppliers.length; i++) {
+            DataSupplier<T> supplier = Objects.requireNonNull(suppliers[i], "Supplier at index " + i + " cannot be null");
+            if (supplier instanceof CacheableDataSupplier<T> cacheable) {
+                cached[i] = supplier instanceof AsyncDataSupplier<T>
+                        ? new AsyncCachedSupplier<>(cacheable, cache)
+                        : new CachedSupplier<>(cacheable, cache);
+            } else {
+                cached[i] = supplier;
+            }
+        }
+
+        return cached;
+    }
+
+    /**
+     * A supplier reading the output of a cacheable supplier from the cache.
+     *
+     * @param <T> the type of elements supplied
+     */
+    private static class CachedSupplier<T> implements DataSupplier<T>, DelegatingSupplier {
+
+        /**
+         * The supplier whose output is cached.
+         */
+        private final CacheableDataSupplier<T> supplier;
+
+        /**
+         * The cache serving the output of the supplier.
+         */
+        private final DataSupplierCache cache;
+
+        /**
+         * Constructs a {@code CachedSupplier} reading the output of the given supplier from the given cache.
+         *
+         * @param supplier the supplier whose output is cached
+         * @param cache the cache serving the output of the supplier
+         */
+        CachedSupplier(CacheableDataSupplier<T> supplier, DataSupplierCache cache) {
+            this.supplier = supplier;
+            this.cache = cache;
+        }
+
+        /**
+         * Reads the output of the supplier from the cache, calling the supplier on a cache miss.
+         *
+         * @return the output of the supplier
+         */
+        @Override
+        public T[] get() {
+            return cache.get(supplier);
+        }
+
+        /**
+         * Returns the supplier whose output is cached.
+         *
+         * @return the cacheable supplier
+         */
+        @Override
+        public Object delegate() {
+            return supplier;
+        }
+    }
+
+    /**
+     * A supplier reading the output of a cacheable asynchronous supplier from the cache asynchronously.
+     *
+     * @param <T> the type of elements supplied
+     */
+    private static final class AsyncCachedSupplier<T> extends CachedSupplier<T> implements AsyncDataSupplier<T> {
+
+        /**
+         * Constructs an {@code AsyncCachedSupplier} reading the output of the given supplier from the given cache.
+         *
+         * @param supplier the supplier whose output is cached
+         * @param cache the cache serving the output of the supplier
+         */
+        AsyncCachedSupplier(CacheableDataSupplier<T> supplier, DataSupplierCache cache) {
+            super(supplier, cache);
+        }
+
+        /**
+         * Starts reading the output of the supplier from the cache on the common pool.
+         *
+         * @return a future completed with the output of the supplier
+         */
+        @Override
+        public CompletableFuture<T[]> getAsync() {
+            return CompletableFuture.supplyAsync(this::get);
+        }
+    }
+}
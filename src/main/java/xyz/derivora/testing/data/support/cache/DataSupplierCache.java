@@ -0,0 +1,491 @@
+/*
+ * This file is part of Derivora Testing Data Support.
+ *
+ * Derivora Testing Data Support is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Derivora Testing Data Support is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with Derivora Testing Data Support. If not, see https://www.gnu.org/licenses/lgpl-3.0.html.
+ */
+
+package xyz.derivora.testing.data.support.cache;
+
+import java.io.BufferedOutputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.ObjectInputFilter;
+import java.io.ObjectInputStream;
+import java.io.ObjectStreamException;
+import java.io.ObjectOutputStream;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileLock;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.security.DigestInputStream;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+
+/**
+ * A persistent, content-addressed cache of {@link CacheableDataSupplier} output.
+ *
+ * <p>Each entry is stored in the cache directory as a file named after a SHA-256 fingerprint of the
+ * supplier class name, the bytecode of the supplier class and the inputs declared by the supplier.
+ * An entry is therefore reused for as long as none of them change, and is simply ignored once the
+ * supplier or its inputs are modified.</p>
+ *
+ * <p>Entries contain the supplied array in Java serialization format and are read back through a
+ * memory-mapped file. New entries are written to a temporary file and moved into place atomically.
+ * Concurrent JVMs sharing the cache directory, such as Surefire forks, coordinate through a lock file
+ * per entry, so that a missing entry is computed by only one of them while the others wait and then
+ * read the stored result.</p>
+ *
+ * <p>Entries are deserialized through an {@link ObjectInputFilter} accepting only an array of the classes
+ * declared by {@link CacheableDataSupplier#cacheTypes()} and of standard value classes, with a bounded
+ * nesting depth and array length. Entries rejected by the filter are recomputed like unreadable ones.</p>
+ *
+ * <p>The cache is opt-in. A cache located in the directory given by the
+ * {@value #DIRECTORY_PROPERTY} system property can be obtained through {@link #fromSystemProperties()}.</p>
+ */
+public final class DataSupplierCache {
+
+    /**
+     * The system property specifying the directory of the cache returned by {@link #fromSystemProperties()}.
+     */
+    public static final String DIRECTORY_PROPERTY = "derivora.testing.data.cache.directory";
+
+    /**
+     * The version of the entry format, included in every fingerprint to invalidate entries on format changes.
+     */
+    private static final int FORMAT_VERSION = 1;
+
+    /**
+     * The file name extension of cache entries.
+     */
+    private static final String ENTRY_EXTENSION = ".ser";
+
+    /**
+     * The file name extension of entry lock files.
+     */
+    private static final String LOCK_EXTENSION = ".lock";
+
+    /**
+     * The maximum nesting depth of the objects of an entry.
+     */
+    private static final int MAX_DEPTH = 32;
+
+    /**
+     * The maximum length of the arrays of an entry.
+     */
+    private static final int MAX_ARRAY_LENGTH = 1 << 24;
+
+    /**
+     * The classes always accepted when reading entries.
+     */
+    private static final Set<Class<?>> VALUE_TYPES = Set.of(
+            String.class, Boolean.class, Character.class, Byte.class, Short.class, Integer.class,
+            Long.class, Float.class, Double.class, Number.class, BigInteger.class, BigDecimal.class
+    );
+
+    /**
+     * Monitors guarding entry lock files within this JVM, which cannot hold overlapping file locks.
+     *
+     * <p>Lock files are mapped onto a fixed number of monitors by their hash code, so that the monitors
+     * do not accumulate with the number of entries.</p>
+     */
+    private static final Object[] MONITORS = createMonitors(64);
+
+    /**
+     * The directory in which cache entries are stored.
+     */
+    private final Path directory;
+
+    /**
+     * Constructs a {@code DataSupplierCache} storing its entries in the specified directory.
+     *
+     * <p>The directory is created when the first entry is stored, if it does not exist yet.</p>
+     *
+     * @param directory the directory in which cache entries are stored
+     * @throws NullPointerException if {@code directory} is {@code null}
+     */
+    public DataSupplierCache(Path directory) {
+        this.directory = Objects.requireNonNull(directory, "Cache directory cannot be null").toAbsolutePath();
+    }
+
+    /**
+     * Returns a cache located in the directory given by the {@value #DIRECTORY_PROPERTY} system property.
+     *
+     * @return the configured cache, or an empty {@link Optional} if the property is not set or blank
+     */
+    public static Optional<DataSupplierCache> fromSystemProperties() {
+        String directory = System.getProperty(DIRECTORY_PROPERTY);
+
+        if (directory == null || directory.isBlank()) {
+            return Optional.empty();
+        }
+
+        return Optional.of(new DataSupplierCache(Path.of(directory)));
+    }
+
+    /**
+     * Returns the output of the given supplier, loading it from the cache if possible.
+     *
+     * <p>If no valid entry exists for the supplier, it is computed by calling {@link CacheableDataSupplier#get()}
+     * and stored before being returned. Entries that can no longer be read, for example because the classes
+     * of the cached elements have changed incompatibly, are recomputed.</p>
+     *
+     * @param supplier the supplier whose output is requested
+     * @param <T> the type of elements supplied
+     * @return the array supplied by {@code supplier}
+     * @throws NullPointerException if {@code supplier} is {@code null}
+     * @throws UncheckedIOException if the cache directory cannot be accessed or the output cannot be serialized
+     */
+    @SuppressWarnings("try")
+    public <T> T[] get(CacheableDataSupplier<T> supplier) {
+        Objects.requireNonNull(supplier, "Supplier cannot be null");
+
+        try {
+            String key = fingerprint(supplier);
+            Path entry = directory.resolve(key + ENTRY_EXTENSION);
+
+            ObjectInputFilter filter = new EntryFilter(supplier.cacheTypes());
+            T[] data = read(entry, filter);
+            if (data != null) {
+                return data;
+            }
+
+            Files.createDirectories(directory);
+            Path lockFile = directory.resolve(key + LOCK_EXTENSION);
+
+            synchronized (MONITORS[Math.floorMod(lockFile.hashCode(), MONITORS.length)]) {
+                try (FileChannel channel = FileChannel.open(lockFile, StandardOpenOption.CREATE, StandardOpenOption.WRITE);
+                     FileLock ignored = channel.lock()) {
+                    data = read(entry, filter);
+                    if (data == null) {
+                        data = supplier.get();
+                        write(entry, data);
+                    }
+                }
+            }
+
+            return data;
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to cache output of supplier: " + supplier.getClass().getName(), e);
+        }
+    }
+
+    /**
+     * Creates the monitors guarding entry lock files.
+     *
+     * @param count the number of monitors
+     * @return the monitors
+     */
+    private static Object[] createMonitors(int count) {
+        Object[] monitors = new Object[count];
+        for (int i = 0; i < count; i++) {
+            monitors[i] = new Object();
+        }
+
+        return monitors;
+    }
+
+    /**
+     * Computes the fingerprint identifying the output of the given supplier.
+     *
+     * @param supplier the supplier to fingerprint
+     * @return the hexadecimal SHA-256 fingerprint
+     * @throws IOException if the bytecode of the supplier class or a declared input file cannot be read
+     */
+    private static String fingerprint(CacheableDataSupplier<?> supplier) throws IOException {
+        MessageDigest digest = newDigest();
+        Class<?> type = supplier.getClass();
+
+        update(digest, "format:" + FORMAT_VERSION);
+        update(digest, "class:" + type.getName());
+        try (InputStream bytecode = type.getResourceAsStream(bytecodeResourceName(type))) {
+            if (bytecode != null) {
+                digestContent(digest, bytecode);
+            }
+        }
+
+        Object[] inputs = Objects.requireNonNull(supplier.cacheInputs(), "Cache inputs cannot be null");
+        for (Object input : inputs) {
+            if (input instanceof Path path) {
+                update(digest, "file:" + path.toAbsolutePath().normalize());
+                try (InputStream content = Files.newInputStream(path)) {
+                    digestContent(digest, content);
+                }
+            } else {
+                update(digest, "value:" + input);
+            }
+        }
+
+        return HexFormat.of().formatHex(digest.digest());
+    }
+
+    /**
+     * Returns the name of the class file of the given class, relative to its package.
+     *
+     * @param type the class whose class file name is requested
+     * @return the class file name, for example {@code Outer$Nested.class}
+     */
+    private static String bytecodeResourceName(Class<?> type) {
+        String name = type.getName();
+        return name.substring(name.lastIndexOf('.') + 1) + ".class";
+    }
+
+    /**
+     * Feeds a length-prefixed string into the given digest, so that adjacent values cannot collide.
+     *
+     * @param digest the digest to update
+     * @param value the value to add
+     */
+    private static void update(MessageDigest digest, String value) {
+        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        digest.update(ByteBuffer.allocate(Integer.BYTES).putInt(bytes.length).array());
+        digest.update(bytes);
+    }
+
+    /**
+     * Feeds the whole content of the given stream into the given digest.
+     *
+     * @param digest the digest to update
+     * @param content the stream providing the content
+     * @throws IOException if the stream cannot be read
+     */
+    private static void digestContent(MessageDigest digest, InputStream content) throws IOException {
+        MessageDigest contentDigest = newDigest();
+        try (DigestInputStream input = new DigestInputStream(content, contentDigest)) {
+            input.transferTo(OutputStream.nullOutputStream());
+        }
+
+        digest.update(contentDigest.digest());
+    }
+
+    /**
+     * Creates a new SHA-256 message digest.
+     *
+     * @return a new message digest
+     */
+    private static MessageDigest newDigest() {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 is not supported", e);
+        }
+    }
+
+    /**
+     * Reads the array stored in the given entry through a memory-mapped file.
+     *
+     * @param entry the path of the entry
+     * @param filter the filter accepting the classes of the stored objects
+     * @param <T> the type of elements in the stored array
+     * @return the stored array, or {@code null} if the entry does not exist, cannot be read
+     *         or is rejected by {@code filter}
+     * @throws IOException if the entry exists but cannot be accessed
+     */
+    @SuppressWarnings("unchecked")
+    private static <T> T[] read(Path entry, ObjectInputFilter filter) throws IOException {
+        try (FileChannel channel = FileChannel.open(entry, StandardOpenOption.READ)) {
+            long size = channel.size();
+            InputStream content = size <= Integer.MAX_VALUE
+                    ? new ByteBufferInputStream(channel.map(FileChannel.MapMode.READ_ONLY, 0, size))
+                    : Files.newInputStream(entry);
+
+            try (ObjectInputStream input = new ObjectInputStream(content)) {
+                input.setObjectInputFilter(filter);
+                return (T[]) input.readObject();
+            }
+        } catch (NoSuchFileException e) {
+            return null;
+        } catch (ClassNotFoundException | ClassCastException | ObjectStreamException | EOFException e) {
+            return null;
+        }
+    }
+
+    /**
+     * Stores the given array in the given entry, replacing it atomically.
+     *
+     * @param entry the path of the entry
+     * @param data the array to store
+     * @throws IOException if the entry cannot be written
+     */
+    private static void write(Path entry, Object[] data) throws IOException {
+        Path temporary = Files.createTempFile(entry.getParent(), entry.getFileName().toString(), ".tmp");
+        try {
+            try (ObjectOutputStream output = new ObjectOutputStream(
+                    new BufferedOutputStream(Files.newOutputStream(temporary)))) {
+                output.writeObject(data);
+            }
+
+            try {
+                Files.move(temporary, entry, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+            } catch (AtomicMoveNotSupportedException e) {
+                Files.move(temporary, entry, StandardCopyOption.REPLACE_EXISTING);
+            }
+        } finally {
+            Files.deleteIfExists(temporary);
+        }
+    }
+
+    /**
+     * An {@link ObjectInputFilter} accepting the content of a single cache entry.
+     *
+     * <p>The top-level object must be an array. The element classes of all arrays and the classes of all
+     * other objects must be primitive types, standard value classes, or declared classes and their
+     * superclasses. Nesting depth and array lengths are bounded.</p>
+     */
+    private static final class EntryFilter implements ObjectInputFilter {
+
+        /**
+         * The classes accepted in addition to the standard value classes.
+         */
+        private final Class<?>[] types;
+
+        /**
+         * Constructs an {@code EntryFilter} accepting the given classes.
+         *
+         * @param types the classes accepted in addition to the standard value classes
+         * @throws NullPointerException if {@code types} is {@code null}
+         */
+        private EntryFilter(Class<?>[] types) {
+            this.types = Objects.requireNonNull(types, "Cache types cannot be null").clone();
+        }
+
+        /**
+         * Checks the class, array length and depth of an object being deserialized.
+         *
+         * @param info the information about the object being deserialized
+         * @return {@link Status#ALLOWED} if the object is accepted, {@link Status#REJECTED} otherwise
+         */
+        @Override
+        public Status checkInput(FilterInfo info) {
+            if (info.depth() > MAX_DEPTH || info.arrayLength() > MAX_ARRAY_LENGTH) {
+                return Status.REJECTED;
+            }
+
+            Class<?> type = info.serialClass();
+            if (type == null) {
+                return Status.ALLOWED;
+            }
+
+            if (info.depth() == 1 && !type.isArray()) {
+                return Status.REJECTED;
+            }
+
+            while (type.isArray()) {
+                type = type.getComponentType();
+            }
+
+            return type.isPrimitive() || isAccepted(type) ? Status.ALLOWED : Status.REJECTED;
+        }
+
+        /**
+         * Determines whether objects of the given non-array class are accepted.
+         *
+         * @param type the class to check
+         * @return {@code true} if {@code type} is a standard value class, a declared class
+         *         or a superclass of a declared class
+         */
+        private boolean isAccepted(Class<?> type) {
+            if (VALUE_TYPES.contains(type)) {
+                return true;
+            }
+
+            for (Class<?> accepted : types) {
+                if (accepted != null && type.isAssignableFrom(accepted)) {
+                    return true;
+                }
+            }
+
+            return false;
+        }
+    }
+
+    /**
+     * An {@link InputStream} reading the remaining content of a {@link ByteBuffer}.
+     */
+    private static final class ByteBufferInputStream extends InputStream {
+
+        /**
+         * The buffer providing the content.
+         */
+        private final ByteBuffer buffer;
+
+        /**
+         * Constructs a {@code ByteBufferInputStream} reading the given buffer.
+         *
+         * @param buffer the buffer providing the content
+         */
+        private ByteBufferInputStream(ByteBuffer buffer) {
+            this.buffer = buffer;
+        }
+
+        /**
+         * Reads the next byte of the buffer.
+         *
+         * @return the next byte, or {@code -1} if the buffer is exhausted
+         */
+        @Override
+        public int read() {
+            return buffer.hasRemaining() ? buffer.get() & 0xFF : -1;
+        }
+
+        /**
+         * Reads up to {@code length} bytes of the buffer into the given array.
+         *
+         * @param bytes the array into which bytes are read
+         * @param offset the start offset in the array
+         * @param length the maximum number of bytes to read
+         * @return the number of bytes read, or {@code -1} if the buffer is exhausted
+         */
+        @Override
+        public int read(byte[] bytes, int offset, int length) {
+            Objects.checkFromIndexSize(offset, length, bytes.length);
+
+            if (length == 0) {
+                return 0;
+            }
+
+            if (!buffer.hasRemaining()) {
+                return -1;
+            }
+
+            int count = Math.min(length, buffer.remaining());
+            buffer.get(bytes, offset, count);
+            return count;
+        }
+
+        /**
+         * Returns the number of bytes remaining in the buffer.
+         *
+         * @return the number of remaining bytes
+         */
+        @Override
+        public int available() {
+            return buffer.remaining();
+        }
+    }
+}
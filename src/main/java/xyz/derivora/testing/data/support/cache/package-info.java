@@ -0,0 +1,26 @@
+/*
+ * This file is part of Derivora Testing Data Support.
+ *
+ * Derivora Testing Data Support is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Derivora Testing Data Support is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with Derivora Testing Data Support. If not, see https://www.gnu.org/licenses/lgpl-3.0.html.
+ */
+
+/**
+ * Provides an opt-in persistent cache of {@link xyz.derivora.testing.data.support.supplier.DataSupplier} output.
+ *
+ * <p>Suppliers implementing {@link xyz.derivora.testing.data.support.cache.CacheableDataSupplier} have their output
+ * stored by a {@link xyz.derivora.testing.data.support.cache.DataSupplierCache}, keyed by a fingerprint of the
+ * supplier bytecode and declared inputs, so that it is reused across JVM forks and builds.
+ * {@link xyz.derivora.testing.data.support.cache.CachingDataAggregator} applies the cache to any aggregator.</p>
+ */
+package xyz.derivora.testing.data.support.cache;
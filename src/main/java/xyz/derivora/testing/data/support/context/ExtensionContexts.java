@@ -0,0 +1,49 @@
+/*
+ * This file is part of Derivora Testing Data Support.
+ *
+ * Derivora Testing Data Support is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Derivora Testing Data Support is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with Derivora Testing Data Support. If not, see https://www.gnu.org/licenses/lgpl-3.0.html.
+ */
+
+package xyz.derivora.testing.data.support.context;
+
+import org.junit.jupiter.api.extension.ExtensionContext;
+
+/**
+ * Utility methods for navigating JUnit {@link ExtensionContext} hierarchies.
+ *
+ * <p>This class cannot be instantiated.</p>
+ */
+public final class ExtensionContexts {
+
+    /**
+     * Prevents instantiation of this utility class.
+     */
+    private ExtensionContexts() {
+    }
+
+    /**
+     * Finds the extension context of the test class enclosing the given context.
+     *
+     * @param context the context of a test method or test class
+     * @return the closest enclosing context that does not belong to a test method
+     */
+    public static ExtensionContext resolveClassContext(ExtensionContext context) {
+        ExtensionContext classContext = context;
+        while (classContext.getTestMethod().isPresent() && classContext.getParent().isPresent()) {
+            classContext = classContext.getParent().get();
+        }
+
+        return classContext;
+    }
+}
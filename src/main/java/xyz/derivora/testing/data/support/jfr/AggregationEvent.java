@@ -0,0 +1,100 @@
+/*
+ * This file is part of Derivora Testing Data Support.
+ *
+ * Derivora Testing Data Support is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Derivora Testing Data Support is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with Derivora Testing Data Support. If not, see https://www.gnu.org/licenses/lgpl-3.0.html.
+ */
+
+package xyz.derivora.testing.data.support.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+import java.util.LinkedHashSet;
+import java.util.Set;
+
+/**
+ * A Java Flight Recorder event covering the aggregation of data from multiple suppliers.
+ *
+ * <p>The duration includes obtaining the data of the suppliers. As event fields cannot hold arrays,
+ * the classes of all suppliers are recorded as a single list of class names.</p>
+ */
+@Name("xyz.derivora.testing.data.Aggregation")
+@Label("Data Aggregation")
+@Description("Aggregation of data from multiple data suppliers")
+@Category({"Derivora", "Testing Data"})
+public final class AggregationEvent extends Event {
+
+    /**
+     * The class of the aggregator.
+     */
+    @Label("Aggregator Class")
+    public Class<?> aggregatorClass;
+
+    /**
+     * The names of the classes of the suppliers, in order and separated by commas, with repeated classes
+     * listed once. A {@link DelegatingSupplier} is listed under the class of its delegate.
+     */
+    @Label("Supplier Classes")
+    public String supplierClasses;
+
+    /**
+     * The number of suppliers aggregated.
+     */
+    @Label("Supplier Count")
+    public int supplierCount;
+
+    /**
+     * The number of rows aggregated.
+     */
+    @Label("Row Count")
+    public int rowCount;
+
+    /**
+     * Fills in the details of an aggregation and commits this event if it should be recorded.
+     *
+     * @param aggregator the aggregator
+     * @param suppliers the aggregated suppliers
+     * @param rowCount the number of rows aggregated
+     */
+    public void commit(Object aggregator, Object[] suppliers, int rowCount) {
+        if (shouldCommit()) {
+            this.aggregatorClass = aggregator.getClass();
+            this.supplierClasses = classNames(suppliers);
+            this.supplierCount = suppliers.length;
+            this.rowCount = rowCount;
+            commit();
+        }
+    }
+
+    /**
+     * Lists the distinct class names of the given suppliers in order of first occurrence.
+     *
+     * @param suppliers the aggregated suppliers
+     * @return the class names separated by commas, or an empty string if there are no suppliers
+     */
+    private static String classNames(Object[] suppliers) {
+        Set<String> names = new LinkedHashSet<>();
+        for (Object supplier : suppliers) {
+            Object source = supplier instanceof DelegatingSupplier delegating ? delegating.delegate() : supplier;
+            if (source != null) {
+                names.add(source.getClass().getName());
+            }
+        }
+
+        return String.join(",", names);
+    }
+}
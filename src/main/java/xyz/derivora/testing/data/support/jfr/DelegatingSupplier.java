@@ -0,0 +1,34 @@
+/*
+ * This file is part of Derivora Testing Data Support.
+ *
+ * Derivora Testing Data Support is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Derivora Testing Data Support is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with Derivora Testing Data Support. If not, see https://www.gnu.org/licenses/lgpl-3.0.html.
+ */
+
+package xyz.derivora.testing.data.support.jfr;
+
+/**
+ * A supplier standing in for another supplier, such as a supplier reading the output of a cached supplier.
+ *
+ * <p>Events attribute the work of a delegating supplier to the class of the supplier it stands in for,
+ * so that recordings name the suppliers declared by tests rather than internal wrappers.</p>
+ */
+public interface DelegatingSupplier {
+
+    /**
+     * Returns the supplier this supplier stands in for.
+     *
+     * @return the original supplier
+     */
+    Object delegate();
+}
@@ -0,0 +1,46 @@
+/*
+ * This file is part of Derivora Testing Data Support.
+ *
+ * Derivora Testing Data Support is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Derivora Testing Data Support is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with Derivora Testing Data Support. If not, see https://www.gnu.org/licenses/lgpl-3.0.html.
+ */
+
+package xyz.derivora.testing.data.support.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * A Java Flight Recorder event covering the resolution of supplier constants of an enumeration.
+ */
+@Name("xyz.derivora.testing.data.EnumSupplierResolution")
+@Label("Enum Supplier Resolution")
+@Description("Resolution of data suppliers from enumeration constant names")
+@Category({"Derivora", "Testing Data"})
+public final class EnumSupplierResolutionEvent extends Event {
+
+    /**
+     * The enumeration class whose constants are resolved.
+     */
+    @Label("Enum Class")
+    public Class<?> enumClass;
+
+    /**
+     * The number of constants resolved.
+     */
+    @Label("Constant Count")
+    public int constantCount;
+}
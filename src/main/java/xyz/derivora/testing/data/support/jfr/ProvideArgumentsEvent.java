@@ -0,0 +1,61 @@
+/*
+ * This file is part of Derivora Testing Data Support.
+ *
+ * Derivora Testing Data Support is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Derivora Testing Data Support is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with Derivora Testing Data Support. If not, see https://www.gnu.org/licenses/lgpl-3.0.html.
+ */
+
+package xyz.derivora.testing.data.support.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * A Java Flight Recorder event covering the resolution of arguments for a parameterized test.
+ *
+ * <p>The event covers looking up annotations and resolving their data streams. Rows are consumed
+ * lazily afterwards and are not included in the duration.</p>
+ */
+@Name("xyz.derivora.testing.data.ProvideArguments")
+@Label("Provide Arguments")
+@Description("Resolution of arguments for a parameterized test")
+@Category({"Derivora", "Testing Data"})
+public final class ProvideArgumentsEvent extends Event {
+
+    /**
+     * The class of the data provider.
+     */
+    @Label("Provider Class")
+    public Class<?> providerClass;
+
+    /**
+     * The data annotation type processed by the provider.
+     */
+    @Label("Annotation Type")
+    public Class<?> annotationType;
+
+    /**
+     * The unique identifier of the test for which arguments are provided.
+     */
+    @Label("Test")
+    public String test;
+
+    /**
+     * The number of annotations resolved.
+     */
+    @Label("Annotation Count")
+    public int annotationCount;
+}
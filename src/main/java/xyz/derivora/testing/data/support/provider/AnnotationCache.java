@@ -0,0 +1,117 @@
+/*
+ * This file is part of Derivora Testing Data Support.
+ *
+ * Derivora Testing Data Support is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Derivora Testing Data Support is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with Derivora Testing Data Support. If not, see https://www.gnu.org/licenses/lgpl-3.0.html.
+ */
+
+package xyz.derivora.testing.data.support.provider;
+
+import org.junit.platform.commons.support.AnnotationSupport;
+
+import java.lang.annotation.Annotation;
+import java.lang.annotation.Repeatable;
+import java.lang.reflect.AnnotatedElement;
+import java.lang.reflect.Member;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Discovers the annotations of a given type on test elements and caches the result for each element.
+ *
+ * <p>Annotations are discovered through {@link AnnotationSupport}, so that they are found when present
+ * directly, within their container annotation if they are {@link Repeatable}, or as meta-annotations of
+ * composed annotations, at any depth.</p>
+ *
+ * <p>The cache is attached to the class declaring each element through a {@link ClassValue}, so that the
+ * cached annotations are released together with that class and never keep its class loader alive.
+ * Elements that are neither classes nor class members are not cached.</p>
+ */
+final class AnnotationCache {
+
+    /**
+     * The annotations discovered on the elements of each class, by element and annotation type.
+     */
+    private static final ClassValue<Map<ElementKey, List<? extends Annotation>>> CACHE = new ClassValue<>() {
+
+        /**
+         * Creates an empty cache for the given class.
+         *
+         * @param type the class whose elements are cached
+         * @return a new empty cache
+         */
+        @Override
+        protected Map<ElementKey, List<? extends Annotation>> computeValue(Class<?> type) {
+            return new ConcurrentHashMap<>();
+        }
+    };
+
+    /**
+     * Prevents instantiation of this utility class.
+     */
+    private AnnotationCache() {
+    }
+
+    /**
+     * Returns the annotations of the given type present on the given element, directly or through
+     * container and composed annotations.
+     *
+     * @param element the element to search
+     * @param annotationType the type of annotations to find
+     * @param <A> the annotation type
+     * @return an unmodifiable list of the annotations found, in declaration order
+     */
+    @SuppressWarnings("unchecked")
+    static <A extends Annotation> List<A> find(AnnotatedElement element, Class<A> annotationType) {
+        Class<?> owner = element instanceof Class<?> type
+                ? type
+                : element instanceof Member member ? member.getDeclaringClass() : null;
+
+        if (owner == null) {
+            return discover(element, annotationType);
+        }
+
+        return (List<A>) CACHE.get(owner).computeIfAbsent(
+                new ElementKey(element, annotationType),
+                key -> discover(element, annotationType)
+        );
+    }
+
+    /**
+     * Searches the given element for annotations of the given type.
+     *
+     * @param element the element to search
+     * @param annotationType the type of annotations to find
+     * @param <A> the annotation type
+     * @return an unmodifiable list of the annotations found, in declaration order
+     */
+    private static <A extends Annotation> List<A> discover(AnnotatedElement element, Class<A> annotationType) {
+        if (annotationType.isAnnotationPresent(Repeatable.class)) {
+            return AnnotationSupport.findRepeatableAnnotations(element, annotationType);
+        }
+
+        return AnnotationSupport.findAnnotation(element, annotationType)
+                                .map(List::of)
+                                .orElse(List.of());
+    }
+
+    /**
+     * Identifies the annotations of a type on an element.
+     *
+     * @param element the annotated element
+     * @param annotationType the type of annotations
+     */
+    private record ElementKey(AnnotatedElement element, Class<? extends Annotation> annotationType) {
+    }
+}
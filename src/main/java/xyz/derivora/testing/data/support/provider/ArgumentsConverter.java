@@ -0,0 +1,267 @@
+/*
+ * This file is part of Derivora Testing Data Support.
+ *
+ * Derivora Testing Data Support is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Derivora Testing Data Support is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with Derivora Testing Data Support. If not, see https://www.gnu.org/licenses/lgpl-3.0.html.
+ */
+
+package xyz.derivora.testing.data.support.provider;
+
+import org.junit.jupiter.params.provider.Arguments;
+
+import java.util.Objects;
+import java.util.function.Function;
+
+import static org.junit.jupiter.params.provider.Arguments.arguments;
+
+/**
+ * Converts data elements into JUnit {@link Arguments} instances.
+ *
+ * <p>If an element is an array, its items are passed as separate arguments. Primitive arrays
+ * (e.g., {@code int[]}, {@code double[]}) are converted to an equivalent {@code Object[]} representation
+ * to prevent nested array issues in JUnit. Any other element is passed as a single argument.</p>
+ *
+ * <p>Instead of inspecting every element reflectively, the converter selects a specialized conversion
+ * for the class of the element and reuses it for as long as subsequent elements have the same class,
+ * which is typically the case for all elements of a data set. Instances are therefore stateful and
+ * must not be shared between concurrently consumed streams.</p>
+ */
+final class ArgumentsConverter implements Function<Object, Arguments> {
+
+    /**
+     * The class of the most recently converted element, or {@code null} if no element has been converted yet.
+     */
+    private Class<?> elementType;
+
+    /**
+     * The conversion selected for {@link #elementType}.
+     */
+    private Conversion conversion;
+
+    /**
+     * Wraps the provided element into a JUnit {@link Arguments} instance.
+     *
+     * @param element the element to be wrapped as test arguments
+     * @return an {@link Arguments} instance containing the extracted values
+     * @throws NullPointerException if {@code element} is {@code null}
+     */
+    @Override
+    public Arguments apply(Object element) {
+        Class<?> type = Objects.requireNonNull(element, "Data element cannot be null").getClass();
+
+        if (type != elementType) {
+            conversion = Conversion.of(type);
+            elementType = type;
+        }
+
+        return conversion.convert(element);
+    }
+
+    /**
+     * Specialized conversions of data elements, selected by the class of the element.
+     */
+    private enum Conversion {
+
+        /**
+         * Passes a non-array element as a single argument.
+         */
+        SINGLE {
+            @Override
+            Arguments convert(Object element) {
+                return arguments(element);
+            }
+        },
+
+        /**
+         * Passes the items of a reference array as separate arguments.
+         */
+        OBJECT_ARRAY {
+            @Override
+            Arguments convert(Object element) {
+                return arguments((Object[]) element);
+            }
+        },
+
+        /**
+         * Passes the items of an {@code int[]} as separate arguments.
+         */
+        INT_ARRAY {
+            @Override
+            Arguments convert(Object element) {
+                int[] array = (int[]) element;
+                Object[] values = new Object[array.length];
+                for (int i = 0; i < array.length; i++) {
+                    values[i] = array[i];
+                }
+
+                return arguments(values);
+            }
+        },
+
+        /**
+         * Passes the items of a {@code long[]} as separate arguments.
+         */
+        LONG_ARRAY {
+            @Override
+            Arguments convert(Object element) {
+                long[] array = (long[]) element;
+                Object[] values = new Object[array.length];
+                for (int i = 0; i < array.length; i++) {
+                    values[i] = array[i];
+                }
+
+                return arguments(values);
+            }
+        },
+
+        /**
+         * Passes the items of a {@code double[]} as separate arguments.
+         */
+        DOUBLE_ARRAY {
+            @Override
+            Arguments convert(Object element) {
+                double[] array = (double[]) element;
+                Object[] values = new Object[array.length];
+                for (int i = 0; i < array.length; i++) {
+                    values[i] = array[i];
+                }
+
+                return arguments(values);
+            }
+        },
+
+        /**
+         * Passes the items of a {@code float[]} as separate arguments.
+         */
+        FLOAT_ARRAY {
+            @Override
+            Arguments convert(Object element) {
+                float[] array = (float[]) element;
+                Object[] values = new Object[array.length];
+                for (int i = 0; i < array.length; i++) {
+                    values[i] = array[i];
+                }
+
+                return arguments(values);
+            }
+        },
+
+        /**
+         * Passes the items of a {@code short[]} as separate arguments.
+         */
+        SHORT_ARRAY {
+            @Override
+            Arguments convert(Object element) {
+                short[] array = (short[]) element;
+                Object[] values = new Object[array.length];
+                for (int i = 0; i < array.length; i++) {
+                    values[i] = array[i];
+                }
+
+                return arguments(values);
+            }
+        },
+
+        /**
+         * Passes the items of a {@code byte[]} as separate arguments.
+         */
+        BYTE_ARRAY {
+            @Override
+            Arguments convert(Object element) {
+                byte[] array = (byte[]) element;
+                Object[] values = new Object[array.length];
+                for (int i = 0; i < array.length; i++) {
+                    values[i] = array[i];
+                }
+
+                return arguments(values);
+            }
+        },
+
+        /**
+         * Passes the items of a {@code char[]} as separate arguments.
+         */
+        CHAR_ARRAY {
+            @Override
+            Arguments convert(Object element) {
+                char[] array = (char[]) element;
+                Object[] values = new Object[array.length];
+                for (int i = 0; i < array.length; i++) {
+                    values[i] = array[i];
+                }
+
+                return arguments(values);
+            }
+        },
+
+        /**
+         * Passes the items of a {@code boolean[]} as separate arguments.
+         */
+        BOOLEAN_ARRAY {
+            @Override
+            Arguments convert(Object element) {
+                boolean[] array = (boolean[]) element;
+                Object[] values = new Object[array.length];
+                for (int i = 0; i < array.length; i++) {
+                    values[i] = array[i];
+                }
+
+                return arguments(values);
+            }
+        };
+
+        /**
+         * Wraps the provided element into a JUnit {@link Arguments} instance.
+         *
+         * @param element the element to be wrapped as test arguments, of the type this conversion was selected for
+         * @return an {@link Arguments} instance containing the extracted values
+         */
+        abstract Arguments convert(Object element);
+
+        /**
+         * Selects the conversion for elements of the given class.
+         *
+         * @param type the class of the elements to convert
+         * @return the conversion handling elements of the given class
+         */
+        static Conversion of(Class<?> type) {
+            Class<?> componentType = type.getComponentType();
+
+            if (componentType == null) {
+                return SINGLE;
+            }
+
+            if (!componentType.isPrimitive()) {
+                return OBJECT_ARRAY;
+            }
+
+            if (componentType == int.class) {
+                return INT_ARRAY;
+            } else if (componentType == long.class) {
+                return LONG_ARRAY;
+            } else if (componentType == double.class) {
+                return DOUBLE_ARRAY;
+            } else if (componentType == float.class) {
+                return FLOAT_ARRAY;
+            } else if (componentType == short.class) {
+                return SHORT_ARRAY;
+            } else if (componentType == byte.class) {
+                return BYTE_ARRAY;
+            } else if (componentType == char.class) {
+                return CHAR_ARRAY;
+            } else {
+                return BOOLEAN_ARRAY;
+            }
+        }
+    }
+}
@@ -0,0 +1,173 @@
+/*
+ * This file is part of Derivora Testing Data Support.
+ *
+ * Derivora Testing Data Support is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Derivora Testing Data Support is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with Derivora Testing Data Support. If not, see https://www.gnu.org/licenses/lgpl-3.0.html.
+ */
+
+package xyz.derivora.testing.data.support.provider;
+
+import org.junit.jupiter.api.extension.ExtensionContext;
+import org.opentest4j.TestAbortedException;
+
+import java.util.Optional;
+import java.util.function.Predicate;
+import java.util.stream.Stream;
+
+/**
+ * Selects the rows provided to a parameterized test on one of several shards.
+ *
+ * <p>Rows are assigned to shards in a round-robin fashion, so every shard receives the same number of rows,
+ * give or take one. The assignment of a test starts at an offset derived from its unique identifier, so that
+ * tests with fewer rows than shards do not all land on the first shards. As long as the rows of a test are
+ * provided in the same order, every row is assigned to the same shard on every node.</p>
+ *
+ * <p>A test with fewer rows than shards has no rows on some shards. Since a parameterized test without
+ * arguments is a configuration error, such a test is aborted on those shards instead.</p>
+ *
+ * @param index the index of the shard selected on this node, starting at {@code 0}
+ * @param count the total number of shards
+ */
+record ArgumentsShard(int index, int count) {
+
+    /**
+     * Constructs an {@code ArgumentsShard} with the specified index and count.
+     *
+     * @throws IllegalArgumentException if {@code count} is not positive or {@code index} is not within {@code [0, count)}
+     */
+    ArgumentsShard {
+        if (count < 1) {
+            throw new IllegalArgumentException("Shard count must be positive: " + count);
+        }
+        if (index < 0 || index >= count) {
+            throw new IllegalArgumentException("Shard index must be between 0 and " + (count - 1) + ": " + index);
+        }
+    }
+
+    /**
+     * Returns the shard configured for the given context.
+     *
+     * <p>The shard is configured through the {@value DataProvider#SHARD_INDEX_PARAMETER} and
+     * {@value DataProvider#SHARD_COUNT_PARAMETER} configuration parameters, which JUnit also reads
+     * from system properties.</p>
+     *
+     * @param context the JUnit {@link ExtensionContext} providing configuration parameters
+     * @return the configured shard, or an empty {@link Optional} if sharding is not configured
+     * @throws IllegalArgumentException if only one of the parameters is set or a parameter is invalid
+     */
+    static Optional<ArgumentsShard> of(ExtensionContext context) {
+        Optional<String> index = context.getConfigurationParameter(DataProvider.SHARD_INDEX_PARAMETER);
+        Optional<String> count = context.getConfigurationParameter(DataProvider.SHARD_COUNT_PARAMETER);
+
+        if (index.isEmpty() && count.isEmpty()) {
+            return Optional.empty();
+        }
+        if (index.isEmpty() || count.isEmpty()) {
+            throw new IllegalArgumentException("Both " + DataProvider.SHARD_INDEX_PARAMETER + " and "
+                                                       + DataProvider.SHARD_COUNT_PARAMETER + " must be set");
+        }
+
+        return Optional.of(new ArgumentsShard(parse(DataProvider.SHARD_INDEX_PARAMETER, index.get()),
+                                              parse(DataProvider.SHARD_COUNT_PARAMETER, count.get())));
+    }
+
+    /**
+     * Returns a stream of the rows of the given test that belong to this shard.
+     *
+     * <p>The rows are consumed only once the returned stream is traversed, in order, by a single thread.
+     * If the test has rows but none of them belongs to this shard, traversing the stream aborts the test.</p>
+     *
+     * @param rows the rows of the test
+     * @param testId the unique identifier of the test
+     * @return a stream of the rows of this shard, in their original order
+     */
+    Stream<?> select(Stream<?> rows, String testId) {
+        ShardFilter filter = new ShardFilter(Math.floorMod(testId.hashCode(), count));
+
+        return Stream.concat(rows.filter(filter), Stream.of(filter).flatMap(ShardFilter::abortIfNoneSelected));
+    }
+
+    /**
+     * A stateful filter accepting the rows of a test that belong to this shard.
+     */
+    private final class ShardFilter implements Predicate<Object> {
+
+        /**
+         * The shard to which the next row is assigned.
+         */
+        private int next;
+
+        /**
+         * Whether any row has been tested.
+         */
+        private boolean tested;
+
+        /**
+         * Whether any row has been accepted.
+         */
+        private boolean selected;
+
+        /**
+         * Constructs a {@code ShardFilter} assigning the first row to the given shard.
+         *
+         * @param offset the shard to which the first row is assigned
+         */
+        private ShardFilter(int offset) {
+            this.next = offset;
+        }
+
+        /**
+         * Returns whether the next row belongs to this shard.
+         *
+         * @param row the next row
+         * @return {@code true} if the row belongs to this shard
+         */
+        @Override
+        public boolean test(Object row) {
+            boolean accepted = next == index;
+            next = next + 1 == count ? 0 : next + 1;
+            tested = true;
+            selected |= accepted;
+            return accepted;
+        }
+
+        /**
+         * Aborts the test if it has rows but none of them belongs to this shard.
+         *
+         * @return an empty stream
+         * @throws TestAbortedException if rows have been tested and none has been accepted
+         */
+        private Stream<Object> abortIfNoneSelected() {
+            if (tested && !selected) {
+                throw new TestAbortedException("No rows of this test belong to shard " + index + " of " + count);
+            }
+            return Stream.empty();
+        }
+    }
+
+    /**
+     * Parses the value of a configuration parameter as an integer.
+     *
+     * @param name the name of the configuration parameter
+     * @param value the value to parse
+     * @return the parsed integer
+     * @throws IllegalArgumentException if the value is not an integer
+     */
+    private static int parse(String name, String value) {
+        try {
+            return Integer.parseInt(value.trim());
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("Invalid value of " + name + ": " + value, e);
+        }
+    }
+}
@@ -20,16 +20,22 @@ package xyz.derivora.testing.data.support.provider;
 import org.junit.jupiter.api.extension.ExtensionContext;
 import org.junit.jupiter.params.provider.Arguments;
 import org.junit.jupiter.params.provider.ArgumentsProvider;
+import xyz.derivora.testing.data.support.jfr.ProvideArgumentsEvent;
+import xyz.derivora.testing.data.support.provider.listener.DataProviderPhase;
 
 import java.lang.annotation.Annotation;
 import java.lang.reflect.AnnotatedElement;
-import java.lang.reflect.Array;
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.List;
 import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.function.Function;
 import java.util.stream.Stream;
 
-import static org.junit.jupiter.params.provider.Arguments.arguments;
-
 /**
  * A base class for providing test data to parameterized JUnit tests using annotations.
  *
@@ -37,12 +43,71 @@ import static org.junit.jupiter.params.provider.Arguments.arguments;
  * implementations that extract test parameters from annotations.</p>
  *
  * <p>Subclasses must define how to resolve data from an annotation by implementing
- * {@link #resolveData(ExtensionContext, Annotation)}.</p>
+ * {@link #resolveData(ExtensionContext, Annotation)}. Subclasses able to produce data lazily
+ * may additionally override {@link #resolveDataStream(ExtensionContext, Annotation)}.</p>
  *
  * @param <A> the annotation type used to extract test data
  */
 public abstract class DataProvider<A extends Annotation> implements ArgumentsProvider {
 
+    /**
+     * The configuration parameter specifying the index of the shard of rows provided on this node.
+     *
+     * <p>Sharding is enabled if both this parameter and {@link #SHARD_COUNT_PARAMETER} are set, either
+     * as JUnit configuration parameters or as system properties. Each test then receives only the rows
+     * of the given shard, so that nodes configured with the same shard count and different shard indexes
+     * together execute every row exactly once. A test with fewer rows than shards is aborted on the shards
+     * that receive none of its rows.</p>
+     */
+    public static final String SHARD_INDEX_PARAMETER = "derivora.testing.data.shard.index";
+
+    /**
+     * The configuration parameter specifying the total number of shards of rows.
+     *
+     * @see #SHARD_INDEX_PARAMETER
+     */
+    public static final String SHARD_COUNT_PARAMETER = "derivora.testing.data.shard.count";
+
+    /**
+     * The configuration parameter specifying the number of rows sampled for each test.
+     *
+     * <p>If this parameter or {@link #SAMPLE_FRACTION_PARAMETER} is set, either as a JUnit configuration
+     * parameter or as a system property, each test receives only a random sample of its rows. The sample
+     * is drawn from the seed given by {@link #SAMPLE_SEED_PARAMETER}, which is published as a report entry
+     * of every sampled test, so that any sample can be reproduced. Without these parameters, every row
+     * is provided.</p>
+     */
+    public static final String SAMPLE_SIZE_PARAMETER = "derivora.testing.data.sample.size";
+
+    /**
+     * The configuration parameter specifying the fraction of rows sampled for each test, between {@code 0} and {@code 1}.
+     *
+     * <p>Each row is sampled independently, but a test with at least one row is always provided at least one.</p>
+     *
+     * @see #SAMPLE_SIZE_PARAMETER
+     */
+    public static final String SAMPLE_FRACTION_PARAMETER = "derivora.testing.data.sample.fraction";
+
+    /**
+     * The configuration parameter specifying the seed from which samples are drawn.
+     *
+     * <p>If sampling is configured without a seed, a random seed is chosen. Since every node would choose
+     * a different seed, a seed must be set when sampling is combined with sharding.</p>
+     *
+     * @see #SAMPLE_SIZE_PARAMETER
+     */
+    public static final String SAMPLE_SEED_PARAMETER = "derivora.testing.data.sample.seed";
+
+    /**
+     * The configuration parameter enabling concurrent resolution of the data of repeated annotations.
+     *
+     * <p>If this parameter is set to {@code true}, either as a JUnit configuration parameter or as a system
+     * property, the data streams of a test with several annotations are resolved concurrently on the
+     * {@link ForkJoinPool#commonPool() common pool}, the first one on the calling thread. Arguments are
+     * still provided in declaration order. By default, data streams are resolved one after another.</p>
+     */
+    public static final String PARALLEL_RESOLUTION_PARAMETER = "derivora.testing.data.resolution.parallel";
+
     /**
      * The annotation type that this data provider processes.
      */
@@ -64,30 +129,101 @@ public abstract class DataProvider<A extends Annotation> implements ArgumentsPro
     /**
      * Provides a stream of arguments for parameterized tests based on annotations found in the test context.
      *
-     * <p>This method retrieves all annotations of the specified type from the {@link ExtensionContext}
-     * and resolves data for each annotation.</p>
+     * <p>This method retrieves all annotations of the specified type from the {@link ExtensionContext},
+     * including those composed through meta-annotations, and resolves data for each annotation.</p>
      *
      * <p>If no relevant annotations are found, an empty stream is returned. Each resolved data set
-     * is flattened into individual arguments.</p>
+     * is flattened into individual arguments. If an element of a data set is an array, including
+     * a primitive array, its items are passed as separate arguments of a single invocation.</p>
+     *
+     * <p>Data streams are resolved for all annotations before this method returns, but their elements
+     * are consumed only as the returned stream is traversed. Closing the returned stream closes all
+     * resolved data streams. If enabled through {@link #PARALLEL_RESOLUTION_PARAMETER}, the data streams
+     * of several annotations are resolved concurrently.</p>
+     *
+     * <p>If sampling is configured through {@link #SAMPLE_SIZE_PARAMETER} or {@link #SAMPLE_FRACTION_PARAMETER},
+     * only a reproducible random sample of the rows is provided, and the seed of the sample is published
+     * as a report entry.</p>
+     *
+     * <p>If sharding is configured through {@link #SHARD_INDEX_PARAMETER} and {@link #SHARD_COUNT_PARAMETER},
+     * only the rows of the configured shard, out of the sampled rows if sampling is configured as well,
+     * are converted into arguments. The rows of other shards are
+     * skipped before conversion, so their tests are neither created nor executed. A test none of whose
+     * rows belongs to the configured shard is aborted on that shard. Sampling combined
+     * with sharding requires {@link #SAMPLE_SEED_PARAMETER}, so that every node draws the same sample.</p>
+     *
+     * <p>The phases of providing arguments are reported to every registered
+     * {@link xyz.derivora.testing.data.support.provider.listener.DataProviderListener}, and resolving
+     * the data streams is recorded as a Java Flight Recorder event.</p>
      *
      * @param context the JUnit {@link ExtensionContext} providing test execution details
      * @return a {@link Stream} of {@link Arguments} representing test parameters
+     * @throws IllegalArgumentException if sampling and sharding are configured without a sample seed
      * @throws Exception if an error occurs while resolving data
      */
     @Override
     public final Stream<? extends Arguments> provideArguments(ExtensionContext context) throws Exception {
-        A[] annotations = resolveAnnotations(context);
-        if (annotations.length == 0) {
+        ProvideArgumentsEvent event = new ProvideArgumentsEvent();
+        event.begin();
+        ProviderInstrumentation instrumentation = ProviderInstrumentation.of(context, annotationType);
+        Optional<RowSampler> sampler = RowSampler.of(context);
+        Optional<ArgumentsShard> shard = ArgumentsShard.of(context);
+        if (sampler.isPresent() && shard.isPresent() && context.getConfigurationParameter(SAMPLE_SEED_PARAMETER).isEmpty()) {
+            throw new IllegalArgumentException(SAMPLE_SEED_PARAMETER + " must be set when sampling is combined with sharding");
+        }
+
+        long start = instrumentation.start();
+        List<A> annotations = resolveAnnotations(context);
+        instrumentation.completed(DataProviderPhase.ANNOTATION_LOOKUP, null, start, annotations.size(), -1);
+
+        if (annotations.isEmpty()) {
             return Stream.empty();
         }
 
-        Stream.Builder<Object[]> dataBuilder = Stream.builder();
-        for (A annotation : annotations) {
-            Object[] data = resolveData(context, annotation);
-            dataBuilder.accept(data);
+        List<Stream<?>> dataStreams = isParallelResolution(context, annotations)
+                ? resolveDataStreamsConcurrently(context, annotations)
+                : resolveDataStreams(context, annotations);
+
+        if (event.shouldCommit()) {
+            event.providerClass = getClass();
+            event.annotationType = annotationType;
+            event.test = context.getUniqueId();
+            event.annotationCount = annotations.size();
+            event.commit();
+        }
+
+        Stream<?> rows = dataStreams.stream().flatMap(Function.identity());
+        if (sampler.isPresent()) {
+            context.publishReportEntry(SAMPLE_SEED_PARAMETER, String.valueOf(sampler.get().seed()));
+            rows = sampler.get().sample(rows, context.getUniqueId());
+        }
+        if (shard.isPresent()) {
+            rows = shard.get().select(rows, context.getUniqueId());
         }
 
-        return dataBuilder.build().flatMap(Arrays::stream).map(DataProvider::createArguments);
+        Function<Object, Arguments> converter = instrumentation.instrumentConverter(new ArgumentsConverter());
+        return rows.map(converter)
+                   .onClose(() -> dataStreams.forEach(Stream::close))
+                   .onClose(() -> instrumentation.close(converter));
+    }
+
+    /**
+     * Resolves test data based on the given annotation as a stream.
+     *
+     * <p>By default, this method delegates to {@link #resolveData(ExtensionContext, Annotation)}
+     * and streams the resulting array. Subclasses that can produce data lazily may override it
+     * to avoid materializing the whole data set in memory.</p>
+     *
+     * <p>The elements of the returned stream follow the same conventions as the elements of the array
+     * returned by {@link #resolveData(ExtensionContext, Annotation)}.</p>
+     *
+     * @param context the JUnit {@link ExtensionContext} providing test execution details
+     * @param annotation the annotation instance containing test data
+     * @return a stream of objects representing test parameters
+     * @throws Exception if data resolution fails
+     */
+    protected Stream<?> resolveDataStream(ExtensionContext context, A annotation) throws Exception {
+        return Arrays.stream(resolveData(context, annotation));
     }
 
     /**
@@ -114,34 +250,130 @@ public abstract class DataProvider<A extends Annotation> implements ArgumentsPro
     protected abstract Object[] resolveData(ExtensionContext context, A annotation) throws Exception;
 
     /**
-     * Wraps the provided object into a JUnit {@link Arguments} instance.
+     * Resolves the data streams of the given annotations one after another.
+     *
+     * <p>If the resolution of any annotation fails, the streams resolved so far are closed
+     * and the exception is rethrown.</p>
      *
-     * <p>This method ensures that if the provided object is an array, its elements are properly
-     * extracted and passed as separate arguments to JUnit's parameterized test framework.</p>
+     * @param context the JUnit {@link ExtensionContext} providing test execution details
+     * @param annotations the annotations whose data is resolved
+     * @return the data streams in the order of the annotations
+     * @throws Exception if data resolution fails
+     */
+    private List<Stream<?>> resolveDataStreams(ExtensionContext context, List<A> annotations) throws Exception {
+        List<Stream<?>> dataStreams = new ArrayList<>(annotations.size());
+        try {
+            for (A annotation : annotations) {
+                Stream<?> data = resolveDataStream(context, annotation);
+                dataStreams.add(data);
+            }
+
+            return dataStreams;
+        } catch (Exception | Error e) {
+            dataStreams.forEach(Stream::close);
+            throw e;
+        }
+    }
+
+    /**
+     * Resolves the data streams of the given annotations concurrently.
      *
-     * <p>Primitive arrays (e.g., {@code int[]}, {@code double[]}) are automatically converted
-     * to an equivalent {@code Object[]} representation to prevent nested array issues in JUnit.</p>
+     * <p>The data of the first annotation is resolved on the calling thread, and the others on the
+     * {@link ForkJoinPool#commonPool() common pool}. If the resolution of any annotation fails, the other
+     * resolutions are awaited, the resolved streams are closed and the exception is rethrown.</p>
      *
-     * @param object the object to be wrapped as test arguments
-     * @return an {@link Arguments} instance containing the extracted values
+     * @param context the JUnit {@link ExtensionContext} providing test execution details
+     * @param annotations the annotations whose data is resolved
+     * @return the data streams in the order of the annotations
+     * @throws Exception if data resolution fails
      */
-    private static Arguments createArguments(Object object) {
-        if (object instanceof Object[] array) {
-            return arguments(array);
+    private List<Stream<?>> resolveDataStreamsConcurrently(ExtensionContext context, List<A> annotations) throws Exception {
+        List<CompletableFuture<Stream<?>>> futures = new ArrayList<>(annotations.size() - 1);
+        for (A annotation : annotations.subList(1, annotations.size())) {
+            futures.add(CompletableFuture.supplyAsync(() -> resolveDataStreamUnchecked(context, annotation),
+                                                      ForkJoinPool.commonPool()));
         }
 
-        if (object.getClass().isArray()) {
-            int length = Array.getLength(object);
-            Object[] unboxedArray = new Object[length];
+        List<Stream<?>> dataStreams = new ArrayList<>(annotations.size());
+        try {
+            dataStreams.add(resolveDataStream(context, annotations.get(0)));
+            for (CompletableFuture<Stream<?>> future : futures) {
+                dataStreams.add(future.join());
+            }
 
-            for (int i = 0; i < length; i++) {
-                unboxedArray[i] = Array.get(object, i);
+            return dataStreams;
+        } catch (Exception | Error e) {
+            if (!dataStreams.isEmpty()) {
+                dataStreams.get(0).close();
             }
+            for (CompletableFuture<Stream<?>> future : futures) {
+                Stream<?> data = future.handle((resolved, failure) -> resolved).join();
+                if (data != null) {
+                    data.close();
+                }
+            }
+
+            throw unwrap(e);
+        }
+    }
+
+    /**
+     * Resolves the data stream of the given annotation, wrapping checked exceptions for use in a future.
+     *
+     * @param context the JUnit {@link ExtensionContext} providing test execution details
+     * @param annotation the annotation instance containing test data
+     * @return a stream of objects representing test parameters
+     * @throws CompletionException if data resolution fails with a checked exception
+     */
+    private Stream<?> resolveDataStreamUnchecked(ExtensionContext context, A annotation) {
+        try {
+            return resolveDataStream(context, annotation);
+        } catch (RuntimeException e) {
+            throw e;
+        } catch (Exception e) {
+            throw new CompletionException(e);
+        }
+    }
+
+    /**
+     * Checks whether the data streams of the given annotations are resolved concurrently.
+     *
+     * @param context the JUnit {@link ExtensionContext} providing the configuration
+     * @param annotations the annotations whose data is resolved
+     * @return {@code true} if concurrent resolution is enabled and there are several annotations
+     */
+    private static boolean isParallelResolution(ExtensionContext context, List<?> annotations) {
+        return annotations.size() > 1 && context.getConfigurationParameter(PARALLEL_RESOLUTION_PARAMETER)
+                                                .map(Boolean::parseBoolean)
+                                                .orElse(false);
+    }
+
+    /**
+     * Extracts the exception thrown while resolving data from a {@link CompletionException}.
+     *
+     * @param throwable the exception raised while resolving data
+     * @return the exception thrown while resolving data
+     * @throws Error if data resolution failed with an error
+     */
+    private static Exception unwrap(Throwable throwable) {
+        Throwable cause = throwable instanceof CompletionException && throwable.getCause() != null
+                ? throwable.getCause()
+                : throwable;
 
-            return arguments(unboxedArray);
+        if (cause instanceof Error error) {
+            throw error;
         }
 
-        return arguments(object);
+        return (Exception) cause;
+    }
+
+    /**
+     * Returns the annotation type that this data provider processes.
+     *
+     * @return the annotation type
+     */
+    final Class<A> annotationType() {
+        return annotationType;
     }
 
     /**
@@ -151,10 +383,10 @@ public abstract class DataProvider<A extends Annotation> implements ArgumentsPro
      * all annotations of type {@code A}. If no element is present, an exception is thrown.</p>
      *
      * @param context the JUnit {@link ExtensionContext} from which annotations are retrieved
-     * @return an array of annotations of type {@code A}
+     * @return a list of annotations of type {@code A}
      * @throws IllegalStateException if the element is not present in the context
      */
-    private A[] resolveAnnotations(ExtensionContext context) {
+    private List<A> resolveAnnotations(ExtensionContext context) {
         return context.getElement()
                       .map(this::extractAnnotations)
                       .orElseThrow(this::generateAnnotationNotFoundException);
@@ -163,11 +395,15 @@ public abstract class DataProvider<A extends Annotation> implements ArgumentsPro
     /**
      * Extracts all annotations of the specified type from the given {@link AnnotatedElement}.
      *
+     * <p>Annotations are found when present directly, within their container annotation, or as
+     * meta-annotations of composed annotations. The result is cached for each element, so that
+     * repeated invocations of the same test do not repeat the reflective lookup.</p>
+     *
      * @param element the element from which annotations are extracted
-     * @return an array of annotations of type {@code A}
+     * @return a list of annotations of type {@code A}
      */
-    private A[] extractAnnotations(AnnotatedElement element) {
-        return element.getAnnotationsByType(annotationType);
+    private List<A> extractAnnotations(AnnotatedElement element) {
+        return AnnotationCache.find(element, annotationType);
     }
 
     /**
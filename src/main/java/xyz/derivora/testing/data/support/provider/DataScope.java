@@ -0,0 +1,50 @@
+/*
+ * This file is part of Derivora Testing Data Support.
+ *
+ * Derivora Testing Data Support is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Derivora Testing Data Support is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with Derivora Testing Data Support. If not, see https://www.gnu.org/licenses/lgpl-3.0.html.
+ */
+
+package xyz.derivora.testing.data.support.provider;
+
+/**
+ * Defines how long data resolved by a {@link DirectDataProvider} is reused.
+ *
+ * <p>Scopes allow data sets referenced by several parameterized tests to be aggregated once and shared
+ * instead of being aggregated anew for every test. Shared data is memoized in the JUnit
+ * {@link org.junit.jupiter.api.extension.ExtensionContext.Store} of the scope and is released
+ * together with that store.</p>
+ *
+ * @see DirectDataProvider#DirectDataProvider(Class, xyz.derivora.testing.data.support.aggregator.DataAggregator, DataScope)
+ */
+public enum DataScope {
+
+    /**
+     * Data is resolved anew for every parameterized test.
+     */
+    INVOCATION,
+
+    /**
+     * Data is shared by all parameterized tests of the same test class with equal annotations.
+     *
+     * <p>The data is released once the test class has finished executing.</p>
+     */
+    TEST_CLASS,
+
+    /**
+     * Data is shared by all parameterized tests of the test run with equal annotations.
+     *
+     * <p>The data is released once the test run has finished.</p>
+     */
+    RUN
+}
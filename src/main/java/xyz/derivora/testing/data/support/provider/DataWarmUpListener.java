@@ -0,0 +1,363 @@
+/*
+ * This file is part of Derivora Testing Data Support.
+ *
+ * Derivora Testing Data Support is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Derivora Testing Data Support is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with Derivora Testing Data Support. If not, see https://www.gnu.org/licenses/lgpl-3.0.html.
+ */
+
+package xyz.derivora.testing.data.support.provider;
+
+import org.junit.jupiter.params.provider.ArgumentsSource;
+import org.junit.platform.commons.support.AnnotationSupport;
+import org.junit.platform.commons.support.ReflectionSupport;
+import org.junit.platform.engine.ConfigurationParameters;
+import org.junit.platform.engine.TestExecutionResult;
+import org.junit.platform.engine.support.descriptor.MethodSource;
+import org.junit.platform.launcher.TestExecutionListener;
+import org.junit.platform.launcher.TestIdentifier;
+import org.junit.platform.launcher.TestPlan;
+
+import java.lang.annotation.Annotation;
+import java.lang.reflect.Method;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * A {@link TestExecutionListener} that aggregates the data of {@link DirectDataProvider}-backed tests in the
+ * background as soon as the test plan starts executing.
+ *
+ * <p>The listener is registered automatically with the JUnit Platform launcher, but does nothing unless the
+ * {@value #ENABLED_PARAMETER} configuration parameter is set to {@code true}. When enabled, it walks the test
+ * plan in execution order, finds every test method whose {@link ArgumentsSource} names a
+ * {@link DirectDataProvider}, and resolves and aggregates the data of each of its annotations on a pool of
+ * daemon threads. By the time such a method runs, its first {@code provideArguments} call receives the
+ * aggregated data instead of resolving it on the test thread.</p>
+ *
+ * <p>The warm-up only runs ahead of the tests by a window of {@value #LOOKAHEAD_PARAMETER} methods, so that
+ * the data held in memory is bounded however large the test plan. Once a method has finished or has been
+ * skipped, its data is discarded and the data of the next method of the plan is aggregated.</p>
+ *
+ * <p>Only providers that resolve their suppliers without the extension context, that is, providers that do not
+ * override {@link DirectDataProvider#resolveSuppliers(org.junit.jupiter.api.extension.ExtensionContext, Annotation)},
+ * and that do not memoize their data in a {@link DataScope} wider than {@link DataScope#INVOCATION}, are
+ * warmed up. Data that is not consumed is discarded when the test plan finishes.</p>
+ */
+public final class DataWarmUpListener implements TestExecutionListener {
+
+    /**
+     * The configuration parameter enabling the warm-up.
+     */
+    public static final String ENABLED_PARAMETER = "derivora.testing.data.warmup.enabled";
+
+    /**
+     * The configuration parameter specifying the number of threads aggregating data in the background.
+     *
+     * <p>By default, one thread per available processor is used.</p>
+     */
+    public static final String PARALLELISM_PARAMETER = "derivora.testing.data.warmup.parallelism";
+
+    /**
+     * The configuration parameter specifying the number of test methods whose data is aggregated ahead of
+     * their execution.
+     *
+     * <p>By default, the data of {@value #DEFAULT_LOOKAHEAD} methods is aggregated ahead.</p>
+     */
+    public static final String LOOKAHEAD_PARAMETER = "derivora.testing.data.warmup.lookahead";
+
+    /**
+     * The number of test methods whose data is aggregated ahead if none is configured.
+     */
+    private static final int DEFAULT_LOOKAHEAD = 16;
+
+    /**
+     * The warm-up tasks of the test methods whose data has not been scheduled yet, in execution order.
+     */
+    private final Map<TestMethod, List<Runnable>> pending = new LinkedHashMap<>();
+
+    /**
+     * The test methods whose data has been scheduled and that have not finished yet.
+     */
+    private final Set<TestMethod> scheduled = new HashSet<>();
+
+    /**
+     * The number of methods whose data is aggregated ahead of their execution.
+     */
+    private int lookahead;
+
+    /**
+     * The executor aggregating data, or {@code null} if the warm-up is not running.
+     */
+    private ExecutorService executor;
+
+    /**
+     * Constructs a {@code DataWarmUpListener}.
+     *
+     * <p>Listeners are instantiated by the JUnit Platform launcher.</p>
+     */
+    public DataWarmUpListener() {
+    }
+
+    /**
+     * Starts aggregating the data of the first {@link DirectDataProvider}-backed tests of the plan, if enabled.
+     *
+     * @param testPlan the test plan about to be executed
+     * @throws IllegalArgumentException if the parallelism or the look-ahead is not a positive integer
+     */
+    @Override
+    public synchronized void testPlanExecutionStarted(TestPlan testPlan) {
+        ConfigurationParameters parameters = testPlan.getConfigurationParameters();
+        if (!parameters.getBoolean(ENABLED_PARAMETER).orElse(false)) {
+            return;
+        }
+
+        int parallelism = positiveParameter(parameters, PARALLELISM_PARAMETER, "parallelism",
+                                            Runtime.getRuntime().availableProcessors());
+        lookahead = positiveParameter(parameters, LOOKAHEAD_PARAMETER, "look-ahead", DEFAULT_LOOKAHEAD);
+
+        executor = Executors.newFixedThreadPool(parallelism, new WarmUpThreadFactory());
+
+        Deque<TestIdentifier> identifiers = new ArrayDeque<>(testPlan.getRoots());
+        while (!identifiers.isEmpty()) {
+            TestIdentifier identifier = identifiers.pop();
+            testMethodOf(identifier).ifPresent(this::collect);
+
+            List<TestIdentifier> children = new ArrayList<>(testPlan.getChildren(identifier));
+            for (int i = children.size() - 1; i >= 0; i--) {
+                identifiers.push(children.get(i));
+            }
+        }
+
+        schedule();
+    }
+
+    /**
+     * Stops warming up the data of a test method that has started, if it has not been scheduled yet.
+     *
+     * <p>The method resolves its data itself, so aggregating it later would be wasted.</p>
+     *
+     * @param testIdentifier the identifier of the started test or container
+     */
+    @Override
+    public synchronized void executionStarted(TestIdentifier testIdentifier) {
+        if (executor != null) {
+            testMethodOf(testIdentifier).ifPresent(pending::remove);
+        }
+    }
+
+    /**
+     * Discards the data of a skipped test method and schedules the data of the next methods of the plan.
+     *
+     * @param testIdentifier the identifier of the skipped test or container
+     * @param reason the reason the test or container was skipped
+     */
+    @Override
+    public synchronized void executionSkipped(TestIdentifier testIdentifier, String reason) {
+        release(testIdentifier);
+    }
+
+    /**
+     * Discards the data of a finished test method and schedules the data of the next methods of the plan.
+     *
+     * @param testIdentifier the identifier of the finished test or container
+     * @param testExecutionResult the result of the execution
+     */
+    @Override
+    public synchronized void executionFinished(TestIdentifier testIdentifier, TestExecutionResult testExecutionResult) {
+        release(testIdentifier);
+    }
+
+    /**
+     * Discards the data that has not been consumed and stops the background aggregation.
+     *
+     * @param testPlan the test plan that has been executed
+     */
+    @Override
+    public synchronized void testPlanExecutionFinished(TestPlan testPlan) {
+        pending.clear();
+        scheduled.clear();
+        WarmedData.clear();
+        if (executor != null) {
+            executor.shutdownNow();
+            executor = null;
+        }
+    }
+
+    /**
+     * Collects the warm-up tasks of the given test method, if it is backed by a {@link DirectDataProvider}.
+     *
+     * <p>Providers that cannot be instantiated are skipped, so that the failure is reported by the test itself.</p>
+     *
+     * @param testMethod the test method and the test class it is executed in
+     */
+    private void collect(TestMethod testMethod) {
+        Method method = testMethod.method();
+        for (ArgumentsSource argumentsSource : AnnotationSupport.findRepeatableAnnotations(method, ArgumentsSource.class)) {
+            if (DirectDataProvider.class.isAssignableFrom(argumentsSource.value())) {
+                try {
+                    collect(testMethod, (DirectDataProvider<?, ?>) ReflectionSupport.newInstance(argumentsSource.value()));
+                } catch (RuntimeException e) {
+                    // the provider fails again when the test runs, where the failure is reported
+                }
+            }
+        }
+    }
+
+    /**
+     * Collects a warm-up task for each annotation of the given method processed by the given provider.
+     *
+     * @param testMethod the test method and the test class it is executed in
+     * @param provider the provider of the data of the method
+     * @param <A> the annotation type processed by the provider
+     */
+    private <A extends Annotation> void collect(TestMethod testMethod, DirectDataProvider<?, A> provider) {
+        if (!provider.supportsWarmUp()) {
+            return;
+        }
+
+        List<Runnable> tasks = pending.computeIfAbsent(testMethod, k -> new ArrayList<>());
+        for (A annotation : AnnotationCache.find(testMethod.method(), provider.annotationType())) {
+            tasks.add(() -> WarmedData.schedule(provider.getClass(), testMethod.testClass(), testMethod.method(),
+                                                annotation, () -> provider.warmUp(annotation), executor));
+        }
+    }
+
+    /**
+     * Discards the data of the test method of the given identifier and fills the look-ahead window again.
+     *
+     * @param testIdentifier the identifier of a finished or skipped test or container
+     */
+    private void release(TestIdentifier testIdentifier) {
+        if (executor == null) {
+            return;
+        }
+
+        testMethodOf(testIdentifier).ifPresent(testMethod -> {
+            pending.remove(testMethod);
+            if (scheduled.remove(testMethod)) {
+                WarmedData.discard(testMethod.testClass(), testMethod.method());
+            }
+        });
+        schedule();
+    }
+
+    /**
+     * Schedules the data of the next pending methods until the look-ahead window is full.
+     */
+    private void schedule() {
+        Iterator<Map.Entry<TestMethod, List<Runnable>>> iterator = pending.entrySet().iterator();
+        while (scheduled.size() < lookahead && iterator.hasNext()) {
+            Map.Entry<TestMethod, List<Runnable>> entry = iterator.next();
+            iterator.remove();
+            scheduled.add(entry.getKey());
+            entry.getValue().forEach(Runnable::run);
+        }
+    }
+
+    /**
+     * Reads a positive integer configuration parameter.
+     *
+     * @param parameters the configuration parameters of the test plan
+     * @param key the key of the parameter
+     * @param description the description of the parameter used in error messages
+     * @param defaultValue the value used if the parameter is not set
+     * @return the value of the parameter, or the default value if it is not set
+     * @throws IllegalArgumentException if the parameter is not a positive integer
+     */
+    private static int positiveParameter(ConfigurationParameters parameters, String key,
+                                         String description, int defaultValue) {
+        Optional<String> value = parameters.get(key);
+        if (value.isEmpty()) {
+            return defaultValue;
+        }
+
+        int parsed;
+        try {
+            parsed = Integer.parseInt(value.get().trim());
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("Warm-up " + description + " must be an integer: " + value.get(), e);
+        }
+        if (parsed <= 0) {
+            throw new IllegalArgumentException("Warm-up " + description + " must be positive: " + parsed);
+        }
+        return parsed;
+    }
+
+    /**
+     * Returns the test method of the given identifier and the test class it is executed in.
+     *
+     * <p>Methods that cannot be loaded are skipped, so that the failure is reported by the test itself.</p>
+     *
+     * @param testIdentifier the identifier of a test or container
+     * @return the test method, or an empty {@link Optional} if the identifier has no loadable method source
+     */
+    private static Optional<TestMethod> testMethodOf(TestIdentifier testIdentifier) {
+        return testIdentifier.getSource()
+                             .filter(MethodSource.class::isInstance)
+                             .map(MethodSource.class::cast)
+                             .flatMap(source -> {
+                                 try {
+                                     return Optional.of(new TestMethod(source.getJavaClass(), source.getJavaMethod()));
+                                 } catch (RuntimeException e) {
+                                     return Optional.empty();
+                                 }
+                             });
+    }
+
+    /**
+     * Identifies a test method as executed in a given test class.
+     *
+     * <p>A method inherited by several test classes is executed once per class, so its data is warmed up
+     * and discarded once per class.</p>
+     *
+     * @param testClass the test class the method is executed in
+     * @param method the test method
+     */
+    private record TestMethod(Class<?> testClass, Method method) {
+    }
+
+    /**
+     * Creates the daemon threads aggregating data in the background.
+     */
+    private static final class WarmUpThreadFactory implements ThreadFactory {
+
+        /**
+         * The number of threads created so far.
+         */
+        private final AtomicInteger count = new AtomicInteger();
+
+        /**
+         * Creates a daemon thread running the given task.
+         *
+         * @param task the task to run
+         * @return a new daemon thread
+         */
+        @Override
+        public Thread newThread(Runnable task) {
+            Thread thread = new Thread(task, "derivora-data-warm-up-" + count.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        }
+    }
+}
@@ -19,10 +19,15 @@ package xyz.derivora.testing.data.support.provider;
 
 import org.junit.jupiter.api.extension.ExtensionContext;
 import xyz.derivora.testing.data.support.aggregator.DataAggregator;
+import xyz.derivora.testing.data.support.context.ExtensionContexts;
+import xyz.derivora.testing.data.support.provider.listener.DataProviderPhase;
 import xyz.derivora.testing.data.support.supplier.DataSupplier;
 
 import java.lang.annotation.Annotation;
+import java.util.Arrays;
 import java.util.Objects;
+import java.util.Optional;
+import java.util.stream.Stream;
 
 /**
  * A base class for providing test data by directly aggregating {@link DataSupplier} instances.
@@ -30,34 +35,73 @@ import java.util.Objects;
  * <p>This abstract class extends {@link DataProvider} and integrates a {@link DataAggregator}
  * to combine multiple {@link DataSupplier} sources into a single dataset for parameterized tests.</p>
  *
+ * <p>Aggregated data may be memoized according to a {@link DataScope}, so that tests sharing equal
+ * annotations within the scope reuse a single data set instead of resolving and aggregating it again.</p>
+ *
+ * <p>If {@link DataWarmUpListener} is enabled, the data of a test may already have been aggregated
+ * in the background when the test starts, in which case it is used instead of being aggregated again.</p>
+ *
  * @param <T> the type of data elements provided to the test
  * @param <A> the annotation type used to retrieve data supplier references
  */
 public abstract class DirectDataProvider<T, A extends Annotation> extends DataProvider<A> {
 
+    /**
+     * The namespace of the {@link ExtensionContext.Store} in which aggregated data is memoized.
+     */
+    private static final ExtensionContext.Namespace NAMESPACE =
+            ExtensionContext.Namespace.create(DirectDataProvider.class);
+
     /**
      * Aggregates data from multiple {@link DataSupplier} instances.
      */
     private final DataAggregator<T> aggregator;
 
+    /**
+     * The scope in which aggregated data is memoized.
+     */
+    private final DataScope scope;
+
     /**
      * Constructs a {@code DirectDataProvider} with the specified annotation type and data aggregator.
      *
      * <p>The annotation type is used to locate and process relevant test data annotations.
-     * The aggregator is responsible for combining data from multiple {@link DataSupplier} instances.</p>
+     * The aggregator is responsible for combining data from multiple {@link DataSupplier} instances.
+     * Data is resolved anew for every test, as with {@link DataScope#INVOCATION}.</p>
      *
      * @param annotationType the class type of the annotation to process
      * @param aggregator the data aggregator used to merge results from multiple suppliers
      * @throws NullPointerException if {@code aggregator} is {@code null}
      */
     protected DirectDataProvider(Class<A> annotationType, DataAggregator<T> aggregator) {
+        this(annotationType, aggregator, DataScope.INVOCATION);
+    }
+
+    /**
+     * Constructs a {@code DirectDataProvider} with the specified annotation type, data aggregator and data scope.
+     *
+     * <p>Unless the scope is {@link DataScope#INVOCATION}, aggregated data is memoized in the
+     * {@link ExtensionContext.Store} of the test class or of the test run, keyed by the provider class
+     * and the annotation. Since annotations are compared by content, tests with equal annotations
+     * share the memoized data. Suppliers are still resolved in the context of the test that first
+     * requests the data, as they would be without memoization.</p>
+     *
+     * @param annotationType the class type of the annotation to process
+     * @param aggregator the data aggregator used to merge results from multiple suppliers
+     * @param scope the scope in which aggregated data is memoized
+     * @throws NullPointerException if {@code aggregator} or {@code scope} is {@code null}
+     */
+    protected DirectDataProvider(Class<A> annotationType, DataAggregator<T> aggregator, DataScope scope) {
         super(annotationType);
         this.aggregator = Objects.requireNonNull(aggregator, "Data aggregator cannot be null");
+        this.scope = Objects.requireNonNull(scope, "Data scope cannot be null");
     }
 
     /**
      * Resolves data for parameterized tests by aggregating values from multiple {@link DataSupplier} instances.
      *
+     * <p>If the data is memoized, a copy of the memoized array is returned.</p>
+     *
      * @param context the JUnit {@link ExtensionContext} providing test execution details
      * @param annotation the annotation instance containing supplier references
      * @return an array of aggregated test parameters
@@ -65,8 +109,46 @@ public abstract class DirectDataProvider<T, A extends Annotation> extends DataPr
      */
     @Override
     protected final T[] resolveData(ExtensionContext context, A annotation) throws Exception {
-        DataSupplier<T>[] suppliers = resolveSuppliers(annotation);
-        return aggregator.aggregate(suppliers);
+        ProviderInstrumentation instrumentation = ProviderInstrumentation.of(context, annotation.annotationType());
+        if (scope != DataScope.INVOCATION) {
+            return resolveMemoizedData(instrumentation, context, annotation).clone();
+        }
+
+        Optional<T[]> warmedData = takeWarmedData(context, annotation);
+        if (warmedData.isPresent()) {
+            return warmedData.get();
+        }
+
+        return aggregate(instrumentation, context, annotation);
+    }
+
+    /**
+     * Resolves data for parameterized tests as a stream over the aggregated values of multiple
+     * {@link DataSupplier} instances.
+     *
+     * <p>The data is obtained through {@link DataAggregator#aggregateView(DataSupplier[])}, so aggregators
+     * presenting the supplied arrays as a view are consumed without building a merged array.
+     * If the data is memoized, the memoized array is streamed instead.</p>
+     *
+     * @param context the JUnit {@link ExtensionContext} providing test execution details
+     * @param annotation the annotation instance containing supplier references
+     * @return a stream of aggregated test parameters
+     * @throws Exception if resolving suppliers or aggregating data fails
+     */
+    @Override
+    protected final Stream<T> resolveDataStream(ExtensionContext context, A annotation) throws Exception {
+        ProviderInstrumentation instrumentation = ProviderInstrumentation.of(context, annotation.annotationType());
+        if (scope != DataScope.INVOCATION) {
+            return Arrays.stream(resolveMemoizedData(instrumentation, context, annotation));
+        }
+
+        Optional<T[]> warmedData = takeWarmedData(context, annotation);
+        if (warmedData.isPresent()) {
+            return Arrays.stream(warmedData.get());
+        }
+
+        DataSupplier<T>[] suppliers = resolveReportedSuppliers(instrumentation, context, annotation);
+        return instrumentation.instrumentAggregator(aggregator).aggregateView(suppliers).stream();
     }
 
     /**
@@ -81,4 +163,199 @@ public abstract class DirectDataProvider<T, A extends Annotation> extends DataPr
      * @throws Exception if supplier resolution fails
      */
     protected abstract DataSupplier<T>[] resolveSuppliers(A annotation) throws Exception;
+
+    /**
+     * Resolves an array of {@link DataSupplier} instances from the provided annotation
+     * within the given JUnit {@link ExtensionContext}.
+     *
+     * <p>By default, the context is ignored and resolution is delegated to
+     * {@link #resolveSuppliers(Annotation)}. Subclasses may override this method to resolve
+     * suppliers whose lifetime or construction depends on the test being executed.</p>
+     *
+     * @param context the JUnit {@link ExtensionContext} providing test execution details
+     * @param annotation the annotation instance containing references to {@link DataSupplier} implementations
+     * @return an array of resolved {@link DataSupplier} instances
+     * @throws Exception if supplier resolution fails
+     */
+    protected DataSupplier<T>[] resolveSuppliers(ExtensionContext context, A annotation) throws Exception {
+        return resolveSuppliers(annotation);
+    }
+
+    /**
+     * Checks whether the data of this provider can be aggregated ahead of time by {@link DataWarmUpListener}.
+     *
+     * <p>Data can be aggregated ahead of time only if suppliers are resolved without the extension context,
+     * that is, if {@link #resolveSuppliers(ExtensionContext, Annotation)} is not overridden. Data memoized
+     * in a wider {@link DataScope} is not aggregated ahead of time: it is aggregated once per scope anyway,
+     * and its suppliers need not be safe to call from a background thread.</p>
+     *
+     * @return {@code true} if the data can be aggregated ahead of time, {@code false} otherwise
+     */
+    final boolean supportsWarmUp() {
+        if (scope != DataScope.INVOCATION) {
+            return false;
+        }
+
+        for (Class<?> type = getClass(); type != DirectDataProvider.class; type = type.getSuperclass()) {
+            try {
+                type.getDeclaredMethod("resolveSuppliers", ExtensionContext.class, Annotation.class);
+                return false;
+            } catch (NoSuchMethodException e) {
+                // not overridden at this level
+            }
+        }
+
+        return true;
+    }
+
+    /**
+     * Resolves suppliers and aggregates their data ahead of time, outside of any test.
+     *
+     * @param annotation the annotation instance containing supplier references
+     * @return an array of aggregated test parameters
+     * @throws Exception if resolving suppliers or aggregating data fails
+     */
+    final T[] warmUp(A annotation) throws Exception {
+        return aggregator.aggregate(resolveSuppliers(annotation));
+    }
+
+    /**
+     * Takes the data aggregated ahead of time for the test of the given context, if any.
+     *
+     * @param context the JUnit {@link ExtensionContext} providing test execution details
+     * @param annotation the annotation instance containing supplier references
+     * @return the aggregated data, or an empty {@link Optional} if it has not been aggregated ahead of time
+     */
+    @SuppressWarnings("unchecked")
+    private Optional<T[]> takeWarmedData(ExtensionContext context, A annotation) {
+        if (WarmedData.isEmpty()) {
+            return Optional.empty();
+        }
+
+        return context.getTestClass()
+                      .flatMap(testClass -> context.getTestMethod()
+                                                   .flatMap(method -> WarmedData.take(getClass(), testClass,
+                                                                                      method, annotation)))
+                      .map(data -> (T[]) data);
+    }
+
+    /**
+     * Resolves aggregated data from the store of the configured scope, aggregating it on first access.
+     *
+     * <p>The aggregation is performed at most once per store and key, even if tests run concurrently.
+     * Suppliers are resolved in the context of the test that triggers the aggregation.</p>
+     *
+     * @param instrumentation the instrumentation reporting the phases of a first aggregation
+     * @param context the JUnit {@link ExtensionContext} providing test execution details
+     * @param annotation the annotation instance containing supplier references
+     * @return the memoized array of aggregated test parameters, which must not be modified
+     * @throws Exception if resolving suppliers or aggregating data fails
+     */
+    private T[] resolveMemoizedData(ProviderInstrumentation instrumentation,
+                                    ExtensionContext context, A annotation) throws Exception {
+        ExtensionContext scopeContext = scope == DataScope.RUN
+                ? context.getRoot()
+                : ExtensionContexts.resolveClassContext(context);
+        ExtensionContext.Store store = scopeContext.getStore(NAMESPACE);
+        DataKey key = new DataKey(getClass(), annotation);
+
+        try {
+            @SuppressWarnings("unchecked")
+            T[] data = (T[]) store.getOrComputeIfAbsent(key, k -> aggregateUnchecked(instrumentation, context, annotation),
+                                                        Object[].class);
+            return data;
+        } catch (AggregationException e) {
+            throw e.getCause();
+        }
+    }
+
+    /**
+     * Resolves suppliers and aggregates their data into an array, reporting both phases.
+     *
+     * @param instrumentation the instrumentation reporting the phases
+     * @param context the JUnit {@link ExtensionContext} in which suppliers are resolved
+     * @param annotation the annotation instance containing supplier references
+     * @return an array of aggregated test parameters
+     * @throws Exception if resolving suppliers or aggregating data fails
+     */
+    private T[] aggregate(ProviderInstrumentation instrumentation, ExtensionContext context, A annotation) throws Exception {
+        DataSupplier<T>[] suppliers = resolveReportedSuppliers(instrumentation, context, annotation);
+        return instrumentation.instrumentAggregator(aggregator).aggregate(suppliers);
+    }
+
+    /**
+     * Resolves suppliers and aggregates their data, wrapping checked exceptions for use in a store computation.
+     *
+     * @param instrumentation the instrumentation reporting the phases
+     * @param context the JUnit {@link ExtensionContext} in which suppliers are resolved
+     * @param annotation the annotation instance containing supplier references
+     * @return an array of aggregated test parameters
+     * @throws AggregationException if resolving suppliers or aggregating data fails with a checked exception
+     */
+    private T[] aggregateUnchecked(ProviderInstrumentation instrumentation, ExtensionContext context, A annotation) {
+        try {
+            return aggregate(instrumentation, context, annotation);
+        } catch (RuntimeException e) {
+            throw e;
+        } catch (Exception e) {
+            throw new AggregationException(e);
+        }
+    }
+
+    /**
+     * Resolves suppliers, reporting the resolution.
+     *
+     * @param instrumentation the instrumentation reporting the phase
+     * @param context the JUnit {@link ExtensionContext} in which suppliers are resolved
+     * @param annotation the annotation instance containing supplier references
+     * @return the resolved suppliers
+     * @throws Exception if supplier resolution fails
+     */
+    private DataSupplier<T>[] resolveReportedSuppliers(ProviderInstrumentation instrumentation,
+                                                       ExtensionContext context, A annotation) throws Exception {
+        long start = instrumentation.start();
+        DataSupplier<T>[] suppliers = resolveSuppliers(context, annotation);
+        instrumentation.completed(DataProviderPhase.SUPPLIER_RESOLUTION, suppliers, start,
+                                  suppliers == null ? 0 : suppliers.length, -1);
+        return suppliers;
+    }
+
+    /**
+     * The key under which aggregated data is memoized.
+     *
+     * @param providerType the class of the provider that aggregated the data
+     * @param annotation the annotation the data was resolved from
+     */
+    private record DataKey(Class<?> providerType, Annotation annotation) {
+    }
+
+    /**
+     * An unchecked wrapper of a checked exception thrown while aggregating memoized data.
+     */
+    private static final class AggregationException extends RuntimeException {
+
+        /**
+         * The serial version identifier of this exception class.
+         */
+        private static final long serialVersionUID = 1L;
+
+        /**
+         * Constructs an {@code AggregationException} wrapping the specified cause.
+         *
+         * @param cause the checked exception thrown while aggregating data
+         */
+        private AggregationException(Exception cause) {
+            super(cause);
+        }
+
+        /**
+         * Returns the checked exception thrown while aggregating data.
+         *
+         * @return the wrapped exception
+         */
+        @Override
+        public synchronized Exception getCause() {
+            return (Exception) super.getCause();
+        }
+    }
 }
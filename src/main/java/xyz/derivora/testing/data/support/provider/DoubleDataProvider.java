@@ -0,0 +1,123 @@
+/*
+ * This file is part of Derivora Testing Data Support.
+ *
+ * Derivora Testing Data Support is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Derivora Testing Data Support is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with Derivora Testing Data Support. If not, see https://www.gnu.org/licenses/lgpl-3.0.html.
+ */
+
+package xyz.derivora.testing.data.support.provider;
+
+import org.junit.jupiter.api.extension.ExtensionContext;
+import xyz.derivora.testing.data.support.aggregator.DoubleDataAggregator;
+import xyz.derivora.testing.data.support.provider.listener.DataProviderPhase;
+import xyz.derivora.testing.data.support.supplier.DoubleDataSupplier;
+
+import java.lang.annotation.Annotation;
+import java.util.Objects;
+import java.util.stream.DoubleStream;
+import java.util.stream.Stream;
+
+/**
+ * A base class for providing {@code double} test data by directly aggregating {@link DoubleDataSupplier} instances.
+ *
+ * <p>This abstract class is the {@code double}-specialized counterpart of {@link DirectDataProvider}.
+ * The aggregated values are kept in a primitive {@code double[]} and each value is boxed only when
+ * the corresponding test arguments are created.</p>
+ *
+ * @param <A> the annotation type used to retrieve data supplier references
+ */
+public abstract class DoubleDataProvider<A extends Annotation> extends DataProvider<A> {
+
+    /**
+     * Aggregates data from multiple {@link DoubleDataSupplier} instances.
+     */
+    private final DoubleDataAggregator aggregator;
+
+    /**
+     * Constructs a {@code DoubleDataProvider} with the specified annotation type and data aggregator.
+     *
+     * @param annotationType the class type of the annotation to process
+     * @param aggregator the data aggregator used to merge results from multiple suppliers
+     * @throws NullPointerException if {@code aggregator} is {@code null}
+     */
+    protected DoubleDataProvider(Class<A> annotationType, DoubleDataAggregator aggregator) {
+        super(annotationType);
+        this.aggregator = Objects.requireNonNull(aggregator, "Data aggregator cannot be null");
+    }
+
+    /**
+     * Resolves data for parameterized tests by aggregating values from multiple {@link DoubleDataSupplier} instances.
+     *
+     * @param context the JUnit {@link ExtensionContext} providing test execution details
+     * @param annotation the annotation instance containing supplier references
+     * @return an array of aggregated test parameters
+     * @throws Exception if resolving suppliers or aggregating data fails
+     */
+    @Override
+    protected final Double[] resolveData(ExtensionContext context, A annotation) throws Exception {
+        return resolveDataStream(context, annotation).toArray(Double[]::new);
+    }
+
+    /**
+     * Resolves data for parameterized tests as a stream over the values aggregated from multiple
+     * {@link DoubleDataSupplier} instances, boxing each value only as the stream is consumed.
+     *
+     * @param context the JUnit {@link ExtensionContext} providing test execution details
+     * @param annotation the annotation instance containing supplier references
+     * @return a stream of aggregated test parameters
+     * @throws Exception if resolving suppliers or aggregating data fails
+     */
+    @Override
+    protected final Stream<Double> resolveDataStream(ExtensionContext context, A annotation) throws Exception {
+        ProviderInstrumentation instrumentation = ProviderInstrumentation.of(context, annotation.annotationType());
+
+        long start = instrumentation.start();
+        DoubleDataSupplier[] suppliers = resolveSuppliers(context, annotation);
+        instrumentation.completed(DataProviderPhase.SUPPLIER_RESOLUTION, suppliers, start,
+                                  suppliers == null ? 0 : suppliers.length, -1);
+
+        start = instrumentation.start();
+        double[] data = instrumentation.recordSupplierCalls(() -> aggregator.aggregate(suppliers));
+        instrumentation.completed(DataProviderPhase.AGGREGATION, suppliers, start, data.length,
+                                  ProviderInstrumentation.approximateBytes(data));
+        return DoubleStream.of(data).boxed();
+    }
+
+    /**
+     * Resolves an array of {@link DoubleDataSupplier} instances from the provided annotation.
+     *
+     * <p>Subclasses must implement this method to specify how suppliers are obtained from
+     * the annotation.</p>
+     *
+     * @param annotation the annotation instance containing references to {@link DoubleDataSupplier} implementations
+     * @return an array of resolved {@link DoubleDataSupplier} instances
+     * @throws Exception if supplier resolution fails
+     */
+    protected abstract DoubleDataSupplier[] resolveSuppliers(A annotation) throws Exception;
+
+    /**
+     * Resolves an array of {@link DoubleDataSupplier} instances from the provided annotation
+     * within the given JUnit {@link ExtensionContext}.
+     *
+     * <p>By default, the context is ignored and resolution is delegated to
+     * {@link #resolveSuppliers(Annotation)}.</p>
+     *
+     * @param context the JUnit {@link ExtensionContext} providing test execution details
+     * @param annotation the annotation instance containing references to {@link DoubleDataSupplier} implementations
+     * @return an array of resolved {@link DoubleDataSupplier} instances
+     * @throws Exception if supplier resolution fails
+     */
+    protected DoubleDataSupplier[] resolveSuppliers(ExtensionContext context, A annotation) throws Exception {
+        return resolveSuppliers(annotation);
+    }
+}
@@ -0,0 +1,421 @@
+/*
+ * This file is part of Derivora Testing Data Support.
+ *
+ * Derivora Testing Data Support is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Derivora Testing Data Support is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with Derivora Testing Data Support. If not, see https://www.gnu.org/licenses/lgpl-3.0.html.
+ */
+
+package xyz.derivora.testing.data.support.provider;
+
+import org.junit.jupiter.api.extension.ExtensionContext;
+import org.junit.jupiter.params.provider.Arguments;
+import xyz.derivora.testing.data.support.aggregator.DataAggregator;
+import xyz.derivora.testing.data.support.jfr.DelegatingSupplier;
+import xyz.derivora.testing.data.support.provider.listener.DataProviderEvent;
+import xyz.derivora.testing.data.support.provider.listener.DataProviderListener;
+import xyz.derivora.testing.data.support.provider.listener.DataProviderPhase;
+import xyz.derivora.testing.data.support.supplier.DataSupplier;
+import xyz.derivora.testing.data.support.timing.SupplierTimer;
+
+import java.lang.annotation.Annotation;
+import java.lang.reflect.Array;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Queue;
+import java.util.ServiceLoader;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+/**
+ * Times the phases of providing arguments and reports them to the registered {@link DataProviderListener} services.
+ *
+ * <p>An instance covers the resolution of data for a single annotation or, for phases not tied to an
+ * annotation, a single call of {@link DataProvider#provideArguments(ExtensionContext)}. If no registered
+ * listener is enabled, a shared disabled instance is used, which neither reads the clock nor wraps aggregators.</p>
+ *
+ * <p>Suppliers are never replaced by instrumented wrappers, so that aggregators still see the resolved
+ * instances. Each supplier call is timed by the aggregator making it through the current
+ * {@link SupplierTimer}, and reported as {@link DataProviderPhase#SUPPLIER_GET} once the aggregation
+ * has completed, on the thread that requested it.</p>
+ */
+final class ProviderInstrumentation {
+
+    /**
+     * The instance used when no registered listener is enabled.
+     */
+    private static final ProviderInstrumentation DISABLED = new ProviderInstrumentation(null, null, List.of());
+
+    /**
+     * The assumed size in bytes of an array header.
+     */
+    private static final long ARRAY_HEADER_BYTES = 16;
+
+    /**
+     * The assumed size in bytes of a reference, as with compressed references.
+     */
+    private static final long REFERENCE_BYTES = 4;
+
+    /**
+     * The context of the test for which arguments are provided, or {@code null} if disabled.
+     */
+    private final ExtensionContext context;
+
+    /**
+     * The data annotation type processed by the provider, or {@code null} if disabled.
+     */
+    private final Class<? extends Annotation> annotationType;
+
+    /**
+     * The listeners notified of completed phases, which were enabled when this instance was created.
+     */
+    private final List<DataProviderListener> listeners;
+
+    /**
+     * Constructs a {@code ProviderInstrumentation} reporting phases for the given test and annotation type.
+     *
+     * @param context the context of the test for which arguments are provided, or {@code null} if disabled
+     * @param annotationType the data annotation type processed by the provider, or {@code null} if disabled
+     * @param listeners the listeners notified of completed phases
+     */
+    private ProviderInstrumentation(ExtensionContext context, Class<? extends Annotation> annotationType,
+                                    List<DataProviderListener> listeners) {
+        this.context = context;
+        this.annotationType = annotationType;
+        this.listeners = listeners;
+    }
+
+    /**
+     * Returns an instrumentation reporting phases for the given test and annotation type.
+     *
+     * @param context the context of the test for which arguments are provided
+     * @param annotationType the data annotation type processed by the provider
+     * @return an enabled instrumentation, or a disabled one if no registered listener is enabled
+     */
+    static ProviderInstrumentation of(ExtensionContext context, Class<? extends Annotation> annotationType) {
+        List<DataProviderListener> registered = Listeners.LISTENERS;
+        if (registered.isEmpty()) {
+            return DISABLED;
+        }
+
+        List<DataProviderListener> enabled = new ArrayList<>(registered.size());
+        for (DataProviderListener listener : registered) {
+            if (listener.isEnabled()) {
+                enabled.add(listener);
+            }
+        }
+
+        return enabled.isEmpty() ? DISABLED : new ProviderInstrumentation(context, annotationType, enabled);
+    }
+
+    /**
+     * Returns the start time of a phase.
+     *
+     * @return the current value of {@link System#nanoTime()}, or {@code 0} if disabled
+     */
+    long start() {
+        return context == null ? 0 : System.nanoTime();
+    }
+
+    /**
+     * Reports a completed phase that started at the given time.
+     *
+     * @param phase the completed phase
+     * @param suppliers the suppliers the phase concerns, or {@code null} if none
+     * @param start the start time returned by {@link #start()}
+     * @param count the number of items processed in the phase
+     * @param approximateBytes the approximate size of the data produced in the phase, or {@code -1} if none
+     */
+    void completed(DataProviderPhase phase, Object[] suppliers, long start, long count, long approximateBytes) {
+        if (context != null) {
+            publish(phase, classesOf(suppliers), System.nanoTime() - start, count, approximateBytes);
+        }
+    }
+
+    /**
+     * Performs the given aggregation, reporting each supplier call timed by the aggregator as
+     * {@link DataProviderPhase#SUPPLIER_GET} once the aggregation has completed.
+     *
+     * @param aggregation the aggregation to perform
+     * @param <R> the type of the aggregated data
+     * @return the result of the aggregation
+     */
+    <R> R recordSupplierCalls(Supplier<R> aggregation) {
+        if (context == null) {
+            return aggregation.get();
+        }
+
+        Queue<SupplierCall> calls = new ConcurrentLinkedQueue<>();
+        R result = SupplierTimer.record(
+                (supplier, durationNanos, count) -> calls.add(new SupplierCall(supplier, durationNanos, count)),
+                aggregation
+        );
+
+        for (SupplierCall call : calls) {
+            publish(DataProviderPhase.SUPPLIER_GET, List.of(classOf(call.supplier())), call.durationNanos(),
+                    call.count(), -1);
+        }
+
+        return result;
+    }
+
+    /**
+     * Wraps the given aggregator so that aggregating data, including obtaining the data of the suppliers,
+     * is reported as {@link DataProviderPhase#AGGREGATION}, and each supplier call as
+     * {@link DataProviderPhase#SUPPLIER_GET}.
+     *
+     * @param aggregator the aggregator to instrument
+     * @param <T> the type of elements aggregated
+     * @return the instrumented aggregator, or {@code aggregator} itself if disabled
+     */
+    <T> DataAggregator<T> instrumentAggregator(DataAggregator<T> aggregator) {
+        return context == null ? aggregator : new TimedAggregator<>(aggregator);
+    }
+
+    /**
+     * Wraps the given converter so that converting rows is reported as {@link DataProviderPhase#ARGUMENTS_CREATION}
+     * once the returned converter is closed.
+     *
+     * @param converter the converter to instrument
+     * @return the instrumented converter, or {@code converter} itself if disabled
+     */
+    Function<Object, Arguments> instrumentConverter(Function<Object, Arguments> converter) {
+        return context == null ? converter : new TimedConverter(converter);
+    }
+
+    /**
+     * Reports the completion of argument creation if the given converter was instrumented.
+     *
+     * @param converter the converter returned by {@link #instrumentConverter(Function)}
+     */
+    void close(Function<Object, Arguments> converter) {
+        if (converter instanceof TimedConverter timed) {
+            publish(DataProviderPhase.ARGUMENTS_CREATION, List.of(), timed.nanos, timed.count, -1);
+        }
+    }
+
+    /**
+     * Estimates the shallow size of the given array, assuming compressed references.
+     *
+     * @param array the array to measure
+     * @return the approximate size in bytes, aligned to eight bytes
+     */
+    static long approximateBytes(Object array) {
+        Class<?> componentType = array.getClass().getComponentType();
+        long elementBytes;
+        if (componentType == long.class || componentType == double.class) {
+            elementBytes = 8;
+        } else if (componentType == int.class || componentType == float.class) {
+            elementBytes = 4;
+        } else if (componentType == short.class || componentType == char.class) {
+            elementBytes = 2;
+        } else if (componentType == byte.class || componentType == boolean.class) {
+            elementBytes = 1;
+        } else {
+            elementBytes = REFERENCE_BYTES;
+        }
+
+        return approximateBytes(elementBytes, Array.getLength(array));
+    }
+
+    /**
+     * Estimates the shallow size of an array with the given element size and length.
+     *
+     * @param elementBytes the size in bytes of a single element
+     * @param length the length of the array
+     * @return the approximate size in bytes, aligned to eight bytes
+     */
+    private static long approximateBytes(long elementBytes, long length) {
+        long bytes = ARRAY_HEADER_BYTES + elementBytes * length;
+        return (bytes + 7) & ~7L;
+    }
+
+    /**
+     * Returns the class of the given supplier, or of the supplier it stands in for if it is a
+     * {@link DelegatingSupplier}.
+     *
+     * @param supplier the supplier
+     * @return the class of the supplier declared by the test
+     */
+    private static Class<?> classOf(Object supplier) {
+        Object source = supplier instanceof DelegatingSupplier delegating ? delegating.delegate() : supplier;
+        return source.getClass();
+    }
+
+    /**
+     * Returns the classes of the given suppliers, in order.
+     *
+     * @param suppliers the suppliers, or {@code null} if none
+     * @return the classes of the non-null suppliers
+     */
+    private static List<Class<?>> classesOf(Object[] suppliers) {
+        if (suppliers == null) {
+            return List.of();
+        }
+
+        List<Class<?>> classes = new ArrayList<>(suppliers.length);
+        for (Object supplier : suppliers) {
+            if (supplier != null) {
+                classes.add(classOf(supplier));
+            }
+        }
+
+        return List.copyOf(classes);
+    }
+
+    /**
+     * Notifies all listeners of a completed phase.
+     *
+     * @param phase the completed phase
+     * @param supplierClasses the classes of the suppliers the phase concerns
+     * @param durationNanos the duration of the phase in nanoseconds
+     * @param count the number of items processed in the phase
+     * @param approximateBytes the approximate size of the data produced in the phase, or {@code -1} if none
+     */
+    private void publish(DataProviderPhase phase, List<Class<?>> supplierClasses,
+                         long durationNanos, long count, long approximateBytes) {
+        DataProviderEvent event = new DataProviderEvent(
+                context, annotationType, phase, supplierClasses, durationNanos, count, approximateBytes
+        );
+
+        for (DataProviderListener listener : listeners) {
+            listener.phaseCompleted(event);
+        }
+    }
+
+    /**
+     * An aggregator reporting each aggregation it performs.
+     *
+     * @param <T> the type of elements aggregated
+     */
+    private final class TimedAggregator<T> implements DataAggregator<T> {
+
+        /**
+         * The aggregator performing the actual aggregation.
+         */
+        private final DataAggregator<T> delegate;
+
+        /**
+         * Constructs a {@code TimedAggregator} wrapping the given aggregator.
+         *
+         * @param delegate the aggregator performing the actual aggregation
+         */
+        private TimedAggregator(DataAggregator<T> delegate) {
+            this.delegate = delegate;
+        }
+
+        /**
+         * Aggregates the data of the given suppliers through the delegate and reports the aggregation.
+         *
+         * @param suppliers the data suppliers providing elements to be aggregated
+         * @return the array returned by the delegate
+         */
+        @Override
+        @SafeVarargs
+        @SuppressWarnings("varargs")
+        public final T[] aggregate(DataSupplier<T>... suppliers) {
+            long start = System.nanoTime();
+            T[] data = recordSupplierCalls(() -> delegate.aggregate(suppliers));
+            completed(DataProviderPhase.AGGREGATION, suppliers, start, data.length, approximateBytes(data));
+            return data;
+        }
+
+        /**
+         * Aggregates the data of the given suppliers into a view through the delegate and reports the aggregation.
+         *
+         * <p>The reported size is that of an array of references to the elements of the view.</p>
+         *
+         * @param suppliers the data suppliers providing elements to be aggregated
+         * @return the view returned by the delegate
+         */
+        @Override
+        @SafeVarargs
+        @SuppressWarnings("varargs")
+        public final List<T> aggregateView(DataSupplier<T>... suppliers) {
+            long start = System.nanoTime();
+            List<T> data = recordSupplierCalls(() -> delegate.aggregateView(suppliers));
+            completed(DataProviderPhase.AGGREGATION, suppliers, start, data.size(),
+                      approximateBytes(REFERENCE_BYTES, data.size()));
+            return data;
+        }
+    }
+
+    /**
+     * A supplier call timed during an aggregation.
+     *
+     * @param supplier the called supplier
+     * @param durationNanos the duration of the call in nanoseconds
+     * @param count the number of elements supplied
+     */
+    private record SupplierCall(Object supplier, long durationNanos, int count) {
+    }
+
+    /**
+     * A converter accumulating the number of converted rows and the time spent converting them.
+     */
+    private static final class TimedConverter implements Function<Object, Arguments> {
+
+        /**
+         * The converter performing the actual conversion.
+         */
+        private final Function<Object, Arguments> delegate;
+
+        /**
+         * The time spent converting rows, in nanoseconds.
+         */
+        private long nanos;
+
+        /**
+         * The number of converted rows.
+         */
+        private long count;
+
+        /**
+         * Constructs a {@code TimedConverter} wrapping the given converter.
+         *
+         * @param delegate the converter performing the actual conversion
+         */
+        private TimedConverter(Function<Object, Arguments> delegate) {
+            this.delegate = delegate;
+        }
+
+        /**
+         * Converts the given row, accumulating the time spent.
+         *
+         * @param row the row to convert
+         * @return the arguments created by the delegate
+         */
+        @Override
+        public Arguments apply(Object row) {
+            long start = System.nanoTime();
+            Arguments arguments = delegate.apply(row);
+            nanos += System.nanoTime() - start;
+            count++;
+            return arguments;
+        }
+    }
+
+    /**
+     * Holds the registered listeners, loaded when instrumentation is first requested.
+     */
+    private static final class Listeners {
+
+        /**
+         * The listeners registered through {@link ServiceLoader}.
+         */
+        private static final List<DataProviderListener> LISTENERS = ServiceLoader.load(DataProviderListener.class)
+                                                                              .stream()
+                                                                              .map(ServiceLoader.Provider::get)
+                                                                              .toList();
+    }
+}
@@ -0,0 +1,296 @@
+/*
+ * This file is part of Derivora Testing Data Support.
+ *
+ * Derivora Testing Data Support is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Derivora Testing Data Support is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with Derivora Testing Data Support. If not, see https://www.gnu.org/licenses/lgpl-3.0.html.
+ */
+
+package xyz.derivora.testing.data.support.provider;
+
+import org.junit.jupiter.api.extension.ExtensionContext;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Optional;
+import java.util.SplittableRandom;
+import java.util.Spliterator;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+/**
+ * Selects a reproducible random sample of the rows provided to a parameterized test.
+ *
+ * <p>A sample of a fixed size is drawn through single-pass reservoir sampling, so that at most the sampled
+ * rows are held in memory, whatever the size of the data set. A sample of a fraction of the rows is drawn by
+ * selecting every row independently with the given probability, holding at most one row: if no row is
+ * selected, a single row drawn uniformly from all rows is sampled instead, so that the sample of a non-empty
+ * data set is never empty. In both cases, sampled rows keep their original order.</p>
+ *
+ * <p>The random sequence of a test is derived from the seed and the unique identifier of the test, so that
+ * the sample of every test is reproduced by running again with the same seed.</p>
+ *
+ * @param size the number of rows to sample, or {@code 0} if a fraction is sampled
+ * @param fraction the fraction of rows to sample, or {@code 0} if a fixed number of rows is sampled
+ * @param seed the seed from which samples are drawn
+ */
+record RowSampler(int size, double fraction, long seed) {
+
+    /**
+     * The multiplier used to spread test identifiers over the seed space.
+     */
+    private static final long GOLDEN_GAMMA = 0x9E3779B97F4A7C15L;
+
+    /**
+     * Returns the sampler configured for the given context.
+     *
+     * <p>The sampler is configured through the {@value DataProvider#SAMPLE_SIZE_PARAMETER} or
+     * {@value DataProvider#SAMPLE_FRACTION_PARAMETER} configuration parameters and the optional
+     * {@value DataProvider#SAMPLE_SEED_PARAMETER} parameter, which JUnit also reads from system properties.
+     * Without a seed, a random seed is chosen once per JVM, so a seed must be set whenever several
+     * JVMs must draw the same sample.</p>
+     *
+     * @param context the JUnit {@link ExtensionContext} providing configuration parameters
+     * @return the configured sampler, or an empty {@link Optional} if sampling is not configured
+     * @throws IllegalArgumentException if both a size and a fraction are set or a parameter is invalid
+     */
+    static Optional<RowSampler> of(ExtensionContext context) {
+        Optional<String> size = context.getConfigurationParameter(DataProvider.SAMPLE_SIZE_PARAMETER);
+        Optional<String> fraction = context.getConfigurationParameter(DataProvider.SAMPLE_FRACTION_PARAMETER);
+
+        if (size.isEmpty() && fraction.isEmpty()) {
+            return Optional.empty();
+        }
+        if (size.isPresent() && fraction.isPresent()) {
+            throw new IllegalArgumentException("Only one of " + DataProvider.SAMPLE_SIZE_PARAMETER + " and "
+                                                       + DataProvider.SAMPLE_FRACTION_PARAMETER + " can be set");
+        }
+
+        long seed = context.getConfigurationParameter(DataProvider.SAMPLE_SEED_PARAMETER)
+                           .map(value -> parseSeed(value.trim()))
+                           .orElse(DefaultSeed.SEED);
+
+        if (size.isPresent()) {
+            int rows = parseSize(size.get().trim());
+            return Optional.of(new RowSampler(rows, 0, seed));
+        }
+
+        return Optional.of(new RowSampler(0, parseFraction(fraction.get().trim()), seed));
+    }
+
+    /**
+     * Returns a stream of a sample of the given rows of a test.
+     *
+     * <p>The rows are consumed only once the returned stream is traversed. The sample contains at least one
+     * row, unless there are no rows to sample. Rows are sampled before they are converted to arguments, so a
+     * {@code null} row is sampled like any other and is then rejected by the conversion.</p>
+     *
+     * @param rows the rows to sample
+     * @param testId the unique identifier of the test
+     * @return a stream of the sampled rows, in their original order
+     */
+    Stream<?> sample(Stream<?> rows, String testId) {
+        SplittableRandom random = new SplittableRandom(seed + GOLDEN_GAMMA * testId.hashCode());
+
+        if (size == 0) {
+            return bernoulli(rows, random);
+        }
+
+        return StreamSupport.stream(() -> reservoir(rows, random).spliterator(),
+                                    Spliterator.ORDERED | Spliterator.SIZED,
+                                    false);
+    }
+
+    /**
+     * Lazily draws a sample of the given fraction of the rows, falling back to a single row if none is selected.
+     *
+     * @param rows the rows to sample
+     * @param random the source of randomness
+     * @return a stream of the sampled rows, in their original order
+     */
+    private Stream<?> bernoulli(Stream<?> rows, SplittableRandom random) {
+        FallbackRow fallback = new FallbackRow(random.split());
+
+        Stream<?> selected = rows.filter(row -> {
+            if (random.nextDouble() < fraction) {
+                fallback.selected = true;
+                return true;
+            }
+            fallback.offer(row);
+            return false;
+        });
+
+        return Stream.concat(selected, Stream.of(fallback).flatMap(FallbackRow::rowIfNoneSelected));
+    }
+
+    /**
+     * Draws a fixed-size sample of the given rows through reservoir sampling.
+     *
+     * @param rows the rows to sample
+     * @param random the source of randomness
+     * @return the sampled rows, in their original order
+     */
+    private List<Object> reservoir(Stream<?> rows, SplittableRandom random) {
+        List<SampledRow> reservoir = new ArrayList<>(Math.min(size, 1024));
+        long[] seen = {0};
+
+        rows.forEachOrdered(row -> {
+            long index = seen[0]++;
+            if (index < size) {
+                reservoir.add(new SampledRow(index, row));
+            } else {
+                long slot = random.nextLong(index + 1);
+                if (slot < size) {
+                    reservoir.set((int) slot, new SampledRow(index, row));
+                }
+            }
+        });
+
+        reservoir.sort(Comparator.comparingLong(SampledRow::index));
+        return reservoir.stream().map(SampledRow::row).toList();
+    }
+
+    /**
+     * Parses the value of the sample size parameter.
+     *
+     * @param value the value to parse
+     * @return the positive sample size
+     * @throws IllegalArgumentException if the value is not a positive integer
+     */
+    private static int parseSize(String value) {
+        try {
+            int size = Integer.parseInt(value);
+            if (size > 0) {
+                return size;
+            }
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("Invalid value of " + DataProvider.SAMPLE_SIZE_PARAMETER + ": " + value, e);
+        }
+
+        throw new IllegalArgumentException("Sample size must be positive: " + value);
+    }
+
+    /**
+     * Parses the value of the sample fraction parameter.
+     *
+     * @param value the value to parse
+     * @return the sample fraction, greater than {@code 0} and at most {@code 1}
+     * @throws IllegalArgumentException if the value is not a number within {@code (0, 1]}
+     */
+    private static double parseFraction(String value) {
+        try {
+            double fraction = Double.parseDouble(value);
+            if (fraction > 0 && fraction <= 1) {
+                return fraction;
+            }
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("Invalid value of " + DataProvider.SAMPLE_FRACTION_PARAMETER + ": " + value, e);
+        }
+
+        throw new IllegalArgumentException("Sample fraction must be greater than 0 and at most 1: " + value);
+    }
+
+    /**
+     * Parses the value of the sample seed parameter.
+     *
+     * @param value the value to parse
+     * @return the seed
+     * @throws IllegalArgumentException if the value is not an integer
+     */
+    private static long parseSeed(String value) {
+        try {
+            return Long.parseLong(value);
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("Invalid value of " + DataProvider.SAMPLE_SEED_PARAMETER + ": " + value, e);
+        }
+    }
+
+    /**
+     * A sampled row together with its index in the data set.
+     *
+     * @param index the index of the row in the data set
+     * @param row the row
+     */
+    private record SampledRow(long index, Object row) {
+    }
+
+    /**
+     * A row drawn uniformly from the rows not selected by a fractional sample, through reservoir sampling
+     * of a single row, provided only if no row has been selected.
+     */
+    private static final class FallbackRow {
+
+        /**
+         * The source of randomness of the fallback draw.
+         */
+        private final SplittableRandom random;
+
+        /**
+         * The number of rows offered so far.
+         */
+        private long offered;
+
+        /**
+         * The row drawn so far, or {@code null} if no row has been offered.
+         */
+        private Object row;
+
+        /**
+         * Whether a row has been selected by the sample, making the fallback unnecessary.
+         */
+        private boolean selected;
+
+        /**
+         * Constructs a {@code FallbackRow} drawing from the given source of randomness.
+         *
+         * @param random the source of randomness of the fallback draw
+         */
+        private FallbackRow(SplittableRandom random) {
+            this.random = random;
+        }
+
+        /**
+         * Offers a row that has not been selected by the sample.
+         *
+         * <p>Once a row has been selected, offered rows are ignored.</p>
+         *
+         * @param candidate the row not selected by the sample
+         */
+        private void offer(Object candidate) {
+            if (!selected && random.nextLong(++offered) == 0) {
+                row = candidate;
+            }
+        }
+
+        /**
+         * Returns the drawn row if no row has been selected by the sample.
+         *
+         * @return a stream of the drawn row, or an empty stream if a row has been selected or none was offered
+         */
+        private Stream<Object> rowIfNoneSelected() {
+            return selected || offered == 0 ? Stream.empty() : Stream.of(row);
+        }
+    }
+
+    /**
+     * Holds the seed used when none is configured, chosen once per JVM.
+     */
+    private static final class DefaultSeed {
+
+        /**
+         * The randomly chosen seed.
+         */
+        private static final long SEED = ThreadLocalRandom.current().nextLong();
+    }
+}
@@ -0,0 +1,131 @@
+/*
+ * This file is part of Derivora Testing Data Support.
+ *
+ * Derivora Testing Data Support is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Derivora Testing Data Support is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with Derivora Testing Data Support. If not, see https://www.gnu.org/licenses/lgpl-3.0.html.
+ */
+
+package xyz.derivora.testing.data.support.provider;
+
+import org.junit.jupiter.api.extension.ExtensionContext;
+import xyz.derivora.testing.data.support.aggregator.StreamingDataAggregator;
+import xyz.derivora.testing.data.support.provider.listener.DataProviderPhase;
+import xyz.derivora.testing.data.support.supplier.StreamingDataSupplier;
+
+import java.lang.annotation.Annotation;
+import java.util.Objects;
+import java.util.stream.Stream;
+
+/**
+ * A base class for providing test data by lazily aggregating {@link StreamingDataSupplier} instances.
+ *
+ * <p>This abstract class is the streaming counterpart of {@link DirectDataProvider}. It integrates a
+ * {@link StreamingDataAggregator} to combine multiple {@link StreamingDataSupplier} sources into a single
+ * stream, so that rows flow from their source to JUnit one at a time instead of being collected
+ * into an array first.</p>
+ *
+ * @param <T> the type of data elements provided to the test
+ * @param <A> the annotation type used to retrieve data supplier references
+ */
+public abstract class StreamingDataProvider<T, A extends Annotation> extends DataProvider<A> {
+
+    /**
+     * Aggregates data from multiple {@link StreamingDataSupplier} instances.
+     */
+    private final StreamingDataAggregator<T> aggregator;
+
+    /**
+     * Constructs a {@code StreamingDataProvider} with the specified annotation type and data aggregator.
+     *
+     * <p>The annotation type is used to locate and process relevant test data annotations.
+     * The aggregator is responsible for combining data from multiple {@link StreamingDataSupplier} instances.</p>
+     *
+     * @param annotationType the class type of the annotation to process
+     * @param aggregator the data aggregator used to merge results from multiple suppliers
+     * @throws NullPointerException if {@code aggregator} is {@code null}
+     */
+    protected StreamingDataProvider(Class<A> annotationType, StreamingDataAggregator<T> aggregator) {
+        super(annotationType);
+        this.aggregator = Objects.requireNonNull(aggregator, "Data aggregator cannot be null");
+    }
+
+    /**
+     * Resolves data for parameterized tests as a lazy stream aggregated from multiple
+     * {@link StreamingDataSupplier} instances.
+     *
+     * @param context the JUnit {@link ExtensionContext} providing test execution details
+     * @param annotation the annotation instance containing supplier references
+     * @return a stream of aggregated test parameters
+     * @throws Exception if resolving suppliers or aggregating data fails
+     */
+    @Override
+    protected final Stream<T> resolveDataStream(ExtensionContext context, A annotation) throws Exception {
+        ProviderInstrumentation instrumentation = ProviderInstrumentation.of(context, annotation.annotationType());
+
+        long start = instrumentation.start();
+        StreamingDataSupplier<T>[] suppliers = resolveSuppliers(context, annotation);
+        instrumentation.completed(DataProviderPhase.SUPPLIER_RESOLUTION, suppliers, start,
+                                  suppliers == null ? 0 : suppliers.length, -1);
+
+        return aggregator.aggregate(suppliers);
+    }
+
+    /**
+     * Resolves data for parameterized tests by collecting the stream returned by
+     * {@link #resolveDataStream(ExtensionContext, Annotation)} into an array.
+     *
+     * <p>This method is not used by {@link #provideArguments(ExtensionContext)}, which consumes
+     * the stream directly.</p>
+     *
+     * @param context the JUnit {@link ExtensionContext} providing test execution details
+     * @param annotation the annotation instance containing supplier references
+     * @return an array of aggregated test parameters
+     * @throws Exception if resolving suppliers or aggregating data fails
+     */
+    @Override
+    protected final Object[] resolveData(ExtensionContext context, A annotation) throws Exception {
+        try (Stream<T> data = resolveDataStream(context, annotation)) {
+            return data.toArray();
+        }
+    }
+
+    /**
+     * Resolves an array of {@link StreamingDataSupplier} instances from the provided annotation.
+     *
+     * <p>Subclasses must implement this method to specify how suppliers are obtained from
+     * the annotation. Array-based suppliers can be included by adapting them with
+     * {@link StreamingDataSupplier#adapt(xyz.derivora.testing.data.support.supplier.DataSupplier)}.</p>
+     *
+     * @param annotation the annotation instance containing references to {@link StreamingDataSupplier} implementations
+     * @return an array of resolved {@link StreamingDataSupplier} instances
+     * @throws Exception if supplier resolution fails
+     */
+    protected abstract StreamingDataSupplier<T>[] resolveSuppliers(A annotation) throws Exception;
+
+    /**
+     * Resolves an array of {@link StreamingDataSupplier} instances from the provided annotation
+     * within the given JUnit {@link ExtensionContext}.
+     *
+     * <p>By default, the context is ignored and resolution is delegated to
+     * {@link #resolveSuppliers(Annotation)}. Subclasses may override this method to resolve
+     * suppliers whose lifetime or construction depends on the test being executed.</p>
+     *
+     * @param context the JUnit {@link ExtensionContext} providing test execution details
+     * @param annotation the annotation instance containing references to {@link StreamingDataSupplier} implementations
+     * @return an array of resolved {@link StreamingDataSupplier} instances
+     * @throws Exception if supplier resolution fails
+     */
+    protected StreamingDataSupplier<T>[] resolveSuppliers(ExtensionContext context, A annotation) throws Exception {
+        return resolveSuppliers(annotation);
+    }
+}
@@ -0,0 +1,174 @@
+/*
+ * This file is part of Derivora Testing Data Support.
+ *
+ * Derivora Testing Data Support is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Derivora Testing Data Support is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with Derivora Testing Data Support. If not, see https://www.gnu.org/licenses/lgpl-3.0.html.
+ */
+
+package xyz.derivora.testing.data.support.provider;
+
+import java.lang.annotation.Annotation;
+import java.lang.reflect.Method;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Holds the data sets aggregated in the background by {@link DataWarmUpListener} until their tests consume them.
+ *
+ * <p>Each data set is keyed by the provider class, the test class, the test method and the annotation it is
+ * resolved from.
+ * A data set is handed out once: the first {@code provideArguments} call of its test receives it, while later
+ * calls, such as those of re-runs, resolve their data as usual.</p>
+ *
+ * <p>If a test asks for its data before the background task has started, the task is abandoned and the test
+ * resolves its data itself, so that a test never waits for a queued task. If the background task is running,
+ * the test waits for it instead of repeating the work. If the task fails, the test resolves its data itself,
+ * so that the failure is reported by the test.</p>
+ */
+final class WarmedData {
+
+    /**
+     * The pending and completed data sets by key.
+     */
+    private static final Map<Key, Entry> ENTRIES = new ConcurrentHashMap<>();
+
+    /**
+     * Prevents instantiation of this utility class.
+     */
+    private WarmedData() {
+    }
+
+    /**
+     * Schedules the aggregation of a data set on the given executor.
+     *
+     * <p>If a data set is already scheduled under the same key, this method does nothing.</p>
+     *
+     * @param providerType the class of the provider resolving the data
+     * @param testClass the test class the method is executed in
+     * @param method the test method the data is resolved for
+     * @param annotation the annotation the data is resolved from
+     * @param aggregation the aggregation of the data set
+     * @param executor the executor on which the data set is aggregated
+     */
+    static void schedule(Class<?> providerType, Class<?> testClass, Method method, Annotation annotation,
+                         Callable<Object[]> aggregation, Executor executor) {
+        Key key = new Key(providerType, testClass, method, annotation);
+        Entry entry = new Entry();
+        if (ENTRIES.putIfAbsent(key, entry) != null) {
+            return;
+        }
+
+        executor.execute(() -> {
+            if (!entry.started.compareAndSet(false, true)) {
+                return;
+            }
+
+            try {
+                entry.data.complete(aggregation.call());
+            } catch (Exception e) {
+                entry.data.complete(null);
+            } catch (Error e) {
+                entry.data.complete(null);
+                throw e;
+            }
+        });
+    }
+
+    /**
+     * Removes and returns the data set aggregated for the given key, waiting for a running aggregation.
+     *
+     * @param providerType the class of the provider resolving the data
+     * @param testClass the test class the method is executed in
+     * @param method the test method the data is resolved for
+     * @param annotation the annotation the data is resolved from
+     * @return the aggregated data set, or an empty {@link Optional} if none is available
+     */
+    static Optional<Object[]> take(Class<?> providerType, Class<?> testClass, Method method, Annotation annotation) {
+        if (ENTRIES.isEmpty()) {
+            return Optional.empty();
+        }
+
+        Entry entry = ENTRIES.remove(new Key(providerType, testClass, method, annotation));
+        if (entry == null || entry.started.compareAndSet(false, true)) {
+            return Optional.empty();
+        }
+
+        return Optional.ofNullable(entry.data.join());
+    }
+
+    /**
+     * Discards the data sets of the given test method, abandoning aggregations that have not started yet.
+     *
+     * @param testClass the test class the method is executed in
+     * @param method the test method whose data sets are discarded
+     */
+    static void discard(Class<?> testClass, Method method) {
+        ENTRIES.entrySet().removeIf(entry -> {
+            Key key = entry.getKey();
+            if (!key.testClass().equals(testClass) || !key.method().equals(method)) {
+                return false;
+            }
+            entry.getValue().started.set(true);
+            return true;
+        });
+    }
+
+    /**
+     * Checks whether any data set is pending or completed.
+     *
+     * @return {@code true} if no data set is held, {@code false} otherwise
+     */
+    static boolean isEmpty() {
+        return ENTRIES.isEmpty();
+    }
+
+    /**
+     * Discards all data sets, abandoning aggregations that have not started yet.
+     */
+    static void clear() {
+        ENTRIES.values().forEach(entry -> entry.started.set(true));
+        ENTRIES.clear();
+    }
+
+    /**
+     * Identifies a data set.
+     *
+     * @param providerType the class of the provider resolving the data
+     * @param testClass the test class the method is executed in
+     * @param method the test method the data is resolved for
+     * @param annotation the annotation the data is resolved from
+     */
+    private record Key(Class<?> providerType, Class<?> testClass, Method method, Annotation annotation) {
+    }
+
+    /**
+     * A data set being aggregated in the background.
+     */
+    private static final class Entry {
+
+        /**
+         * Whether the aggregation has started or has been abandoned.
+         */
+        private final AtomicBoolean started = new AtomicBoolean();
+
+        /**
+         * The aggregated data, or {@code null} if the aggregation failed.
+         */
+        private final CompletableFuture<Object[]> data = new CompletableFuture<>();
+    }
+}
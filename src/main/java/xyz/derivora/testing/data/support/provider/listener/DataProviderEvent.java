@@ -0,0 +1,72 @@
+/*
+ * This file is part of Derivora Testing Data Support.
+ *
+ * Derivora Testing Data Support is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Derivora Testing Data Support is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with Derivora Testing Data Support. If not, see https://www.gnu.org/licenses/lgpl-3.0.html.
+ */
+
+package xyz.derivora.testing.data.support.provider.listener;
+
+import org.junit.jupiter.api.extension.ExtensionContext;
+
+import java.lang.annotation.Annotation;
+import java.lang.reflect.Method;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+
+/**
+ * Describes a completed phase of providing arguments to a parameterized test.
+ *
+ * @param context the JUnit {@link ExtensionContext} of the test for which arguments are provided
+ * @param annotationType the data annotation type processed by the provider
+ * @param phase the completed phase
+ * @param supplierClasses the classes of the suppliers the phase concerns, in order, or an empty list if it
+ *                        does not concern suppliers
+ * @param durationNanos the duration of the phase in nanoseconds
+ * @param count the number of items processed in the phase, as described by {@link DataProviderPhase}
+ * @param approximateBytes the approximate shallow size in bytes of the data produced in the phase,
+ *                         or {@code -1} if the phase does not produce data
+ */
+public record DataProviderEvent(ExtensionContext context,
+                                Class<? extends Annotation> annotationType,
+                                DataProviderPhase phase,
+                                List<Class<?>> supplierClasses,
+                                long durationNanos,
+                                long count,
+                                long approximateBytes) {
+
+    /**
+     * Constructs a {@code DataProviderEvent} with the specified details.
+     *
+     * <p>The supplier classes are copied into an unmodifiable list.</p>
+     *
+     * @throws NullPointerException if {@code context}, {@code annotationType}, {@code phase}
+     *         or {@code supplierClasses} is {@code null}, or if {@code supplierClasses} contains {@code null}
+     */
+    public DataProviderEvent {
+        Objects.requireNonNull(context, "Extension context cannot be null");
+        Objects.requireNonNull(annotationType, "Annotation type cannot be null");
+        Objects.requireNonNull(phase, "Phase cannot be null");
+        supplierClasses = List.copyOf(Objects.requireNonNull(supplierClasses, "Supplier classes cannot be null"));
+    }
+
+    /**
+     * Returns the test method for which arguments are provided.
+     *
+     * @return the test method, or an empty {@link Optional} if the context does not belong to a method
+     */
+    public Optional<Method> testMethod() {
+        return context.getTestMethod();
+    }
+}
@@ -0,0 +1,56 @@
+/*
+ * This file is part of Derivora Testing Data Support.
+ *
+ * Derivora Testing Data Support is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Derivora Testing Data Support is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with Derivora Testing Data Support. If not, see https://www.gnu.org/licenses/lgpl-3.0.html.
+ */
+
+package xyz.derivora.testing.data.support.provider.listener;
+
+/**
+ * A service notified of the phases of providing arguments to parameterized tests.
+ *
+ * <p>Listeners are discovered through {@link java.util.ServiceLoader} when arguments are provided for the
+ * first time, and are then notified by every {@link xyz.derivora.testing.data.support.provider.DataProvider}.
+ * They can be registered in the module declaration with
+ * {@code provides xyz.derivora.testing.data.support.provider.listener.DataProviderListener with ...}
+ * or, on the class path, in a {@code META-INF/services} file.</p>
+ *
+ * <p>If no listener is registered, or none of the registered listeners is {@link #isEnabled() enabled}
+ * when arguments are requested, phases are not timed at all. Listeners may be notified concurrently
+ * when tests are executed in parallel, and they are notified on the thread performing the phase,
+ * so they should return quickly.</p>
+ */
+@FunctionalInterface
+public interface DataProviderListener {
+
+    /**
+     * Notifies this listener that a phase of providing arguments has completed.
+     *
+     * @param event the details of the completed phase
+     */
+    void phaseCompleted(DataProviderEvent event);
+
+    /**
+     * Determines whether this listener is to be notified of the phases of the arguments requested next.
+     *
+     * <p>This method is called on the thread requesting arguments whenever arguments are requested, and on
+     * the thread resolving the data of an annotation whenever that data is resolved, so listeners can be
+     * switched on and off at runtime. By default, a listener is always enabled.</p>
+     *
+     * @return {@code true} if this listener is to be notified, {@code false} otherwise
+     */
+    default boolean isEnabled() {
+        return true;
+    }
+}
@@ -0,0 +1,67 @@
+/*
+ * This file is part of Derivora Testing Data Support.
+ *
+ * Derivora Testing Data Support is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Derivora Testing Data Support is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with Derivora Testing Data Support. If not, see https://www.gnu.org/licenses/lgpl-3.0.html.
+ */
+
+package xyz.derivora.testing.data.support.provider.listener;
+
+/**
+ * The phases of providing arguments reported to a {@link DataProviderListener}.
+ */
+public enum DataProviderPhase {
+
+    /**
+     * Looking up the data annotations of the test element.
+     *
+     * <p>The count of the event is the number of annotations found.</p>
+     */
+    ANNOTATION_LOOKUP,
+
+    /**
+     * Resolving the suppliers referenced by a single annotation.
+     *
+     * <p>The event identifies the classes of the resolved suppliers, and its count is the number of
+     * suppliers resolved.</p>
+     */
+    SUPPLIER_RESOLUTION,
+
+    /**
+     * Obtaining the data of a single supplier during an aggregation.
+     *
+     * <p>The call is timed by the aggregator making it, and reported once the aggregation has completed.
+     * The call of an asynchronous supplier lasts until its data has been awaited. The event identifies
+     * the class of the supplier, and its count is the number of rows supplied. Suppliers streamed by
+     * streaming providers are not reported.</p>
+     */
+    SUPPLIER_GET,
+
+    /**
+     * Aggregating the data of all suppliers referenced by a single annotation.
+     *
+     * <p>The duration includes obtaining the data of the suppliers, which is additionally reported per
+     * supplier call. The event identifies the classes of the aggregated suppliers, and its count is the
+     * number of rows aggregated.</p>
+     */
+    AGGREGATION,
+
+    /**
+     * Converting all rows into arguments of the test.
+     *
+     * <p>The event is reported once the argument stream is closed. Its count is the number of rows
+     * converted, and its duration is the time spent converting them, excluding the time spent by
+     * the test itself.</p>
+     */
+    ARGUMENTS_CREATION
+}
@@ -0,0 +1,93 @@
+/*
+ * This file is part of Derivora Testing Data Support.
+ *
+ * Derivora Testing Data Support is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Derivora Testing Data Support is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with Derivora Testing Data Support. If not, see https://www.gnu.org/licenses/lgpl-3.0.html.
+ */
+
+package xyz.derivora.testing.data.support.supplier;
+
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+
+/**
+ * A functional interface for supplying arrays of data asynchronously.
+ *
+ * <p>An {@code AsyncDataSupplier} starts producing its data when {@link #getAsync()} is invoked and
+ * returns immediately with a {@link CompletableFuture} of the array. This suits I/O-bound suppliers,
+ * such as suppliers reading fixtures or querying an embedded database, since aggregators can start
+ * many of them before waiting for any, so that the aggregation takes about as long as the slowest
+ * supplier instead of the sum of all of them.</p>
+ *
+ * <p>As an {@code AsyncDataSupplier} is also a {@link DataSupplier}, it can be used wherever a
+ * {@code DataSupplier} is expected. Its {@link #get()} method waits for the data.</p>
+ *
+ * @param <T> the type of elements in the supplied array
+ */
+@FunctionalInterface
+public interface AsyncDataSupplier<T> extends DataSupplier<T> {
+
+    /**
+     * Starts producing the supplied array.
+     *
+     * <p>Each call must start a new computation of the data and return without waiting for it.</p>
+     *
+     * @return a future completed with the array of elements of type {@code T}
+     */
+    CompletableFuture<T[]> getAsync();
+
+    /**
+     * Produces the supplied array and waits for it.
+     *
+     * <p>If the computation fails with an unchecked exception or an error, it is rethrown as is.</p>
+     *
+     * @return an array of elements of type {@code T}
+     * @throws CompletionException if the computation fails with a checked exception
+     * @throws java.util.concurrent.CancellationException if the computation is cancelled
+     */
+    @Override
+    default T[] get() {
+        try {
+            return getAsync().join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException exception) {
+                throw exception;
+            }
+            if (e.getCause() instanceof Error error) {
+                throw error;
+            }
+
+            throw e;
+        }
+    }
+
+    /**
+     * Adapts a blocking {@link DataSupplier} to the asynchronous contract by running it on the given executor.
+     *
+     * <p>For I/O-bound suppliers, an executor with enough threads to run all suppliers at once should be
+     * used, such as {@code Executors.newVirtualThreadPerTaskExecutor()} on Java 21 or later.</p>
+     *
+     * @param supplier the blocking supplier to adapt
+     * @param executor the executor on which the supplier runs
+     * @param <T> the type of elements supplied
+     * @return an {@code AsyncDataSupplier} running the given supplier on the given executor
+     * @throws NullPointerException if {@code supplier} or {@code executor} is {@code null}
+     */
+    static <T> AsyncDataSupplier<T> adapt(DataSupplier<T> supplier, Executor executor) {
+        Objects.requireNonNull(supplier, "Data supplier cannot be null");
+        Objects.requireNonNull(executor, "Executor cannot be null");
+        return () -> CompletableFuture.supplyAsync(supplier, executor);
+    }
+}
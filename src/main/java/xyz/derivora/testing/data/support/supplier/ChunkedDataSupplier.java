@@ -0,0 +1,136 @@
+/*
+ * This file is part of Derivora Testing Data Support.
+ *
+ * Derivora Testing Data Support is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Derivora Testing Data Support is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with Derivora Testing Data Support. If not, see https://www.gnu.org/licenses/lgpl-3.0.html.
+ */
+
+package xyz.derivora.testing.data.support.supplier;
+
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+/**
+ * A functional interface for supplying data as a sequence of arrays, called chunks.
+ *
+ * <p>A {@code ChunkedDataSupplier} suits slow generators of large datasets: each chunk is produced
+ * only when it is requested, so that a consumer such as
+ * {@link xyz.derivora.testing.data.support.aggregator.PrefetchingStreamingDataAggregator} can produce
+ * the next chunks in the background while the elements of the current ones are being consumed.</p>
+ *
+ * <p>As a {@code ChunkedDataSupplier} is also a {@link StreamingDataSupplier}, it can be used wherever a
+ * {@code StreamingDataSupplier} is expected. Its {@link #stream()} method streams the elements of all
+ * chunks in order.</p>
+ *
+ * @param <T> the type of elements in the supplied chunks
+ */
+@FunctionalInterface
+public interface ChunkedDataSupplier<T> extends StreamingDataSupplier<T> {
+
+    /**
+     * Returns a new iterator over the supplied chunks.
+     *
+     * <p>Each call must return a new iterator positioned at the first chunk. Chunks must not be modified
+     * once returned.</p>
+     *
+     * @return an iterator over arrays of elements of type {@code T}
+     */
+    Iterator<T[]> chunks();
+
+    /**
+     * Returns a new stream of the elements of all supplied chunks, in order.
+     *
+     * <p>Chunks are requested one at a time as the stream is consumed.</p>
+     *
+     * @return a stream of elements of type {@code T}
+     */
+    @Override
+    default Stream<T> stream() {
+        Iterator<T[]> chunks = Objects.requireNonNull(chunks(), "Chunk iterator cannot be null");
+        return StreamSupport.stream(Spliterators.spliteratorUnknownSize(chunks, Spliterator.ORDERED), false)
+                            .flatMap(Arrays::stream);
+    }
+
+    /**
+     * Creates a {@code ChunkedDataSupplier} of a fixed number of elements produced in chunks of a fixed size.
+     *
+     * <p>The generator is asked for consecutive ranges of elements, each as long as the chunk size except
+     * possibly the last one. It is invoked only when the corresponding chunk is requested.</p>
+     *
+     * @param size the total number of supplied elements
+     * @param chunkSize the number of elements in each chunk but the last
+     * @param generator the generator producing each chunk
+     * @param <T> the type of elements supplied
+     * @return a {@code ChunkedDataSupplier} supplying the generated chunks
+     * @throws IllegalArgumentException if {@code size} is negative or {@code chunkSize} is not positive
+     * @throws NullPointerException if {@code generator} is {@code null}
+     */
+    static <T> ChunkedDataSupplier<T> generate(long size, int chunkSize, ChunkGenerator<T> generator) {
+        if (size < 0) {
+            throw new IllegalArgumentException("Size cannot be negative: " + size);
+        }
+        if (chunkSize <= 0) {
+            throw new IllegalArgumentException("Chunk size must be positive: " + chunkSize);
+        }
+        Objects.requireNonNull(generator, "Chunk generator cannot be null");
+
+        return () -> new Iterator<>() {
+
+            /**
+             * The offset of the next chunk.
+             */
+            private long offset;
+
+            @Override
+            public boolean hasNext() {
+                return offset < size;
+            }
+
+            @Override
+            public T[] next() {
+                if (!hasNext()) {
+                    throw new NoSuchElementException();
+                }
+
+                int length = (int) Math.min(chunkSize, size - offset);
+                T[] chunk = Objects.requireNonNull(generator.generate(offset, length), "Chunk cannot be null");
+                offset += length;
+                return chunk;
+            }
+        };
+    }
+
+    /**
+     * Produces a range of elements of a {@link ChunkedDataSupplier}.
+     *
+     * @param <T> the type of elements produced
+     */
+    @FunctionalInterface
+    interface ChunkGenerator<T> {
+
+        /**
+         * Produces the elements of the given range.
+         *
+         * @param offset the index of the first element to produce
+         * @param length the number of elements to produce
+         * @return an array of the produced elements
+         */
+        T[] generate(long offset, int length);
+    }
+}
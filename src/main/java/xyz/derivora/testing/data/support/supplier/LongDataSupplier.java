@@ -0,0 +1,31 @@
+/*
+ * This file is part of Derivora Testing Data Support.
+ *
+ * Derivora Testing Data Support is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Derivora Testing Data Support is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with Derivora Testing Data Support. If not, see https://www.gnu.org/licenses/lgpl-3.0.html.
+ */
+
+package xyz.derivora.testing.data.support.supplier;
+
+import java.util.function.Supplier;
+
+/**
+ * A functional interface for supplying arrays of {@code long} values.
+ *
+ * <p>This interface is the {@code long}-specialized counterpart of {@link DataSupplier}.
+ * It provides a primitive {@code long[]} instead of {@code Long[]}, so numeric datasets
+ * are not boxed while they are supplied and aggregated.</p>
+ */
+@FunctionalInterface
+public interface LongDataSupplier extends Supplier<long[]> {
+}
@@ -0,0 +1,84 @@
+/*
+ * This file is part of Derivora Testing Data Support.
+ *
+ * Derivora Testing Data Support is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Derivora Testing Data Support is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with Derivora Testing Data Support. If not, see https://www.gnu.org/licenses/lgpl-3.0.html.
+ */
+
+package xyz.derivora.testing.data.support.supplier;
+
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.Objects;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.function.Supplier;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+/**
+ * A functional interface for supplying data as a lazily evaluated {@link Stream}.
+ *
+ * <p>Unlike {@link DataSupplier}, which must materialize its entire dataset as an array,
+ * a {@code StreamingDataSupplier} produces elements on demand. This allows very large
+ * datasets to flow into parameterized tests without being held in memory at once.</p>
+ *
+ * <p>Each call to {@link #stream()} must return a new stream positioned at the first element.
+ * If the stream holds resources (e.g., open files), they are released when the stream is closed.</p>
+ *
+ * @param <T> the type of elements in the supplied stream
+ */
+@FunctionalInterface
+public interface StreamingDataSupplier<T> {
+
+    /**
+     * Returns a new stream of the supplied elements.
+     *
+     * @return a stream of elements of type {@code T}
+     */
+    Stream<T> stream();
+
+    /**
+     * Adapts an array-based {@link DataSupplier} to the streaming contract.
+     *
+     * <p>The array is requested from the given supplier only when {@link #stream()} is invoked.</p>
+     *
+     * @param supplier the array-based supplier to adapt
+     * @param <T> the type of elements supplied
+     * @return a {@code StreamingDataSupplier} streaming the elements of the supplied array
+     * @throws NullPointerException if {@code supplier} is {@code null}
+     */
+    static <T> StreamingDataSupplier<T> adapt(DataSupplier<T> supplier) {
+        Objects.requireNonNull(supplier, "Data supplier cannot be null");
+        return () -> Arrays.stream(supplier.get());
+    }
+
+    /**
+     * Creates a {@code StreamingDataSupplier} backed by iterators obtained from the given factory.
+     *
+     * <p>A new iterator is requested for every call to {@link #stream()}, and elements are
+     * pulled from it one at a time as the stream is consumed.</p>
+     *
+     * @param iteratorFactory the factory providing a new iterator for each stream
+     * @param <T> the type of elements supplied
+     * @return a {@code StreamingDataSupplier} streaming the elements of the provided iterators
+     * @throws NullPointerException if {@code iteratorFactory} is {@code null}
+     */
+    static <T> StreamingDataSupplier<T> fromIterator(Supplier<? extends Iterator<T>> iteratorFactory) {
+        Objects.requireNonNull(iteratorFactory, "Iterator factory cannot be null");
+        return () -> {
+            Iterator<T> iterator = Objects.requireNonNull(iteratorFactory.get(), "Iterator cannot be null");
+            return StreamSupport.stream(Spliterators.spliteratorUnknownSize(iterator, Spliterator.ORDERED), false);
+        };
+    }
+}
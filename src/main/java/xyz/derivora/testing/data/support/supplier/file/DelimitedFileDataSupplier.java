@@ -0,0 +1,299 @@
+/*
+ * This file is part of Derivora Testing Data Support.
+ *
+ * Derivora Testing Data Support is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Derivora Testing Data Support is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with Derivora Testing Data Support. If not, see https://www.gnu.org/licenses/lgpl-3.0.html.
+ */
+
+package xyz.derivora.testing.data.support.supplier.file;
+
+import xyz.derivora.testing.data.support.supplier.StreamingDataSupplier;
+
+import java.io.FileNotFoundException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.net.URISyntaxException;
+import java.net.URL;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+/**
+ * A {@link StreamingDataSupplier} streaming the rows of a delimited text file, such as a CSV or TSV file.
+ *
+ * <p>The file is memory-mapped and parsed lazily while the stream is traversed. Fields are decoded
+ * directly from the mapped bytes, so no intermediate string is created for a line, and heap usage
+ * does not depend on the size of the file. Each row is supplied as an array of its fields, which a
+ * {@link xyz.derivora.testing.data.support.provider.DataProvider} passes as separate arguments of a
+ * single test invocation.</p>
+ *
+ * <p>The file must be encoded in UTF-8. Fields may be enclosed in double quotes, in which case they may
+ * contain delimiters and line breaks, and a double quote is escaped by another double quote. Lines may
+ * be terminated by {@code \n}, {@code \r\n} or {@code \r}. Empty lines are skipped.</p>
+ *
+ * <p>Streams returned by {@link #stream()} hold the file open and must be closed once consumed.</p>
+ */
+public final class DelimitedFileDataSupplier implements StreamingDataSupplier<String[]> {
+
+    /**
+     * The default number of bytes mapped at a time.
+     */
+    private static final int DEFAULT_MAPPING_SIZE = 64 * 1024 * 1024;
+
+    /**
+     * The temporary copies of the resources that are not available as files, by resource URL.
+     */
+    private static final Map<String, Path> EXTRACTED_RESOURCES = new ConcurrentHashMap<>();
+
+    /**
+     * The file to parse, or {@code null} if it is resolved from a resource.
+     */
+    private final Path path;
+
+    /**
+     * The class relative to which the resource is resolved, or {@code null} if a file is parsed.
+     */
+    private final Class<?> anchor;
+
+    /**
+     * The name of the resource to parse, or {@code null} if a file is parsed.
+     */
+    private final String resourceName;
+
+    /**
+     * The character separating fields.
+     */
+    private final char delimiter;
+
+    /**
+     * Whether the first row is skipped.
+     */
+    private final boolean skipHeader;
+
+    /**
+     * The number of bytes mapped at a time.
+     */
+    private final int mappingSize;
+
+    /**
+     * Constructs a {@code DelimitedFileDataSupplier} with the specified source and parsing settings.
+     *
+     * @param path the file to parse, or {@code null} if a resource is parsed
+     * @param anchor the class relative to which the resource is resolved, or {@code null} if a file is parsed
+     * @param resourceName the name of the resource to parse, or {@code null} if a file is parsed
+     * @param delimiter the character separating fields
+     * @param skipHeader whether the first row is skipped
+     * @param mappingSize the number of bytes mapped at a time
+     */
+    private DelimitedFileDataSupplier(Path path, Class<?> anchor, String resourceName,
+                                      char delimiter, boolean skipHeader, int mappingSize) {
+        this.path = path;
+        this.anchor = anchor;
+        this.resourceName = resourceName;
+        this.delimiter = delimiter;
+        this.skipHeader = skipHeader;
+        this.mappingSize = mappingSize;
+    }
+
+    /**
+     * Creates a supplier streaming the rows of the given comma-separated file.
+     *
+     * @param path the file to parse
+     * @return a supplier of the rows of the file
+     * @throws NullPointerException if {@code path} is {@code null}
+     */
+    public static DelimitedFileDataSupplier csv(Path path) {
+        return of(path, ',');
+    }
+
+    /**
+     * Creates a supplier streaming the rows of the given tab-separated file.
+     *
+     * @param path the file to parse
+     * @return a supplier of the rows of the file
+     * @throws NullPointerException if {@code path} is {@code null}
+     */
+    public static DelimitedFileDataSupplier tsv(Path path) {
+        return of(path, '\t');
+    }
+
+    /**
+     * Creates a supplier streaming the rows of the given file, with fields separated by the given delimiter.
+     *
+     * @param path the file to parse
+     * @param delimiter the character separating fields
+     * @return a supplier of the rows of the file
+     * @throws NullPointerException if {@code path} is {@code null}
+     * @throws IllegalArgumentException if {@code delimiter} is not an ASCII character,
+     *                                  or is a double quote or line break character
+     */
+    public static DelimitedFileDataSupplier of(Path path, char delimiter) {
+        Objects.requireNonNull(path, "Path cannot be null");
+        return new DelimitedFileDataSupplier(path, null, null, requireValidDelimiter(delimiter), false, DEFAULT_MAPPING_SIZE);
+    }
+
+    /**
+     * Creates a supplier streaming the rows of the given resource, with fields separated by the given delimiter.
+     *
+     * <p>The resource is resolved through {@link Class#getResource(String)} of the given anchor class whenever
+     * a stream is requested. A resource that is not available as a file, for example because it is packaged
+     * in a JAR file, is copied to a temporary file, which is then mapped. The copy is made once per resource
+     * and shared by all suppliers of that resource.</p>
+     *
+     * @param anchor the class relative to which the resource is resolved
+     * @param name the name of the resource
+     * @param delimiter the character separating fields
+     * @return a supplier of the rows of the resource
+     * @throws NullPointerException if {@code anchor} or {@code name} is {@code null}
+     * @throws IllegalArgumentException if {@code delimiter} is not an ASCII character,
+     *                                  or is a double quote or line break character
+     */
+    public static DelimitedFileDataSupplier ofResource(Class<?> anchor, String name, char delimiter) {
+        Objects.requireNonNull(anchor, "Anchor class cannot be null");
+        Objects.requireNonNull(name, "Resource name cannot be null");
+        return new DelimitedFileDataSupplier(null, anchor, name, requireValidDelimiter(delimiter), false, DEFAULT_MAPPING_SIZE);
+    }
+
+    /**
+     * Returns a supplier that skips the first row, which holds column headers.
+     *
+     * @return a supplier with the same source and settings that skips the first row
+     */
+    public DelimitedFileDataSupplier skippingHeader() {
+        return new DelimitedFileDataSupplier(path, anchor, resourceName, delimiter, true, mappingSize);
+    }
+
+    /**
+     * Returns a supplier that maps the given number of bytes at a time.
+     *
+     * <p>Rows longer than the mapping size are supported by mapping larger regions as needed.</p>
+     *
+     * @param mappingSize the number of bytes mapped at a time
+     * @return a supplier with the same source and settings that maps the given number of bytes at a time
+     * @throws IllegalArgumentException if {@code mappingSize} is not positive
+     */
+    public DelimitedFileDataSupplier withMappingSize(int mappingSize) {
+        if (mappingSize <= 0) {
+            throw new IllegalArgumentException("Mapping size must be positive: " + mappingSize);
+        }
+
+        return new DelimitedFileDataSupplier(path, anchor, resourceName, delimiter, skipHeader, mappingSize);
+    }
+
+    /**
+     * Returns a stream of the rows of the file, each row being an array of its fields.
+     *
+     * <p>The file is opened when this method is called and closed when the returned stream is closed.</p>
+     *
+     * @return a sequential stream of rows
+     * @throws UncheckedIOException if the file cannot be opened; while traversing the stream,
+     *                              if the file cannot be read or is malformed
+     */
+    @Override
+    public Stream<String[]> stream() {
+        try {
+            DelimitedRowIterator rows = new DelimitedRowIterator(resolvePath(), (byte) delimiter, mappingSize, skipHeader);
+            Spliterator<String[]> spliterator = Spliterators.spliteratorUnknownSize(
+                    rows, Spliterator.ORDERED | Spliterator.NONNULL
+            );
+
+            return StreamSupport.stream(spliterator, false).onClose(() -> {
+                try {
+                    rows.close();
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            });
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * Resolves the path of the file to parse.
+     *
+     * @return the path of the file or of the resource
+     * @throws IOException if the resource cannot be found or copied
+     */
+    private Path resolvePath() throws IOException {
+        if (path != null) {
+            return path;
+        }
+
+        URL url = anchor.getResource(resourceName);
+        if (url == null) {
+            throw new FileNotFoundException("Resource not found: " + resourceName);
+        }
+
+        if ("file".equals(url.getProtocol())) {
+            try {
+                return Path.of(url.toURI());
+            } catch (URISyntaxException e) {
+                throw new IOException("Invalid resource location: " + url, e);
+            }
+        }
+
+        try {
+            return EXTRACTED_RESOURCES.computeIfAbsent(url.toExternalForm(), key -> {
+                try {
+                    return extract(url);
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            });
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
+        }
+    }
+
+    /**
+     * Copies the given resource to a temporary file deleted when the virtual machine exits.
+     *
+     * @param url the location of the resource
+     * @return the path of the copy
+     * @throws IOException if the resource cannot be copied
+     */
+    private static Path extract(URL url) throws IOException {
+        Path copy = Files.createTempFile("derivora-", ".data");
+        copy.toFile().deleteOnExit();
+        try (InputStream content = url.openStream()) {
+            Files.copy(content, copy, StandardCopyOption.REPLACE_EXISTING);
+        }
+
+        return copy;
+    }
+
+    /**
+     * Ensures that the given character can be used as a field delimiter.
+     *
+     * @param delimiter the character to check
+     * @return the given delimiter
+     * @throws IllegalArgumentException if {@code delimiter} is not an ASCII character,
+     *                                  or is a double quote or line break character
+     */
+    private static char requireValidDelimiter(char delimiter) {
+        if (delimiter > 0x7F || delimiter == '"' || delimiter == '\n' || delimiter == '\r') {
+            throw new IllegalArgumentException("Invalid delimiter: " + (int) delimiter);
+        }
+
+        return delimiter;
+    }
+}
@@ -0,0 +1,438 @@
+/*
+ * This file is part of Derivora Testing Data Support.
+ *
+ * Derivora Testing Data Support is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Derivora Testing Data Support is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with Derivora Testing Data Support. If not, see https://www.gnu.org/licenses/lgpl-3.0.html.
+ */
+
+package xyz.derivora.testing.data.support.supplier.file;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+
+/**
+ * An iterator parsing the rows of a UTF-8 encoded delimited file through memory-mapped windows.
+ *
+ * <p>The file is mapped one window at a time. Each row is parsed directly from the mapped bytes, and only
+ * its fields are decoded into strings. When a row crosses the end of the current window, a new window is
+ * mapped starting at that row. If a single row does not fit into a window, the window size is doubled.</p>
+ */
+final class DelimitedRowIterator implements Iterator<String[]>, Closeable {
+
+    /**
+     * The byte enclosing quoted fields.
+     */
+    private static final byte QUOTE = '"';
+
+    /**
+     * The largest window size that can be mapped at once.
+     */
+    private static final int MAX_WINDOW_SIZE = Integer.MAX_VALUE - 8;
+
+    /**
+     * An empty row, used to signal a row that crosses the end of the current window.
+     */
+    private static final String[] INCOMPLETE = new String[0];
+
+    /**
+     * The channel of the file being parsed.
+     */
+    private final FileChannel channel;
+
+    /**
+     * The size of the file being parsed.
+     */
+    private final long size;
+
+    /**
+     * The byte separating fields.
+     */
+    private final byte delimiter;
+
+    /**
+     * The number of bytes mapped at a time, unless a single row requires more.
+     */
+    private int windowSize;
+
+    /**
+     * The currently mapped window of the file.
+     */
+    private MappedByteBuffer window;
+
+    /**
+     * The offset in the file at which the current window starts.
+     */
+    private long windowStart;
+
+    /**
+     * The offset in the file at which the next row starts.
+     */
+    private long position;
+
+    /**
+     * The next row, or {@code null} if it has not been parsed yet.
+     */
+    private String[] next;
+
+    /**
+     * A reusable buffer receiving the bytes of a field before decoding.
+     */
+    private byte[] fieldBytes = new byte[64];
+
+    /**
+     * The number of bytes of the last parsed field in {@link #fieldBytes}.
+     */
+    private int fieldLength;
+
+    /**
+     * Opens the given file and constructs a {@code DelimitedRowIterator} over its rows.
+     *
+     * @param path the file to parse
+     * @param delimiter the byte separating fields
+     * @param windowSize the number of bytes mapped at a time
+     * @param skipHeader whether the first row is skipped
+     * @throws IOException if the file cannot be opened or mapped
+     */
+    DelimitedRowIterator(Path path, byte delimiter, int windowSize, boolean skipHeader) throws IOException {
+        this.channel = FileChannel.open(path, StandardOpenOption.READ);
+        this.delimiter = delimiter;
+        this.windowSize = windowSize;
+
+        try {
+            this.size = channel.size();
+            map(0);
+
+            if (skipHeader && hasNext()) {
+                next = null;
+            }
+        } catch (IOException | RuntimeException e) {
+            channel.close();
+            throw e;
+        }
+    }
+
+    /**
+     * Returns whether another row is available, parsing it if necessary.
+     *
+     * @return {@code true} if another row is available
+     * @throws UncheckedIOException if the file cannot be read or is malformed
+     */
+    @Override
+    public boolean hasNext() {
+        if (next == null) {
+            next = parseRow();
+        }
+
+        return next != null;
+    }
+
+    /**
+     * Returns the next row.
+     *
+     * @return the fields of the next row
+     * @throws NoSuchElementException if no more rows are available
+     * @throws UncheckedIOException if the file cannot be read or is malformed
+     */
+    @Override
+    public String[] next() {
+        if (!hasNext()) {
+            throw new NoSuchElementException();
+        }
+
+        String[] row = next;
+        next = null;
+        return row;
+    }
+
+    /**
+     * Closes the channel of the file being parsed.
+     *
+     * @throws IOException if the channel cannot be closed
+     */
+    @Override
+    public void close() throws IOException {
+        channel.close();
+    }
+
+    /**
+     * Parses the row starting at the current position, mapping further windows as needed.
+     *
+     * <p>Empty lines are skipped.</p>
+     *
+     * @return the fields of the parsed row, or {@code null} if the end of the file has been reached
+     */
+    private String[] parseRow() {
+        try {
+            while (position < size) {
+                String[] row = parseRowInWindow();
+
+                if (row == INCOMPLETE) {
+                    remap();
+                } else if (row != null) {
+                    return row;
+                }
+            }
+
+            return null;
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * Parses the row starting at the current position within the current window.
+     *
+     * @return the fields of the parsed row, {@code null} if an empty line was skipped,
+     *         or {@link #INCOMPLETE} if the row crosses the end of the window
+     * @throws IOException if the row is malformed
+     */
+    private String[] parseRowInWindow() throws IOException {
+        int limit = window.limit();
+        boolean lastWindow = windowStart + limit == size;
+        int index = (int) (position - windowStart);
+
+        int lineEnd = skipLineBreak(index, limit, lastWindow);
+        if (lineEnd < 0) {
+            return INCOMPLETE;
+        }
+        if (lineEnd > index) {
+            position = windowStart + lineEnd;
+            return null;
+        }
+
+        List<String> fields = new ArrayList<>();
+        while (true) {
+            int fieldEnd = window.get(index) == QUOTE
+                    ? parseQuotedField(index, limit, lastWindow)
+                    : parseField(index, limit, lastWindow);
+            if (fieldEnd < 0) {
+                return INCOMPLETE;
+            }
+
+            fields.add(decodeField());
+            index = fieldEnd;
+
+            if (index == limit) {
+                break;
+            }
+
+            byte current = window.get(index);
+            if (current == delimiter) {
+                index++;
+                if (index == limit && lastWindow) {
+                    fields.add("");
+                    break;
+                }
+                if (index == limit) {
+                    return INCOMPLETE;
+                }
+                continue;
+            }
+
+            index = skipLineBreak(index, limit, lastWindow);
+            if (index < 0) {
+                return INCOMPLETE;
+            }
+            break;
+        }
+
+        position = windowStart + index;
+        return fields.toArray(String[]::new);
+    }
+
+    /**
+     * Copies the bytes of an unquoted field starting at the given index into {@link #fieldBytes}.
+     *
+     * @param index the index in the window at which the field starts
+     * @param limit the limit of the window
+     * @param lastWindow whether the window extends to the end of the file
+     * @return the index following the field, or {@code -1} if the field crosses the end of the window
+     */
+    private int parseField(int index, int limit, boolean lastWindow) {
+        int end = index;
+        while (end < limit && !isFieldEnd(window.get(end))) {
+            end++;
+        }
+
+        if (end == limit && !lastWindow) {
+            return -1;
+        }
+
+        fieldLength = end - index;
+        ensureFieldCapacity(fieldLength);
+        window.get(index, fieldBytes, 0, fieldLength);
+        return end;
+    }
+
+    /**
+     * Copies the unescaped bytes of a quoted field starting at the given index into {@link #fieldBytes}.
+     *
+     * @param index the index in the window of the opening quote
+     * @param limit the limit of the window
+     * @param lastWindow whether the window extends to the end of the file
+     * @return the index following the closing quote, or {@code -1} if the field crosses the end of the window
+     * @throws IOException if the field is not terminated or is followed by unexpected content
+     */
+    private int parseQuotedField(int index, int limit, boolean lastWindow) throws IOException {
+        int length = 0;
+        int current = index + 1;
+
+        while (true) {
+            if (current == limit) {
+                if (lastWindow) {
+                    throw malformed("Unterminated quoted field", index);
+                }
+                return -1;
+            }
+
+            byte value = window.get(current);
+            if (value == QUOTE) {
+                if (current + 1 == limit && !lastWindow) {
+                    return -1;
+                }
+                if (current + 1 < limit && window.get(current + 1) == QUOTE) {
+                    ensureFieldCapacity(length + 1);
+                    fieldBytes[length++] = QUOTE;
+                    current += 2;
+                    continue;
+                }
+
+                current++;
+                break;
+            }
+
+            ensureFieldCapacity(length + 1);
+            fieldBytes[length++] = value;
+            current++;
+        }
+
+        if (current == limit && !lastWindow) {
+            return -1;
+        }
+        if (current < limit && !isFieldEnd(window.get(current))) {
+            throw malformed("Unexpected content after quoted field", current);
+        }
+
+        fieldLength = length;
+        return current;
+    }
+
+    /**
+     * Decodes the last parsed field.
+     *
+     * @return the field as a string
+     */
+    private String decodeField() {
+        return new String(fieldBytes, 0, fieldLength, StandardCharsets.UTF_8);
+    }
+
+    /**
+     * Skips a line break starting at the given index.
+     *
+     * @param index the index in the window at which a line break may start
+     * @param limit the limit of the window
+     * @param lastWindow whether the window extends to the end of the file
+     * @return the index following the line break, {@code index} if there is none,
+     *         or {@code -1} if the line break crosses the end of the window
+     */
+    private int skipLineBreak(int index, int limit, boolean lastWindow) {
+        if (index == limit) {
+            return lastWindow ? index : -1;
+        }
+
+        byte value = window.get(index);
+        if (value == '\n') {
+            return index + 1;
+        }
+        if (value != '\r') {
+            return index;
+        }
+        if (index + 1 == limit) {
+            return lastWindow ? index + 1 : -1;
+        }
+
+        return window.get(index + 1) == '\n' ? index + 2 : index + 1;
+    }
+
+    /**
+     * Returns whether the given byte terminates an unquoted field.
+     *
+     * @param value the byte to check
+     * @return {@code true} if the byte is the delimiter or starts a line break
+     */
+    private boolean isFieldEnd(byte value) {
+        return value == delimiter || value == '\n' || value == '\r';
+    }
+
+    /**
+     * Grows {@link #fieldBytes} so that it can hold at least the given number of bytes.
+     *
+     * @param capacity the required capacity
+     */
+    private void ensureFieldCapacity(int capacity) {
+        if (capacity > fieldBytes.length) {
+            fieldBytes = Arrays.copyOf(fieldBytes, Math.max(capacity, fieldBytes.length * 2));
+        }
+    }
+
+    /**
+     * Maps a new window starting at the current position, doubling the window size
+     * if the current window already starts there.
+     *
+     * @throws IOException if the window cannot be mapped or a single row exceeds the largest window size
+     */
+    private void remap() throws IOException {
+        if (windowStart == position) {
+            if (windowSize == MAX_WINDOW_SIZE) {
+                throw malformed("Row exceeds " + MAX_WINDOW_SIZE + " bytes", 0);
+            }
+            windowSize = (int) Math.min((long) windowSize * 2, MAX_WINDOW_SIZE);
+        }
+
+        map(position);
+    }
+
+    /**
+     * Maps the window starting at the given offset.
+     *
+     * @param start the offset in the file at which the window starts
+     * @throws IOException if the window cannot be mapped
+     */
+    private void map(long start) throws IOException {
+        long length = Math.min(windowSize, size - start);
+        window = channel.map(FileChannel.MapMode.READ_ONLY, start, length);
+        windowStart = start;
+    }
+
+    /**
+     * Creates an exception describing malformed content.
+     *
+     * @param message the description of the problem
+     * @param index the index in the window at which the problem was detected
+     * @return an {@code IOException} indicating malformed content
+     */
+    private IOException malformed(String message, int index) {
+        return new IOException(message + " at byte offset " + (windowStart + index));
+    }
+}
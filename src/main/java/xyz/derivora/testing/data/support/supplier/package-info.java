@@ -19,7 +19,20 @@
  * Provides interfaces for supplying structured data in array form.
  *
  * <p>This package contains the {@link xyz.derivora.testing.data.support.supplier.DataSupplier}
- * interface, which extends {@link java.util.function.Supplier} to supply arrays of data.</p>
+ * interface, which extends {@link java.util.function.Supplier} to supply arrays of data,
+ * and the {@link xyz.derivora.testing.data.support.supplier.StreamingDataSupplier} interface,
+ * which supplies data lazily as a {@link java.util.stream.Stream}. Its
+ * {@link xyz.derivora.testing.data.support.supplier.ChunkedDataSupplier} extension supplies data
+ * as a sequence of arrays produced on demand.</p>
+ *
+ * <p>The {@link xyz.derivora.testing.data.support.supplier.IntDataSupplier},
+ * {@link xyz.derivora.testing.data.support.supplier.LongDataSupplier} and
+ * {@link xyz.derivora.testing.data.support.supplier.DoubleDataSupplier} interfaces
+ * supply numeric data as primitive arrays without boxing.</p>
+ *
+ * <p>The {@link xyz.derivora.testing.data.support.supplier.AsyncDataSupplier} interface supplies arrays
+ * asynchronously as a {@link java.util.concurrent.CompletableFuture}, so that I/O-bound suppliers can be
+ * started together and awaited once.</p>
  *
  * <p>For resolving {@link xyz.derivora.testing.data.support.supplier.DataSupplier} instances from class references, see
  * the {@link xyz.derivora.testing.data.support.supplier.resolver} package.</p>
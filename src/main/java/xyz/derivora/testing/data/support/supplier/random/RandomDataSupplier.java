@@ -0,0 +1,272 @@
+/*
+ * This file is part of Derivora Testing Data Support.
+ *
+ * Derivora Testing Data Support is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Derivora Testing Data Support is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with Derivora Testing Data Support. If not, see https://www.gnu.org/licenses/lgpl-3.0.html.
+ */
+
+package xyz.derivora.testing.data.support.supplier.random;
+
+import xyz.derivora.testing.data.support.supplier.DataSupplier;
+import xyz.derivora.testing.data.support.supplier.StreamingDataSupplier;
+import xyz.derivora.utilkit.arrays.ArrayGenerator;
+
+import java.util.Arrays;
+import java.util.Objects;
+import java.util.SplittableRandom;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+/**
+ * A data supplier generating a fixed number of random rows reproducibly from a seed.
+ *
+ * <p>Each row is generated from its own {@link SplittableRandom}, seeded from the seed of the supplier and
+ * the index of the row. A row therefore depends only on the seed and its index: it can be reproduced on its
+ * own through {@link #row(int)}, rows can be generated in any order or on any number of threads, and the
+ * same seed always yields the same data.</p>
+ *
+ * <p>As both a {@link DataSupplier} and a {@link StreamingDataSupplier}, a {@code RandomDataSupplier} can be
+ * used with array-based providers such as
+ * {@link xyz.derivora.testing.data.support.provider.DirectDataProvider}, where {@link #get()} generates all
+ * rows at once, optionally in parallel, and with streaming providers, where {@link #stream()} generates rows
+ * lazily as they are consumed.</p>
+ *
+ * <p>Suppliers referenced by class, such as those named in the annotations of a provider, are declared by
+ * extending this class and passing the settings to one of the {@linkplain #RandomDataSupplier(long, int,
+ * ArrayGenerator, RowGenerator, boolean) protected constructors}. If the single public constructor of such a subclass takes the seed
+ * as a {@code long} parameter, a resolver obtained through
+ * {@link xyz.derivora.testing.data.support.supplier.resolver.DataSupplierResolver#getInstance(ArrayGenerator,
+ * xyz.derivora.testing.data.support.supplier.resolver.SupplierScope, Object...)} with a {@code Long} injectable
+ * value creates it with that seed, so that every supplier of a run shares the same seed.</p>
+ *
+ * <p>Instances of this class are immutable. Configuration methods return a new supplier, which is always
+ * a plain {@code RandomDataSupplier} with the settings of the original supplier.</p>
+ *
+ * @param <T> the type of generated rows
+ */
+public class RandomDataSupplier<T> implements DataSupplier<T>, StreamingDataSupplier<T> {
+
+    /**
+     * The odd constant spacing the seeds of consecutive rows, as used by {@link SplittableRandom}.
+     */
+    private static final long GOLDEN_GAMMA = 0x9E3779B97F4A7C15L;
+
+    /**
+     * The seed from which all rows are generated.
+     */
+    private final long seed;
+
+    /**
+     * The number of generated rows.
+     */
+    private final int size;
+
+    /**
+     * Generates arrays for storing the rows.
+     */
+    private final ArrayGenerator<T> arrayGenerator;
+
+    /**
+     * Generates a row from its random generator and index.
+     */
+    private final RowGenerator<T> rowGenerator;
+
+    /**
+     * Whether {@link #get()} generates rows on multiple threads.
+     */
+    private final boolean parallel;
+
+    /**
+     * Constructs a {@code RandomDataSupplier} generating the given number of rows sequentially from the given seed.
+     *
+     * @param seed the seed from which all rows are generated
+     * @param size the number of generated rows
+     * @param arrayGenerator the generator used to create arrays of rows
+     * @param rowGenerator the generator of each row, given a random generator dedicated to the row and its index
+     * @throws IllegalArgumentException if {@code size} is negative
+     * @throws NullPointerException if {@code arrayGenerator} or {@code rowGenerator} is {@code null}
+     */
+    protected RandomDataSupplier(long seed, int size, ArrayGenerator<T> arrayGenerator, RowGenerator<T> rowGenerator) {
+        this(seed, size, arrayGenerator, rowGenerator, false);
+    }
+
+    /**
+     * Constructs a {@code RandomDataSupplier} generating the given number of rows from the given seed,
+     * sequentially or in parallel.
+     *
+     * @param seed the seed from which all rows are generated
+     * @param size the number of generated rows
+     * @param arrayGenerator the generator used to create arrays of rows
+     * @param rowGenerator the generator of each row, given a random generator dedicated to the row and its index
+     * @param parallel whether {@link #get()} generates rows on multiple threads
+     * @throws IllegalArgumentException if {@code size} is negative
+     * @throws NullPointerException if {@code arrayGenerator} or {@code rowGenerator} is {@code null}
+     * @see #parallel()
+     */
+    protected RandomDataSupplier(long seed, int size, ArrayGenerator<T> arrayGenerator,
+                                 RowGenerator<T> rowGenerator, boolean parallel) {
+        if (size < 0) {
+            throw new IllegalArgumentException("Size cannot be negative: " + size);
+        }
+
+        this.seed = seed;
+        this.size = size;
+        this.arrayGenerator = Objects.requireNonNull(arrayGenerator, "Array generator cannot be null");
+        this.rowGenerator = Objects.requireNonNull(rowGenerator, "Row generator cannot be null");
+        this.parallel = parallel;
+    }
+
+    /**
+     * Creates a {@code RandomDataSupplier} generating the given number of rows from the given seed.
+     *
+     * @param seed the seed from which all rows are generated
+     * @param size the number of generated rows
+     * @param arrayGenerator the generator used to create arrays of rows
+     * @param rowGenerator the generator of each row, given a random generator dedicated to the row and its index
+     * @param <T> the type of generated rows
+     * @return a supplier generating rows sequentially
+     * @throws IllegalArgumentException if {@code size} is negative
+     * @throws NullPointerException if {@code arrayGenerator} or {@code rowGenerator} is {@code null}
+     */
+    public static <T> RandomDataSupplier<T> of(long seed, int size, ArrayGenerator<T> arrayGenerator,
+                                               RowGenerator<T> rowGenerator) {
+        return new RandomDataSupplier<>(seed, size, arrayGenerator, rowGenerator);
+    }
+
+    /**
+     * Returns a supplier whose {@link #get()} method generates rows on multiple threads.
+     *
+     * <p>Rows are generated on the {@link java.util.concurrent.ForkJoinPool#commonPool() common pool}.
+     * The generated data is the same as with sequential generation, provided the row generator only
+     * depends on its arguments.</p>
+     *
+     * @return a supplier with the same settings that generates rows in parallel
+     */
+    public final RandomDataSupplier<T> parallel() {
+        return new RandomDataSupplier<>(seed, size, arrayGenerator, rowGenerator, true);
+    }
+
+    /**
+     * Returns a supplier generating rows from the given seed.
+     *
+     * @param seed the seed from which all rows are generated
+     * @return a supplier with the same settings and the given seed
+     */
+    public final RandomDataSupplier<T> withSeed(long seed) {
+        return new RandomDataSupplier<>(seed, size, arrayGenerator, rowGenerator, parallel);
+    }
+
+    /**
+     * Returns the seed from which all rows are generated.
+     *
+     * @return the seed
+     */
+    public final long seed() {
+        return seed;
+    }
+
+    /**
+     * Returns the number of generated rows.
+     *
+     * @return the number of rows
+     */
+    public final int size() {
+        return size;
+    }
+
+    /**
+     * Generates the row at the given index.
+     *
+     * <p>The row is the same as the element at the same index of the arrays and streams of this supplier.</p>
+     *
+     * @param index the index of the row
+     * @return the generated row
+     * @throws IndexOutOfBoundsException if {@code index} is negative or not less than the size
+     */
+    public final T row(int index) {
+        Objects.checkIndex(index, size);
+        return generate(index);
+    }
+
+    /**
+     * Generates all rows into a new array.
+     *
+     * @return an array of the generated rows
+     */
+    @Override
+    public final T[] get() {
+        T[] rows = arrayGenerator.generate(size);
+        if (parallel) {
+            Arrays.parallelSetAll(rows, this::generate);
+        } else {
+            Arrays.setAll(rows, this::generate);
+        }
+
+        return rows;
+    }
+
+    /**
+     * Returns a new stream generating the rows lazily, in order.
+     *
+     * @return a stream of the generated rows
+     */
+    @Override
+    public final Stream<T> stream() {
+        return IntStream.range(0, size)
+                        .mapToObj(this::generate);
+    }
+
+    /**
+     * Generates the row at the given valid index.
+     *
+     * @param index the index of the row
+     * @return the generated row
+     */
+    private T generate(int index) {
+        return rowGenerator.generate(randomOf(index), index);
+    }
+
+    /**
+     * Creates the random generator dedicated to the row at the given index.
+     *
+     * <p>The seed of the row is obtained by scrambling the seed of the supplier advanced by the index,
+     * so that the generators of different rows are statistically independent.</p>
+     *
+     * @param index the index of the row
+     * @return a random generator depending only on the seed of the supplier and the index
+     */
+    private SplittableRandom randomOf(int index) {
+        long z = seed + GOLDEN_GAMMA * (index + 1L);
+        z = (z ^ (z >>> 30)) * 0xBF58476D1CE4E5B9L;
+        z = (z ^ (z >>> 27)) * 0x94D049BB133111EBL;
+        return new SplittableRandom(z ^ (z >>> 31));
+    }
+
+    /**
+     * Generates a row from its dedicated random generator.
+     *
+     * @param <T> the type of generated rows
+     */
+    @FunctionalInterface
+    public interface RowGenerator<T> {
+
+        /**
+         * Generates the row at the given index.
+         *
+         * @param random the random generator dedicated to the row
+         * @param index the index of the row
+         * @return the generated row
+         */
+        T generate(SplittableRandom random, int index);
+    }
+}
@@ -0,0 +1,25 @@
+/*
+ * This file is part of Derivora Testing Data Support.
+ *
+ * Derivora Testing Data Support is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Derivora Testing Data Support is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with Derivora Testing Data Support. If not, see https://www.gnu.org/licenses/lgpl-3.0.html.
+ */
+
+/**
+ * Provides data suppliers generating random data.
+ *
+ * <p>The {@link xyz.derivora.testing.data.support.supplier.random.RandomDataSupplier} generates rows from
+ * a seed through {@link java.util.SplittableRandom}, so that datasets can be generated in parallel and any
+ * single row can be reproduced from the seed and its index.</p>
+ */
+package xyz.derivora.testing.data.support.supplier.random;
@@ -17,6 +17,8 @@
 
 package xyz.derivora.testing.data.support.supplier.resolver;
 
+import org.junit.jupiter.api.extension.ExtensionContext;
+import xyz.derivora.testing.data.support.jfr.SupplierResolutionEvent;
 import xyz.derivora.testing.data.support.supplier.DataSupplier;
 import xyz.derivora.utilkit.arrays.ArrayGenerator;
 
@@ -29,7 +31,8 @@ import java.util.Objects;
  * and managing their instantiation using a specified {@link ArrayGenerator}.</p>
  *
  * <p>Subclasses must implement the {@link #resolve(Class)} method to define how individual
- * {@link DataSupplier} instances are created.</p>
+ * {@link DataSupplier} instances are created. Subclasses that depend on the test being executed
+ * may additionally override {@link #resolve(ExtensionContext, Class)}.</p>
  *
  * @param <T> the type of elements supplied by the resolved {@link DataSupplier} instances
  */
@@ -69,7 +72,71 @@ public abstract class AbstractDataSupplierResolver<T> implements DataSupplierRes
      */
     @Override
     @SafeVarargs
+    @SuppressWarnings("varargs")
     public final DataSupplier<T>[] resolve(Class<? extends DataSupplier<T>>... supplierClasses) throws Exception {
+        return resolveAll(null, supplierClasses);
+    }
+
+    /**
+     * Resolves an array of {@link DataSupplier} instances from the provided class references
+     * within the given JUnit {@link ExtensionContext}.
+     *
+     * <p>If no classes are provided, an empty array is returned.</p>
+     *
+     * <p>Neither {@code context}, {@code supplierClasses} nor its elements can be {@code null}.
+     * A {@link NullPointerException} will be thrown if any of them is {@code null}.</p>
+     *
+     * @param context the JUnit {@link ExtensionContext} in which the suppliers are resolved
+     * @param supplierClasses the classes of the {@link DataSupplier} implementations to be instantiated
+     * @return an array of resolved {@link DataSupplier} instances
+     * @throws NullPointerException if {@code context} or {@code supplierClasses} is {@code null},
+     *         or if {@code supplierClasses} contains {@code null} elements
+     * @throws Exception if instantiation fails due to an invalid class definition or a reflection error
+     */
+    @Override
+    @SafeVarargs
+    @SuppressWarnings("varargs")
+    public final DataSupplier<T>[] resolve(ExtensionContext context,
+                                           Class<? extends DataSupplier<T>>... supplierClasses) throws Exception {
+        Objects.requireNonNull(context, "Extension context cannot be null");
+        return resolveAll(context, supplierClasses);
+    }
+
+    /**
+     * Resolves a {@link DataSupplier} instance from the given class reference.
+     *
+     * @param supplierClass the {@link DataSupplier} implementation class to instantiate
+     * @return an instance of the specified {@link DataSupplier} class
+     * @throws Exception if instantiation fails due to an invalid class definition or a reflection error
+     */
+    protected abstract DataSupplier<T> resolve(Class<? extends DataSupplier<T>> supplierClass) throws Exception;
+
+    /**
+     * Resolves a {@link DataSupplier} instance from the given class reference within the given extension context.
+     *
+     * <p>By default, the context is ignored and resolution is delegated to {@link #resolve(Class)}.</p>
+     *
+     * @param context the JUnit {@link ExtensionContext} in which the supplier is resolved
+     * @param supplierClass the {@link DataSupplier} implementation class to instantiate
+     * @return an instance of the specified {@link DataSupplier} class
+     * @throws Exception if instantiation fails due to an invalid class definition or a reflection error
+     */
+    protected DataSupplier<T> resolve(ExtensionContext context,
+                                      Class<? extends DataSupplier<T>> supplierClass) throws Exception {
+        return resolve(supplierClass);
+    }
+
+    /**
+     * Resolves all given supplier classes, optionally within an extension context.
+     *
+     * @param context the JUnit {@link ExtensionContext} in which the suppliers are resolved, or {@code null} if none
+     * @param supplierClasses the classes of the {@link DataSupplier} implementations to be instantiated
+     * @return an array of resolved {@link DataSupplier} instances
+     * @throws NullPointerException if {@code supplierClasses} is {@code null} or contains {@code null} elements
+     * @throws Exception if instantiation fails due to an invalid class definition or a reflection error
+     */
+    private DataSupplier<T>[] resolveAll(ExtensionContext context,
+                                         Class<? extends DataSupplier<T>>[] supplierClasses) throws Exception {
         Objects.requireNonNull(supplierClasses, "Supplier classes array cannot be null");
 
         if (supplierClasses.length == 0) {
@@ -80,18 +147,18 @@ public abstract class AbstractDataSupplierResolver<T> implements DataSupplierRes
         for (int i = 0; i < suppliers.length; i++) {
             Class<? extends DataSupplier<T>> supplierClass = Objects.requireNonNull(supplierClasses[i],
                                                                                     "Supplier class cannot be null");
-            suppliers[i] = resolve(supplierClass);
+            SupplierResolutionEvent event = new SupplierResolutionEvent();
+            event.begin();
+
+            suppliers[i] = context == null ? resolve(supplierClass) : resolve(context, supplierClass);
+
+            if (event.shouldCommit()) {
+                event.supplierClass = supplierClass;
+                event.resolverClass = getClass();
+                event.commit();
+            }
         }
 
         return suppliers;
     }
-
-    /**
-     * Resolves a {@link DataSupplier} instance from the given class reference.
-     *
-     * @param supplierClass the {@link DataSupplier} implementation class to instantiate
-     * @return an instance of the specified {@link DataSupplier} class
-     * @throws Exception if instantiation fails due to an invalid class definition or a reflection error
-     */
-    protected abstract DataSupplier<T> resolve(Class<? extends DataSupplier<T>> supplierClass) throws Exception;
 }
@@ -0,0 +1,333 @@
+/*
+ * This file is part of Derivora Testing Data Support.
+ *
+ * Derivora Testing Data Support is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Derivora Testing Data Support is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with Derivora Testing Data Support. If not, see https://www.gnu.org/licenses/lgpl-3.0.html.
+ */
+
+package xyz.derivora.testing.data.support.supplier.resolver;
+
+import org.junit.jupiter.api.extension.ExtensionContext;
+import xyz.derivora.testing.data.support.context.ExtensionContexts;
+import xyz.derivora.testing.data.support.supplier.DataSupplier;
+import xyz.derivora.utilkit.arrays.ArrayGenerator;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Modifier;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * A {@link DataSupplierResolver} implementation that caches supplier factories and shares
+ * supplier instances according to a {@link SupplierScope}.
+ *
+ * <p>For each supplier class, a constructor is selected and converted into a {@link MethodHandle}
+ * only once, and the handle is reused for the lifetime of the class. If the class declares exactly
+ * one public constructor, that constructor is used; otherwise, the no-argument constructor is used.</p>
+ *
+ * <p>Constructor parameters are injected by type. A parameter of type {@link ExtensionContext}
+ * receives the context matching the configured scope: the context of the resolution for
+ * {@link SupplierScope#INVOCATION}, the context of the test class for {@link SupplierScope#TEST_CLASS}
+ * and the root context for {@link SupplierScope#RUN}. Any other parameter receives the first
+ * injectable value assignable to its type.</p>
+ *
+ * <p>Shared instances belong to the resolver that created them, so that resolvers configured with
+ * different injectable values never share instances. Instances of {@link SupplierScope#RUN} are held
+ * in the store of the root context, and thus released when the test run ends, if resolved within an
+ * extension context; otherwise, they are held by the resolver itself.</p>
+ *
+ * <p>Instances of this resolver are typically obtained through
+ * {@link DataSupplierResolver#getInstance(ArrayGenerator, SupplierScope, Object...)}.</p>
+ *
+ * @param <T> the type of elements supplied by the resolved {@link DataSupplier} instances
+ */
+final class CachingDataSupplierResolver<T> extends AbstractDataSupplierResolver<T> {
+
+    /**
+     * Caches the factories of supplier classes without preventing the classes from being unloaded.
+     */
+    private static final ClassValue<SupplierFactory> FACTORIES = new ClassValue<>() {
+        @Override
+        protected SupplierFactory computeValue(Class<?> type) {
+            return new SupplierFactory(type);
+        }
+    };
+
+    /**
+     * The namespace under which test class and run scoped instances are stored.
+     */
+    private static final ExtensionContext.Namespace NAMESPACE =
+            ExtensionContext.Namespace.create(CachingDataSupplierResolver.class);
+
+    /**
+     * Defines how long resolved supplier instances are reused.
+     */
+    private final SupplierScope scope;
+
+    /**
+     * The values available for injection into supplier constructors.
+     */
+    private final Object[] injectables;
+
+    /**
+     * The instances shared for {@link SupplierScope#RUN} that were resolved without an extension context.
+     */
+    private final Map<Class<?>, Object> runInstances = new ConcurrentHashMap<>();
+
+    /**
+     * Constructs a {@code CachingDataSupplierResolver} with the specified array generator, scope and injectable values.
+     *
+     * @param arrayGenerator the generator used to create arrays for resolved suppliers
+     * @param scope the scope in which resolved supplier instances are shared
+     * @param injectables the values available for injection into supplier constructors
+     * @throws NullPointerException if {@code arrayGenerator}, {@code scope} or {@code injectables} is {@code null},
+     *         or if {@code injectables} contains {@code null} elements
+     */
+    CachingDataSupplierResolver(ArrayGenerator<DataSupplier<T>> arrayGenerator, SupplierScope scope,
+                                Object... injectables) {
+        super(arrayGenerator);
+        this.scope = Objects.requireNonNull(scope, "Supplier scope cannot be null");
+        this.injectables = Objects.requireNonNull(injectables, "Injectables array cannot be null").clone();
+
+        for (int i = 0; i < this.injectables.length; i++) {
+            Objects.requireNonNull(this.injectables[i], "Injectable at index " + i + " cannot be null");
+        }
+    }
+
+    /**
+     * Resolves a {@link DataSupplier} instance from the given class reference without an extension context.
+     *
+     * @param supplierClass the {@link DataSupplier} implementation class to instantiate
+     * @return an instance of the specified {@link DataSupplier} class
+     * @throws IllegalStateException        if the resolver is configured with {@link SupplierScope#TEST_CLASS}
+     * @throws IllegalArgumentException     if the class lacks a suitable constructor
+     *                                      or a constructor parameter cannot be injected
+     * @throws ReflectiveOperationException if instantiation fails due to reflection-related issues
+     */
+    @Override
+    protected DataSupplier<T> resolve(Class<? extends DataSupplier<T>> supplierClass) throws ReflectiveOperationException {
+        if (scope == SupplierScope.TEST_CLASS) {
+            throw new IllegalStateException("Supplier scope " + scope + " requires an extension context");
+        }
+
+        SupplierFactory factory = FACTORIES.get(supplierClass);
+        if (scope == SupplierScope.RUN) {
+            synchronized (factory) {
+                Object instance = runInstances.get(supplierClass);
+                if (instance == null) {
+                    instance = factory.newInstance(null, injectables);
+                    runInstances.put(supplierClass, instance);
+                }
+
+                return cast(instance);
+            }
+        }
+
+        return cast(factory.newInstance(null, injectables));
+    }
+
+    /**
+     * Resolves a {@link DataSupplier} instance from the given class reference within the given extension context.
+     *
+     * @param context the JUnit {@link ExtensionContext} in which the supplier is resolved
+     * @param supplierClass the {@link DataSupplier} implementation class to instantiate
+     * @return an instance of the specified {@link DataSupplier} class
+     * @throws IllegalArgumentException     if the class lacks a suitable constructor
+     *                                      or a constructor parameter cannot be injected
+     * @throws ReflectiveOperationException if instantiation fails due to reflection-related issues
+     */
+    @Override
+    protected DataSupplier<T> resolve(ExtensionContext context,
+                                      Class<? extends DataSupplier<T>> supplierClass) throws ReflectiveOperationException {
+        SupplierFactory factory = FACTORIES.get(supplierClass);
+        ExtensionContext scopeContext = switch (scope) {
+            case INVOCATION -> null;
+            case TEST_CLASS -> ExtensionContexts.resolveClassContext(context);
+            case RUN -> context.getRoot();
+        };
+
+        if (scopeContext == null) {
+            return cast(factory.newInstance(context, injectables));
+        }
+
+        ExtensionContext.Store store = scopeContext.getStore(NAMESPACE);
+        InstanceKey key = new InstanceKey(this, supplierClass);
+        synchronized (factory) {
+            Object instance = store.get(key);
+            if (instance == null) {
+                instance = factory.newInstance(scopeContext, injectables);
+                store.put(key, instance);
+            }
+
+            return cast(instance);
+        }
+    }
+
+    /**
+     * Casts an instance created by a {@link SupplierFactory} to a {@link DataSupplier}.
+     *
+     * @param instance the instance to cast
+     * @return the instance as a {@link DataSupplier}
+     */
+    @SuppressWarnings("unchecked")
+    private DataSupplier<T> cast(Object instance) {
+        return (DataSupplier<T>) instance;
+    }
+
+    /**
+     * The key under which a shared instance is stored.
+     *
+     * @param resolver the resolver that created the instance
+     * @param supplierClass the class of the instance
+     */
+    private record InstanceKey(CachingDataSupplierResolver<?> resolver, Class<?> supplierClass) {
+    }
+
+    /**
+     * Creates instances of a single supplier class through a cached constructor {@link MethodHandle}.
+     */
+    private static final class SupplierFactory {
+
+        /**
+         * The type of the handle invoked to create instances: all arguments are passed in a single array.
+         */
+        private static final MethodType FACTORY_TYPE = MethodType.methodType(Object.class, Object[].class);
+
+        /**
+         * The supplier class instantiated by this factory.
+         */
+        private final Class<?> type;
+
+        /**
+         * The parameter types of the selected constructor, or {@code null} if no constructor could be selected.
+         */
+        private final Class<?>[] parameterTypes;
+
+        /**
+         * The handle invoking the selected constructor, or {@code null} if no constructor could be selected.
+         */
+        private final MethodHandle handle;
+
+        /**
+         * The failure raised while selecting the constructor, or {@code null} if the selection succeeded.
+         */
+        private final Exception lookupFailure;
+
+        /**
+         * Selects a constructor of the given supplier class and creates a handle for it.
+         *
+         * @param type the supplier class
+         */
+        private SupplierFactory(Class<?> type) {
+            Class<?>[] parameterTypes = null;
+            MethodHandle handle = null;
+            Exception lookupFailure = null;
+            try {
+                if (Modifier.isAbstract(type.getModifiers())) {
+                    throw new InstantiationException(type.getName() + " is abstract");
+                }
+
+                Constructor<?> constructor = selectConstructor(type);
+                SupplierFactory.class.getModule().addReads(type.getModule());
+
+                parameterTypes = constructor.getParameterTypes();
+                handle = MethodHandles.lookup()
+                                      .unreflectConstructor(constructor)
+                                      .asSpreader(Object[].class, parameterTypes.length)
+                                      .asType(FACTORY_TYPE);
+            } catch (ReflectiveOperationException | SecurityException e) {
+                lookupFailure = e;
+            }
+
+            this.type = type;
+            this.parameterTypes = parameterTypes;
+            this.handle = handle;
+            this.lookupFailure = lookupFailure;
+        }
+
+        /**
+         * Creates a new instance of the supplier class.
+         *
+         * @param context the context to inject into {@link ExtensionContext} parameters, or {@code null} if none
+         * @param injectables the values available for injection into other parameters
+         * @return a new supplier instance
+         * @throws IllegalArgumentException     if the class lacks a suitable constructor
+         *                                      or a constructor parameter cannot be injected
+         * @throws ReflectiveOperationException if instantiation fails due to reflection-related issues
+         */
+        private Object newInstance(ExtensionContext context, Object[] injectables) throws ReflectiveOperationException {
+            if (lookupFailure instanceof NoSuchMethodException || lookupFailure instanceof SecurityException) {
+                throw new IllegalArgumentException("Cannot instantiate supplier: " + type.getName()
+                                                           + " - no accessible constructor found", lookupFailure);
+            }
+
+            if (lookupFailure != null) {
+                throw new ReflectiveOperationException("Failed to instantiate supplier: " + type.getName(), lookupFailure);
+            }
+
+            Object[] arguments = new Object[parameterTypes.length];
+            for (int i = 0; i < arguments.length; i++) {
+                arguments[i] = resolveArgument(parameterTypes[i], context, injectables);
+            }
+
+            try {
+                return (Object) handle.invokeExact(arguments);
+            } catch (Error e) {
+                throw e;
+            } catch (Throwable e) {
+                throw new ReflectiveOperationException("Failed to instantiate supplier: " + type.getName(), e);
+            }
+        }
+
+        /**
+         * Resolves the value injected into a constructor parameter of the given type.
+         *
+         * @param parameterType the type of the constructor parameter
+         * @param context the context to inject into {@link ExtensionContext} parameters, or {@code null} if none
+         * @param injectables the values available for injection into other parameters
+         * @return the value to inject
+         * @throws IllegalArgumentException if no value can be injected into the parameter
+         */
+        private Object resolveArgument(Class<?> parameterType, ExtensionContext context, Object[] injectables) {
+            if (parameterType == ExtensionContext.class && context != null) {
+                return context;
+            }
+
+            Class<?> wrapperType = MethodType.methodType(parameterType).wrap().returnType();
+            for (Object injectable : injectables) {
+                if (wrapperType.isInstance(injectable)) {
+                    return injectable;
+                }
+            }
+
+            throw new IllegalArgumentException("Cannot instantiate supplier: " + type.getName()
+                                                       + " - no injectable value of type " + parameterType.getName());
+        }
+
+        /**
+         * Selects the constructor used to instantiate the given supplier class.
+         *
+         * @param type the supplier class
+         * @return the single public constructor if there is exactly one, otherwise the no-argument constructor
+         * @throws NoSuchMethodException if no suitable constructor exists
+         */
+        private static Constructor<?> selectConstructor(Class<?> type) throws NoSuchMethodException {
+            Constructor<?>[] constructors = type.getConstructors();
+            return constructors.length == 1 ? constructors[0] : type.getDeclaredConstructor();
+        }
+    }
+}
@@ -17,6 +17,7 @@
 
 package xyz.derivora.testing.data.support.supplier.resolver;
 
+import org.junit.jupiter.api.extension.ExtensionContext;
 import xyz.derivora.testing.data.support.supplier.DataSupplier;
 import xyz.derivora.utilkit.arrays.ArrayGenerator;
 
@@ -27,7 +28,9 @@ import xyz.derivora.utilkit.arrays.ArrayGenerator;
  * {@link DataSupplier} based on their class definitions.</p>
  *
  * <p>By default, the {@link #getInstance(ArrayGenerator)} method returns a
- * resolver that uses reflection to instantiate suppliers.</p>
+ * resolver that uses reflection to instantiate suppliers. Resolvers that cache
+ * supplier constructors and share supplier instances can be obtained through
+ * {@link #getInstance(ArrayGenerator, SupplierScope)}.</p>
  *
  * @param <T> the type of elements supplied by the resolved {@link DataSupplier} instances
  */
@@ -40,8 +43,28 @@ public interface DataSupplierResolver<T> {
      * @return an array of resolved {@link DataSupplier} instances
      * @throws Exception if instantiation fails due to an invalid class definition or a reflection error
      */
+    @SuppressWarnings("unchecked")
     DataSupplier<T>[] resolve(Class<? extends DataSupplier<T>>... supplierClasses) throws Exception;
 
+    /**
+     * Resolves an array of {@link DataSupplier} instances from the provided class references
+     * within the given JUnit {@link ExtensionContext}.
+     *
+     * <p>The context allows implementations to tie the lifetime of resolved instances to the
+     * test being executed. By default, the context is ignored and resolution is delegated
+     * to {@link #resolve(Class[])}.</p>
+     *
+     * @param context the JUnit {@link ExtensionContext} in which the suppliers are resolved
+     * @param supplierClasses the classes of the {@link DataSupplier} implementations to be instantiated
+     * @return an array of resolved {@link DataSupplier} instances
+     * @throws Exception if instantiation fails due to an invalid class definition or a reflection error
+     */
+    @SuppressWarnings("unchecked")
+    default DataSupplier<T>[] resolve(ExtensionContext context,
+                                      Class<? extends DataSupplier<T>>... supplierClasses) throws Exception {
+        return resolve(supplierClasses);
+    }
+
     /**
      * Returns a default instance of {@code DataSupplierResolver} that uses reflection
      * to instantiate {@link DataSupplier} instances.
@@ -53,4 +76,48 @@ public interface DataSupplierResolver<T> {
     static <T> DataSupplierResolver<T> getInstance(ArrayGenerator<DataSupplier<T>> arrayGenerator) {
         return new ReflectiveDataSupplierResolver<>(arrayGenerator);
     }
+
+    /**
+     * Returns an instance of {@code DataSupplierResolver} that caches a constructor handle for each
+     * {@link DataSupplier} class and shares the created instances within the given scope.
+     *
+     * <p>This method is equivalent to {@link #getInstance(ArrayGenerator, SupplierScope, Object...)}
+     * without injectable values.</p>
+     *
+     * @param arrayGenerator the generator used to create arrays of {@link DataSupplier}
+     * @param scope the scope in which resolved supplier instances are shared
+     * @param <T> the type of elements supplied by the resolved instances
+     * @return a {@code DataSupplierResolver} implementation
+     * @throws NullPointerException if {@code arrayGenerator} or {@code scope} is {@code null}
+     */
+    static <T> DataSupplierResolver<T> getInstance(ArrayGenerator<DataSupplier<T>> arrayGenerator,
+                                                   SupplierScope scope) {
+        return new CachingDataSupplierResolver<>(arrayGenerator, scope);
+    }
+
+    /**
+     * Returns an instance of {@code DataSupplierResolver} that caches a constructor handle for each
+     * {@link DataSupplier} class, injects constructor parameters and shares the created instances
+     * within the given scope.
+     *
+     * <p>If a supplier class declares exactly one public constructor, it is used; otherwise, the
+     * no-argument constructor is used. Parameters of type {@link ExtensionContext} receive the context
+     * the supplier is resolved in, and any other parameter receives the first of the given injectable
+     * values assignable to its type, such as a shared random seed.</p>
+     *
+     * <p>With {@link SupplierScope#TEST_CLASS}, suppliers must be resolved through
+     * {@link #resolve(ExtensionContext, Class[])}.</p>
+     *
+     * @param arrayGenerator the generator used to create arrays of {@link DataSupplier}
+     * @param scope the scope in which resolved supplier instances are shared
+     * @param injectables the values available for injection into supplier constructors
+     * @param <T> the type of elements supplied by the resolved instances
+     * @return a {@code DataSupplierResolver} implementation
+     * @throws NullPointerException if {@code arrayGenerator}, {@code scope} or {@code injectables} is {@code null},
+     *         or if {@code injectables} contains {@code null} elements
+     */
+    static <T> DataSupplierResolver<T> getInstance(ArrayGenerator<DataSupplier<T>> arrayGenerator,
+                                                   SupplierScope scope, Object... injectables) {
+        return new CachingDataSupplierResolver<>(arrayGenerator, scope, injectables);
+    }
 }
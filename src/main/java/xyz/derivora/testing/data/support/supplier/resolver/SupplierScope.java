@@ -0,0 +1,53 @@
+/*
+ * This file is part of Derivora Testing Data Support.
+ *
+ * Derivora Testing Data Support is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Derivora Testing Data Support is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with Derivora Testing Data Support. If not, see https://www.gnu.org/licenses/lgpl-3.0.html.
+ */
+
+package xyz.derivora.testing.data.support.supplier.resolver;
+
+import xyz.derivora.testing.data.support.supplier.DataSupplier;
+
+/**
+ * Defines how long a resolved {@link DataSupplier} instance is reused.
+ *
+ * <p>Scopes allow suppliers with expensive constructors to be instantiated once and shared
+ * between resolutions instead of being created anew every time they are referenced.</p>
+ *
+ * @see DataSupplierResolver#getInstance(xyz.derivora.utilkit.arrays.ArrayGenerator, SupplierScope)
+ */
+public enum SupplierScope {
+
+    /**
+     * A new supplier instance is created for every resolution.
+     */
+    INVOCATION,
+
+    /**
+     * A single supplier instance is shared by all resolutions within the same test class.
+     *
+     * <p>This scope requires an {@link org.junit.jupiter.api.extension.ExtensionContext} to be passed
+     * to the resolver. The instance is discarded once the test class has finished executing.</p>
+     */
+    TEST_CLASS,
+
+    /**
+     * A single supplier instance is shared by all resolutions of the same resolver within the test run.
+     *
+     * <p>If an {@link org.junit.jupiter.api.extension.ExtensionContext} is passed to the resolver, the
+     * instance is discarded once the test run has finished. Otherwise, it is kept for the lifetime of
+     * the resolver.</p>
+     */
+    RUN
+}
@@ -17,9 +17,12 @@
 
 package xyz.derivora.testing.data.support.supplier.resolver.enums;
 
+import xyz.derivora.testing.data.support.jfr.EnumSupplierResolutionEvent;
 import xyz.derivora.testing.data.support.supplier.DataSupplier;
 import xyz.derivora.utilkit.arrays.ArrayGenerator;
 
+import java.util.HashMap;
+import java.util.Map;
 import java.util.Objects;
 
 /**
@@ -31,10 +34,25 @@ import java.util.Objects;
  * <p>Subclasses must implement {@link #resolveConstants(Class)} to retrieve all available
  * {@link DataSupplier} constants from the given enumeration.</p>
  *
+ * <p>The constants of each enumeration type are indexed by name the first time the type is resolved.
+ * The index belongs to the resolver that created it, since another resolver may retrieve different
+ * constants for the same type, and is kept for the lifetime of the resolver, so that subsequent lookups
+ * neither retrieve the constants again nor scan them.</p>
+ *
  * @param <T> the type of elements supplied by the resolved {@link DataSupplier} instances
  */
 public abstract class AbstractEnumDataSupplierResolver<T> implements EnumDataSupplierResolver<T> {
 
+    /**
+     * Holds the name indexes of enumeration types without preventing the types from being unloaded.
+     */
+    private final ClassValue<ConstantIndex> indexes = new ClassValue<>() {
+        @Override
+        protected ConstantIndex computeValue(Class<?> type) {
+            return new ConstantIndex();
+        }
+    };
+
     /**
      * Generates arrays for storing resolved {@link DataSupplier} instances.
      */
@@ -75,7 +93,10 @@ public abstract class AbstractEnumDataSupplierResolver<T> implements EnumDataSup
         Objects.requireNonNull(enumType, "Enum type cannot be null");
         Objects.requireNonNull(constantNames, "Constant names array cannot be null");
 
-        DataSupplier<T>[] constants = resolveConstants(enumType);
+        EnumSupplierResolutionEvent event = new EnumSupplierResolutionEvent();
+        event.begin();
+
+        Map<String, DataSupplier<?>> constants = resolveIndex(enumType);
 
         if (constantNames.length == 0) {
             return arrayGenerator.generate(0);
@@ -87,6 +108,12 @@ public abstract class AbstractEnumDataSupplierResolver<T> implements EnumDataSup
             suppliers[i] = resolve(constants, constantName);
         }
 
+        if (event.shouldCommit()) {
+            event.enumClass = enumType;
+            event.constantCount = suppliers.length;
+            event.commit();
+        }
+
         return suppliers;
     }
 
@@ -96,6 +123,8 @@ public abstract class AbstractEnumDataSupplierResolver<T> implements EnumDataSup
      * <p>This method retrieves an array of all enum constants defined in the given
      * {@code enumType}, assuming that the enum implements {@link DataSupplier}.</p>
      *
+     * <p>Once the constants of a type have been indexed, this method is no longer invoked for that type.</p>
+     *
      * @param enumType the enumeration class containing {@link DataSupplier} constants
      * @return an array of resolved {@link DataSupplier} instances
      * @throws Exception if an error occurs while retrieving the constants
@@ -103,40 +132,75 @@ public abstract class AbstractEnumDataSupplierResolver<T> implements EnumDataSup
     protected abstract DataSupplier<T>[] resolveConstants(Class<? extends DataSupplier<T>> enumType) throws Exception;
 
     /**
-     * Resolves a {@link DataSupplier} instance from the provided array of enum constants.
+     * Returns the name index of the constants of the specified enumeration type.
      *
-     * <p>This method iterates through the given {@code constants} array and returns the
-     * first instance whose name matches the specified {@code constantName}.</p>
+     * <p>The index is created from {@link #resolveConstants(Class)} the first time the type is resolved
+     * and reused afterward.</p>
+     *
+     * @param enumType the enumeration class containing {@link DataSupplier} constants
+     * @return a map of {@link DataSupplier} constants keyed by their names
+     * @throws Exception if an error occurs while retrieving the constants
+     */
+    private Map<String, DataSupplier<?>> resolveIndex(Class<? extends DataSupplier<T>> enumType) throws Exception {
+        ConstantIndex index = indexes.get(enumType);
+        Map<String, DataSupplier<?>> constants = index.constants;
+
+        if (constants == null) {
+            constants = createIndex(resolveConstants(enumType));
+            index.constants = constants;
+        }
+
+        return constants;
+    }
+
+    /**
+     * Resolves a {@link DataSupplier} instance from the provided name index of enum constants.
      *
      * <p>If no matching constant is found, an {@link IllegalArgumentException} is thrown.</p>
      *
-     * @param constants the array of {@link DataSupplier} instances, expected to be enum constants
+     * @param constants the {@link DataSupplier} instances keyed by their enum constant names
      * @param constantName the name of the enum constant to resolve
      * @return the matching {@link DataSupplier} instance
      * @throws IllegalArgumentException if no constant with the specified name is found
      */
-    private DataSupplier<T> resolve(DataSupplier<T>[] constants, String constantName) {
-        for (DataSupplier<T> constant : constants) {
-            if (isMatchingEnumConstant(constant, constantName)) {
-                return constant;
-            }
+    @SuppressWarnings("unchecked")
+    private DataSupplier<T> resolve(Map<String, DataSupplier<?>> constants, String constantName) {
+        DataSupplier<?> constant = constants.get(constantName);
+
+        if (constant == null) {
+            throw new IllegalArgumentException("No such constant: " + constantName);
         }
 
-        throw new IllegalArgumentException("No such constant: " + constantName);
+        return (DataSupplier<T>) constant;
     }
 
     /**
-     * Checks if the given {@link DataSupplier} instance matches the specified enum constant name.
+     * Indexes the given enum constants by their names.
      *
-     * <p>This method assumes that the provided {@code constant} is an instance of an {@code enum}
-     * and compares its {@link Enum#name()} with the given {@code constantName}.</p>
+     * <p>This method assumes that the provided {@code constants} are instances of an {@code enum}
+     * and uses their {@link Enum#name()} as keys.</p>
      *
-     * @param constant the {@link DataSupplier} instance, expected to be an {@code enum} constant
-     * @param constantName the expected name of the enum constant
-     * @return {@code true} if the {@code constant} has the specified name, {@code false} otherwise
-     * @throws ClassCastException if {@code constant} is not an instance of {@code Enum}
+     * @param constants the array of {@link DataSupplier} instances, expected to be enum constants
+     * @return a map of the given constants keyed by their names
+     * @throws ClassCastException if any of the {@code constants} is not an instance of {@code Enum}
      */
-    private boolean isMatchingEnumConstant(DataSupplier<T> constant, String constantName) {
-        return ((Enum<?>) constant).name().equals(constantName);
+    private static Map<String, DataSupplier<?>> createIndex(DataSupplier<?>[] constants) {
+        Map<String, DataSupplier<?>> index = new HashMap<>((int) (constants.length / 0.75f) + 1);
+        for (DataSupplier<?> constant : constants) {
+            index.put(((Enum<?>) constant).name(), constant);
+        }
+
+        return index;
+    }
+
+    /**
+     * Lazily holds the name index of the constants of a single enumeration type.
+     */
+    private static final class ConstantIndex {
+
+        /**
+         * The constants keyed by their names, or {@code null} if the index has not been created yet.
+         */
+        private volatile Map<String, DataSupplier<?>> constants;
     }
 }
@@ -0,0 +1,154 @@
+/*
+ * This file is part of Derivora Testing Data Support.
+ *
+ * Derivora Testing Data Support is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Derivora Testing Data Support is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with Derivora Testing Data Support. If not, see https://www.gnu.org/licenses/lgpl-3.0.html.
+ */
+
+package xyz.derivora.testing.data.support.timing;
+
+import xyz.derivora.testing.data.support.supplier.DataSupplier;
+
+import java.util.Objects;
+import java.util.function.Supplier;
+
+/**
+ * Times the suppliers evaluated by an aggregator and reports each call to a {@link Recorder}.
+ *
+ * <p>Suppliers are timed where aggregators call them, so that they are never replaced by timing wrappers.
+ * A data provider records an aggregation through {@link #record(Recorder, Supplier)}, which makes a timer
+ * {@linkplain #current() current} on the calling thread for the duration of the aggregation. Aggregators
+ * obtain the current timer on the calling thread and may then use it from any thread. Outside of a
+ * recorded aggregation, the current timer is a shared disabled instance, which never reads the clock.</p>
+ */
+public final class SupplierTimer {
+
+    /**
+     * The timer used outside of a recorded aggregation.
+     */
+    private static final SupplierTimer DISABLED = new SupplierTimer(null);
+
+    /**
+     * The timer of the aggregation recorded on each thread, if any.
+     */
+    private static final ThreadLocal<SupplierTimer> CURRENT = new ThreadLocal<>();
+
+    /**
+     * The recorder notified of timed calls, or {@code null} if disabled.
+     */
+    private final Recorder recorder;
+
+    /**
+     * Constructs a {@code SupplierTimer} reporting to the given recorder.
+     *
+     * @param recorder the recorder notified of timed calls, or {@code null} if disabled
+     */
+    private SupplierTimer(Recorder recorder) {
+        this.recorder = recorder;
+    }
+
+    /**
+     * Returns the timer of the aggregation recorded on the calling thread.
+     *
+     * @return the current timer, or a disabled timer if no aggregation is recorded
+     */
+    public static SupplierTimer current() {
+        SupplierTimer timer = CURRENT.get();
+        return timer == null ? DISABLED : timer;
+    }
+
+    /**
+     * Performs the given aggregation, reporting every supplier call timed by the aggregator to the given recorder.
+     *
+     * @param recorder the recorder notified of timed calls, which must be safe to call from any thread
+     * @param aggregation the aggregation to perform
+     * @param <R> the type of the aggregated data
+     * @return the result of the aggregation
+     * @throws NullPointerException if {@code recorder} or {@code aggregation} is {@code null}
+     */
+    public static <R> R record(Recorder recorder, Supplier<R> aggregation) {
+        SupplierTimer timer = new SupplierTimer(Objects.requireNonNull(recorder, "Recorder cannot be null"));
+        Objects.requireNonNull(aggregation, "Aggregation cannot be null");
+
+        SupplierTimer previous = CURRENT.get();
+        CURRENT.set(timer);
+        try {
+            return aggregation.get();
+        } finally {
+            if (previous == null) {
+                CURRENT.remove();
+            } else {
+                CURRENT.set(previous);
+            }
+        }
+    }
+
+    /**
+     * Calls the given supplier and reports the call.
+     *
+     * @param supplier the supplier to call
+     * @param <T> the type of supplied elements
+     * @return the array returned by the supplier
+     */
+    public <T> T[] get(DataSupplier<T> supplier) {
+        if (recorder == null) {
+            return supplier.get();
+        }
+
+        long start = System.nanoTime();
+        T[] data = supplier.get();
+        recorder.supplied(supplier, System.nanoTime() - start, data.length);
+        return data;
+    }
+
+    /**
+     * Returns the start time of a supplier call timed through {@link #supplied(Object, long, int)}.
+     *
+     * @return the current value of {@link System#nanoTime()}, or {@code 0} if disabled
+     */
+    public long start() {
+        return recorder == null ? 0 : System.nanoTime();
+    }
+
+    /**
+     * Reports a supplier call that started at the given time.
+     *
+     * <p>This method is used for suppliers that cannot be called through {@link #get(DataSupplier)}, such as
+     * suppliers of primitive arrays or asynchronous suppliers, whose call ends when their data is awaited.</p>
+     *
+     * @param supplier the called supplier
+     * @param start the start time returned by {@link #start()}
+     * @param count the number of elements supplied
+     */
+    public void supplied(Object supplier, long start, int count) {
+        if (recorder != null) {
+            recorder.supplied(supplier, System.nanoTime() - start, count);
+        }
+    }
+
+    /**
+     * Receives the supplier calls timed during a recorded aggregation.
+     */
+    @FunctionalInterface
+    public interface Recorder {
+
+        /**
+         * Receives a timed supplier call.
+         *
+         * @param supplier the called supplier
+         * @param durationNanos the duration of the call in nanoseconds
+         * @param count the number of elements supplied
+         */
+        void supplied(Object supplier, long durationNanos, int count);
+    }
+}
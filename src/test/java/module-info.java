@@ -17,7 +17,12 @@
 
 open module derivora.testing.data.support.test {
     requires org.junit.jupiter.api;
+    requires jdk.jfr;
+    requires org.junit.platform.launcher;
 
     requires derivora.util.kit;
     requires derivora.testing.data.support;
+
+    provides xyz.derivora.testing.data.support.provider.listener.DataProviderListener
+            with xyz.derivora.testing.data.support.test.provider.listener.RecordingDataProviderListener;
 }
\ No newline at end of file
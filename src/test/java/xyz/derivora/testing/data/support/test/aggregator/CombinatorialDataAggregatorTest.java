@@ -0,0 +1,223 @@
+/*
+ * This file is part of Derivora Testing Data Support.
+ *
+ * Derivora Testing Data Support is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Derivora Testing Data Support is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with Derivora Testing Data Support. If not, see https://www.gnu.org/licenses/lgpl-3.0.html.
+ */
+
+package xyz.derivora.testing.data.support.test.aggregator;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import xyz.derivora.testing.data.support.aggregator.CombinatorialDataAggregator;
+import xyz.derivora.testing.data.support.supplier.DataSupplier;
+import xyz.derivora.testing.data.support.test.supplier.StringDataSupplier;
+
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@Tag("xyz/derivora/testing/data/support/supplier/aggregator")
+@DisplayName("Tests for CombinatorialDataAggregator")
+class CombinatorialDataAggregatorTest {
+
+    @Test
+    @DisplayName("Should throw IllegalArgumentException when strength is not positive")
+    void nWise_withNonPositiveStrength_shouldThrowIllegalArgumentException() {
+        assertThrows(
+                IllegalArgumentException.class,
+                () -> CombinatorialDataAggregator.nWise(0)
+        );
+    }
+
+    @Test
+    @DisplayName("Should throw NullPointerException when adapted supplier is null")
+    void dimension_withNullSupplier_shouldThrowNullPointerException() {
+        assertThrows(
+                NullPointerException.class,
+                () -> CombinatorialDataAggregator.dimension(null)
+        );
+    }
+
+    @Test
+    @DisplayName("Should throw NullPointerException when suppliers array is null")
+    void aggregate_withNullArray_shouldThrowNullPointerException() {
+        assertThrows(
+                NullPointerException.class,
+                () -> CombinatorialDataAggregator.cartesian().aggregate((DataSupplier<Object>[]) null)
+        );
+    }
+
+    @Test
+    @DisplayName("Should throw NullPointerException when suppliers array contains null")
+    void aggregate_withNullSupplierInArray_shouldThrowNullPointerException() {
+        assertThrows(
+                NullPointerException.class,
+                () -> CombinatorialDataAggregator.cartesian().aggregate(values("a"), null)
+        );
+    }
+
+    @Test
+    @DisplayName("Should produce every combination of values with the last supplier varying fastest")
+    void aggregate_withCartesian_shouldProduceProductInOrder() {
+        Object[] rows = CombinatorialDataAggregator.cartesian().aggregate(values("a", "b"), values("1", "2", "3"));
+
+        assertArrayEquals(new Object[]{
+                new Object[]{"a", "1"}, new Object[]{"a", "2"}, new Object[]{"a", "3"},
+                new Object[]{"b", "1"}, new Object[]{"b", "2"}, new Object[]{"b", "3"}
+        }, rows);
+    }
+
+    @Test
+    @DisplayName("Should combine suppliers of different types")
+    void aggregate_withAdaptedSuppliers_shouldCombineValues() {
+        StringDataSupplier strings = () -> new String[]{"a"};
+        DataSupplier<Integer> integers = () -> new Integer[]{1, 2};
+
+        Object[] rows = CombinatorialDataAggregator.cartesian().aggregate(
+                CombinatorialDataAggregator.dimension(strings),
+                CombinatorialDataAggregator.dimension(integers)
+        );
+
+        assertArrayEquals(new Object[]{new Object[]{"a", 1}, new Object[]{"a", 2}}, rows);
+    }
+
+    @Test
+    @DisplayName("Should return no rows when a supplier provides no values")
+    void aggregate_withEmptySupplier_shouldReturnEmptyArray() {
+        assertEquals(0, CombinatorialDataAggregator.cartesian().aggregate(values("a"), values()).length);
+        assertEquals(0, CombinatorialDataAggregator.pairwise().aggregate(values("a"), values(), values("b")).length);
+    }
+
+    @Test
+    @DisplayName("Should return no rows when no suppliers are provided")
+    void aggregate_withoutSuppliers_shouldReturnEmptyArray() {
+        assertEquals(0, CombinatorialDataAggregator.cartesian().aggregate().length);
+    }
+
+    @Test
+    @DisplayName("Should present a product too large to materialize as a lazy view")
+    void aggregateView_withCartesian_shouldComputeRowsOnAccess() {
+        DataSupplier<Object> digits = values(IntStream.range(0, 100).boxed().toArray());
+
+        List<Object> rows = CombinatorialDataAggregator.cartesian().aggregateView(digits, digits, digits, digits);
+
+        assertEquals(100_000_000, rows.size());
+        assertArrayEquals(new Object[]{12, 34, 56, 78}, (Object[]) rows.get(12_345_678));
+        assertThrows(
+                UnsupportedOperationException.class,
+                () -> rows.remove(0)
+        );
+    }
+
+    @Test
+    @DisplayName("Should throw IllegalArgumentException when the product exceeds the maximum list size")
+    void aggregateView_withTooManyCombinations_shouldThrowIllegalArgumentException() {
+        DataSupplier<Object> values = values(IntStream.range(0, 1000).boxed().toArray());
+
+        assertThrows(
+                IllegalArgumentException.class,
+                () -> CombinatorialDataAggregator.cartesian().aggregateView(values, values, values, values)
+        );
+    }
+
+    @Test
+    @DisplayName("Should cover every pair of values with far fewer rows than the product")
+    void aggregate_withPairwise_shouldCoverEveryPair() {
+        DataSupplier<Object>[] suppliers = suppliers(10, 4);
+
+        Object[] rows = CombinatorialDataAggregator.pairwise().aggregate(suppliers);
+
+        assertCovered(rows, suppliers, 2);
+        assertTrue(rows.length < 40, "Expected fewer than 40 rows but got " + rows.length);
+    }
+
+    @Test
+    @DisplayName("Should cover every triple of values")
+    void aggregate_withThreeWise_shouldCoverEveryTriple() {
+        DataSupplier<Object>[] suppliers = suppliers(6, 3);
+
+        Object[] rows = CombinatorialDataAggregator.nWise(3).aggregate(suppliers);
+
+        assertCovered(rows, suppliers, 3);
+        assertTrue(rows.length < 729);
+    }
+
+    @Test
+    @DisplayName("Should produce the same rows on every aggregation")
+    void aggregate_withPairwise_shouldBeDeterministic() {
+        DataSupplier<Object>[] suppliers = suppliers(5, 3);
+
+        assertArrayEquals(CombinatorialDataAggregator.pairwise().aggregate(suppliers),
+                          CombinatorialDataAggregator.pairwise().aggregate(suppliers));
+    }
+
+    @Test
+    @DisplayName("Should produce the full product when strength is not less than the number of suppliers")
+    void aggregate_withStrengthOfAllSuppliers_shouldProduceProduct() {
+        DataSupplier<Object>[] suppliers = suppliers(2, 3);
+
+        assertArrayEquals(CombinatorialDataAggregator.cartesian().aggregate(suppliers),
+                          CombinatorialDataAggregator.pairwise().aggregate(suppliers));
+    }
+
+    private static DataSupplier<Object> values(Object... values) {
+        return () -> values;
+    }
+
+    @SuppressWarnings("unchecked")
+    private static DataSupplier<Object>[] suppliers(int count, int size) {
+        DataSupplier<Object>[] suppliers = new DataSupplier[count];
+        for (int i = 0; i < count; i++) {
+            int parameter = i;
+            suppliers[i] = values(IntStream.range(0, size).mapToObj(value -> parameter + ":" + value).toArray());
+        }
+
+        return suppliers;
+    }
+
+    private static void assertCovered(Object[] rows, DataSupplier<Object>[] suppliers, int strength) {
+        Set<List<Object>> covered = new HashSet<>();
+        for (Object row : rows) {
+            combinations(suppliers.length, strength).forEach(positions -> covered.add(
+                    Arrays.stream(positions).mapToObj(position -> ((Object[]) row)[position]).toList()
+            ));
+        }
+
+        for (int[] positions : combinations(suppliers.length, strength)) {
+            Object[][] product = Arrays.stream(positions).mapToObj(position -> suppliers[position].get()).toArray(Object[][]::new);
+            for (Object combination : CombinatorialDataAggregator.cartesian().aggregate(
+                    Arrays.stream(product).map(CombinatorialDataAggregatorTest::values).toArray(DataSupplier[]::new))) {
+                assertTrue(covered.contains(List.of((Object[]) combination)),
+                           "Combination " + Arrays.toString((Object[]) combination) + " is not covered");
+            }
+        }
+    }
+
+    private static List<int[]> combinations(int n, int k) {
+        if (k == 0) {
+            return List.of(new int[0]);
+        }
+
+        return IntStream.range(k - 1, n).boxed().flatMap(last -> combinations(last, k - 1).stream().map(prefix -> {
+            int[] positions = Arrays.copyOf(prefix, k);
+            positions[k - 1] = last;
+            return positions;
+        })).toList();
+    }
+}
@@ -52,6 +52,24 @@ abstract class DataAggregatorTest {
         );
     }
 
+    @Test
+    @DisplayName("Should throw NullPointerException when suppliers array of view is null")
+    void aggregateView_withNullArray_shouldThrowNullPointerException() {
+        assertThrows(
+                NullPointerException.class,
+                () -> getAggregator().aggregateView((TestSupplier[]) null)
+        );
+    }
+
+    @Test
+    @DisplayName("Should throw NullPointerException when suppliers array of view contains null")
+    void aggregateView_withNullSupplierInArray_shouldThrowNullPointerException() {
+        assertThrows(
+                NullPointerException.class,
+                () -> getAggregator().aggregateView(new TestSupplier(), null)
+        );
+    }
+
     protected static class TestSupplier implements StringDataSupplier {
 
         @Override
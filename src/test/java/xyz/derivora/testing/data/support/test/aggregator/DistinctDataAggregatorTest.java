@@ -0,0 +1,129 @@
+/*
+ * This file is part of Derivora Testing Data Support.
+ *
+ * Derivora Testing Data Support is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Derivora Testing Data Support is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with Derivora Testing Data Support. If not, see https://www.gnu.org/licenses/lgpl-3.0.html.
+ */
+
+package xyz.derivora.testing.data.support.test.aggregator;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import xyz.derivora.testing.data.support.aggregator.DataAggregator;
+import xyz.derivora.testing.data.support.aggregator.DistinctDataAggregator;
+import xyz.derivora.testing.data.support.supplier.DataSupplier;
+import xyz.derivora.testing.data.support.test.supplier.StringDataSupplier;
+
+import java.util.List;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@Tag("xyz/derivora/testing/data/support/supplier/aggregator")
+@DisplayName("Tests for DistinctDataAggregator")
+class DistinctDataAggregatorTest extends DataAggregatorTest {
+
+    private static final DistinctDataAggregator<String> AGGREGATOR = new DistinctDataAggregator<>(String[]::new);
+
+    @Override
+    protected DataAggregator<String> getAggregator() {
+        return AGGREGATOR;
+    }
+
+    @Test
+    @DisplayName("Should throw NullPointerException when array generator is null")
+    void constructor_withNullGenerator_shouldThrowNullPointerException() {
+        assertThrows(
+                NullPointerException.class,
+                () -> new DistinctDataAggregator<>(null)
+        );
+    }
+
+    @Test
+    @DisplayName("Should throw IllegalArgumentException when expected rows are not positive")
+    void constructor_withNonPositiveExpectedRows_shouldThrowIllegalArgumentException() {
+        assertThrows(
+                IllegalArgumentException.class,
+                () -> new DistinctDataAggregator<>(String[]::new, 0, 0.01)
+        );
+    }
+
+    @Test
+    @DisplayName("Should throw IllegalArgumentException when false positive rate is out of range")
+    void constructor_withInvalidFalsePositiveRate_shouldThrowIllegalArgumentException() {
+        assertThrows(
+                IllegalArgumentException.class,
+                () -> new DistinctDataAggregator<>(String[]::new, 100, 1)
+        );
+    }
+
+    @Test
+    @DisplayName("Should return an empty array when no suppliers are provided")
+    void aggregate_withoutSuppliers_shouldReturnEmptyArray() {
+        assertEquals(0, AGGREGATOR.aggregate().length);
+    }
+
+    @Test
+    @DisplayName("Should keep the first occurrence of each element across suppliers")
+    void aggregate_withOverlappingSuppliers_shouldRemoveDuplicates() {
+        StringDataSupplier boundary = () -> new String[]{"", "a", "z", "a"};
+        StringDataSupplier regression = () -> new String[]{"z", "m", ""};
+
+        String[] data = AGGREGATOR.aggregate(boundary, regression);
+
+        assertArrayEquals(new String[]{"", "a", "z", "m"}, data);
+    }
+
+    @Test
+    @DisplayName("Should compare array elements by deep equality")
+    void aggregate_withArrayElements_shouldCompareDeeply() {
+        DistinctDataAggregator<Object> aggregator = new DistinctDataAggregator<>(Object[]::new);
+        DataSupplier<Object> first = () -> new Object[]{new Object[]{"a", 1}, new int[]{1, 2}, null};
+        DataSupplier<Object> second = () -> new Object[]{new Object[]{"a", 1}, new int[]{1, 2}, new int[]{2, 1}, null};
+
+        Object[] data = aggregator.aggregate(first, second);
+
+        assertEquals(4, data.length);
+        assertArrayEquals(new Object[]{"a", 1}, (Object[]) data[0]);
+        assertArrayEquals(new int[]{1, 2}, (int[]) data[1]);
+        assertNull(data[2]);
+        assertArrayEquals(new int[]{2, 1}, (int[]) data[3]);
+    }
+
+    @Test
+    @DisplayName("Should present distinct elements as a read-only view")
+    void aggregateView_withOverlappingSuppliers_shouldPresentDistinctElements() {
+        StringDataSupplier supplier = () -> new String[]{"a", "b", "a"};
+
+        List<String> view = AGGREGATOR.aggregateView(supplier, supplier);
+
+        assertEquals(List.of("a", "b"), view);
+        assertThrows(
+                UnsupportedOperationException.class,
+                () -> view.add("c")
+        );
+    }
+
+    @Test
+    @DisplayName("Should remove every duplicate and keep nearly all distinct elements in probabilistic mode")
+    void aggregate_withProbabilisticMode_shouldRemoveDuplicates() {
+        DistinctDataAggregator<String> aggregator = new DistinctDataAggregator<>(String[]::new, 10_000, 0.01);
+        StringDataSupplier supplier = () -> IntStream.range(0, 10_000).mapToObj(String::valueOf).toArray(String[]::new);
+
+        String[] data = aggregator.aggregate(supplier, supplier);
+
+        assertEquals(data.length, List.of(data).stream().distinct().count());
+        assertTrue(data.length > 9_800, "Expected at most 2% of distinct elements to be dropped but got " + data.length);
+    }
+}
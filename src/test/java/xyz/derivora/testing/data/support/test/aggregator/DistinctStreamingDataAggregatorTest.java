@@ -0,0 +1,90 @@
+/*
+ * This file is part of Derivora Testing Data Support.
+ *
+ * Derivora Testing Data Support is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Derivora Testing Data Support is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with Derivora Testing Data Support. If not, see https://www.gnu.org/licenses/lgpl-3.0.html.
+ */
+
+package xyz.derivora.testing.data.support.test.aggregator;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import xyz.derivora.testing.data.support.aggregator.DistinctStreamingDataAggregator;
+import xyz.derivora.testing.data.support.supplier.StreamingDataSupplier;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@Tag("xyz/derivora/testing/data/support/supplier/aggregator")
+@DisplayName("Tests for DistinctStreamingDataAggregator")
+class DistinctStreamingDataAggregatorTest {
+
+    private static final DistinctStreamingDataAggregator<String> AGGREGATOR = new DistinctStreamingDataAggregator<>();
+
+    @Test
+    @DisplayName("Should throw NullPointerException when suppliers array is null")
+    void aggregate_withNullArray_shouldThrowNullPointerException() {
+        assertThrows(
+                NullPointerException.class,
+                () -> AGGREGATOR.aggregate((StreamingDataSupplier<String>[]) null)
+        );
+    }
+
+    @Test
+    @DisplayName("Should throw IllegalArgumentException when false positive rate is out of range")
+    void constructor_withInvalidFalsePositiveRate_shouldThrowIllegalArgumentException() {
+        assertThrows(
+                IllegalArgumentException.class,
+                () -> new DistinctStreamingDataAggregator<>(100, 0)
+        );
+    }
+
+    @Test
+    @DisplayName("Should keep the first occurrence of each element across suppliers")
+    @SuppressWarnings("unchecked")
+    void aggregate_withOverlappingSuppliers_shouldRemoveDuplicates() {
+        String[] data = AGGREGATOR.aggregate(() -> Stream.of("a", "b", "a"), () -> Stream.of("c", "b"))
+                                  .toArray(String[]::new);
+
+        assertArrayEquals(new String[]{"a", "b", "c"}, data);
+    }
+
+    @Test
+    @DisplayName("Should filter elements lazily as the stream is consumed")
+    @SuppressWarnings("unchecked")
+    void aggregate_withInfiniteSupplier_shouldFilterLazily() {
+        AtomicInteger generated = new AtomicInteger();
+        StreamingDataSupplier<String> supplier = () -> Stream.generate(() -> String.valueOf(generated.getAndIncrement() % 5));
+
+        String[] data = AGGREGATOR.aggregate(supplier).limit(5).toArray(String[]::new);
+
+        assertArrayEquals(new String[]{"0", "1", "2", "3", "4"}, data);
+        assertEquals(5, generated.get());
+    }
+
+    @Test
+    @DisplayName("Should remove every duplicate in probabilistic mode")
+    @SuppressWarnings("unchecked")
+    void aggregate_withProbabilisticMode_shouldRemoveDuplicates() {
+        DistinctStreamingDataAggregator<Integer> aggregator = new DistinctStreamingDataAggregator<>(1_000, 0.001);
+        StreamingDataSupplier<Integer> supplier = () -> IntStream.range(0, 1_000).boxed();
+
+        long count = aggregator.aggregate(supplier, supplier, supplier).count();
+
+        assertTrue(count <= 1_000 && count > 990, "Unexpected number of distinct elements: " + count);
+    }
+}
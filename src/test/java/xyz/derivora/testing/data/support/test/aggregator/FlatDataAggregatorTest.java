@@ -22,9 +22,17 @@ import org.junit.jupiter.api.Tag;
 import org.junit.jupiter.api.Test;
 import xyz.derivora.testing.data.support.aggregator.DataAggregator;
 import xyz.derivora.testing.data.support.aggregator.FlatDataAggregator;
+import xyz.derivora.testing.data.support.supplier.AsyncDataSupplier;
 import xyz.derivora.testing.data.support.test.supplier.StringDataSupplier;
 import xyz.derivora.utilkit.arrays.ArrayUtils;
 
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicInteger;
+
 import static org.junit.jupiter.api.Assertions.*;
 
 @Tag("xyz/derivora/testing/data/support/supplier/aggregator")
@@ -75,6 +83,124 @@ public class FlatDataAggregatorTest extends DataAggregatorTest {
         assertArrayEquals(expectedData, data);
     }
 
+    @Test
+    @DisplayName("Should evaluate single supplier only once")
+    void aggregate_withSingleSupplier_shouldEvaluateSupplierOnce() {
+        AtomicInteger evaluations = new AtomicInteger();
+        StringDataSupplier supplier = () -> {
+            evaluations.incrementAndGet();
+            return new String[]{"Test"};
+        };
+
+        AGGREGATOR.aggregate(supplier);
+
+        assertEquals(1, evaluations.get());
+    }
+
+    @Test
+    @DisplayName("Should present data from multiple suppliers as a view")
+    void aggregateView_withMultipleSuppliers_shouldPresentDataInOrder() {
+        StringDataSupplier emptySupplier = () -> new String[0];
+        StringDataSupplier supplier = () -> new String[]{"First", "Second"};
+        StringDataSupplier anotherSupplier = () -> new String[]{"Third"};
+
+        List<String> data = AGGREGATOR.aggregateView(emptySupplier, supplier, emptySupplier, anotherSupplier);
+
+        assertEquals(List.of("First", "Second", "Third"), data);
+        assertEquals("First", data.get(0));
+        assertEquals("Second", data.get(1));
+        assertEquals("Third", data.get(2));
+        assertThrows(IndexOutOfBoundsException.class, () -> data.get(3));
+
+        Iterator<String> iterator = data.iterator();
+        assertEquals("First", iterator.next());
+        assertEquals("Second", iterator.next());
+        assertEquals("Third", iterator.next());
+        assertFalse(iterator.hasNext());
+    }
+
+    @Test
+    @DisplayName("Should present supplied arrays without copying them")
+    void aggregateView_withSingleSupplier_shouldNotCopyData() {
+        String[] array = {"Test"};
+        List<String> data = AGGREGATOR.aggregateView(() -> array);
+
+        array[0] = "Changed";
+
+        assertEquals(List.of("Changed"), data);
+    }
+
+    @Test
+    @DisplayName("Should not allow modifications through the view")
+    void aggregateView_whenModified_shouldThrowUnsupportedOperationException() {
+        List<String> data = AGGREGATOR.aggregateView(new TestSupplier());
+
+        assertThrows(UnsupportedOperationException.class, () -> data.set(0, "Changed"));
+        assertThrows(UnsupportedOperationException.class, () -> data.add("Added"));
+    }
+
+    @Test
+    @DisplayName("Should start all asynchronous suppliers before awaiting any of them")
+    void aggregate_withAsyncSuppliers_shouldStartAllBeforeAwaiting() {
+        AsyncDataSupplier<String> supplier = new LatchedAsyncSupplier(2);
+        StringDataSupplier syncSupplier = () -> new String[]{"Sync"};
+
+        String[] data = assertTimeoutPreemptively(
+                Duration.ofSeconds(5),
+                () -> AGGREGATOR.aggregate(supplier, syncSupplier, supplier)
+        );
+
+        assertArrayEquals(new String[]{"Async", "Sync", "Async"}, data);
+    }
+
+    @Test
+    @DisplayName("Should present data of asynchronous suppliers as a view in order")
+    void aggregateView_withAsyncSuppliers_shouldPresentDataInOrder() {
+        AsyncDataSupplier<String> supplier = new LatchedAsyncSupplier(2);
+        StringDataSupplier syncSupplier = () -> new String[]{"Sync"};
+
+        List<String> data = assertTimeoutPreemptively(
+                Duration.ofSeconds(5),
+                () -> AGGREGATOR.aggregateView(syncSupplier, supplier, supplier)
+        );
+
+        assertEquals(List.of("Sync", "Async", "Async"), data);
+    }
+
+    @Test
+    @DisplayName("Should rethrow exception of a failing asynchronous supplier")
+    void aggregate_withFailingAsyncSupplier_shouldRethrowException() {
+        AsyncDataSupplier<String> failingSupplier =
+                () -> CompletableFuture.failedFuture(new IllegalStateException("Failure"));
+
+        assertThrows(
+                IllegalStateException.class,
+                () -> AGGREGATOR.aggregate(new TestSupplier(), failingSupplier)
+        );
+    }
+
+    private static final class LatchedAsyncSupplier implements AsyncDataSupplier<String> {
+
+        private final int count;
+
+        private final List<CompletableFuture<String[]>> started = new ArrayList<>();
+
+        private LatchedAsyncSupplier(int count) {
+            this.count = count;
+        }
+
+        @Override
+        public synchronized CompletableFuture<String[]> getAsync() {
+            CompletableFuture<String[]> future = new CompletableFuture<>();
+            started.add(future);
+            if (started.size() == count) {
+                started.forEach(pending -> pending.complete(new String[]{"Async"}));
+            }
+
+            return future;
+        }
+    }
+
     protected static class AnotherTestSupplier implements StringDataSupplier {
 
         @Override
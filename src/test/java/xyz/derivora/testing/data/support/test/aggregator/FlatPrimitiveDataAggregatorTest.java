@@ -0,0 +1,150 @@
+/*
+ * This file is part of Derivora Testing Data Support.
+ *
+ * Derivora Testing Data Support is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Derivora Testing Data Support is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with Derivora Testing Data Support. If not, see https://www.gnu.org/licenses/lgpl-3.0.html.
+ */
+
+package xyz.derivora.testing.data.support.test.aggregator;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.EnumSource;
+import xyz.derivora.testing.data.support.aggregator.FlatDoubleDataAggregator;
+import xyz.derivora.testing.data.support.aggregator.FlatIntDataAggregator;
+import xyz.derivora.testing.data.support.aggregator.FlatLongDataAggregator;
+import xyz.derivora.testing.data.support.supplier.DoubleDataSupplier;
+import xyz.derivora.testing.data.support.supplier.IntDataSupplier;
+import xyz.derivora.testing.data.support.supplier.LongDataSupplier;
+
+import java.lang.reflect.Array;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.function.Function;
+import java.util.function.IntFunction;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@Tag("xyz/derivora/testing/data/support/supplier/aggregator")
+@DisplayName("Tests for FlatIntDataAggregator, FlatLongDataAggregator and FlatDoubleDataAggregator")
+class FlatPrimitiveDataAggregatorTest {
+
+    @ParameterizedTest
+    @EnumSource(Flavor.class)
+    @DisplayName("Should throw NullPointerException when suppliers array is null")
+    void aggregate_withNullArray_shouldThrowNullPointerException(Flavor flavor) {
+        assertThrows(
+                NullPointerException.class,
+                () -> flavor.aggregate((Object[]) null)
+        );
+    }
+
+    @ParameterizedTest
+    @EnumSource(Flavor.class)
+    @DisplayName("Should throw NullPointerException when suppliers array contains null")
+    void aggregate_withNullSupplierInArray_shouldThrowNullPointerException(Flavor flavor) {
+        assertThrows(
+                NullPointerException.class,
+                () -> flavor.aggregate(flavor.array(1), null)
+        );
+    }
+
+    @ParameterizedTest
+    @EnumSource(Flavor.class)
+    @DisplayName("Should return an empty array when no suppliers are provided")
+    void aggregate_withoutSuppliers_shouldReturnEmptyArray(Flavor flavor) {
+        assertEquals(0, Array.getLength(flavor.aggregate()));
+    }
+
+    @ParameterizedTest
+    @EnumSource(Flavor.class)
+    @DisplayName("Should return a copy of the data from single supplier")
+    void aggregate_withSingleSupplier_shouldReturnCopy(Flavor flavor) {
+        Object values = flavor.array(1, 2);
+        Object data = flavor.aggregate(values);
+
+        assertEquals(valuesOf(values), valuesOf(data));
+        assertNotSame(values, data);
+    }
+
+    @ParameterizedTest
+    @EnumSource(Flavor.class)
+    @DisplayName("Should aggregate data from multiple suppliers")
+    void aggregate_withMultipleSuppliers_shouldAggregateData(Flavor flavor) {
+        Object data = flavor.aggregate(flavor.array(1, 2), flavor.array(), flavor.array(3));
+
+        assertEquals(valuesOf(flavor.array(1, 2, 3)), valuesOf(data));
+    }
+
+    private static List<Object> valuesOf(Object array) {
+        List<Object> values = new ArrayList<>();
+        for (int i = 0; i < Array.getLength(array); i++) {
+            values.add(Array.get(array, i));
+        }
+        return values;
+    }
+
+    private static <S> S[] suppliersOf(Object[] arrays, Function<Object, S> factory, IntFunction<S[]> generator) {
+        return arrays == null
+                ? null
+                : Arrays.stream(arrays).map(array -> array == null ? null : factory.apply(array)).toArray(generator);
+    }
+
+    enum Flavor {
+
+        INT {
+            @Override
+            Object aggregate(Object... arrays) {
+                return new FlatIntDataAggregator().aggregate(
+                        suppliersOf(arrays, array -> (IntDataSupplier) () -> (int[]) array, IntDataSupplier[]::new));
+            }
+
+            @Override
+            Object array(int... values) {
+                return values;
+            }
+        },
+
+        LONG {
+            @Override
+            Object aggregate(Object... arrays) {
+                return new FlatLongDataAggregator().aggregate(
+                        suppliersOf(arrays, array -> (LongDataSupplier) () -> (long[]) array, LongDataSupplier[]::new));
+            }
+
+            @Override
+            Object array(int... values) {
+                return Arrays.stream(values).asLongStream().map(value -> value + Integer.MAX_VALUE).toArray();
+            }
+        },
+
+        DOUBLE {
+            @Override
+            Object aggregate(Object... arrays) {
+                return new FlatDoubleDataAggregator().aggregate(
+                        suppliersOf(arrays, array -> (DoubleDataSupplier) () -> (double[]) array, DoubleDataSupplier[]::new));
+            }
+
+            @Override
+            Object array(int... values) {
+                return Arrays.stream(values).asDoubleStream().map(value -> value + 0.5).toArray();
+            }
+        };
+
+        abstract Object aggregate(Object... arrays);
+
+        abstract Object array(int... values);
+    }
+}
@@ -0,0 +1,88 @@
+/*
+ * This file is part of Derivora Testing Data Support.
+ *
+ * Derivora Testing Data Support is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Derivora Testing Data Support is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with Derivora Testing Data Support. If not, see https://www.gnu.org/licenses/lgpl-3.0.html.
+ */
+
+package xyz.derivora.testing.data.support.test.aggregator;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import xyz.derivora.testing.data.support.aggregator.FlatStreamingDataAggregator;
+import xyz.derivora.testing.data.support.supplier.StreamingDataSupplier;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@Tag("xyz/derivora/testing/data/support/supplier/aggregator")
+@DisplayName("Tests for FlatStreamingDataAggregator")
+class FlatStreamingDataAggregatorTest {
+
+    private static final FlatStreamingDataAggregator<String> AGGREGATOR = new FlatStreamingDataAggregator<>();
+
+    @Test
+    @DisplayName("Should throw NullPointerException when suppliers array is null")
+    void aggregate_withNullArray_shouldThrowNullPointerException() {
+        assertThrows(
+                NullPointerException.class,
+                () -> AGGREGATOR.aggregate((StreamingDataSupplier<String>[]) null)
+        );
+    }
+
+    @Test
+    @DisplayName("Should throw NullPointerException when suppliers array contains null")
+    @SuppressWarnings("unchecked")
+    void aggregate_withNullSupplierInArray_shouldThrowNullPointerException() {
+        assertThrows(
+                NullPointerException.class,
+                () -> AGGREGATOR.aggregate(() -> Stream.of("Test"), null)
+        );
+    }
+
+    @Test
+    @DisplayName("Should return an empty stream when no suppliers are provided")
+    void aggregate_withoutSuppliers_shouldReturnEmptyStream() {
+        assertEquals(0, AGGREGATOR.aggregate().count());
+    }
+
+    @Test
+    @DisplayName("Should aggregate data from multiple suppliers in order")
+    @SuppressWarnings("unchecked")
+    void aggregate_withMultipleSuppliers_shouldAggregateDataInOrder() {
+        String[] data = AGGREGATOR.aggregate(() -> Stream.of("First", "Second"), () -> Stream.of("Third"))
+                                  .toArray(String[]::new);
+
+        assertArrayEquals(new String[]{"First", "Second", "Third"}, data);
+    }
+
+    @Test
+    @DisplayName("Should not request supplier streams before they are consumed")
+    @SuppressWarnings("unchecked")
+    void aggregate_withMultipleSuppliers_shouldRequestStreamsLazily() {
+        AtomicInteger requests = new AtomicInteger();
+        StreamingDataSupplier<String> supplier = () -> {
+            requests.incrementAndGet();
+            return Stream.of("Test");
+        };
+
+        Stream<String> data = AGGREGATOR.aggregate(supplier, supplier);
+        assertEquals(0, requests.get());
+
+        assertEquals(1, data.limit(1).count());
+        assertEquals(1, requests.get());
+    }
+}
@@ -0,0 +1,180 @@
+/*
+ * This file is part of Derivora Testing Data Support.
+ *
+ * Derivora Testing Data Support is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Derivora Testing Data Support is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with Derivora Testing Data Support. If not, see https://www.gnu.org/licenses/lgpl-3.0.html.
+ */
+
+package xyz.derivora.testing.data.support.test.aggregator;
+
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import xyz.derivora.testing.data.support.aggregator.DataAggregator;
+import xyz.derivora.testing.data.support.aggregator.ParallelDataAggregator;
+import xyz.derivora.testing.data.support.supplier.AsyncDataSupplier;
+import xyz.derivora.testing.data.support.test.supplier.StringDataSupplier;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@Tag("xyz/derivora/testing/data/support/supplier/aggregator")
+@DisplayName("Tests for ParallelDataAggregator")
+class ParallelDataAggregatorTest extends DataAggregatorTest {
+
+    private static final ExecutorService EXECUTOR = Executors.newFixedThreadPool(2);
+
+    private static final ParallelDataAggregator<String> AGGREGATOR = new ParallelDataAggregator<>(String[]::new,
+                                                                                                   EXECUTOR);
+
+    @AfterAll
+    static void shutdownExecutor() {
+        EXECUTOR.shutdownNow();
+    }
+
+    @Override
+    protected DataAggregator<String> getAggregator() {
+        return AGGREGATOR;
+    }
+
+    @Test
+    @DisplayName("Should throw NullPointerException when array generator is null")
+    void constructor_withNullGenerator_shouldThrowNullPointerException() {
+        assertThrows(
+                NullPointerException.class,
+                () -> new ParallelDataAggregator<>(null)
+        );
+    }
+
+    @Test
+    @DisplayName("Should throw NullPointerException when executor is null")
+    void constructor_withNullExecutor_shouldThrowNullPointerException() {
+        assertThrows(
+                NullPointerException.class,
+                () -> new ParallelDataAggregator<>(String[]::new, null)
+        );
+    }
+
+    @Test
+    @DisplayName("Should return an empty array when no suppliers are provided")
+    void aggregate_withoutSuppliers_shouldReturnEmptyArray() {
+        String[] data = AGGREGATOR.aggregate();
+        assertEquals(0, data.length);
+    }
+
+    @Test
+    @DisplayName("Should resolve data from single supplier")
+    void aggregate_withSingleSupplier_shouldResolveData() {
+        TestSupplier supplier = new TestSupplier();
+        String[] data = AGGREGATOR.aggregate(supplier);
+
+        assertArrayEquals(supplier.get(), data);
+    }
+
+    @Test
+    @DisplayName("Should aggregate data from multiple suppliers in order")
+    void aggregate_withMultipleSuppliers_shouldAggregateDataInOrder() {
+        StringDataSupplier slowSupplier = () -> {
+            sleep();
+            return new String[]{"First", "Second"};
+        };
+        StringDataSupplier fastSupplier = () -> new String[]{"Third"};
+
+        String[] data = AGGREGATOR.aggregate(slowSupplier, fastSupplier, slowSupplier);
+
+        assertArrayEquals(new String[]{"First", "Second", "Third", "First", "Second"}, data);
+    }
+
+    @Test
+    @DisplayName("Should present data from multiple suppliers as a view in order")
+    void aggregateView_withMultipleSuppliers_shouldPresentDataInOrder() {
+        StringDataSupplier slowSupplier = () -> {
+            sleep();
+            return new String[]{"First"};
+        };
+        StringDataSupplier fastSupplier = () -> new String[]{"Second", "Third"};
+
+        List<String> data = AGGREGATOR.aggregateView(slowSupplier, fastSupplier);
+
+        assertEquals(List.of("First", "Second", "Third"), data);
+    }
+
+    @Test
+    @DisplayName("Should evaluate suppliers concurrently")
+    void aggregate_withMultipleSuppliers_shouldEvaluateConcurrently() {
+        CountDownLatch latch = new CountDownLatch(2);
+        StringDataSupplier supplier = () -> {
+            latch.countDown();
+            return new String[]{String.valueOf(await(latch))};
+        };
+
+        String[] data = AGGREGATOR.aggregate(supplier, supplier);
+
+        assertArrayEquals(new String[]{"true", "true"}, data);
+    }
+
+    @Test
+    @DisplayName("Should rethrow exception thrown by a supplier")
+    void aggregate_withFailingSupplier_shouldRethrowException() {
+        StringDataSupplier failingSupplier = () -> {
+            throw new IllegalStateException("Failure");
+        };
+
+        assertThrows(
+                IllegalStateException.class,
+                () -> AGGREGATOR.aggregate(new TestSupplier(), failingSupplier)
+        );
+    }
+
+    @Test
+    @DisplayName("Should start asynchronous suppliers without occupying the executor")
+    void aggregate_withAsyncSuppliers_shouldNotOccupyExecutor() {
+        CompletableFuture<String[]> pending = new CompletableFuture<>();
+        AsyncDataSupplier<String> asyncSupplier = () -> pending;
+        StringDataSupplier blockingSupplier = () -> {
+            pending.complete(new String[]{"Async"});
+            return new String[]{"Blocking"};
+        };
+        ParallelDataAggregator<String> aggregator = new ParallelDataAggregator<>(String[]::new, task -> {
+            throw new AssertionError("Executor should not be used");
+        });
+
+        String[] data = aggregator.aggregate(blockingSupplier, asyncSupplier, asyncSupplier);
+
+        assertArrayEquals(new String[]{"Blocking", "Async", "Async"}, data);
+    }
+
+    private static void sleep() {
+        try {
+            Thread.sleep(50);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private static boolean await(CountDownLatch latch) {
+        try {
+            return latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+}
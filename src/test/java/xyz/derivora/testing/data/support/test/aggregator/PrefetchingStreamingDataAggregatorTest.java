@@ -0,0 +1,202 @@
+/*
+ * This file is part of Derivora Testing Data Support.
+ *
+ * Derivora Testing Data Support is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Derivora Testing Data Support is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with Derivora Testing Data Support. If not, see https://www.gnu.org/licenses/lgpl-3.0.html.
+ */
+
+package xyz.derivora.testing.data.support.test.aggregator;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import xyz.derivora.testing.data.support.aggregator.PrefetchingStreamingDataAggregator;
+import xyz.derivora.testing.data.support.supplier.ChunkedDataSupplier;
+import xyz.derivora.testing.data.support.supplier.StreamingDataSupplier;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@Tag("xyz/derivora/testing/data/support/supplier/aggregator")
+@DisplayName("Tests for PrefetchingStreamingDataAggregator")
+class PrefetchingStreamingDataAggregatorTest {
+
+    private static final PrefetchingStreamingDataAggregator<Long> AGGREGATOR = new PrefetchingStreamingDataAggregator<>(2);
+
+    @Test
+    @DisplayName("Should throw IllegalArgumentException when capacity is not positive")
+    void constructor_withNonPositiveCapacity_shouldThrowIllegalArgumentException() {
+        assertThrows(
+                IllegalArgumentException.class,
+                () -> new PrefetchingStreamingDataAggregator<>(0)
+        );
+    }
+
+    @Test
+    @DisplayName("Should throw NullPointerException when thread factory is null")
+    void constructor_withNullThreadFactory_shouldThrowNullPointerException() {
+        assertThrows(
+                NullPointerException.class,
+                () -> new PrefetchingStreamingDataAggregator<>(1, null)
+        );
+    }
+
+    @Test
+    @DisplayName("Should throw NullPointerException when suppliers array is null")
+    void aggregate_withNullArray_shouldThrowNullPointerException() {
+        assertThrows(
+                NullPointerException.class,
+                () -> AGGREGATOR.aggregate((StreamingDataSupplier<Long>[]) null)
+        );
+    }
+
+    @Test
+    @DisplayName("Should return an empty stream when no suppliers are provided")
+    void aggregate_withoutSuppliers_shouldReturnEmptyStream() {
+        assertEquals(0, AGGREGATOR.aggregate().count());
+    }
+
+    @Test
+    @DisplayName("Should aggregate data of chunked and other suppliers in order")
+    @SuppressWarnings("unchecked")
+    void aggregate_withMultipleSuppliers_shouldAggregateDataInOrder() {
+        ChunkedDataSupplier<Long> chunkedSupplier = ChunkedDataSupplier.generate(5, 2, PrefetchingStreamingDataAggregatorTest::range);
+        StreamingDataSupplier<Long> streamingSupplier = () -> Stream.iterate(100L, i -> i + 1).limit(150);
+
+        try (Stream<Long> data = AGGREGATOR.aggregate(chunkedSupplier, streamingSupplier)) {
+            List<Long> expected = Stream.concat(Stream.iterate(0L, i -> i + 1).limit(5),
+                                                Stream.iterate(100L, i -> i + 1).limit(150)).toList();
+
+            assertEquals(expected, data.toList());
+        }
+    }
+
+    @Test
+    @DisplayName("Should produce chunks ahead of consumption up to the queue capacity")
+    void aggregate_withChunkedSupplier_shouldPrefetchUpToCapacity() throws InterruptedException {
+        AtomicInteger produced = new AtomicInteger();
+        CountDownLatch prefetched = new CountDownLatch(4);
+        ChunkedDataSupplier<Long> supplier = ChunkedDataSupplier.generate(10, 1, (offset, length) -> {
+            produced.incrementAndGet();
+            prefetched.countDown();
+            return range(offset, length);
+        });
+
+        try (Stream<Long> data = AGGREGATOR.aggregate(supplier)) {
+            Iterator<Long> iterator = data.iterator();
+            assertEquals(0L, iterator.next());
+            assertTrue(prefetched.await(5, TimeUnit.SECONDS));
+            Thread.sleep(50);
+
+            assertEquals(4, produced.get());
+            assertEquals(1L, iterator.next());
+        }
+    }
+
+    @Test
+    @DisplayName("Should not start producing data before the first element is requested")
+    void aggregate_withoutConsumption_shouldNotStartProducer() {
+        AtomicInteger threads = new AtomicInteger();
+        PrefetchingStreamingDataAggregator<Long> aggregator = new PrefetchingStreamingDataAggregator<>(1, task -> {
+            threads.incrementAndGet();
+            Thread thread = new Thread(task);
+            thread.setDaemon(true);
+            return thread;
+        });
+
+        Stream<Long> data = aggregator.aggregate(ChunkedDataSupplier.generate(10, 1, PrefetchingStreamingDataAggregatorTest::range));
+        assertEquals(0, threads.get());
+
+        data.close();
+        assertEquals(0, threads.get());
+    }
+
+    @Test
+    @DisplayName("Should stop producing data without interrupting the producer when the stream is closed")
+    void close_withPendingChunks_shouldStopProducer() throws InterruptedException {
+        CountDownLatch stopped = new CountDownLatch(1);
+        AtomicBoolean interrupted = new AtomicBoolean();
+        PrefetchingStreamingDataAggregator<Long> aggregator = new PrefetchingStreamingDataAggregator<>(1, task -> {
+            Thread thread = new Thread(() -> {
+                task.run();
+                interrupted.set(Thread.currentThread().isInterrupted());
+                stopped.countDown();
+            });
+            thread.setDaemon(true);
+            return thread;
+        });
+
+        Stream<Long> data = aggregator.aggregate(ChunkedDataSupplier.generate(Long.MAX_VALUE, 1,
+                                                                              PrefetchingStreamingDataAggregatorTest::range));
+        assertEquals(List.of(0L), data.limit(1).toList());
+        data.close();
+
+        assertTrue(stopped.await(5, TimeUnit.SECONDS));
+        assertFalse(interrupted.get());
+    }
+
+    @Test
+    @DisplayName("Should close the stream of the supplier being read when closed")
+    void close_withStreamingSupplier_shouldCloseSupplierStream() throws InterruptedException {
+        CountDownLatch closed = new CountDownLatch(1);
+        AtomicBoolean requested = new AtomicBoolean();
+        StreamingDataSupplier<Long> supplier = () -> {
+            requested.set(true);
+            return Stream.iterate(0L, i -> i + 1).onClose(closed::countDown);
+        };
+
+        Stream<Long> data = new PrefetchingStreamingDataAggregator<Long>(1).aggregate(supplier);
+        assertEquals(List.of(0L), data.limit(1).toList());
+        data.close();
+
+        assertTrue(requested.get());
+        assertTrue(closed.await(5, TimeUnit.SECONDS));
+    }
+
+    @Test
+    @DisplayName("Should rethrow exception of a failing supplier after the preceding elements")
+    void aggregate_withFailingSupplier_shouldRethrowExceptionAfterPrecedingElements() {
+        ChunkedDataSupplier<Long> supplier = () -> List.<Long[]>of(new Long[]{0L, 1L}).iterator();
+        ChunkedDataSupplier<Long> failingSupplier = () -> {
+            throw new IllegalStateException("Failure");
+        };
+
+        assertTimeoutPreemptively(Duration.ofSeconds(5), () -> {
+            try (Stream<Long> data = AGGREGATOR.aggregate(supplier, failingSupplier)) {
+                List<Long> consumed = new ArrayList<>();
+                assertThrows(
+                        IllegalStateException.class,
+                        () -> data.forEach(consumed::add)
+                );
+                assertEquals(List.of(0L, 1L), consumed);
+            }
+        });
+    }
+
+    private static Long[] range(long offset, int length) {
+        Long[] chunk = new Long[length];
+        for (int i = 0; i < length; i++) {
+            chunk[i] = offset + i;
+        }
+        return chunk;
+    }
+}
@@ -0,0 +1,317 @@
+/*
+ * This file is part of Derivora Testing Data Support.
+ *
+ * Derivora Testing Data Support is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Derivora Testing Data Support is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with Derivora Testing Data Support. If not, see https://www.gnu.org/licenses/lgpl-3.0.html.
+ */
+
+package xyz.derivora.testing.data.support.test.cache;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import xyz.derivora.testing.data.support.aggregator.FlatDataAggregator;
+import xyz.derivora.testing.data.support.cache.CacheableDataSupplier;
+import xyz.derivora.testing.data.support.cache.CachingDataAggregator;
+import xyz.derivora.testing.data.support.cache.DataSupplierCache;
+import xyz.derivora.testing.data.support.supplier.AsyncDataSupplier;
+import xyz.derivora.testing.data.support.supplier.DataSupplier;
+import xyz.derivora.testing.data.support.test.supplier.StringDataSupplier;
+
+import java.io.IOException;
+import java.io.ObjectOutputStream;
+import java.io.Serializable;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@Tag("xyz/derivora/testing/data/support/cache")
+@DisplayName("Tests for DataSupplierCache")
+class DataSupplierCacheTest {
+
+    @TempDir
+    Path directory;
+
+    @Test
+    @DisplayName("Should throw NullPointerException when directory is null")
+    void constructor_withNullDirectory_shouldThrowNullPointerException() {
+        assertThrows(
+                NullPointerException.class,
+                () -> new DataSupplierCache(null)
+        );
+    }
+
+    @Test
+    @DisplayName("Should throw NullPointerException when supplier is null")
+    void get_withNullSupplier_shouldThrowNullPointerException() {
+        DataSupplierCache cache = new DataSupplierCache(directory);
+
+        assertThrows(
+                NullPointerException.class,
+                () -> cache.get(null)
+        );
+    }
+
+    @Test
+    @DisplayName("Should compute output once and load it from disk afterwards")
+    void get_withCachedEntry_shouldNotCallSupplierAgain() {
+        CountingSupplier supplier = new CountingSupplier();
+
+        String[] first = new DataSupplierCache(directory).get(supplier);
+        String[] second = new DataSupplierCache(directory).get(supplier);
+
+        assertArrayEquals(new String[]{"First", "Second"}, first);
+        assertArrayEquals(first, second);
+        assertEquals(1, supplier.calls.get());
+    }
+
+    @Test
+    @DisplayName("Should recompute output when a declared input file changes")
+    void get_withChangedInputFile_shouldCallSupplierAgain() throws IOException {
+        Path input = Files.writeString(directory.resolve("input.txt"), "First");
+        FileSupplier supplier = new FileSupplier(input);
+        DataSupplierCache cache = new DataSupplierCache(directory.resolve("cache"));
+
+        assertArrayEquals(new String[]{"First"}, cache.get(supplier));
+
+        Files.writeString(input, "Second");
+
+        assertArrayEquals(new String[]{"Second"}, cache.get(supplier));
+        assertEquals(2, supplier.calls.get());
+    }
+
+    @Test
+    @DisplayName("Should recompute output when a cache entry is corrupted")
+    void get_withCorruptedEntry_shouldCallSupplierAgain() throws IOException {
+        CountingSupplier supplier = new CountingSupplier();
+        DataSupplierCache cache = new DataSupplierCache(directory);
+        cache.get(supplier);
+
+        try (var entries = Files.list(directory)) {
+            for (Path entry : entries.filter(path -> path.toString().endsWith(".ser")).toList()) {
+                Files.write(entry, new byte[]{1, 2, 3});
+            }
+        }
+
+        assertArrayEquals(new String[]{"First", "Second"}, cache.get(supplier));
+        assertEquals(2, supplier.calls.get());
+    }
+
+    @Test
+    @DisplayName("Should load entries containing declared cache types")
+    void get_withDeclaredCacheTypes_shouldNotCallSupplierAgain() {
+        PointSupplier supplier = new PointSupplier(Point.class);
+        DataSupplierCache cache = new DataSupplierCache(directory);
+
+        cache.get(supplier);
+
+        assertArrayEquals(new Point[]{new Point(1, 2)}, cache.get(supplier));
+        assertEquals(1, supplier.calls.get());
+    }
+
+    @Test
+    @DisplayName("Should recompute output when an entry contains undeclared classes")
+    void get_withUndeclaredCacheTypes_shouldCallSupplierAgain() {
+        PointSupplier supplier = new PointSupplier();
+        DataSupplierCache cache = new DataSupplierCache(directory);
+
+        cache.get(supplier);
+
+        assertArrayEquals(new Point[]{new Point(1, 2)}, cache.get(supplier));
+        assertEquals(2, supplier.calls.get());
+    }
+
+    @Test
+    @DisplayName("Should recompute output when an entry is replaced by objects of other classes")
+    void get_withTamperedEntry_shouldCallSupplierAgain() throws IOException {
+        CountingSupplier supplier = new CountingSupplier();
+        DataSupplierCache cache = new DataSupplierCache(directory);
+        cache.get(supplier);
+
+        try (var entries = Files.list(directory)) {
+            for (Path entry : entries.filter(path -> path.toString().endsWith(".ser")).toList()) {
+                try (ObjectOutputStream output = new ObjectOutputStream(Files.newOutputStream(entry))) {
+                    output.writeObject(new Object[]{new Date(0)});
+                }
+            }
+        }
+
+        assertArrayEquals(new String[]{"First", "Second"}, cache.get(supplier));
+        assertEquals(2, supplier.calls.get());
+    }
+
+    @Test
+    @DisplayName("Should recompute output when an entry is nested too deeply")
+    void get_withDeeplyNestedEntry_shouldCallSupplierAgain() {
+        NodeSupplier supplier = new NodeSupplier(64);
+        DataSupplierCache cache = new DataSupplierCache(directory);
+
+        cache.get(supplier);
+        Node[] data = cache.get(supplier);
+
+        assertEquals(1, data.length);
+        assertEquals(2, supplier.calls.get());
+    }
+
+    @Test
+    @DisplayName("Should serve cacheable suppliers from cache and pass others through")
+    void aggregate_withCachingAggregator_shouldServeCacheableSuppliersFromCache() {
+        CountingSupplier cacheable = new CountingSupplier();
+        StringDataSupplier plain = () -> new String[]{"Third"};
+        CachingDataAggregator<String> aggregator = new CachingDataAggregator<>(
+                new FlatDataAggregator<>(String[]::new),
+                new DataSupplierCache(directory)
+        );
+
+        aggregator.aggregate(cacheable, plain);
+        String[] data = aggregator.aggregate(cacheable, plain);
+
+        assertArrayEquals(new String[]{"First", "Second", "Third"}, data);
+        assertEquals(1, cacheable.calls.get());
+    }
+
+    @Test
+    @DisplayName("Should keep cacheable asynchronous suppliers asynchronous")
+    void aggregate_withCacheableAsyncSupplier_shouldPassAsyncSupplier() {
+        AsyncCountingSupplier cacheable = new AsyncCountingSupplier();
+        List<DataSupplier<String>> aggregated = new ArrayList<>();
+        CachingDataAggregator<String> aggregator = new CachingDataAggregator<>(
+                suppliers -> {
+                    aggregated.addAll(List.of(suppliers));
+                    return new FlatDataAggregator<>(String[]::new).aggregate(suppliers);
+                },
+                new DataSupplierCache(directory)
+        );
+
+        aggregator.aggregate(cacheable);
+        String[] data = aggregator.aggregate(cacheable);
+
+        assertArrayEquals(new String[]{"First"}, data);
+        assertEquals(1, cacheable.calls.get());
+        assertInstanceOf(AsyncDataSupplier.class, aggregated.get(0));
+    }
+
+    static final class AsyncCountingSupplier implements CacheableDataSupplier<String>, AsyncDataSupplier<String> {
+
+        final AtomicInteger calls = new AtomicInteger();
+
+        @Override
+        public CompletableFuture<String[]> getAsync() {
+            calls.incrementAndGet();
+            return CompletableFuture.completedFuture(new String[]{"First"});
+        }
+
+        @Override
+        public String[] get() {
+            return AsyncDataSupplier.super.get();
+        }
+    }
+
+    static final class CountingSupplier implements CacheableDataSupplier<String> {
+
+        final AtomicInteger calls = new AtomicInteger();
+
+        @Override
+        public String[] get() {
+            calls.incrementAndGet();
+            return new String[]{"First", "Second"};
+        }
+    }
+
+    static final class FileSupplier implements CacheableDataSupplier<String> {
+
+        final AtomicInteger calls = new AtomicInteger();
+
+        final Path input;
+
+        FileSupplier(Path input) {
+            this.input = input;
+        }
+
+        @Override
+        public String[] get() {
+            calls.incrementAndGet();
+            try {
+                return new String[]{Files.readString(input)};
+            } catch (IOException e) {
+                throw new IllegalStateException(e);
+            }
+        }
+
+        @Override
+        public Object[] cacheInputs() {
+            return new Object[]{input};
+        }
+    }
+
+    record Point(int x, int y) implements Serializable {
+    }
+
+    static final class PointSupplier implements CacheableDataSupplier<Point> {
+
+        final AtomicInteger calls = new AtomicInteger();
+
+        final Class<?>[] types;
+
+        PointSupplier(Class<?>... types) {
+            this.types = types;
+        }
+
+        @Override
+        public Point[] get() {
+            calls.incrementAndGet();
+            return new Point[]{new Point(1, 2)};
+        }
+
+        @Override
+        public Class<?>[] cacheTypes() {
+            return types;
+        }
+    }
+
+    record Node(Node next) implements Serializable {
+    }
+
+    static final class NodeSupplier implements CacheableDataSupplier<Node> {
+
+        final AtomicInteger calls = new AtomicInteger();
+
+        final int depth;
+
+        NodeSupplier(int depth) {
+            this.depth = depth;
+        }
+
+        @Override
+        public Node[] get() {
+            calls.incrementAndGet();
+            Node node = null;
+            for (int i = 0; i < depth; i++) {
+                node = new Node(node);
+            }
+            return new Node[]{node};
+        }
+
+        @Override
+        public Class<?>[] cacheTypes() {
+            return new Class<?>[]{Node.class};
+        }
+    }
+}
@@ -0,0 +1,143 @@
+/*
+ * This file is part of Derivora Testing Data Support.
+ *
+ * Derivora Testing Data Support is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Derivora Testing Data Support is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with Derivora Testing Data Support. If not, see https://www.gnu.org/licenses/lgpl-3.0.html.
+ */
+
+package xyz.derivora.testing.data.support.test.context;
+
+import org.junit.jupiter.api.extension.ExtensionContext;
+import org.junit.jupiter.api.parallel.ExecutionMode;
+
+import java.lang.reflect.AnnotatedElement;
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+
+public final class TestExtensionContext implements InvocationHandler {
+
+    private final ExtensionContext parent;
+
+    private final String uniqueId;
+
+    private final Class<?> testClass;
+
+    private final Method testMethod;
+
+    private final Map<String, String> parameters;
+
+    private final Map<ExtensionContext.Namespace, TestStore> stores = new ConcurrentHashMap<>();
+
+    private final Map<String, String> reportEntries = new ConcurrentHashMap<>();
+
+    private TestExtensionContext(ExtensionContext parent, String uniqueId, Class<?> testClass, Method testMethod,
+                                 Map<String, String> parameters) {
+        this.parent = parent;
+        this.uniqueId = uniqueId;
+        this.testClass = testClass;
+        this.testMethod = testMethod;
+        this.parameters = parameters;
+    }
+
+    public static ExtensionContext root() {
+        return root(Map.of());
+    }
+
+    public static ExtensionContext root(Map<String, String> parameters) {
+        return create(new TestExtensionContext(null, "[engine:junit-jupiter]", null, null, Map.copyOf(parameters)));
+    }
+
+    public static ExtensionContext forClass(ExtensionContext parent, Class<?> testClass) {
+        String uniqueId = parent.getUniqueId() + "/[class:" + testClass.getName() + "]";
+        return create(new TestExtensionContext(parent, uniqueId, testClass, null, handlerOf(parent).parameters));
+    }
+
+    public static ExtensionContext forMethod(ExtensionContext parent, Method method) {
+        String uniqueId = parent.getUniqueId() + "/[method:" + method.getName() + "()]";
+        Class<?> testClass = parent.getTestClass().orElse(method.getDeclaringClass());
+        return create(new TestExtensionContext(parent, uniqueId, testClass, method,
+                                               handlerOf(parent).parameters));
+    }
+
+    public static ExtensionContext forMethod(Method method) {
+        return forMethod(method, Map.of());
+    }
+
+    public static ExtensionContext forMethod(Method method, Map<String, String> parameters) {
+        return forMethod(forClass(root(parameters), method.getDeclaringClass()), method);
+    }
+
+    public static Map<String, String> reportEntries(ExtensionContext context) {
+        return handlerOf(context).reportEntries;
+    }
+
+    public static void close(ExtensionContext context) {
+        handlerOf(context).stores.values().forEach(TestStore::close);
+    }
+
+    private static ExtensionContext create(TestExtensionContext handler) {
+        return (ExtensionContext) Proxy.newProxyInstance(
+                ExtensionContext.class.getClassLoader(),
+                new Class<?>[]{ExtensionContext.class},
+                handler
+        );
+    }
+
+    private static TestExtensionContext handlerOf(ExtensionContext context) {
+        return (TestExtensionContext) Proxy.getInvocationHandler(context);
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public Object invoke(Object proxy, Method method, Object[] arguments) throws Throwable {
+        return switch (method.getName()) {
+            case "getParent" -> Optional.ofNullable(parent);
+            case "getRoot" -> parent == null ? proxy : parent.getRoot();
+            case "getUniqueId", "getDisplayName", "toString" -> uniqueId;
+            case "getTags" -> Set.of();
+            case "getElement" -> Optional.ofNullable(testMethod != null ? testMethod : (AnnotatedElement) testClass);
+            case "getTestClass" -> Optional.ofNullable(testClass);
+            case "getTestMethod" -> Optional.ofNullable(testMethod);
+            case "getConfigurationParameter" -> {
+                Optional<String> value = Optional.ofNullable(parameters.get((String) arguments[0]));
+                yield arguments.length == 1 ? value : value.map((Function<String, ?>) arguments[1]);
+            }
+            case "publishReportEntry" -> {
+                if (arguments[0] instanceof Map<?, ?> entries) {
+                    reportEntries.putAll((Map<String, String>) entries);
+                    yield null;
+                }
+                yield InvocationHandler.invokeDefault(proxy, method, arguments);
+            }
+            case "getStore" -> stores.computeIfAbsent((ExtensionContext.Namespace) arguments[0], namespace -> new TestStore());
+            case "getExecutionMode" -> ExecutionMode.SAME_THREAD;
+            case "hashCode" -> System.identityHashCode(proxy);
+            case "equals" -> proxy == arguments[0];
+            default -> {
+                if (method.isDefault()) {
+                    yield InvocationHandler.invokeDefault(proxy, method, arguments);
+                }
+                if (method.getReturnType() == Optional.class) {
+                    yield Optional.empty();
+                }
+                throw new UnsupportedOperationException(method.getName());
+            }
+        };
+    }
+}
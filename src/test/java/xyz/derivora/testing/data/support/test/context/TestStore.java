@@ -0,0 +1,108 @@
+/*
+ * This file is part of Derivora Testing Data Support.
+ *
+ * Derivora Testing Data Support is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Derivora Testing Data Support is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with Derivora Testing Data Support. If not, see https://www.gnu.org/licenses/lgpl-3.0.html.
+ */
+
+package xyz.derivora.testing.data.support.test.context;
+
+import org.junit.jupiter.api.extension.ExtensionContext;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+
+public final class TestStore implements ExtensionContext.Store {
+
+    private final Map<Object, Object> values = new LinkedHashMap<>();
+
+    private boolean closed;
+
+    @Override
+    public synchronized Object get(Object key) {
+        requireOpen();
+        return values.get(key);
+    }
+
+    @Override
+    public <V> V get(Object key, Class<V> requiredType) {
+        return requiredType.cast(get(key));
+    }
+
+    @Override
+    public synchronized <K, V> Object getOrComputeIfAbsent(K key, Function<K, V> defaultCreator) {
+        requireOpen();
+        Object value = values.get(key);
+        if (value == null) {
+            value = defaultCreator.apply(key);
+            values.put(key, value);
+        }
+        return value;
+    }
+
+    @Override
+    public <K, V> V getOrComputeIfAbsent(K key, Function<K, V> defaultCreator, Class<V> requiredType) {
+        return requiredType.cast(getOrComputeIfAbsent(key, defaultCreator));
+    }
+
+    @Override
+    public synchronized void put(Object key, Object value) {
+        requireOpen();
+        values.put(key, value);
+    }
+
+    @Override
+    public synchronized Object remove(Object key) {
+        requireOpen();
+        return values.remove(key);
+    }
+
+    @Override
+    public <V> V remove(Object key, Class<V> requiredType) {
+        return requiredType.cast(remove(key));
+    }
+
+    public synchronized boolean isClosed() {
+        return closed;
+    }
+
+    synchronized void close() {
+        if (closed) {
+            return;
+        }
+
+        closed = true;
+        List<Object> resources = new ArrayList<>(values.values());
+        Collections.reverse(resources);
+        values.clear();
+        for (Object resource : resources) {
+            if (resource instanceof ExtensionContext.Store.CloseableResource closeable) {
+                try {
+                    closeable.close();
+                } catch (Throwable e) {
+                    throw new IllegalStateException(e);
+                }
+            }
+        }
+    }
+
+    private void requireOpen() {
+        if (closed) {
+            throw new IllegalStateException("Store is closed");
+        }
+    }
+}
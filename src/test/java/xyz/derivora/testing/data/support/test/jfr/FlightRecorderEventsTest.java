@@ -0,0 +1,136 @@
+/*
+ * This file is part of Derivora Testing Data Support.
+ *
+ * Derivora Testing Data Support is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Derivora Testing Data Support is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with Derivora Testing Data Support. If not, see https://www.gnu.org/licenses/lgpl-3.0.html.
+ */
+
+package xyz.derivora.testing.data.support.test.jfr;
+
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import xyz.derivora.testing.data.support.aggregator.FlatDataAggregator;
+import xyz.derivora.testing.data.support.cache.CacheableDataSupplier;
+import xyz.derivora.testing.data.support.cache.CachingDataAggregator;
+import xyz.derivora.testing.data.support.cache.DataSupplierCache;
+import xyz.derivora.testing.data.support.supplier.DataSupplier;
+import xyz.derivora.testing.data.support.supplier.resolver.DataSupplierResolver;
+import xyz.derivora.testing.data.support.test.supplier.StringDataSupplier;
+
+import java.nio.file.Path;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@Tag("xyz/derivora/testing/data/support/jfr")
+@DisplayName("Tests for Java Flight Recorder events")
+class FlightRecorderEventsTest {
+
+    private static final String RESOLUTION_EVENT = "xyz.derivora.testing.data.SupplierResolution";
+
+    private static final String AGGREGATION_EVENT = "xyz.derivora.testing.data.Aggregation";
+
+    @TempDir
+    Path directory;
+
+    @Test
+    @DisplayName("Should record supplier resolution and aggregation events")
+    void resolveAndAggregate_withRecording_shouldRecordEvents() throws Exception {
+        Path file = directory.resolve("events.jfr");
+
+        try (Recording recording = new Recording()) {
+            recording.enable(RESOLUTION_EVENT).withoutThreshold();
+            recording.enable(AGGREGATION_EVENT).withoutThreshold();
+            recording.start();
+
+            DataSupplier<String>[] suppliers = DataSupplierResolver.getInstance(StringDataSupplier[]::new)
+                                                                 .resolve(PairSupplier.class, SingleSupplier.class,
+                                                                          PairSupplier.class);
+            new FlatDataAggregator<>(String[]::new).aggregate(suppliers);
+
+            recording.stop();
+            recording.dump(file);
+        }
+
+        List<RecordedEvent> events = RecordingFile.readAllEvents(file);
+        List<RecordedEvent> resolutions = events.stream()
+                                                .filter(event -> event.getEventType().getName().equals(RESOLUTION_EVENT))
+                                                .toList();
+        List<RecordedEvent> aggregations = events.stream()
+                                                 .filter(event -> event.getEventType().getName().equals(AGGREGATION_EVENT))
+                                                 .toList();
+
+        assertEquals(3, resolutions.size());
+        assertEquals(PairSupplier.class.getName(), resolutions.get(0).getClass("supplierClass").getName());
+        assertEquals(SingleSupplier.class.getName(), resolutions.get(1).getClass("supplierClass").getName());
+        assertEquals(1, aggregations.size());
+        assertEquals(PairSupplier.class.getName() + "," + SingleSupplier.class.getName(),
+                     aggregations.get(0).getString("supplierClasses"));
+        assertEquals(3, aggregations.get(0).getInt("supplierCount"));
+        assertEquals(5, aggregations.get(0).getInt("rowCount"));
+    }
+
+    @Test
+    @DisplayName("Should record the classes of cached suppliers in aggregation events")
+    void aggregate_withCachingAggregator_shouldRecordOriginalSupplierClasses() throws Exception {
+        Path file = directory.resolve("events.jfr");
+
+        try (Recording recording = new Recording()) {
+            recording.enable(AGGREGATION_EVENT).withoutThreshold();
+            recording.start();
+
+            new CachingDataAggregator<>(new FlatDataAggregator<>(String[]::new), new DataSupplierCache(directory))
+                    .aggregate(new CachedSupplier(), new SingleSupplier());
+
+            recording.stop();
+            recording.dump(file);
+        }
+
+        List<RecordedEvent> aggregations = RecordingFile.readAllEvents(file).stream()
+                                                        .filter(event -> event.getEventType().getName().equals(AGGREGATION_EVENT))
+                                                        .toList();
+
+        assertEquals(1, aggregations.size());
+        assertEquals(CachedSupplier.class.getName() + "," + SingleSupplier.class.getName(),
+                     aggregations.get(0).getString("supplierClasses"));
+    }
+
+    public static class CachedSupplier implements CacheableDataSupplier<String> {
+
+        @Override
+        public String[] get() {
+            return new String[]{"Cached"};
+        }
+    }
+
+    public static class PairSupplier implements StringDataSupplier {
+
+        @Override
+        public String[] get() {
+            return new String[]{"First", "Second"};
+        }
+    }
+
+    public static class SingleSupplier implements StringDataSupplier {
+
+        @Override
+        public String[] get() {
+            return new String[]{"Third"};
+        }
+    }
+}
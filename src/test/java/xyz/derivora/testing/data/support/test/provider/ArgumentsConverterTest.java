@@ -0,0 +1,141 @@
+/*
+ * This file is part of Derivora Testing Data Support.
+ *
+ * Derivora Testing Data Support is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Derivora Testing Data Support is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with Derivora Testing Data Support. If not, see https://www.gnu.org/licenses/lgpl-3.0.html.
+ */
+
+package xyz.derivora.testing.data.support.test.provider;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtensionContext;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+import xyz.derivora.testing.data.support.provider.DataProvider;
+import xyz.derivora.testing.data.support.test.context.TestExtensionContext;
+
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.util.Arrays;
+import java.util.List;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@Tag("xyz/derivora/testing/data/support/provider")
+@DisplayName("Tests for ArgumentsConverter")
+class ArgumentsConverterTest {
+
+    @Test
+    @DisplayName("Should pass a non-array row as a single argument")
+    void provideArguments_withSingleValueRow_shouldPassSingleArgument() throws Exception {
+        assertEquals(List.of(List.of("value")), argumentsOf("value"));
+    }
+
+    @Test
+    @DisplayName("Should pass the items of a reference array row as separate arguments")
+    void provideArguments_withObjectArrayRow_shouldSpreadItems() throws Exception {
+        int[] nested = {1, 2};
+
+        List<List<Object>> arguments = argumentsOf((Object) new Object[]{"value", 1, nested});
+
+        assertEquals(1, arguments.size());
+        assertEquals(List.of("value", 1), arguments.get(0).subList(0, 2));
+        assertSame(nested, arguments.get(0).get(2));
+    }
+
+    @ParameterizedTest
+    @MethodSource("primitiveArrays")
+    @DisplayName("Should pass the boxed items of a primitive array row as separate arguments")
+    void provideArguments_withPrimitiveArrayRow_shouldSpreadBoxedItems(Object row, List<Object> expected) throws Exception {
+        assertEquals(List.of(expected), argumentsOf(row));
+    }
+
+    @Test
+    @DisplayName("Should pass an empty array row as no arguments")
+    void provideArguments_withEmptyArrayRow_shouldPassNoArguments() throws Exception {
+        assertEquals(List.of(List.of(), List.of()), argumentsOf(new int[0], new String[0]));
+    }
+
+    @Test
+    @DisplayName("Should convert each row by its own type when row types are mixed")
+    void provideArguments_withMixedRowTypes_shouldConvertEachRow() throws Exception {
+        List<List<Object>> arguments = argumentsOf(
+                "first", new int[]{1, 2}, new int[]{3}, new Object[]{"a", "b"}, "second",
+                new double[]{0.5}, new char[]{'c'}, new int[]{4}, 5L
+        );
+
+        assertEquals(
+                List.of(List.of("first"), List.of(1, 2), List.of(3), List.of("a", "b"), List.of("second"),
+                        List.of(0.5), List.of('c'), List.of(4), List.of(5L)),
+                arguments
+        );
+    }
+
+    @Test
+    @DisplayName("Should throw NullPointerException when a row is null")
+    void provideArguments_withNullRow_shouldThrowNullPointerException() {
+        assertThrows(
+                NullPointerException.class,
+                () -> argumentsOf("value", null)
+        );
+    }
+
+    private static Stream<Arguments> primitiveArrays() {
+        return Stream.of(
+                Arguments.of(new int[]{1, 2}, List.of(1, 2)),
+                Arguments.of(new long[]{1L, 2L}, List.of(1L, 2L)),
+                Arguments.of(new double[]{1.5, 2.5}, List.of(1.5, 2.5)),
+                Arguments.of(new float[]{1.5f, 2.5f}, List.of(1.5f, 2.5f)),
+                Arguments.of(new short[]{1, 2}, List.of((short) 1, (short) 2)),
+                Arguments.of(new byte[]{1, 2}, List.of((byte) 1, (byte) 2)),
+                Arguments.of(new char[]{'a', 'b'}, List.of('a', 'b')),
+                Arguments.of(new boolean[]{true, false}, List.of(true, false))
+        );
+    }
+
+    private static List<List<Object>> argumentsOf(Object... rows) throws Exception {
+        ExtensionContext context = TestExtensionContext.forMethod(
+                ArgumentsConverterTest.class.getDeclaredMethod("rowsMethod"));
+
+        try (Stream<? extends Arguments> arguments = new RowsDataProvider(rows).provideArguments(context)) {
+            return arguments.map(argument -> Arrays.asList(argument.get())).toList();
+        }
+    }
+
+    @TestRows
+    private static void rowsMethod() {
+    }
+
+    @Retention(RetentionPolicy.RUNTIME)
+    @interface TestRows {
+    }
+
+    private static class RowsDataProvider extends DataProvider<TestRows> {
+
+        private final Object[] rows;
+
+        RowsDataProvider(Object[] rows) {
+            super(TestRows.class);
+            this.rows = rows;
+        }
+
+        @Override
+        protected Object[] resolveData(ExtensionContext context, TestRows annotation) {
+            return rows;
+        }
+    }
+}
@@ -0,0 +1,150 @@
+/*
+ * This file is part of Derivora Testing Data Support.
+ *
+ * Derivora Testing Data Support is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Derivora Testing Data Support is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with Derivora Testing Data Support. If not, see https://www.gnu.org/licenses/lgpl-3.0.html.
+ */
+
+package xyz.derivora.testing.data.support.test.provider;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.provider.Arguments;
+import xyz.derivora.testing.data.support.aggregator.FlatDataAggregator;
+import xyz.derivora.testing.data.support.provider.DirectDataProvider;
+import xyz.derivora.testing.data.support.supplier.DataSupplier;
+import xyz.derivora.testing.data.support.test.context.TestExtensionContext;
+import xyz.derivora.testing.data.support.test.supplier.StringDataSupplier;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Repeatable;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+import java.lang.reflect.Method;
+import java.util.List;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@Tag("xyz/derivora/testing/data/support/provider")
+@DisplayName("Tests for annotation discovery in DataProvider")
+class DataProviderAnnotationTest {
+
+    @Test
+    @DisplayName("Should provide data of a directly present annotation")
+    void provideArguments_withDirectAnnotation_shouldProvideData() throws Exception {
+        assertEquals(List.of("direct"), provide("directMethod"));
+    }
+
+    @Test
+    @DisplayName("Should provide data of repeated annotations in declaration order")
+    void provideArguments_withRepeatedAnnotations_shouldProvideDataInOrder() throws Exception {
+        assertEquals(List.of("first", "second"), provide("repeatedMethod"));
+    }
+
+    @Test
+    @DisplayName("Should provide data of annotations composed through meta-annotations")
+    void provideArguments_withComposedAnnotation_shouldProvideData() throws Exception {
+        assertEquals(List.of("composed", "nested"), provide("composedMethod"));
+    }
+
+    @Test
+    @DisplayName("Should provide data of direct and composed annotations together")
+    void provideArguments_withDirectAndComposedAnnotations_shouldProvideAllData() throws Exception {
+        assertEquals(List.of("direct", "composed", "nested"), provide("mixedMethod"));
+    }
+
+    @Test
+    @DisplayName("Should provide the same data on repeated invocations")
+    void provideArguments_withRepeatedInvocations_shouldProvideSameData() throws Exception {
+        assertEquals(provide("mixedMethod"), provide("mixedMethod"));
+    }
+
+    @Test
+    @DisplayName("Should provide no data when the annotation is absent")
+    void provideArguments_withoutAnnotation_shouldProvideNoData() throws Exception {
+        assertEquals(List.of(), provide("plainMethod"));
+    }
+
+    private static List<Object> provide(String methodName) throws Exception {
+        Method method = DataProviderAnnotationTest.class.getDeclaredMethod(methodName);
+
+        try (Stream<? extends Arguments> arguments = new TestDataProvider().provideArguments(TestExtensionContext.forMethod(method))) {
+            return arguments.map(argument -> argument.get()[0]).toList();
+        }
+    }
+
+    @TestData("direct")
+    private static void directMethod() {
+    }
+
+    @TestData("first")
+    @TestData("second")
+    private static void repeatedMethod() {
+    }
+
+    @ComposedData
+    private static void composedMethod() {
+    }
+
+    @TestData("direct")
+    @ComposedData
+    private static void mixedMethod() {
+    }
+
+    private static void plainMethod() {
+    }
+
+    @Retention(RetentionPolicy.RUNTIME)
+    @Target({ElementType.METHOD, ElementType.ANNOTATION_TYPE})
+    @Repeatable(TestDataContainer.class)
+    @interface TestData {
+
+        String value();
+    }
+
+    @Retention(RetentionPolicy.RUNTIME)
+    @Target({ElementType.METHOD, ElementType.ANNOTATION_TYPE})
+    @interface TestDataContainer {
+
+        TestData[] value();
+    }
+
+    @Retention(RetentionPolicy.RUNTIME)
+    @Target({ElementType.METHOD, ElementType.ANNOTATION_TYPE})
+    @TestData("nested")
+    @interface NestedData {
+    }
+
+    @Retention(RetentionPolicy.RUNTIME)
+    @Target(ElementType.METHOD)
+    @TestData("composed")
+    @NestedData
+    @interface ComposedData {
+    }
+
+    private static class TestDataProvider extends DirectDataProvider<String, TestData> {
+
+        TestDataProvider() {
+            super(TestData.class, new FlatDataAggregator<>(String[]::new));
+        }
+
+        @Override
+        protected DataSupplier<String>[] resolveSuppliers(TestData annotation) {
+            StringDataSupplier supplier = () -> new String[]{annotation.value()};
+            return new StringDataSupplier[]{supplier};
+        }
+    }
+}
@@ -0,0 +1,165 @@
+/*
+ * This file is part of Derivora Testing Data Support.
+ *
+ * Derivora Testing Data Support is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Derivora Testing Data Support is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with Derivora Testing Data Support. If not, see https://www.gnu.org/licenses/lgpl-3.0.html.
+ */
+
+package xyz.derivora.testing.data.support.test.provider;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtensionContext;
+import org.junit.jupiter.params.provider.Arguments;
+import xyz.derivora.testing.data.support.provider.DataProvider;
+import xyz.derivora.testing.data.support.test.context.TestExtensionContext;
+
+import java.io.IOException;
+import java.lang.annotation.Repeatable;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.reflect.Method;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@Tag("xyz/derivora/testing/data/support/provider")
+@DisplayName("Tests for parallel resolution in DataProvider")
+class DataProviderParallelResolutionTest {
+
+    private static final Map<String, String> PARALLEL = Map.of(DataProvider.PARALLEL_RESOLUTION_PARAMETER, "true");
+
+    @Test
+    @DisplayName("Should resolve data of repeated annotations on the calling thread by default")
+    void provideArguments_withoutParameter_shouldResolveDataOnCallingThread() throws Exception {
+        RecordingDataProvider provider = new RecordingDataProvider();
+
+        assertEquals(List.of("First", "Second", "Third"), provide(provider, "repeatedMethod", Map.of()));
+        assertEquals(Set.of(Thread.currentThread()), provider.threads);
+    }
+
+    @Test
+    @DisplayName("Should resolve data of repeated annotations concurrently when enabled")
+    void provideArguments_withParallelResolution_shouldResolveDataConcurrently() throws Exception {
+        LatchedDataProvider provider = new LatchedDataProvider(2);
+
+        List<Object> data = assertTimeoutPreemptively(
+                Duration.ofSeconds(10),
+                () -> provide(provider, "pairMethod", PARALLEL)
+        );
+
+        assertEquals(List.of("First", "Second"), data);
+    }
+
+    @Test
+    @DisplayName("Should provide data of concurrently resolved annotations in declaration order")
+    void provideArguments_withParallelResolution_shouldProvideDataInOrder() throws Exception {
+        RecordingDataProvider provider = new RecordingDataProvider();
+
+        assertEquals(List.of("First", "Second", "Third"), provide(provider, "repeatedMethod", PARALLEL));
+    }
+
+    @Test
+    @DisplayName("Should rethrow checked exception thrown while resolving data concurrently")
+    void provideArguments_withParallelResolutionAndFailure_shouldRethrowException() {
+        RecordingDataProvider provider = new RecordingDataProvider();
+
+        assertThrows(
+                IOException.class,
+                () -> provide(provider, "failingMethod", PARALLEL)
+        );
+    }
+
+    private static List<Object> provide(DataProvider<?> provider, String methodName,
+                                        Map<String, String> parameters) throws Exception {
+        Method method = DataProviderParallelResolutionTest.class.getDeclaredMethod(methodName);
+
+        try (Stream<? extends Arguments> arguments = provider.provideArguments(TestExtensionContext.forMethod(method, parameters))) {
+            return arguments.map(argument -> argument.get()[0]).toList();
+        }
+    }
+
+    @TestData("First")
+    @TestData("Second")
+    @TestData("Third")
+    private static void repeatedMethod() {
+    }
+
+    @TestData("First")
+    @TestData("Second")
+    private static void pairMethod() {
+    }
+
+    @TestData("First")
+    @TestData("")
+    @TestData("Third")
+    private static void failingMethod() {
+    }
+
+    @Retention(RetentionPolicy.RUNTIME)
+    @Repeatable(TestDataContainer.class)
+    @interface TestData {
+
+        String value();
+    }
+
+    @Retention(RetentionPolicy.RUNTIME)
+    @interface TestDataContainer {
+
+        TestData[] value();
+    }
+
+    private static class RecordingDataProvider extends DataProvider<TestData> {
+
+        private final Set<Thread> threads = ConcurrentHashMap.newKeySet();
+
+        RecordingDataProvider() {
+            super(TestData.class);
+        }
+
+        @Override
+        protected Object[] resolveData(ExtensionContext context, TestData annotation) throws IOException {
+            threads.add(Thread.currentThread());
+            if (annotation.value().isEmpty()) {
+                throw new IOException("Failure");
+            }
+
+            return new Object[]{annotation.value()};
+        }
+    }
+
+    private static class LatchedDataProvider extends DataProvider<TestData> {
+
+        private final CountDownLatch latch;
+
+        LatchedDataProvider(int count) {
+            super(TestData.class);
+            this.latch = new CountDownLatch(count);
+        }
+
+        @Override
+        protected Object[] resolveData(ExtensionContext context, TestData annotation) throws InterruptedException {
+            latch.countDown();
+            assertTrue(latch.await(5, TimeUnit.SECONDS));
+            return new Object[]{annotation.value()};
+        }
+    }
+}
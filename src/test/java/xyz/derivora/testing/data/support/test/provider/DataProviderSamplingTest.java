@@ -0,0 +1,266 @@
+/*
+ * This file is part of Derivora Testing Data Support.
+ *
+ * Derivora Testing Data Support is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Derivora Testing Data Support is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with Derivora Testing Data Support. If not, see https://www.gnu.org/licenses/lgpl-3.0.html.
+ */
+
+package xyz.derivora.testing.data.support.test.provider;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtensionContext;
+import org.junit.jupiter.params.provider.Arguments;
+import xyz.derivora.testing.data.support.aggregator.FlatDataAggregator;
+import xyz.derivora.testing.data.support.provider.DataProvider;
+import xyz.derivora.testing.data.support.provider.DirectDataProvider;
+import xyz.derivora.testing.data.support.supplier.DataSupplier;
+import xyz.derivora.testing.data.support.test.context.TestExtensionContext;
+import xyz.derivora.testing.data.support.test.supplier.StringDataSupplier;
+
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@Tag("xyz/derivora/testing/data/support/provider")
+@DisplayName("Tests for sampling in DataProvider")
+class DataProviderSamplingTest {
+
+    private static final String[] ROWS = IntStream.range(0, 1000).mapToObj(String::valueOf).toArray(String[]::new);
+
+    @Test
+    @DisplayName("Should provide the configured number of distinct rows in their original order")
+    void provideArguments_withSampleSize_shouldProvideOrderedSample() throws Exception {
+        List<Object> sample = provide(Map.of(
+                DataProvider.SAMPLE_SIZE_PARAMETER, "25",
+                DataProvider.SAMPLE_SEED_PARAMETER, "42"
+        ), new HashMap<>());
+
+        assertEquals(25, sample.size());
+        assertEquals(25, sample.stream().distinct().count());
+        for (int i = 1; i < sample.size(); i++) {
+            assertTrue(Integer.parseInt((String) sample.get(i - 1)) < Integer.parseInt((String) sample.get(i)));
+        }
+    }
+
+    @Test
+    @DisplayName("Should provide the same sample for the same seed")
+    void provideArguments_withSameSeed_shouldProvideSameSample() throws Exception {
+        Map<String, String> parameters = Map.of(
+                DataProvider.SAMPLE_SIZE_PARAMETER, "10",
+                DataProvider.SAMPLE_SEED_PARAMETER, "7"
+        );
+
+        assertEquals(provide(parameters, new HashMap<>()), provide(parameters, new HashMap<>()));
+    }
+
+    @Test
+    @DisplayName("Should provide different samples for different seeds")
+    void provideArguments_withDifferentSeeds_shouldProvideDifferentSamples() throws Exception {
+        List<Object> first = provide(Map.of(
+                DataProvider.SAMPLE_SIZE_PARAMETER, "10",
+                DataProvider.SAMPLE_SEED_PARAMETER, "1"
+        ), new HashMap<>());
+        List<Object> second = provide(Map.of(
+                DataProvider.SAMPLE_SIZE_PARAMETER, "10",
+                DataProvider.SAMPLE_SEED_PARAMETER, "2"
+        ), new HashMap<>());
+
+        assertNotEquals(first, second);
+    }
+
+    @Test
+    @DisplayName("Should provide all rows when the sample size exceeds the number of rows")
+    void provideArguments_withLargeSampleSize_shouldProvideAllRows() throws Exception {
+        List<Object> sample = provide(Map.of(DataProvider.SAMPLE_SIZE_PARAMETER, "5000"), new HashMap<>());
+
+        assertEquals(List.of((Object[]) ROWS), sample);
+    }
+
+    @Test
+    @DisplayName("Should provide a reproducible fraction of rows in their original order")
+    void provideArguments_withSampleFraction_shouldProvideReproducibleFraction() throws Exception {
+        Map<String, String> parameters = Map.of(
+                DataProvider.SAMPLE_FRACTION_PARAMETER, "0.1",
+                DataProvider.SAMPLE_SEED_PARAMETER, "42"
+        );
+
+        List<Object> sample = provide(parameters, new HashMap<>());
+
+        assertTrue(sample.size() > 50 && sample.size() < 150);
+        assertEquals(sample, provide(parameters, new HashMap<>()));
+        for (int i = 1; i < sample.size(); i++) {
+            assertTrue(Integer.parseInt((String) sample.get(i - 1)) < Integer.parseInt((String) sample.get(i)));
+        }
+    }
+
+    @Test
+    @DisplayName("Should provide at least one row when the fraction selects none")
+    void provideArguments_withTinySampleFraction_shouldProvideAtLeastOneRow() throws Exception {
+        for (int seed = 0; seed < 20; seed++) {
+            Map<String, String> parameters = Map.of(
+                    DataProvider.SAMPLE_FRACTION_PARAMETER, "0.0001",
+                    DataProvider.SAMPLE_SEED_PARAMETER, String.valueOf(seed)
+            );
+
+            List<Object> sample = provide(parameters, new HashMap<>());
+
+            assertFalse(sample.isEmpty());
+            assertEquals(sample, provide(parameters, new HashMap<>()));
+        }
+    }
+
+    @Test
+    @DisplayName("Should publish the configured seed as a report entry")
+    void provideArguments_withSeed_shouldPublishSeed() throws Exception {
+        Map<String, String> report = new HashMap<>();
+
+        provide(Map.of(
+                DataProvider.SAMPLE_SIZE_PARAMETER, "10",
+                DataProvider.SAMPLE_SEED_PARAMETER, "123"
+        ), report);
+
+        assertEquals(Map.of(DataProvider.SAMPLE_SEED_PARAMETER, "123"), report);
+    }
+
+    @Test
+    @DisplayName("Should reproduce a sample from the published seed when no seed is configured")
+    void provideArguments_withoutSeed_shouldReproduceSampleFromPublishedSeed() throws Exception {
+        Map<String, String> report = new HashMap<>();
+        List<Object> sample = provide(Map.of(DataProvider.SAMPLE_SIZE_PARAMETER, "10"), report);
+
+        List<Object> reproduced = provide(Map.of(
+                DataProvider.SAMPLE_SIZE_PARAMETER, "10",
+                DataProvider.SAMPLE_SEED_PARAMETER, report.get(DataProvider.SAMPLE_SEED_PARAMETER)
+        ), new HashMap<>());
+
+        assertEquals(sample, reproduced);
+    }
+
+    @Test
+    @DisplayName("Should provide all rows without publishing a seed when sampling is not configured")
+    void provideArguments_withoutSampling_shouldProvideAllRows() throws Exception {
+        Map<String, String> report = new HashMap<>();
+
+        assertEquals(List.of((Object[]) ROWS), provide(Map.of(), report));
+        assertTrue(report.isEmpty());
+    }
+
+    @Test
+    @DisplayName("Should throw IllegalArgumentException when both a sample size and a fraction are configured")
+    void provideArguments_withSizeAndFraction_shouldThrowIllegalArgumentException() {
+        assertThrows(
+                IllegalArgumentException.class,
+                () -> provide(Map.of(
+                        DataProvider.SAMPLE_SIZE_PARAMETER, "10",
+                        DataProvider.SAMPLE_FRACTION_PARAMETER, "0.5"
+                ), new HashMap<>())
+        );
+    }
+
+    @Test
+    @DisplayName("Should throw IllegalArgumentException when the sample fraction is out of range")
+    void provideArguments_withFractionOutOfRange_shouldThrowIllegalArgumentException() {
+        assertThrows(
+                IllegalArgumentException.class,
+                () -> provide(Map.of(DataProvider.SAMPLE_FRACTION_PARAMETER, "1.5"), new HashMap<>())
+        );
+    }
+
+    @Test
+    @DisplayName("Should throw IllegalArgumentException when the sample size is not positive")
+    void provideArguments_withNonPositiveSize_shouldThrowIllegalArgumentException() {
+        assertThrows(
+                IllegalArgumentException.class,
+                () -> provide(Map.of(DataProvider.SAMPLE_SIZE_PARAMETER, "0"), new HashMap<>())
+        );
+    }
+
+    @Test
+    @DisplayName("Should provide disjoint parts of the same sample on every shard when a seed is configured")
+    void provideArguments_withSeedAndSharding_shouldShardSameSample() throws Exception {
+        List<Object> sample = provide(Map.of(
+                DataProvider.SAMPLE_SIZE_PARAMETER, "10",
+                DataProvider.SAMPLE_SEED_PARAMETER, "7"
+        ), new HashMap<>());
+
+        List<Object> sharded = new ArrayList<>();
+        for (int index = 0; index < 2; index++) {
+            sharded.addAll(provide(Map.of(
+                    DataProvider.SAMPLE_SIZE_PARAMETER, "10",
+                    DataProvider.SAMPLE_SEED_PARAMETER, "7",
+                    DataProvider.SHARD_INDEX_PARAMETER, String.valueOf(index),
+                    DataProvider.SHARD_COUNT_PARAMETER, "2"
+            ), new HashMap<>()));
+        }
+
+        assertEquals(sample.size(), sharded.size());
+        assertEquals(new HashSet<>(sample), new HashSet<>(sharded));
+    }
+
+    @Test
+    @DisplayName("Should throw IllegalArgumentException when sampling is combined with sharding without a seed")
+    void provideArguments_withShardingWithoutSeed_shouldThrowIllegalArgumentException() {
+        assertThrows(
+                IllegalArgumentException.class,
+                () -> provide(Map.of(
+                        DataProvider.SAMPLE_SIZE_PARAMETER, "10",
+                        DataProvider.SHARD_INDEX_PARAMETER, "0",
+                        DataProvider.SHARD_COUNT_PARAMETER, "2"
+                ), new HashMap<>())
+        );
+    }
+
+    private static List<Object> provide(Map<String, String> parameters, Map<String, String> report) throws Exception {
+        Method method = DataProviderSamplingTest.class.getDeclaredMethod("annotatedMethod");
+
+        ExtensionContext context = TestExtensionContext.forMethod(method, parameters);
+
+        try (Stream<? extends Arguments> arguments = new TestDataProvider().provideArguments(context)) {
+            List<Object> rows = arguments.map(argument -> argument.get()[0]).toList();
+            report.putAll(TestExtensionContext.reportEntries(context));
+            return rows;
+        }
+    }
+
+    @TestData
+    private static void annotatedMethod() {
+    }
+
+    @Retention(RetentionPolicy.RUNTIME)
+    @interface TestData {
+    }
+
+    private static class TestDataProvider extends DirectDataProvider<String, TestData> {
+
+        TestDataProvider() {
+            super(TestData.class, new FlatDataAggregator<>(String[]::new));
+        }
+
+        @Override
+        protected DataSupplier<String>[] resolveSuppliers(TestData annotation) {
+            StringDataSupplier supplier = () -> ROWS;
+            return new StringDataSupplier[]{supplier};
+        }
+    }
+}
@@ -0,0 +1,255 @@
+/*
+ * This file is part of Derivora Testing Data Support.
+ *
+ * Derivora Testing Data Support is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Derivora Testing Data Support is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with Derivora Testing Data Support. If not, see https://www.gnu.org/licenses/lgpl-3.0.html.
+ */
+
+package xyz.derivora.testing.data.support.test.provider;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ConditionEvaluationResult;
+import org.junit.jupiter.api.extension.ExecutionCondition;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.extension.ExtensionContext;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.ArgumentsSource;
+import org.junit.platform.engine.TestExecutionResult;
+import org.junit.platform.engine.discovery.DiscoverySelectors;
+import org.junit.platform.launcher.EngineFilter;
+import org.junit.platform.launcher.LauncherDiscoveryRequest;
+import org.junit.platform.launcher.TestExecutionListener;
+import org.junit.platform.launcher.TestIdentifier;
+import org.junit.platform.launcher.core.LauncherDiscoveryRequestBuilder;
+import org.junit.platform.launcher.core.LauncherFactory;
+import org.opentest4j.TestAbortedException;
+import xyz.derivora.testing.data.support.aggregator.FlatDataAggregator;
+import xyz.derivora.testing.data.support.provider.DataProvider;
+import xyz.derivora.testing.data.support.provider.DirectDataProvider;
+import xyz.derivora.testing.data.support.supplier.DataSupplier;
+import xyz.derivora.testing.data.support.test.context.TestExtensionContext;
+import xyz.derivora.testing.data.support.test.supplier.StringDataSupplier;
+
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@Tag("xyz/derivora/testing/data/support/provider")
+@DisplayName("Tests for sharding in DataProvider")
+class DataProviderShardingTest {
+
+    private static final String[] ROWS = IntStream.range(0, 10).mapToObj(String::valueOf).toArray(String[]::new);
+
+    private static final String FIXTURE_PARAMETER = "derivora.testing.data.test.sharding.fixture";
+
+    @Test
+    @DisplayName("Should provide every row exactly once across all shards")
+    void provideArguments_withAllShards_shouldProvideEveryRowOnce() throws Exception {
+        List<Object> provided = new ArrayList<>();
+        for (int index = 0; index < 3; index++) {
+            List<Object> shard = provide(Map.of(
+                    DataProvider.SHARD_INDEX_PARAMETER, String.valueOf(index),
+                    DataProvider.SHARD_COUNT_PARAMETER, "3"
+            ));
+
+            assertTrue(shard.size() == 3 || shard.size() == 4);
+            provided.addAll(shard);
+        }
+
+        assertEquals(ROWS.length, provided.size());
+        assertEquals(Set.of((Object[]) ROWS), new HashSet<>(provided));
+    }
+
+    @Test
+    @DisplayName("Should provide the same rows on every run of a shard")
+    void provideArguments_withSameShard_shouldProvideSameRows() throws Exception {
+        Map<String, String> parameters = Map.of(
+                DataProvider.SHARD_INDEX_PARAMETER, "1",
+                DataProvider.SHARD_COUNT_PARAMETER, "4"
+        );
+
+        assertEquals(provide(parameters), provide(parameters));
+    }
+
+    @Test
+    @DisplayName("Should abort a test on a shard that receives none of its rows")
+    void provideArguments_withFewerRowsThanShards_shouldAbortOnEmptyShards() throws Exception {
+        int aborted = 0;
+        List<Object> provided = new ArrayList<>();
+        for (int index = 0; index < 3; index++) {
+            Map<String, String> parameters = Map.of(
+                    DataProvider.SHARD_INDEX_PARAMETER, String.valueOf(index),
+                    DataProvider.SHARD_COUNT_PARAMETER, "3"
+            );
+
+            try {
+                provided.addAll(provideSingleRow(parameters));
+            } catch (TestAbortedException e) {
+                aborted++;
+            }
+        }
+
+        assertEquals(List.of("single"), provided);
+        assertEquals(2, aborted);
+    }
+
+    @Test
+    @DisplayName("Should run a parameterized test with fewer rows than shards on one shard and abort it on the others")
+    void execute_withFewerRowsThanShards_shouldAbortParameterizedTestOnEmptyShards() {
+        Map<TestExecutionResult.Status, Integer> containers = new EnumMap<>(TestExecutionResult.Status.class);
+        Map<TestExecutionResult.Status, Integer> invocations = new EnumMap<>(TestExecutionResult.Status.class);
+        for (int index = 0; index < 3; index++) {
+            LauncherDiscoveryRequest request = LauncherDiscoveryRequestBuilder.request()
+                    .selectors(DiscoverySelectors.selectClass(ShardedTests.class))
+                    .filters(EngineFilter.includeEngines("junit-jupiter"))
+                    .configurationParameters(Map.of(
+                            FIXTURE_PARAMETER, "true",
+                            DataProvider.SHARD_INDEX_PARAMETER, String.valueOf(index),
+                            DataProvider.SHARD_COUNT_PARAMETER, "3"
+                    ))
+                    .build();
+
+            LauncherFactory.create().execute(request, new TestExecutionListener() {
+
+                @Override
+                public void executionFinished(TestIdentifier testIdentifier, TestExecutionResult testExecutionResult) {
+                    if (testIdentifier.isTest()) {
+                        invocations.merge(testExecutionResult.getStatus(), 1, Integer::sum);
+                    } else if (testIdentifier.getLegacyReportingName().startsWith("singleRowTest")) {
+                        containers.merge(testExecutionResult.getStatus(), 1, Integer::sum);
+                    }
+                }
+            });
+        }
+
+        assertEquals(Map.of(TestExecutionResult.Status.SUCCESSFUL, 1), invocations);
+        assertEquals(Map.of(TestExecutionResult.Status.SUCCESSFUL, 1, TestExecutionResult.Status.ABORTED, 2),
+                     new HashMap<>(containers));
+    }
+
+    @Test
+    @DisplayName("Should provide all rows when sharding is not configured")
+    void provideArguments_withoutSharding_shouldProvideAllRows() throws Exception {
+        assertEquals(List.of((Object[]) ROWS), provide(Map.of()));
+    }
+
+    @Test
+    @DisplayName("Should throw IllegalArgumentException when only the shard index is configured")
+    void provideArguments_withOnlyShardIndex_shouldThrowIllegalArgumentException() {
+        assertThrows(
+                IllegalArgumentException.class,
+                () -> provide(Map.of(DataProvider.SHARD_INDEX_PARAMETER, "0"))
+        );
+    }
+
+    @Test
+    @DisplayName("Should throw IllegalArgumentException when the shard index is out of range")
+    void provideArguments_withShardIndexOutOfRange_shouldThrowIllegalArgumentException() {
+        assertThrows(
+                IllegalArgumentException.class,
+                () -> provide(Map.of(
+                        DataProvider.SHARD_INDEX_PARAMETER, "3",
+                        DataProvider.SHARD_COUNT_PARAMETER, "3"
+                ))
+        );
+    }
+
+    private static List<Object> provide(Map<String, String> parameters) throws Exception {
+        Method method = DataProviderShardingTest.class.getDeclaredMethod("annotatedMethod");
+
+        try (Stream<? extends Arguments> arguments = new TestDataProvider().provideArguments(TestExtensionContext.forMethod(method, parameters))) {
+            return arguments.map(argument -> argument.get()[0]).toList();
+        }
+    }
+
+    private static List<Object> provideSingleRow(Map<String, String> parameters) throws Exception {
+        Method method = ShardedTests.class.getDeclaredMethod("singleRowTest", String.class);
+
+        try (Stream<? extends Arguments> arguments = new SingleRowDataProvider().provideArguments(TestExtensionContext.forMethod(method, parameters))) {
+            return arguments.map(argument -> argument.get()[0]).toList();
+        }
+    }
+
+    @TestData
+    private static void annotatedMethod() {
+    }
+
+    @Retention(RetentionPolicy.RUNTIME)
+    @interface TestData {
+    }
+
+    @Retention(RetentionPolicy.RUNTIME)
+    @ArgumentsSource(SingleRowDataProvider.class)
+    @interface SingleRowData {
+    }
+
+    @ExtendWith(FixtureCondition.class)
+    static class ShardedTests {
+
+        @ParameterizedTest
+        @SingleRowData
+        void singleRowTest(String row) {
+            assertEquals("single", row);
+        }
+    }
+
+    private static class FixtureCondition implements ExecutionCondition {
+
+        @Override
+        public ConditionEvaluationResult evaluateExecutionCondition(ExtensionContext context) {
+            return context.getConfigurationParameter(FIXTURE_PARAMETER, Boolean::parseBoolean).orElse(false)
+                    ? ConditionEvaluationResult.enabled("Run by " + DataProviderShardingTest.class.getSimpleName())
+                    : ConditionEvaluationResult.disabled("Only run by " + DataProviderShardingTest.class.getSimpleName());
+        }
+    }
+
+    private static class SingleRowDataProvider extends DirectDataProvider<String, SingleRowData> {
+
+        SingleRowDataProvider() {
+            super(SingleRowData.class, new FlatDataAggregator<>(String[]::new));
+        }
+
+        @Override
+        protected DataSupplier<String>[] resolveSuppliers(SingleRowData annotation) {
+            StringDataSupplier supplier = () -> new String[]{"single"};
+            return new StringDataSupplier[]{supplier};
+        }
+    }
+
+    private static class TestDataProvider extends DirectDataProvider<String, TestData> {
+
+        TestDataProvider() {
+            super(TestData.class, new FlatDataAggregator<>(String[]::new));
+        }
+
+        @Override
+        protected DataSupplier<String>[] resolveSuppliers(TestData annotation) {
+            StringDataSupplier supplier = () -> ROWS;
+            return new StringDataSupplier[]{supplier};
+        }
+    }
+}
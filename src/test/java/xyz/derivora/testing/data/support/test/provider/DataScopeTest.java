@@ -0,0 +1,264 @@
+/*
+ * This file is part of Derivora Testing Data Support.
+ *
+ * Derivora Testing Data Support is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Derivora Testing Data Support is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with Derivora Testing Data Support. If not, see https://www.gnu.org/licenses/lgpl-3.0.html.
+ */
+
+package xyz.derivora.testing.data.support.test.provider;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtensionContext;
+import org.junit.jupiter.params.provider.Arguments;
+import xyz.derivora.testing.data.support.aggregator.FlatDataAggregator;
+import xyz.derivora.testing.data.support.provider.DataScope;
+import xyz.derivora.testing.data.support.provider.DirectDataProvider;
+import xyz.derivora.testing.data.support.supplier.DataSupplier;
+import xyz.derivora.testing.data.support.test.context.TestExtensionContext;
+import xyz.derivora.testing.data.support.test.supplier.StringDataSupplier;
+
+import java.io.IOException;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@Tag("xyz/derivora/testing/data/support/provider")
+@DisplayName("Tests for DataScope")
+class DataScopeTest {
+
+    @Test
+    @DisplayName("Should aggregate data for every test when the scope is INVOCATION")
+    void provideArguments_withInvocationScope_shouldAggregateEveryTime() throws Exception {
+        ScopedDataProvider provider = new ScopedDataProvider(DataScope.INVOCATION);
+        ExtensionContext classContext = TestExtensionContext.forClass(TestExtensionContext.root(), DataScopeTest.class);
+
+        valuesOf(provider, TestExtensionContext.forMethod(classContext, method("firstMethod")));
+        valuesOf(provider, TestExtensionContext.forMethod(classContext, method("firstMethod")));
+
+        assertEquals(2, provider.aggregations("shared").get());
+    }
+
+    @Test
+    @DisplayName("Should share class-level data between methods of the same test class")
+    void provideArguments_withTestClassScope_shouldShareDataBetweenMethods() throws Exception {
+        ScopedDataProvider provider = new ScopedDataProvider(DataScope.TEST_CLASS);
+        ExtensionContext classContext = TestExtensionContext.forClass(TestExtensionContext.root(), DataScopeTest.class);
+
+        List<Object> first = valuesOf(provider, TestExtensionContext.forMethod(classContext, method("firstMethod")));
+        List<Object> second = valuesOf(provider, TestExtensionContext.forMethod(classContext, method("secondMethod")));
+
+        assertEquals(List.of("shared"), first);
+        assertEquals(first, second);
+        assertEquals(1, provider.aggregations("shared").get());
+    }
+
+    @Test
+    @DisplayName("Should aggregate data once per annotation content")
+    void provideArguments_withEqualAnnotations_shouldAggregateOnce() throws Exception {
+        ScopedDataProvider provider = new ScopedDataProvider(DataScope.TEST_CLASS);
+        ExtensionContext classContext = TestExtensionContext.forClass(TestExtensionContext.root(), DataScopeTest.class);
+        TestData first = method("firstMethod").getAnnotation(TestData.class);
+        TestData second = method("secondMethod").getAnnotation(TestData.class);
+
+        valuesOf(provider, TestExtensionContext.forMethod(classContext, method("firstMethod")));
+        valuesOf(provider, TestExtensionContext.forMethod(classContext, method("secondMethod")));
+        valuesOf(provider, TestExtensionContext.forMethod(classContext, method("otherMethod")));
+
+        assertNotSame(first, second);
+        assertEquals(first, second);
+        assertEquals(1, provider.aggregations("shared").get());
+        assertEquals(1, provider.aggregations("other").get());
+    }
+
+    @Test
+    @DisplayName("Should not share class-level data between test classes")
+    void provideArguments_withTestClassScopeInDifferentClasses_shouldAggregatePerClass() throws Exception {
+        ScopedDataProvider provider = new ScopedDataProvider(DataScope.TEST_CLASS);
+        ExtensionContext root = TestExtensionContext.root();
+
+        valuesOf(provider, TestExtensionContext.forMethod(TestExtensionContext.forClass(root, DataScopeTest.class),
+                                                          method("firstMethod")));
+        valuesOf(provider, TestExtensionContext.forMethod(TestExtensionContext.forClass(root, OtherTests.class),
+                                                          method("firstMethod")));
+
+        assertEquals(2, provider.aggregations("shared").get());
+    }
+
+    @Test
+    @DisplayName("Should share run-level data between test classes of the same run")
+    void provideArguments_withRunScope_shouldShareDataWithinRun() throws Exception {
+        ScopedDataProvider provider = new ScopedDataProvider(DataScope.RUN);
+        ExtensionContext root = TestExtensionContext.root();
+
+        valuesOf(provider, TestExtensionContext.forMethod(TestExtensionContext.forClass(root, DataScopeTest.class),
+                                                          method("firstMethod")));
+        valuesOf(provider, TestExtensionContext.forMethod(TestExtensionContext.forClass(root, OtherTests.class),
+                                                          method("secondMethod")));
+        assertEquals(1, provider.aggregations("shared").get());
+
+        valuesOf(provider, TestExtensionContext.forMethod(method("firstMethod")));
+        assertEquals(2, provider.aggregations("shared").get());
+    }
+
+    @Test
+    @DisplayName("Should release memoized data when the store of the scope is closed")
+    void provideArguments_whenScopeStoreClosed_shouldAggregateAgain() throws Exception {
+        ScopedDataProvider provider = new ScopedDataProvider(DataScope.TEST_CLASS);
+        ExtensionContext root = TestExtensionContext.root();
+        ExtensionContext classContext = TestExtensionContext.forClass(root, DataScopeTest.class);
+        ExtensionContext methodContext = TestExtensionContext.forMethod(classContext, method("firstMethod"));
+
+        valuesOf(provider, methodContext);
+        TestExtensionContext.close(classContext);
+
+        assertThrows(
+                IllegalStateException.class,
+                () -> valuesOf(provider, methodContext)
+        );
+
+        ExtensionContext nextClassContext = TestExtensionContext.forClass(root, DataScopeTest.class);
+        valuesOf(provider, TestExtensionContext.forMethod(nextClassContext, method("firstMethod")));
+        assertEquals(2, provider.aggregations("shared").get());
+    }
+
+    @Test
+    @DisplayName("Should propagate checked exceptions thrown while aggregating memoized data")
+    void provideArguments_withFailingCheckedAggregation_shouldThrowOriginalException() throws Exception {
+        ScopedDataProvider provider = new ScopedDataProvider(DataScope.TEST_CLASS);
+        ExtensionContext methodContext = TestExtensionContext.forMethod(method("failingMethod"));
+
+        IOException exception = assertThrows(
+                IOException.class,
+                () -> valuesOf(provider, methodContext)
+        );
+        assertEquals("Failure", exception.getMessage());
+    }
+
+    @Test
+    @DisplayName("Should propagate unchecked exceptions thrown while aggregating memoized data")
+    void provideArguments_withFailingUncheckedAggregation_shouldThrowOriginalException() throws Exception {
+        ScopedDataProvider provider = new ScopedDataProvider(DataScope.RUN);
+        ExtensionContext methodContext = TestExtensionContext.forMethod(method("uncheckedFailingMethod"));
+
+        assertThrows(
+                IllegalStateException.class,
+                () -> valuesOf(provider, methodContext)
+        );
+    }
+
+    private static Method method(String name) throws NoSuchMethodException {
+        return DataScopeTest.class.getDeclaredMethod(name);
+    }
+
+    @Test
+    @DisplayName("Should resolve memoized suppliers in the context of the requesting test")
+    void provideArguments_withTestClassScope_shouldResolveSuppliersInTestContext() throws Exception {
+        ContextualDataProvider provider = new ContextualDataProvider();
+        ExtensionContext classContext = TestExtensionContext.forClass(TestExtensionContext.root(), DataScopeTest.class);
+
+        valuesOf(provider, TestExtensionContext.forMethod(classContext, method("firstMethod")));
+        valuesOf(provider, TestExtensionContext.forMethod(classContext, method("secondMethod")));
+
+        assertEquals(List.of(method("firstMethod")), provider.methods);
+    }
+
+    private static List<Object> valuesOf(ScopedDataProvider provider, ExtensionContext context) throws Exception {
+        try (Stream<? extends Arguments> arguments = provider.provideArguments(context)) {
+            return arguments.map(argument -> argument.get()[0]).toList();
+        }
+    }
+
+    @TestData("shared")
+    private static void firstMethod() {
+    }
+
+    @TestData("shared")
+    private static void secondMethod() {
+    }
+
+    @TestData("other")
+    private static void otherMethod() {
+    }
+
+    @TestData("")
+    private static void failingMethod() {
+    }
+
+    @TestData("!")
+    private static void uncheckedFailingMethod() {
+    }
+
+    @Retention(RetentionPolicy.RUNTIME)
+    @interface TestData {
+
+        String value();
+    }
+
+    static class OtherTests {
+    }
+
+    private static class ContextualDataProvider extends ScopedDataProvider {
+
+        private final List<Method> methods = new ArrayList<>();
+
+        ContextualDataProvider() {
+            super(DataScope.TEST_CLASS);
+        }
+
+        @Override
+        protected DataSupplier<String>[] resolveSuppliers(ExtensionContext context, TestData annotation) throws IOException {
+            context.getTestMethod().ifPresent(methods::add);
+            return resolveSuppliers(annotation);
+        }
+    }
+
+    private static class ScopedDataProvider extends DirectDataProvider<String, TestData> {
+
+        private final Map<String, AtomicInteger> aggregations = new ConcurrentHashMap<>();
+
+        ScopedDataProvider(DataScope scope) {
+            super(TestData.class, new FlatDataAggregator<>(String[]::new), scope);
+        }
+
+        AtomicInteger aggregations(String value) {
+            return aggregations.computeIfAbsent(value, k -> new AtomicInteger());
+        }
+
+        @Override
+        protected DataSupplier<String>[] resolveSuppliers(TestData annotation) throws IOException {
+            String value = annotation.value();
+            if (value.isEmpty()) {
+                throw new IOException("Failure");
+            }
+            if (value.equals("!")) {
+                throw new IllegalStateException("Failure");
+            }
+
+            StringDataSupplier supplier = () -> {
+                aggregations(value).incrementAndGet();
+                return new String[]{value};
+            };
+            return new StringDataSupplier[]{supplier};
+        }
+    }
+}
@@ -0,0 +1,441 @@
+/*
+ * This file is part of Derivora Testing Data Support.
+ *
+ * Derivora Testing Data Support is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Derivora Testing Data Support is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with Derivora Testing Data Support. If not, see https://www.gnu.org/licenses/lgpl-3.0.html.
+ */
+
+package xyz.derivora.testing.data.support.test.provider;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtensionContext;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.ArgumentsSource;
+import org.junit.platform.engine.ConfigurationParameters;
+import org.junit.platform.engine.TestExecutionResult;
+import org.junit.platform.engine.UniqueId;
+import org.junit.platform.engine.support.descriptor.AbstractTestDescriptor;
+import org.junit.platform.engine.support.descriptor.EngineDescriptor;
+import org.junit.platform.engine.support.descriptor.MethodSource;
+import org.junit.platform.launcher.TestIdentifier;
+import org.junit.platform.launcher.TestPlan;
+import xyz.derivora.testing.data.support.aggregator.FlatDataAggregator;
+import xyz.derivora.testing.data.support.provider.DataScope;
+import xyz.derivora.testing.data.support.provider.DataWarmUpListener;
+import xyz.derivora.testing.data.support.provider.DirectDataProvider;
+import xyz.derivora.testing.data.support.supplier.DataSupplier;
+import xyz.derivora.testing.data.support.test.context.TestExtensionContext;
+import xyz.derivora.testing.data.support.test.supplier.StringDataSupplier;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Repeatable;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+import java.lang.reflect.Method;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@Tag("xyz/derivora/testing/data/support/provider")
+@DisplayName("Tests for DataWarmUpListener")
+class DataWarmUpListenerTest {
+
+    private static final Map<String, AtomicInteger> RESOLUTIONS = new ConcurrentHashMap<>();
+
+    private final DataWarmUpListener listener = new DataWarmUpListener();
+
+    @BeforeEach
+    void resetResolutions() {
+        RESOLUTIONS.clear();
+    }
+
+    @AfterEach
+    void finishTestPlan() {
+        listener.testPlanExecutionFinished(planOf(Map.of()));
+    }
+
+    @Test
+    @DisplayName("Should not aggregate data ahead of time unless enabled")
+    void testPlanExecutionStarted_withoutEnabledParameter_shouldNotAggregateData() throws Exception {
+        listener.testPlanExecutionStarted(planOf(Map.of(), "disabledMethod"));
+
+        assertEquals(0, resolutions("disabled"));
+        assertEquals(List.of("disabled"), provide("disabledMethod"));
+        assertEquals(1, resolutions("disabled"));
+    }
+
+    @Test
+    @DisplayName("Should aggregate data of every annotation ahead of time when enabled")
+    void testPlanExecutionStarted_withEnabledParameter_shouldAggregateDataAheadOfTime() throws Exception {
+        listener.testPlanExecutionStarted(planOf(Map.of(DataWarmUpListener.ENABLED_PARAMETER, "true"), "warmMethod"));
+
+        awaitResolutions("warm-first", 1);
+        awaitResolutions("warm-second", 1);
+
+        assertEquals(List.of("warm-first", "warm-second"), provide("warmMethod"));
+        assertEquals(1, resolutions("warm-first"));
+        assertEquals(1, resolutions("warm-second"));
+    }
+
+    @Test
+    @DisplayName("Should hand out data aggregated ahead of time only once")
+    void provideArguments_afterWarmUp_shouldResolveDataAgainOnLaterInvocations() throws Exception {
+        listener.testPlanExecutionStarted(planOf(Map.of(DataWarmUpListener.ENABLED_PARAMETER, "true"), "onceMethod"));
+        awaitResolutions("once", 1);
+
+        assertEquals(List.of("once"), provide("onceMethod"));
+        assertEquals(List.of("once"), provide("onceMethod"));
+        assertEquals(2, resolutions("once"));
+    }
+
+    @Test
+    @DisplayName("Should not aggregate data of providers resolving suppliers within the extension context")
+    void testPlanExecutionStarted_withContextDependentProvider_shouldNotAggregateData() throws Exception {
+        listener.testPlanExecutionStarted(planOf(Map.of(DataWarmUpListener.ENABLED_PARAMETER, "true"),
+                                                 "contextualMethod", "onceMethod"));
+        awaitResolutions("once", 1);
+
+        assertEquals(0, resolutions("contextual"));
+    }
+
+    @Test
+    @DisplayName("Should not aggregate data of providers memoizing data in a wider scope")
+    void testPlanExecutionStarted_withScopedProvider_shouldNotAggregateData() throws Exception {
+        listener.testPlanExecutionStarted(planOf(Map.of(DataWarmUpListener.ENABLED_PARAMETER, "true"),
+                                                 "scopedMethod", "onceMethod"));
+        awaitResolutions("once", 1);
+
+        assertEquals(0, resolutions("scoped"));
+    }
+
+    @Test
+    @DisplayName("Should aggregate data only within the look-ahead window and advance it as methods finish")
+    void executionFinished_withLookahead_shouldAggregateNextMethod() throws Exception {
+        TestPlan plan = planOf(Map.of(
+                DataWarmUpListener.ENABLED_PARAMETER, "true",
+                DataWarmUpListener.LOOKAHEAD_PARAMETER, "1"
+        ), "onceMethod", "laterMethod");
+
+        listener.testPlanExecutionStarted(plan);
+        awaitResolutions("once", 1);
+        Thread.sleep(50);
+        assertEquals(0, resolutions("later"));
+
+        listener.executionFinished(identifierOf(plan, "onceMethod"), TestExecutionResult.successful());
+        awaitResolutions("later", 1);
+
+        assertEquals(List.of("later"), provide("laterMethod"));
+        assertEquals(1, resolutions("later"));
+    }
+
+    @Test
+    @DisplayName("Should discard data of methods that have been skipped")
+    void executionSkipped_afterWarmUp_shouldDiscardData() throws Exception {
+        TestPlan plan = planOf(Map.of(DataWarmUpListener.ENABLED_PARAMETER, "true"), "onceMethod");
+
+        listener.testPlanExecutionStarted(plan);
+        awaitResolutions("once", 1);
+        listener.executionSkipped(identifierOf(plan, "onceMethod"), "disabled");
+
+        assertEquals(List.of("once"), provide("onceMethod"));
+        assertEquals(2, resolutions("once"));
+    }
+
+    @Test
+    @DisplayName("Should aggregate and discard data of an inherited method separately for each test class")
+    void executionFinished_withInheritedMethod_shouldKeepDataOfOtherTestClasses() throws Exception {
+        TestPlan plan = inheritedPlanOf(Map.of(DataWarmUpListener.ENABLED_PARAMETER, "true"));
+
+        listener.testPlanExecutionStarted(plan);
+        awaitResolutions("inherited", 2);
+        listener.executionFinished(identifierOf(plan, "first"), TestExecutionResult.successful());
+
+        assertEquals(List.of("inherited"), provideInherited(SecondTests.class));
+        assertEquals(2, resolutions("inherited"));
+    }
+
+    @Test
+    @DisplayName("Should throw IllegalArgumentException when the look-ahead is not an integer")
+    void testPlanExecutionStarted_withMalformedLookahead_shouldThrowException() {
+        TestPlan plan = planOf(Map.of(
+                DataWarmUpListener.ENABLED_PARAMETER, "true",
+                DataWarmUpListener.LOOKAHEAD_PARAMETER, "many"
+        ), "onceMethod");
+
+        assertThrows(
+                IllegalArgumentException.class,
+                () -> listener.testPlanExecutionStarted(plan)
+        );
+    }
+
+    @Test
+    @DisplayName("Should throw IllegalArgumentException when the look-ahead is not positive")
+    void testPlanExecutionStarted_withNonPositiveLookahead_shouldThrowException() {
+        TestPlan plan = planOf(Map.of(
+                DataWarmUpListener.ENABLED_PARAMETER, "true",
+                DataWarmUpListener.LOOKAHEAD_PARAMETER, "0"
+        ), "onceMethod");
+
+        assertThrows(
+                IllegalArgumentException.class,
+                () -> listener.testPlanExecutionStarted(plan)
+        );
+    }
+
+    @Test
+    @DisplayName("Should throw IllegalArgumentException when parallelism is not positive")
+    void testPlanExecutionStarted_withNonPositiveParallelism_shouldThrowException() {
+        TestPlan plan = planOf(Map.of(
+                DataWarmUpListener.ENABLED_PARAMETER, "true",
+                DataWarmUpListener.PARALLELISM_PARAMETER, "0"
+        ), "onceMethod");
+
+        assertThrows(
+                IllegalArgumentException.class,
+                () -> listener.testPlanExecutionStarted(plan)
+        );
+    }
+
+    private static List<Object> provide(String methodName) throws Exception {
+        Method method = DataWarmUpListenerTest.class.getDeclaredMethod(methodName);
+
+        try (Stream<? extends Arguments> arguments = new TestDataProvider().provideArguments(TestExtensionContext.forMethod(method))) {
+            return arguments.map(argument -> argument.get()[0]).toList();
+        }
+    }
+
+    private static List<Object> provideInherited(Class<?> testClass) throws Exception {
+        Method method = InheritedTests.class.getDeclaredMethod("inheritedMethod");
+        ExtensionContext classContext = TestExtensionContext.forClass(TestExtensionContext.root(), testClass);
+
+        try (Stream<? extends Arguments> arguments = new TestDataProvider().provideArguments(TestExtensionContext.forMethod(classContext, method))) {
+            return arguments.map(argument -> argument.get()[0]).toList();
+        }
+    }
+
+    private static int resolutions(String value) {
+        return RESOLUTIONS.computeIfAbsent(value, k -> new AtomicInteger()).get();
+    }
+
+    private static void awaitResolutions(String value, int expected) throws InterruptedException {
+        long deadline = System.nanoTime() + 10_000_000_000L;
+        while (resolutions(value) < expected && System.nanoTime() < deadline) {
+            Thread.sleep(1);
+        }
+
+        assertEquals(expected, resolutions(value));
+    }
+
+    private static TestPlan planOf(Map<String, String> parameters, String... methodNames) {
+        UniqueId engineId = UniqueId.forEngine("warm-up-test");
+        EngineDescriptor engine = new EngineDescriptor(engineId, "warm-up-test");
+        for (String methodName : methodNames) {
+            engine.addChild(new MethodDescriptor(engineId, methodName));
+        }
+
+        return TestPlan.from(List.of(engine), new MapConfigurationParameters(parameters));
+    }
+
+    private static TestPlan inheritedPlanOf(Map<String, String> parameters) throws NoSuchMethodException {
+        UniqueId engineId = UniqueId.forEngine("warm-up-test");
+        EngineDescriptor engine = new EngineDescriptor(engineId, "warm-up-test");
+        Method method = InheritedTests.class.getDeclaredMethod("inheritedMethod");
+        engine.addChild(new MethodDescriptor(engineId, "first", MethodSource.from(FirstTests.class, method)));
+        engine.addChild(new MethodDescriptor(engineId, "second", MethodSource.from(SecondTests.class, method)));
+
+        return TestPlan.from(List.of(engine), new MapConfigurationParameters(parameters));
+    }
+
+    private static TestIdentifier identifierOf(TestPlan plan, String methodName) {
+        return plan.getTestIdentifier(UniqueId.forEngine("warm-up-test").append("method", methodName));
+    }
+
+    @TestData("disabled")
+    private static void disabledMethod() {
+    }
+
+    @TestData("warm-first")
+    @TestData("warm-second")
+    private static void warmMethod() {
+    }
+
+    @TestData("once")
+    private static void onceMethod() {
+    }
+
+    @TestData("later")
+    private static void laterMethod() {
+    }
+
+    @ContextualData("contextual")
+    private static void contextualMethod() {
+    }
+
+    @ScopedData("scoped")
+    private static void scopedMethod() {
+    }
+
+    private abstract static class InheritedTests {
+
+        @TestData("inherited")
+        void inheritedMethod() {
+        }
+    }
+
+    private static class FirstTests extends InheritedTests {
+    }
+
+    private static class SecondTests extends InheritedTests {
+    }
+
+    @Retention(RetentionPolicy.RUNTIME)
+    @Target(ElementType.METHOD)
+    @Repeatable(TestDataContainer.class)
+    @ArgumentsSource(TestDataProvider.class)
+    @interface TestData {
+
+        String value();
+    }
+
+    @Retention(RetentionPolicy.RUNTIME)
+    @Target(ElementType.METHOD)
+    @ArgumentsSource(TestDataProvider.class)
+    @interface TestDataContainer {
+
+        TestData[] value();
+    }
+
+    @Retention(RetentionPolicy.RUNTIME)
+    @Target(ElementType.METHOD)
+    @ArgumentsSource(ContextualDataProvider.class)
+    @interface ContextualData {
+
+        String value();
+    }
+
+    @Retention(RetentionPolicy.RUNTIME)
+    @Target(ElementType.METHOD)
+    @ArgumentsSource(ScopedDataProvider.class)
+    @interface ScopedData {
+
+        String value();
+    }
+
+    private static StringDataSupplier[] suppliersOf(String value) {
+        StringDataSupplier supplier = () -> {
+            RESOLUTIONS.computeIfAbsent(value, k -> new AtomicInteger()).incrementAndGet();
+            return new String[]{value};
+        };
+        return new StringDataSupplier[]{supplier};
+    }
+
+    private static class TestDataProvider extends DirectDataProvider<String, TestData> {
+
+        TestDataProvider() {
+            super(TestData.class, new FlatDataAggregator<>(String[]::new));
+        }
+
+        @Override
+        protected DataSupplier<String>[] resolveSuppliers(TestData annotation) {
+            return suppliersOf(annotation.value());
+        }
+    }
+
+    private static class ContextualDataProvider extends DirectDataProvider<String, ContextualData> {
+
+        ContextualDataProvider() {
+            super(ContextualData.class, new FlatDataAggregator<>(String[]::new));
+        }
+
+        @Override
+        protected DataSupplier<String>[] resolveSuppliers(ContextualData annotation) {
+            return suppliersOf(annotation.value());
+        }
+
+        @Override
+        protected DataSupplier<String>[] resolveSuppliers(ExtensionContext context, ContextualData annotation) {
+            return resolveSuppliers(annotation);
+        }
+    }
+
+    private static class ScopedDataProvider extends DirectDataProvider<String, ScopedData> {
+
+        ScopedDataProvider() {
+            super(ScopedData.class, new FlatDataAggregator<>(String[]::new), DataScope.TEST_CLASS);
+        }
+
+        @Override
+        protected DataSupplier<String>[] resolveSuppliers(ScopedData annotation) {
+            return suppliersOf(annotation.value());
+        }
+    }
+
+    private static class MethodDescriptor extends AbstractTestDescriptor {
+
+        MethodDescriptor(UniqueId engineId, String methodName) {
+            this(engineId, methodName, sourceOf(methodName));
+        }
+
+        MethodDescriptor(UniqueId engineId, String name, MethodSource source) {
+            super(engineId.append("method", name), name, source);
+        }
+
+        @Override
+        public Type getType() {
+            return Type.TEST;
+        }
+
+        private static MethodSource sourceOf(String methodName) {
+            try {
+                return MethodSource.from(DataWarmUpListenerTest.class.getDeclaredMethod(methodName));
+            } catch (NoSuchMethodException e) {
+                throw new IllegalStateException(e);
+            }
+        }
+    }
+
+    private record MapConfigurationParameters(Map<String, String> parameters) implements ConfigurationParameters {
+
+        @Override
+        public Optional<String> get(String key) {
+            return Optional.ofNullable(parameters.get(key));
+        }
+
+        @Override
+        public Optional<Boolean> getBoolean(String key) {
+            return get(key).map(Boolean::parseBoolean);
+        }
+
+        @Override
+        @SuppressWarnings("deprecation")
+        public int size() {
+            return parameters.size();
+        }
+
+        @Override
+        public Set<String> keySet() {
+            return parameters.keySet();
+        }
+    }
+}
@@ -0,0 +1,143 @@
+/*
+ * This file is part of Derivora Testing Data Support.
+ *
+ * Derivora Testing Data Support is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Derivora Testing Data Support is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with Derivora Testing Data Support. If not, see https://www.gnu.org/licenses/lgpl-3.0.html.
+ */
+
+package xyz.derivora.testing.data.support.test.provider;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtensionContext;
+import org.junit.jupiter.params.provider.Arguments;
+import xyz.derivora.testing.data.support.provider.DoubleDataProvider;
+import xyz.derivora.testing.data.support.provider.IntDataProvider;
+import xyz.derivora.testing.data.support.provider.LongDataProvider;
+import xyz.derivora.testing.data.support.supplier.DoubleDataSupplier;
+import xyz.derivora.testing.data.support.supplier.IntDataSupplier;
+import xyz.derivora.testing.data.support.supplier.LongDataSupplier;
+import xyz.derivora.testing.data.support.test.context.TestExtensionContext;
+
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.util.Arrays;
+import java.util.List;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@Tag("xyz/derivora/testing/data/support/provider")
+@DisplayName("Tests for IntDataProvider, LongDataProvider and DoubleDataProvider")
+class PrimitiveDataProviderTest {
+
+    @Test
+    @DisplayName("Should keep int rows unboxed until the arguments are created")
+    void provideArguments_withIntProvider_shouldBoxRowsOnConsumption() throws Exception {
+        TestIntDataProvider provider = new TestIntDataProvider();
+
+        try (Stream<? extends Arguments> arguments = provider.provideArguments(contextOf())) {
+            provider.aggregated[1] = 42;
+
+            assertEquals(List.of(1, 42, 3), argumentsOf(arguments));
+        }
+    }
+
+    @Test
+    @DisplayName("Should keep long rows unboxed until the arguments are created")
+    void provideArguments_withLongProvider_shouldBoxRowsOnConsumption() throws Exception {
+        TestLongDataProvider provider = new TestLongDataProvider();
+
+        try (Stream<? extends Arguments> arguments = provider.provideArguments(contextOf())) {
+            provider.aggregated[1] = 42L;
+
+            assertEquals(List.of(1L, 42L, 3L), argumentsOf(arguments));
+        }
+    }
+
+    @Test
+    @DisplayName("Should keep double rows unboxed until the arguments are created")
+    void provideArguments_withDoubleProvider_shouldBoxRowsOnConsumption() throws Exception {
+        TestDoubleDataProvider provider = new TestDoubleDataProvider();
+
+        try (Stream<? extends Arguments> arguments = provider.provideArguments(contextOf())) {
+            provider.aggregated[1] = 42.0;
+
+            assertEquals(List.of(1.0, 42.0, 3.0), argumentsOf(arguments));
+        }
+    }
+
+    private static ExtensionContext contextOf() throws NoSuchMethodException {
+        return TestExtensionContext.forMethod(PrimitiveDataProviderTest.class.getDeclaredMethod("valuesMethod"));
+    }
+
+    private static List<Object> argumentsOf(Stream<? extends Arguments> arguments) {
+        return arguments.map(argument -> {
+            assertEquals(1, argument.get().length);
+            return argument.get()[0];
+        }).toList();
+    }
+
+    @TestValues({1, 2, 3})
+    private static void valuesMethod() {
+    }
+
+    @Retention(RetentionPolicy.RUNTIME)
+    @interface TestValues {
+
+        int[] value();
+    }
+
+    private static class TestIntDataProvider extends IntDataProvider<TestValues> {
+
+        private int[] aggregated;
+
+        TestIntDataProvider() {
+            super(TestValues.class, suppliers -> suppliers[0].get());
+        }
+
+        @Override
+        protected IntDataSupplier[] resolveSuppliers(TestValues annotation) {
+            return new IntDataSupplier[]{() -> aggregated = annotation.value()};
+        }
+    }
+
+    private static class TestLongDataProvider extends LongDataProvider<TestValues> {
+
+        private long[] aggregated;
+
+        TestLongDataProvider() {
+            super(TestValues.class, suppliers -> suppliers[0].get());
+        }
+
+        @Override
+        protected LongDataSupplier[] resolveSuppliers(TestValues annotation) {
+            return new LongDataSupplier[]{() -> aggregated = Arrays.stream(annotation.value()).asLongStream().toArray()};
+        }
+    }
+
+    private static class TestDoubleDataProvider extends DoubleDataProvider<TestValues> {
+
+        private double[] aggregated;
+
+        TestDoubleDataProvider() {
+            super(TestValues.class, suppliers -> suppliers[0].get());
+        }
+
+        @Override
+        protected DoubleDataSupplier[] resolveSuppliers(TestValues annotation) {
+            return new DoubleDataSupplier[]{() -> aggregated = Arrays.stream(annotation.value()).asDoubleStream().toArray()};
+        }
+    }
+}
@@ -0,0 +1,150 @@
+/*
+ * This file is part of Derivora Testing Data Support.
+ *
+ * Derivora Testing Data Support is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Derivora Testing Data Support is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with Derivora Testing Data Support. If not, see https://www.gnu.org/licenses/lgpl-3.0.html.
+ */
+
+package xyz.derivora.testing.data.support.test.provider;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtensionContext;
+import org.junit.jupiter.params.provider.Arguments;
+import xyz.derivora.testing.data.support.aggregator.FlatStreamingDataAggregator;
+import xyz.derivora.testing.data.support.provider.StreamingDataProvider;
+import xyz.derivora.testing.data.support.supplier.StreamingDataSupplier;
+import xyz.derivora.testing.data.support.test.context.TestExtensionContext;
+
+import java.io.IOException;
+import java.lang.annotation.Repeatable;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.reflect.Method;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@Tag("xyz/derivora/testing/data/support/provider")
+@DisplayName("Tests for StreamingDataProvider")
+class StreamingDataProviderTest {
+
+    @Test
+    @DisplayName("Should consume rows only as arguments are consumed")
+    void provideArguments_withStreamingSupplier_shouldConsumeRowsLazily() throws Exception {
+        TestDataProvider provider = new TestDataProvider();
+
+        try (Stream<? extends Arguments> arguments = provider.provideArguments(contextOf("singleMethod"))) {
+            assertEquals(0, provider.consumed("single").get());
+
+            assertEquals(List.of("single-0", "single-1"), arguments.limit(2).map(argument -> argument.get()[0]).toList());
+            assertEquals(2, provider.consumed("single").get());
+        }
+    }
+
+    @Test
+    @DisplayName("Should close supplier streams when the arguments stream is closed")
+    void provideArguments_whenClosed_shouldCloseSupplierStreams() throws Exception {
+        TestDataProvider provider = new TestDataProvider();
+
+        Stream<? extends Arguments> arguments = provider.provideArguments(contextOf("pairMethod"));
+        assertEquals(1, arguments.limit(1).count());
+        arguments.close();
+
+        assertEquals(1, provider.closed("first").get());
+        assertEquals(1, provider.closed("second").get());
+    }
+
+    @Test
+    @DisplayName("Should close resolved streams when resolving a later annotation fails")
+    void provideArguments_withFailingAnnotation_shouldCloseResolvedStreams() {
+        TestDataProvider provider = new TestDataProvider();
+
+        assertThrows(
+                IOException.class,
+                () -> provider.provideArguments(contextOf("failingMethod"))
+        );
+        assertEquals(1, provider.closed("first").get());
+    }
+
+    private static ExtensionContext contextOf(String methodName) throws NoSuchMethodException {
+        return TestExtensionContext.forMethod(StreamingDataProviderTest.class.getDeclaredMethod(methodName));
+    }
+
+    @TestData("single")
+    private static void singleMethod() {
+    }
+
+    @TestData("first")
+    @TestData("second")
+    private static void pairMethod() {
+    }
+
+    @TestData("first")
+    @TestData("")
+    private static void failingMethod() {
+    }
+
+    @Retention(RetentionPolicy.RUNTIME)
+    @Repeatable(TestDataContainer.class)
+    @interface TestData {
+
+        String value();
+    }
+
+    @Retention(RetentionPolicy.RUNTIME)
+    @interface TestDataContainer {
+
+        TestData[] value();
+    }
+
+    private static class TestDataProvider extends StreamingDataProvider<String, TestData> {
+
+        private final Map<String, AtomicInteger> consumed = new ConcurrentHashMap<>();
+
+        private final Map<String, AtomicInteger> closed = new ConcurrentHashMap<>();
+
+        TestDataProvider() {
+            super(TestData.class, new FlatStreamingDataAggregator<>());
+        }
+
+        AtomicInteger consumed(String value) {
+            return consumed.computeIfAbsent(value, k -> new AtomicInteger());
+        }
+
+        AtomicInteger closed(String value) {
+            return closed.computeIfAbsent(value, k -> new AtomicInteger());
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        protected StreamingDataSupplier<String>[] resolveSuppliers(TestData annotation) throws IOException {
+            String value = annotation.value();
+            if (value.isEmpty()) {
+                throw new IOException("Failure");
+            }
+
+            StreamingDataSupplier<String> supplier = () -> Stream.iterate(0, i -> i + 1)
+                                                                 .limit(10)
+                                                                 .peek(i -> consumed(value).incrementAndGet())
+                                                                 .map(i -> value + "-" + i)
+                                                                 .onClose(() -> closed(value).incrementAndGet());
+            return new StreamingDataSupplier[]{supplier};
+        }
+    }
+}
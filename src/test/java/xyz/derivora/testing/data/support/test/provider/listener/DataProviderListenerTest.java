@@ -0,0 +1,214 @@
+/*
+ * This file is part of Derivora Testing Data Support.
+ *
+ * Derivora Testing Data Support is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Derivora Testing Data Support is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with Derivora Testing Data Support. If not, see https://www.gnu.org/licenses/lgpl-3.0.html.
+ */
+
+package xyz.derivora.testing.data.support.test.provider.listener;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.provider.Arguments;
+import xyz.derivora.testing.data.support.aggregator.DataAggregator;
+import xyz.derivora.testing.data.support.aggregator.FlatDataAggregator;
+import xyz.derivora.testing.data.support.aggregator.ParallelDataAggregator;
+import xyz.derivora.testing.data.support.provider.DirectDataProvider;
+import xyz.derivora.testing.data.support.provider.listener.DataProviderEvent;
+import xyz.derivora.testing.data.support.provider.listener.DataProviderPhase;
+import xyz.derivora.testing.data.support.supplier.DataSupplier;
+import xyz.derivora.testing.data.support.test.context.TestExtensionContext;
+import xyz.derivora.testing.data.support.test.supplier.StringDataSupplier;
+
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.reflect.Method;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@Tag("xyz/derivora/testing/data/support/provider/listener")
+@DisplayName("Tests for DataProviderListener")
+class DataProviderListenerTest {
+
+    private List<DataProviderEvent> events;
+
+    @BeforeEach
+    void setUp() {
+        events = RecordingDataProviderListener.startRecording();
+    }
+
+    @AfterEach
+    void tearDown() {
+        RecordingDataProviderListener.stopRecording();
+    }
+
+    @Test
+    @DisplayName("Should report every phase of providing arguments in order")
+    void provideArguments_withRegisteredListener_shouldReportPhases() throws Exception {
+        Method method = DataProviderListenerTest.class.getDeclaredMethod("annotatedMethod");
+
+        try (Stream<? extends Arguments> arguments = new TestDataProvider().provideArguments(TestExtensionContext.forMethod(method))) {
+            assertEquals(3, arguments.count());
+        }
+
+        assertEquals(
+                List.of(
+                        DataProviderPhase.ANNOTATION_LOOKUP,
+                        DataProviderPhase.SUPPLIER_RESOLUTION,
+                        DataProviderPhase.SUPPLIER_GET,
+                        DataProviderPhase.SUPPLIER_GET,
+                        DataProviderPhase.AGGREGATION,
+                        DataProviderPhase.ARGUMENTS_CREATION
+                ),
+                events.stream().map(DataProviderEvent::phase).toList()
+        );
+        assertEquals(List.of(1L, 2L, 2L, 1L, 3L, 3L), events.stream().map(DataProviderEvent::count).toList());
+        assertEquals(List.of(FirstSupplier.class, SecondSupplier.class), events.get(1).supplierClasses());
+        assertEquals(List.of(FirstSupplier.class), events.get(2).supplierClasses());
+        assertEquals(List.of(SecondSupplier.class), events.get(3).supplierClasses());
+        assertEquals(List.of(FirstSupplier.class, SecondSupplier.class), events.get(4).supplierClasses());
+        assertEquals(List.of(), events.get(5).supplierClasses());
+        assertEquals(Optional.of(method), events.get(0).testMethod());
+        assertTrue(events.stream().allMatch(event -> event.annotationType() == TestData.class));
+        assertTrue(events.stream().allMatch(event -> event.durationNanos() >= 0));
+    }
+
+    @Test
+    @DisplayName("Should report the supplier calls an aggregator makes on other threads")
+    void provideArguments_withParallelAggregator_shouldReportSupplierCalls() throws Exception {
+        Method method = DataProviderListenerTest.class.getDeclaredMethod("annotatedMethod");
+
+        try (Stream<? extends Arguments> arguments = new ParallelDataProvider().provideArguments(TestExtensionContext.forMethod(method))) {
+            assertEquals(3, arguments.count());
+        }
+
+        List<DataProviderEvent> calls = events.stream()
+                                              .filter(event -> event.phase() == DataProviderPhase.SUPPLIER_GET)
+                                              .toList();
+        assertEquals(2, calls.size());
+        assertEquals(
+                Set.of(List.of(FirstSupplier.class), List.of(SecondSupplier.class)),
+                calls.stream().map(DataProviderEvent::supplierClasses).collect(Collectors.toSet())
+        );
+        assertEquals(3L, calls.stream().mapToLong(DataProviderEvent::count).sum());
+    }
+
+    @Test
+    @DisplayName("Should pass the resolved suppliers to the aggregator unchanged")
+    void provideArguments_withRegisteredListener_shouldNotReplaceSuppliers() throws Exception {
+        Method method = DataProviderListenerTest.class.getDeclaredMethod("annotatedMethod");
+        TestDataProvider provider = new TestDataProvider();
+
+        try (Stream<? extends Arguments> arguments = provider.provideArguments(TestExtensionContext.forMethod(method))) {
+            assertEquals(3, arguments.count());
+        }
+
+        assertArrayEquals(provider.resolved, provider.aggregated);
+        assertSame(provider.resolved[0], provider.aggregated[0]);
+        assertSame(provider.resolved[1], provider.aggregated[1]);
+    }
+
+    @Test
+    @DisplayName("Should not notify listeners when no registered listener is enabled")
+    void provideArguments_withDisabledListener_shouldNotReportPhases() throws Exception {
+        RecordingDataProviderListener.stopRecording();
+        Method method = DataProviderListenerTest.class.getDeclaredMethod("annotatedMethod");
+
+        try (Stream<? extends Arguments> arguments = new TestDataProvider().provideArguments(TestExtensionContext.forMethod(method))) {
+            assertEquals(3, arguments.count());
+        }
+
+        assertTrue(events.isEmpty());
+        assertEquals(0, RecordingDataProviderListener.unrecordedEvents());
+    }
+
+    @TestData
+    private static void annotatedMethod() {
+    }
+
+    @Retention(RetentionPolicy.RUNTIME)
+    @interface TestData {
+    }
+
+    public static class FirstSupplier implements StringDataSupplier {
+
+        @Override
+        public String[] get() {
+            return new String[]{"First", "Second"};
+        }
+    }
+
+    public static class SecondSupplier implements StringDataSupplier {
+
+        @Override
+        public String[] get() {
+            return new String[]{"Third"};
+        }
+    }
+
+    private static class TestDataProvider extends DirectDataProvider<String, TestData> {
+
+        private DataSupplier<String>[] resolved;
+
+        private DataSupplier<String>[] aggregated;
+
+        TestDataProvider() {
+            this(new CapturingAggregator());
+        }
+
+        private TestDataProvider(CapturingAggregator aggregator) {
+            super(TestData.class, aggregator);
+            aggregator.provider = this;
+        }
+
+        @Override
+        protected DataSupplier<String>[] resolveSuppliers(TestData annotation) {
+            resolved = new StringDataSupplier[]{new FirstSupplier(), new SecondSupplier()};
+            return resolved;
+        }
+    }
+
+    private static class ParallelDataProvider extends DirectDataProvider<String, TestData> {
+
+        ParallelDataProvider() {
+            super(TestData.class, new ParallelDataAggregator<>(String[]::new));
+        }
+
+        @Override
+        protected DataSupplier<String>[] resolveSuppliers(TestData annotation) {
+            return new StringDataSupplier[]{new FirstSupplier(), new SecondSupplier()};
+        }
+    }
+
+    private static class CapturingAggregator implements DataAggregator<String> {
+
+        private final FlatDataAggregator<String> delegate = new FlatDataAggregator<>(String[]::new);
+
+        private TestDataProvider provider;
+
+        @Override
+        @SafeVarargs
+        public final String[] aggregate(DataSupplier<String>... suppliers) {
+            provider.aggregated = suppliers;
+            return delegate.aggregate(suppliers);
+        }
+    }
+}
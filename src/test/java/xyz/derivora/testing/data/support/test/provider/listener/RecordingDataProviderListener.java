@@ -0,0 +1,61 @@
+/*
+ * This file is part of Derivora Testing Data Support.
+ *
+ * Derivora Testing Data Support is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Derivora Testing Data Support is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with Derivora Testing Data Support. If not, see https://www.gnu.org/licenses/lgpl-3.0.html.
+ */
+
+package xyz.derivora.testing.data.support.test.provider.listener;
+
+import xyz.derivora.testing.data.support.provider.listener.DataProviderEvent;
+import xyz.derivora.testing.data.support.provider.listener.DataProviderListener;
+
+import java.util.ArrayList;
+import java.util.List;
+
+public class RecordingDataProviderListener implements DataProviderListener {
+
+    private static final ThreadLocal<List<DataProviderEvent>> EVENTS = new ThreadLocal<>();
+
+    private static final ThreadLocal<int[]> UNRECORDED = ThreadLocal.withInitial(() -> new int[1]);
+
+    static List<DataProviderEvent> startRecording() {
+        List<DataProviderEvent> events = new ArrayList<>();
+        EVENTS.set(events);
+        return events;
+    }
+
+    static void stopRecording() {
+        EVENTS.remove();
+        UNRECORDED.remove();
+    }
+
+    static int unrecordedEvents() {
+        return UNRECORDED.get()[0];
+    }
+
+    @Override
+    public void phaseCompleted(DataProviderEvent event) {
+        List<DataProviderEvent> events = EVENTS.get();
+        if (events != null) {
+            events.add(event);
+        } else {
+            UNRECORDED.get()[0]++;
+        }
+    }
+
+    @Override
+    public boolean isEnabled() {
+        return EVENTS.get() != null;
+    }
+}
@@ -0,0 +1,103 @@
+/*
+ * This file is part of Derivora Testing Data Support.
+ *
+ * Derivora Testing Data Support is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Derivora Testing Data Support is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with Derivora Testing Data Support. If not, see https://www.gnu.org/licenses/lgpl-3.0.html.
+ */
+
+package xyz.derivora.testing.data.support.test.supplier;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import xyz.derivora.testing.data.support.supplier.AsyncDataSupplier;
+
+import java.io.IOException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@Tag("xyz/derivora/testing/data/support/supplier")
+@DisplayName("Tests for AsyncDataSupplier")
+class AsyncDataSupplierTest {
+
+    @Test
+    @DisplayName("Should return data of the completed future")
+    void get_withCompletedFuture_shouldReturnData() {
+        AsyncDataSupplier<String> supplier = () -> CompletableFuture.completedFuture(new String[]{"First", "Second"});
+
+        assertArrayEquals(new String[]{"First", "Second"}, supplier.get());
+    }
+
+    @Test
+    @DisplayName("Should rethrow unchecked exception of the failed future as is")
+    void get_withUncheckedFailure_shouldRethrowException() {
+        AsyncDataSupplier<String> supplier = () -> CompletableFuture.failedFuture(new IllegalStateException("Failure"));
+
+        assertThrows(
+                IllegalStateException.class,
+                supplier::get
+        );
+    }
+
+    @Test
+    @DisplayName("Should wrap checked exception of the failed future in CompletionException")
+    void get_withCheckedFailure_shouldThrowCompletionException() {
+        AsyncDataSupplier<String> supplier = () -> CompletableFuture.failedFuture(new IOException("Failure"));
+
+        CompletionException exception = assertThrows(
+                CompletionException.class,
+                supplier::get
+        );
+        assertInstanceOf(IOException.class, exception.getCause());
+    }
+
+    @Test
+    @DisplayName("Should throw NullPointerException when adapted supplier is null")
+    void adapt_withNullSupplier_shouldThrowNullPointerException() {
+        assertThrows(
+                NullPointerException.class,
+                () -> AsyncDataSupplier.adapt(null, Runnable::run)
+        );
+    }
+
+    @Test
+    @DisplayName("Should throw NullPointerException when executor is null")
+    void adapt_withNullExecutor_shouldThrowNullPointerException() {
+        StringDataSupplier supplier = () -> new String[]{"Test"};
+
+        assertThrows(
+                NullPointerException.class,
+                () -> AsyncDataSupplier.adapt(supplier, null)
+        );
+    }
+
+    @Test
+    @DisplayName("Should run adapted supplier on the executor on each call")
+    void adapt_withExecutor_shouldRunSupplierOnExecutor() {
+        AtomicInteger executions = new AtomicInteger();
+        Executor executor = task -> {
+            executions.incrementAndGet();
+            task.run();
+        };
+        StringDataSupplier supplier = () -> new String[]{"Test"};
+        AsyncDataSupplier<String> asyncSupplier = AsyncDataSupplier.adapt(supplier, executor);
+
+        assertArrayEquals(supplier.get(), asyncSupplier.getAsync().join());
+        assertArrayEquals(supplier.get(), asyncSupplier.get());
+        assertEquals(2, executions.get());
+    }
+}
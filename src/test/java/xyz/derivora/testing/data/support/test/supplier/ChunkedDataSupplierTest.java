@@ -0,0 +1,119 @@
+/*
+ * This file is part of Derivora Testing Data Support.
+ *
+ * Derivora Testing Data Support is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Derivora Testing Data Support is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with Derivora Testing Data Support. If not, see https://www.gnu.org/licenses/lgpl-3.0.html.
+ */
+
+package xyz.derivora.testing.data.support.test.supplier;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import xyz.derivora.testing.data.support.supplier.ChunkedDataSupplier;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@Tag("xyz/derivora/testing/data/support/supplier")
+@DisplayName("Tests for ChunkedDataSupplier")
+class ChunkedDataSupplierTest {
+
+    @Test
+    @DisplayName("Should stream elements of all chunks in order")
+    void stream_withChunks_shouldStreamElementsInOrder() {
+        ChunkedDataSupplier<String> supplier = () -> List.of(
+                new String[]{"First", "Second"},
+                new String[0],
+                new String[]{"Third"}
+        ).iterator();
+
+        assertEquals(List.of("First", "Second", "Third"), supplier.stream().toList());
+    }
+
+    @Test
+    @DisplayName("Should request chunks only as the stream is consumed")
+    void stream_withChunks_shouldRequestChunksLazily() {
+        List<Long> offsets = new ArrayList<>();
+        ChunkedDataSupplier<Long> supplier = ChunkedDataSupplier.generate(10, 4, (offset, length) -> {
+            offsets.add(offset);
+            return new Long[]{offset};
+        });
+
+        try (Stream<Long> data = supplier.stream()) {
+            assertEquals(List.of(0L), data.limit(1).toList());
+        }
+
+        assertEquals(List.of(0L), offsets);
+    }
+
+    @Test
+    @DisplayName("Should generate consecutive chunks of the given size")
+    void generate_withSizeAndChunkSize_shouldGenerateConsecutiveChunks() {
+        ChunkedDataSupplier<Long> supplier = ChunkedDataSupplier.generate(10, 4, (offset, length) -> {
+            Long[] chunk = new Long[length];
+            for (int i = 0; i < length; i++) {
+                chunk[i] = offset + i;
+            }
+            return chunk;
+        });
+
+        List<Integer> lengths = new ArrayList<>();
+        Iterator<Long[]> chunks = supplier.chunks();
+        chunks.forEachRemaining(chunk -> lengths.add(chunk.length));
+
+        assertEquals(List.of(4, 4, 2), lengths);
+        assertEquals(List.of(0L, 1L, 2L, 3L, 4L, 5L, 6L, 7L, 8L, 9L), supplier.stream().toList());
+    }
+
+    @Test
+    @DisplayName("Should generate no chunks when the size is zero")
+    void generate_withZeroSize_shouldGenerateNoChunks() {
+        ChunkedDataSupplier<Long> supplier = ChunkedDataSupplier.generate(0, 4, (offset, length) -> {
+            throw new AssertionError("Generator should not be invoked");
+        });
+
+        assertFalse(supplier.chunks().hasNext());
+    }
+
+    @Test
+    @DisplayName("Should throw IllegalArgumentException when size is negative")
+    void generate_withNegativeSize_shouldThrowIllegalArgumentException() {
+        assertThrows(
+                IllegalArgumentException.class,
+                () -> ChunkedDataSupplier.<Long>generate(-1, 4, (offset, length) -> new Long[length])
+        );
+    }
+
+    @Test
+    @DisplayName("Should throw IllegalArgumentException when chunk size is not positive")
+    void generate_withNonPositiveChunkSize_shouldThrowIllegalArgumentException() {
+        assertThrows(
+                IllegalArgumentException.class,
+                () -> ChunkedDataSupplier.<Long>generate(10, 0, (offset, length) -> new Long[length])
+        );
+    }
+
+    @Test
+    @DisplayName("Should throw NullPointerException when generator is null")
+    void generate_withNullGenerator_shouldThrowNullPointerException() {
+        assertThrows(
+                NullPointerException.class,
+                () -> ChunkedDataSupplier.generate(10, 4, null)
+        );
+    }
+}
@@ -0,0 +1,69 @@
+/*
+ * This file is part of Derivora Testing Data Support.
+ *
+ * Derivora Testing Data Support is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Derivora Testing Data Support is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with Derivora Testing Data Support. If not, see https://www.gnu.org/licenses/lgpl-3.0.html.
+ */
+
+package xyz.derivora.testing.data.support.test.supplier;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import xyz.derivora.testing.data.support.supplier.StreamingDataSupplier;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@Tag("xyz/derivora/testing/data/support/supplier")
+@DisplayName("Tests for StreamingDataSupplier")
+class StreamingDataSupplierTest {
+
+    @Test
+    @DisplayName("Should throw NullPointerException when adapted supplier is null")
+    void adapt_withNullSupplier_shouldThrowNullPointerException() {
+        assertThrows(
+                NullPointerException.class,
+                () -> StreamingDataSupplier.adapt(null)
+        );
+    }
+
+    @Test
+    @DisplayName("Should stream elements of adapted supplier")
+    void adapt_withSupplier_shouldStreamElements() {
+        StringDataSupplier supplier = () -> new String[]{"First", "Second"};
+        String[] data = StreamingDataSupplier.adapt(supplier).stream().toArray(String[]::new);
+
+        assertArrayEquals(supplier.get(), data);
+    }
+
+    @Test
+    @DisplayName("Should throw NullPointerException when iterator factory is null")
+    void fromIterator_withNullFactory_shouldThrowNullPointerException() {
+        assertThrows(
+                NullPointerException.class,
+                () -> StreamingDataSupplier.fromIterator(null)
+        );
+    }
+
+    @Test
+    @DisplayName("Should stream elements of a new iterator on each call")
+    void fromIterator_withFactory_shouldStreamElementsOfNewIterator() {
+        List<String> values = List.of("First", "Second");
+        StreamingDataSupplier<String> supplier = StreamingDataSupplier.fromIterator(values::iterator);
+
+        assertEquals(values, supplier.stream().toList());
+        assertEquals(values, supplier.stream().toList());
+    }
+}
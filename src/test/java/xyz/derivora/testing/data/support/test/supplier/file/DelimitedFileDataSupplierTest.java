@@ -0,0 +1,187 @@
+/*
+ * This file is part of Derivora Testing Data Support.
+ *
+ * Derivora Testing Data Support is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Derivora Testing Data Support is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with Derivora Testing Data Support. If not, see https://www.gnu.org/licenses/lgpl-3.0.html.
+ */
+
+package xyz.derivora.testing.data.support.test.supplier.file;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import xyz.derivora.testing.data.support.supplier.file.DelimitedFileDataSupplier;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.UUID;
+import java.util.jar.JarEntry;
+import java.util.jar.JarOutputStream;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@Tag("xyz/derivora/testing/data/support/supplier/file")
+@DisplayName("Tests for DelimitedFileDataSupplier")
+class DelimitedFileDataSupplierTest {
+
+    public static class ResourceAnchor {
+    }
+
+    @TempDir
+    Path directory;
+
+    @Test
+    @DisplayName("Should throw NullPointerException when path is null")
+    void of_withNullPath_shouldThrowNullPointerException() {
+        assertThrows(
+                NullPointerException.class,
+                () -> DelimitedFileDataSupplier.of(null, ',')
+        );
+    }
+
+    @Test
+    @DisplayName("Should throw IllegalArgumentException when delimiter is a quote")
+    void of_withQuoteDelimiter_shouldThrowIllegalArgumentException() {
+        assertThrows(
+                IllegalArgumentException.class,
+                () -> DelimitedFileDataSupplier.of(directory, '"')
+        );
+    }
+
+    @Test
+    @DisplayName("Should stream rows of a comma-separated file")
+    void stream_withCsvFile_shouldStreamRows() throws IOException {
+        Path file = Files.writeString(directory.resolve("data.csv"), "a,b,c\r\n\nd,,f\ng,h,\n");
+
+        List<String[]> rows = read(DelimitedFileDataSupplier.csv(file));
+
+        assertEquals(3, rows.size());
+        assertArrayEquals(new String[]{"a", "b", "c"}, rows.get(0));
+        assertArrayEquals(new String[]{"d", "", "f"}, rows.get(1));
+        assertArrayEquals(new String[]{"g", "h", ""}, rows.get(2));
+    }
+
+    @Test
+    @DisplayName("Should unescape quoted fields containing delimiters, quotes and line breaks")
+    void stream_withQuotedFields_shouldUnescapeFields() throws IOException {
+        Path file = Files.writeString(directory.resolve("data.csv"), "\"a,b\",\"say \"\"hi\"\"\"\n\"multi\nline\",\u00fc\n");
+
+        List<String[]> rows = read(DelimitedFileDataSupplier.csv(file));
+
+        assertEquals(2, rows.size());
+        assertArrayEquals(new String[]{"a,b", "say \"hi\""}, rows.get(0));
+        assertArrayEquals(new String[]{"multi\nline", "\u00fc"}, rows.get(1));
+    }
+
+    @Test
+    @DisplayName("Should parse rows crossing mapped regions")
+    void stream_withSmallMappingSize_shouldParseRowsAcrossRegions() throws IOException {
+        StringBuilder content = new StringBuilder();
+        for (int i = 0; i < 100; i++) {
+            content.append(i).append('\t').append("\"value\t").append(i).append("\"\n");
+        }
+        Path file = Files.writeString(directory.resolve("data.tsv"), content);
+
+        List<String[]> rows = read(DelimitedFileDataSupplier.tsv(file).withMappingSize(3));
+
+        assertEquals(100, rows.size());
+        for (int i = 0; i < 100; i++) {
+            assertArrayEquals(new String[]{String.valueOf(i), "value\t" + i}, rows.get(i));
+        }
+    }
+
+    @Test
+    @DisplayName("Should skip header row of a classpath resource")
+    void stream_withResourceSkippingHeader_shouldStreamDataRows() {
+        DelimitedFileDataSupplier supplier = DelimitedFileDataSupplier.ofResource(getClass(), "rows.csv", ',')
+                                                                      .skippingHeader();
+
+        List<String[]> rows = read(supplier);
+
+        assertEquals(2, rows.size());
+        assertArrayEquals(new String[]{"first", "1"}, rows.get(0));
+        assertArrayEquals(new String[]{"second, quoted", "2"}, rows.get(1));
+    }
+
+    @Test
+    @DisplayName("Should copy a packaged resource once for all suppliers of that resource")
+    void stream_withPackagedResource_shouldCopyResourceOnce() throws Exception {
+        String content = "id,value\n" + UUID.randomUUID() + ",1\n";
+        String anchorName = ResourceAnchor.class.getName();
+        String packagePath = anchorName.substring(0, anchorName.lastIndexOf('.')).replace('.', '/');
+
+        Path jar = directory.resolve("resources.jar");
+        try (JarOutputStream output = new JarOutputStream(Files.newOutputStream(jar));
+             InputStream anchorClass = ResourceAnchor.class.getResourceAsStream(
+                     anchorName.substring(anchorName.lastIndexOf('.') + 1) + ".class")) {
+            output.putNextEntry(new JarEntry(anchorName.replace('.', '/') + ".class"));
+            anchorClass.transferTo(output);
+            output.putNextEntry(new JarEntry(packagePath + "/packaged.csv"));
+            output.write(content.getBytes(StandardCharsets.UTF_8));
+        }
+
+        try (URLClassLoader loader = new URLClassLoader(new URL[]{jar.toUri().toURL()}, null)) {
+            Class<?> anchor = loader.loadClass(anchorName);
+            long copiesBefore = copiesOf(content);
+
+            List<String[]> first = read(DelimitedFileDataSupplier.ofResource(anchor, "packaged.csv", ','));
+            List<String[]> second = read(DelimitedFileDataSupplier.ofResource(anchor, "packaged.csv", ','));
+
+            assertEquals(2, first.size());
+            assertEquals(2, second.size());
+            assertEquals(1, copiesOf(content) - copiesBefore);
+        }
+    }
+
+    @Test
+    @DisplayName("Should throw UncheckedIOException when a quoted field is not terminated")
+    void stream_withUnterminatedQuote_shouldThrowUncheckedIOException() throws IOException {
+        Path file = Files.writeString(directory.resolve("data.csv"), "a,\"b\n");
+
+        assertThrows(
+                UncheckedIOException.class,
+                () -> read(DelimitedFileDataSupplier.csv(file))
+        );
+    }
+
+    private static long copiesOf(String content) throws IOException {
+        Path temporary = Path.of(System.getProperty("java.io.tmpdir"));
+        try (Stream<Path> files = Files.list(temporary)) {
+            return files
+                    .filter(file -> file.getFileName().toString().startsWith("derivora-"))
+                    .filter(file -> {
+                        try {
+                            return Files.readString(file).equals(content);
+                        } catch (IOException e) {
+                            return false;
+                        }
+                    })
+                    .count();
+        }
+    }
+
+    private static List<String[]> read(DelimitedFileDataSupplier supplier) {
+        try (Stream<String[]> rows = supplier.stream()) {
+            return rows.toList();
+        }
+    }
+}
@@ -0,0 +1,244 @@
+/*
+ * This file is part of Derivora Testing Data Support.
+ *
+ * Derivora Testing Data Support is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Derivora Testing Data Support is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with Derivora Testing Data Support. If not, see https://www.gnu.org/licenses/lgpl-3.0.html.
+ */
+
+package xyz.derivora.testing.data.support.test.supplier.random;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.provider.Arguments;
+import xyz.derivora.testing.data.support.aggregator.FlatDataAggregator;
+import xyz.derivora.testing.data.support.provider.DirectDataProvider;
+import xyz.derivora.testing.data.support.supplier.DataSupplier;
+import xyz.derivora.testing.data.support.supplier.random.RandomDataSupplier;
+import xyz.derivora.testing.data.support.supplier.resolver.DataSupplierResolver;
+import xyz.derivora.testing.data.support.supplier.resolver.SupplierScope;
+import xyz.derivora.testing.data.support.test.context.TestExtensionContext;
+
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.reflect.Method;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@Tag("xyz/derivora/testing/data/support/supplier/random")
+@DisplayName("Tests for RandomDataSupplier")
+class RandomDataSupplierTest {
+
+    private static final RandomDataSupplier<Long> SUPPLIER = RandomDataSupplier.of(42, 1000, Long[]::new,
+                                                                                   (random, index) -> random.nextLong());
+
+    @Test
+    @DisplayName("Should throw IllegalArgumentException when size is negative")
+    void of_withNegativeSize_shouldThrowIllegalArgumentException() {
+        assertThrows(
+                IllegalArgumentException.class,
+                () -> RandomDataSupplier.of(42, -1, Long[]::new, (random, index) -> random.nextLong())
+        );
+    }
+
+    @Test
+    @DisplayName("Should throw NullPointerException when array generator is null")
+    void of_withNullArrayGenerator_shouldThrowNullPointerException() {
+        assertThrows(
+                NullPointerException.class,
+                () -> RandomDataSupplier.<Long>of(42, 1, null, (random, index) -> random.nextLong())
+        );
+    }
+
+    @Test
+    @DisplayName("Should throw NullPointerException when row generator is null")
+    void of_withNullRowGenerator_shouldThrowNullPointerException() {
+        assertThrows(
+                NullPointerException.class,
+                () -> RandomDataSupplier.of(42, 1, Long[]::new, null)
+        );
+    }
+
+    @Test
+    @DisplayName("Should generate the same rows from the same seed")
+    void get_withSameSeed_shouldGenerateSameRows() {
+        RandomDataSupplier<Long> other = RandomDataSupplier.of(42, 1000, Long[]::new,
+                                                               (random, index) -> random.nextLong());
+
+        assertArrayEquals(SUPPLIER.get(), other.get());
+    }
+
+    @Test
+    @DisplayName("Should generate different rows from different seeds")
+    void get_withDifferentSeed_shouldGenerateDifferentRows() {
+        assertFalse(List.of(SUPPLIER.get()).equals(List.of(SUPPLIER.withSeed(43).get())));
+        assertEquals(43, SUPPLIER.withSeed(43).seed());
+    }
+
+    @Test
+    @DisplayName("Should generate distinct rows within a dataset")
+    void get_withSeed_shouldGenerateDistinctRows() {
+        Set<Long> rows = new HashSet<>(List.of(SUPPLIER.get()));
+
+        assertEquals(SUPPLIER.size(), rows.size());
+    }
+
+    @Test
+    @DisplayName("Should generate the same rows in parallel as sequentially")
+    void get_withParallelGeneration_shouldGenerateSameRows() {
+        assertArrayEquals(SUPPLIER.get(), SUPPLIER.parallel().get());
+    }
+
+    @Test
+    @DisplayName("Should stream the same rows as the generated array")
+    void stream_withSeed_shouldStreamSameRows() {
+        try (Stream<Long> rows = SUPPLIER.stream()) {
+            assertEquals(List.of(SUPPLIER.get()), rows.toList());
+        }
+    }
+
+    @Test
+    @DisplayName("Should reproduce any single row from its index")
+    void row_withIndex_shouldReproduceRow() {
+        Long[] rows = SUPPLIER.get();
+
+        for (int index : new int[]{0, 1, 500, 999}) {
+            assertEquals(rows[index], SUPPLIER.row(index));
+        }
+    }
+
+    @Test
+    @DisplayName("Should pass the index of the row to the row generator")
+    void row_withIndex_shouldPassIndexToGenerator() {
+        RandomDataSupplier<Object[]> supplier = RandomDataSupplier.of(7, 3, Object[][]::new,
+                                                                      (random, index) -> new Object[]{index, random.nextInt(10)});
+
+        assertEquals(2, supplier.row(2)[0]);
+        assertEquals(3, supplier.get().length);
+    }
+
+    @Test
+    @DisplayName("Should throw IndexOutOfBoundsException when index is out of bounds")
+    void row_withIndexOutOfBounds_shouldThrowIndexOutOfBoundsException() {
+        assertThrows(
+                IndexOutOfBoundsException.class,
+                () -> SUPPLIER.row(SUPPLIER.size())
+        );
+    }
+
+    @Test
+    @DisplayName("Should give each row a random generator independent of the consumption of other rows")
+    void row_withGeneratorConsumingValues_shouldNotAffectOtherRows() {
+        RandomDataSupplier<Long> greedy = RandomDataSupplier.of(42, 2, Long[]::new, (random, index) -> {
+            if (index == 0) {
+                random.nextLong();
+            }
+            return random.nextLong();
+        });
+        RandomDataSupplier<Long> frugal = RandomDataSupplier.of(42, 2, Long[]::new,
+                                                                (random, index) -> random.nextLong());
+
+        assertEquals(frugal.row(1), greedy.row(1));
+    }
+
+    @Test
+    @DisplayName("Should throw IllegalArgumentException when a subclass passes a negative size")
+    void constructor_withNegativeSize_shouldThrowIllegalArgumentException() {
+        assertThrows(
+                IllegalArgumentException.class,
+                () -> new SizedLongs(-1)
+        );
+    }
+
+    @Test
+    @DisplayName("Should provide the rows of a subclass created with the injected seed through a DirectDataProvider")
+    void provideArguments_withInjectedSeed_shouldProvideSeededRows() throws Exception {
+        Method method = RandomDataSupplierTest.class.getDeclaredMethod("annotatedMethod");
+
+        List<Object> provided;
+        try (Stream<? extends Arguments> arguments = new RandomDataProvider().provideArguments(TestExtensionContext.forMethod(method))) {
+            provided = arguments.map(argument -> argument.get()[0]).toList();
+        }
+
+        assertEquals(List.of((Object[]) SUPPLIER.get()), provided);
+        assertEquals(List.of((Object[]) new SeededLongs(42).get()), provided);
+    }
+
+    @Test
+    @DisplayName("Should provide the same rows from a subclass generating rows in parallel")
+    void provideArguments_withParallelSubclass_shouldProvideSeededRows() throws Exception {
+        Method method = RandomDataSupplierTest.class.getDeclaredMethod("parallelMethod");
+
+        List<Object> provided;
+        try (Stream<? extends Arguments> arguments = new RandomDataProvider().provideArguments(TestExtensionContext.forMethod(method))) {
+            provided = arguments.map(argument -> argument.get()[0]).toList();
+        }
+
+        assertEquals(List.of((Object[]) new SeededLongs(42).get()), provided);
+    }
+
+    @RandomData(SeededLongs.class)
+    private static void annotatedMethod() {
+    }
+
+    @RandomData(ParallelSeededLongs.class)
+    private static void parallelMethod() {
+    }
+
+    @Retention(RetentionPolicy.RUNTIME)
+    @interface RandomData {
+
+        Class<? extends RandomDataSupplier<Long>> value();
+    }
+
+    public static class SeededLongs extends RandomDataSupplier<Long> {
+
+        public SeededLongs(long seed) {
+            super(seed, 1000, Long[]::new, (random, index) -> random.nextLong());
+        }
+    }
+
+    public static class ParallelSeededLongs extends RandomDataSupplier<Long> {
+
+        public ParallelSeededLongs(long seed) {
+            super(seed, 1000, Long[]::new, (random, index) -> random.nextLong(), true);
+        }
+    }
+
+    private static class SizedLongs extends RandomDataSupplier<Long> {
+
+        SizedLongs(int size) {
+            super(42, size, Long[]::new, (random, index) -> random.nextLong());
+        }
+    }
+
+    private static class RandomDataProvider extends DirectDataProvider<Long, RandomData> {
+
+        @SuppressWarnings("unchecked")
+        private static final DataSupplierResolver<Long> RESOLVER = DataSupplierResolver.getInstance(DataSupplier[]::new,
+                                                                                                    SupplierScope.INVOCATION, 42L);
+
+        RandomDataProvider() {
+            super(RandomData.class, new FlatDataAggregator<>(Long[]::new));
+        }
+
+        @Override
+        protected DataSupplier<Long>[] resolveSuppliers(RandomData annotation) throws Exception {
+            return RESOLVER.resolve(annotation.value());
+        }
+    }
+}
@@ -0,0 +1,262 @@
+/*
+ * This file is part of Derivora Testing Data Support.
+ *
+ * Derivora Testing Data Support is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Derivora Testing Data Support is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with Derivora Testing Data Support. If not, see https://www.gnu.org/licenses/lgpl-3.0.html.
+ */
+
+package xyz.derivora.testing.data.support.test.supplier.resolver;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtensionContext;
+import xyz.derivora.testing.data.support.supplier.DataSupplier;
+import xyz.derivora.testing.data.support.supplier.resolver.DataSupplierResolver;
+import xyz.derivora.testing.data.support.supplier.resolver.SupplierScope;
+import xyz.derivora.testing.data.support.test.context.TestExtensionContext;
+import xyz.derivora.testing.data.support.test.supplier.StringDataSupplier;
+
+import java.lang.reflect.Method;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@Tag("xyz/derivora/testing/data/support/supplier/resolver")
+@DisplayName("Tests for CachingDataSupplierResolver")
+class CachingDataSupplierResolverTest extends DataSupplierResolverTest<String> {
+
+    @Override
+    protected DataSupplierResolver<String> getResolver() {
+        return DataSupplierResolver.getInstance(StringDataSupplier[]::new, SupplierScope.INVOCATION);
+    }
+
+    @Test
+    @DisplayName("Should throw NullPointerException when scope is null")
+    void constructor_withNullScope_shouldThrowNullPointerException() {
+        assertThrows(
+                NullPointerException.class,
+                () -> DataSupplierResolver.getInstance(StringDataSupplier[]::new, null)
+        );
+    }
+
+    @Test
+    @DisplayName("Should create new instances when scope is invocation")
+    @SuppressWarnings("unchecked")
+    void resolve_withInvocationScope_shouldCreateNewInstances() throws Exception {
+        DataSupplier<String>[] suppliers = getResolver().resolve(TestSupplier.class, TestSupplier.class);
+
+        assertEquals(2, suppliers.length);
+        assertInstanceOf(TestSupplier.class, suppliers[0]);
+        assertNotSame(suppliers[0], suppliers[1]);
+    }
+
+    @Test
+    @DisplayName("Should share a single instance within a resolver when scope is run")
+    @SuppressWarnings("unchecked")
+    void resolve_withRunScope_shouldShareInstance() throws Exception {
+        DataSupplierResolver<String> resolver = DataSupplierResolver.getInstance(StringDataSupplier[]::new,
+                                                                                 SupplierScope.RUN);
+
+        DataSupplier<String> supplier = resolver.resolve(TestSupplier.class)[0];
+        DataSupplier<String> anotherSupplier = resolver.resolve(TestSupplier.class)[0];
+
+        assertInstanceOf(TestSupplier.class, supplier);
+        assertSame(supplier, anotherSupplier);
+    }
+
+    @Test
+    @DisplayName("Should not share run scoped instances between resolvers with different injectables")
+    @SuppressWarnings("unchecked")
+    void resolve_withRunScopeAndDifferentInjectables_shouldNotShareInstance() throws Exception {
+        DataSupplierResolver<String> resolver = DataSupplierResolver.getInstance(StringDataSupplier[]::new,
+                                                                                 SupplierScope.RUN, "Seed", 1L);
+        DataSupplierResolver<String> anotherResolver = DataSupplierResolver.getInstance(StringDataSupplier[]::new,
+                                                                                        SupplierScope.RUN, "Seed", 2L);
+
+        assertArrayEquals(new String[]{"Seed", "1"}, resolver.resolve(SeededSupplier.class)[0].get());
+        assertArrayEquals(new String[]{"Seed", "2"}, anotherResolver.resolve(SeededSupplier.class)[0].get());
+
+        ExtensionContext root = TestExtensionContext.root();
+        assertArrayEquals(new String[]{"Seed", "1"}, resolver.resolve(root, SeededSupplier.class)[0].get());
+        assertArrayEquals(new String[]{"Seed", "2"}, anotherResolver.resolve(root, SeededSupplier.class)[0].get());
+    }
+
+    @Test
+    @DisplayName("Should share a single instance within a test run when scope is run")
+    @SuppressWarnings("unchecked")
+    void resolve_withRunScopeAndContext_shouldShareInstanceWithinRun() throws Exception {
+        DataSupplierResolver<String> resolver = DataSupplierResolver.getInstance(StringDataSupplier[]::new,
+                                                                                 SupplierScope.RUN);
+        ExtensionContext root = TestExtensionContext.root();
+        ExtensionContext classContext = TestExtensionContext.forClass(root, getClass());
+
+        DataSupplier<String> supplier = resolver.resolve(methodContext(classContext, "firstMethod"), TestSupplier.class)[0];
+        DataSupplier<String> anotherSupplier = resolver.resolve(classContext, TestSupplier.class)[0];
+        DataSupplier<String> nextRunSupplier = resolver.resolve(TestExtensionContext.root(), TestSupplier.class)[0];
+
+        assertSame(supplier, anotherSupplier);
+        assertNotSame(supplier, nextRunSupplier);
+    }
+
+    @Test
+    @DisplayName("Should throw IllegalStateException when scope is test class and no context is given")
+    @SuppressWarnings("unchecked")
+    void resolve_withTestClassScopeAndNoContext_shouldThrowIllegalStateException() {
+        DataSupplierResolver<String> resolver = DataSupplierResolver.getInstance(StringDataSupplier[]::new,
+                                                                                 SupplierScope.TEST_CLASS);
+        assertThrows(
+                IllegalStateException.class,
+                () -> resolver.resolve(TestSupplier.class)
+        );
+    }
+
+    @Test
+    @DisplayName("Should share a single instance between methods of the same class when scope is test class")
+    @SuppressWarnings("unchecked")
+    void resolve_withTestClassScopeAndSameClass_shouldShareInstance() throws Exception {
+        DataSupplierResolver<String> resolver = DataSupplierResolver.getInstance(StringDataSupplier[]::new,
+                                                                                 SupplierScope.TEST_CLASS);
+        ExtensionContext classContext = TestExtensionContext.forClass(TestExtensionContext.root(), getClass());
+
+        DataSupplier<String> supplier = resolver.resolve(methodContext(classContext, "firstMethod"), TestSupplier.class)[0];
+        DataSupplier<String> anotherSupplier = resolver.resolve(methodContext(classContext, "secondMethod"),
+                                                                TestSupplier.class)[0];
+
+        assertInstanceOf(TestSupplier.class, supplier);
+        assertSame(supplier, anotherSupplier);
+    }
+
+    @Test
+    @DisplayName("Should create a new instance for a different class when scope is test class")
+    @SuppressWarnings("unchecked")
+    void resolve_withTestClassScopeAndDifferentClass_shouldCreateNewInstance() throws Exception {
+        DataSupplierResolver<String> resolver = DataSupplierResolver.getInstance(StringDataSupplier[]::new,
+                                                                                 SupplierScope.TEST_CLASS);
+        ExtensionContext root = TestExtensionContext.root();
+        ExtensionContext classContext = TestExtensionContext.forClass(root, getClass());
+        ExtensionContext anotherClassContext = TestExtensionContext.forClass(root, ReflectiveDataSupplierResolverTest.class);
+
+        DataSupplier<String> supplier = resolver.resolve(methodContext(classContext, "firstMethod"), TestSupplier.class)[0];
+        DataSupplier<String> anotherSupplier = resolver.resolve(anotherClassContext, TestSupplier.class)[0];
+
+        assertNotSame(supplier, anotherSupplier);
+    }
+
+    @Test
+    @DisplayName("Should create a new instance for a nested class when scope is test class")
+    @SuppressWarnings("unchecked")
+    void resolve_withTestClassScopeAndNestedClass_shouldCreateNewInstance() throws Exception {
+        DataSupplierResolver<String> resolver = DataSupplierResolver.getInstance(StringDataSupplier[]::new,
+                                                                                 SupplierScope.TEST_CLASS);
+        ExtensionContext classContext = TestExtensionContext.forClass(TestExtensionContext.root(), getClass());
+        ExtensionContext nestedClassContext = TestExtensionContext.forClass(classContext, NestedTests.class);
+
+        DataSupplier<String> supplier = resolver.resolve(methodContext(classContext, "firstMethod"), TestSupplier.class)[0];
+        DataSupplier<String> nestedSupplier = resolver.resolve(methodContext(nestedClassContext, "firstMethod"),
+                                                               TestSupplier.class)[0];
+        DataSupplier<String> anotherNestedSupplier = resolver.resolve(methodContext(nestedClassContext, "secondMethod"),
+                                                                      TestSupplier.class)[0];
+
+        assertNotSame(supplier, nestedSupplier);
+        assertSame(nestedSupplier, anotherNestedSupplier);
+    }
+
+    @Test
+    @DisplayName("Should throw IllegalArgumentException when class has not default constructor")
+    @SuppressWarnings("unchecked")
+    void resolve_whenNoDefaultConstructor_shouldThrowIllegalArgumentException() {
+        assertThrows(
+                IllegalArgumentException.class,
+                () -> getResolver().resolve(ReflectiveDataSupplierResolverTest.NoDefaultConstructorSupplier.class)
+        );
+    }
+
+    @Test
+    @DisplayName("Should throw ReflectiveOperationException when class is abstract")
+    @SuppressWarnings("unchecked")
+    void resolve_withAbstractClass_shouldThrowReflectiveOperationException() {
+        assertThrows(
+                ReflectiveOperationException.class,
+                () -> getResolver().resolve(ReflectiveDataSupplierResolverTest.AbstractSupplier.class)
+        );
+    }
+
+    @Test
+    @DisplayName("Should throw NullPointerException when injectables array contains null")
+    void constructor_withNullInjectableInArray_shouldThrowNullPointerException() {
+        assertThrows(
+                NullPointerException.class,
+                () -> DataSupplierResolver.getInstance(StringDataSupplier[]::new, SupplierScope.INVOCATION, 42L, null)
+        );
+    }
+
+    @Test
+    @DisplayName("Should inject matching values into the public constructor")
+    @SuppressWarnings("unchecked")
+    void resolve_withInjectableValue_shouldInjectConstructorParameter() throws Exception {
+        DataSupplierResolver<String> resolver = DataSupplierResolver.getInstance(StringDataSupplier[]::new,
+                                                                                 SupplierScope.INVOCATION, "Seed", 42L);
+        DataSupplier<String>[] suppliers = resolver.resolve(SeededSupplier.class);
+
+        assertArrayEquals(new String[]{"Seed", "42"}, suppliers[0].get());
+    }
+
+    @Test
+    @DisplayName("Should throw IllegalArgumentException when a constructor parameter cannot be injected")
+    @SuppressWarnings("unchecked")
+    void resolve_withoutInjectableValue_shouldThrowIllegalArgumentException() {
+        assertThrows(
+                IllegalArgumentException.class,
+                () -> getResolver().resolve(SeededSupplier.class)
+        );
+    }
+
+    private static ExtensionContext methodContext(ExtensionContext classContext, String methodName) throws Exception {
+        Method method = CachingDataSupplierResolverTest.class.getDeclaredMethod(methodName);
+        return TestExtensionContext.forMethod(classContext, method);
+    }
+
+    private static void firstMethod() {
+    }
+
+    private static void secondMethod() {
+    }
+
+    static class NestedTests {
+    }
+
+    public static class TestSupplier implements StringDataSupplier {
+
+        @Override
+        public String[] get() {
+            return new String[]{"Test"};
+        }
+    }
+
+    public static class SeededSupplier implements StringDataSupplier {
+
+        private final String name;
+
+        private final long seed;
+
+        public SeededSupplier(String name, long seed) {
+            this.name = name;
+            this.seed = seed;
+        }
+
+        @Override
+        public String[] get() {
+            return new String[]{name, String.valueOf(seed)};
+        }
+    }
+}
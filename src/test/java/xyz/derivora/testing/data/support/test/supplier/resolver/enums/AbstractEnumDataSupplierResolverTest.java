@@ -0,0 +1,111 @@
+/*
+ * This file is part of Derivora Testing Data Support.
+ *
+ * Derivora Testing Data Support is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Derivora Testing Data Support is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with Derivora Testing Data Support. If not, see https://www.gnu.org/licenses/lgpl-3.0.html.
+ */
+
+package xyz.derivora.testing.data.support.test.supplier.resolver.enums;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import xyz.derivora.testing.data.support.supplier.DataSupplier;
+import xyz.derivora.testing.data.support.supplier.resolver.enums.AbstractEnumDataSupplierResolver;
+import xyz.derivora.testing.data.support.test.supplier.StringDataSupplier;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@Tag("xyz/derivora/testing/data/support/supplier/resolver/enums")
+@DisplayName("Tests for AbstractEnumDataSupplierResolver")
+class AbstractEnumDataSupplierResolverTest {
+
+    @Test
+    @DisplayName("Should retrieve the constants of an enum type only once per resolver")
+    void resolve_withSameTypeRepeatedly_shouldRetrieveConstantsOnce() throws Exception {
+        CountingResolver resolver = new CountingResolver();
+
+        DataSupplier<String>[] suppliers = resolver.resolve(IndexedEnum.class, IndexedEnum.SECOND.name());
+        DataSupplier<String>[] moreSuppliers = resolver.resolve(IndexedEnum.class,
+                                                                IndexedEnum.FIRST.name(),
+                                                                IndexedEnum.SECOND.name());
+
+        assertArrayEquals(new DataSupplier<?>[]{IndexedEnum.SECOND}, suppliers);
+        assertArrayEquals(new DataSupplier<?>[]{IndexedEnum.FIRST, IndexedEnum.SECOND}, moreSuppliers);
+        assertEquals(1, resolver.retrievals.get());
+    }
+
+    @Test
+    @DisplayName("Should not share the constants index between resolvers")
+    void resolve_withDifferentResolvers_shouldIndexConstantsSeparately() throws Exception {
+        CountingResolver resolver = new CountingResolver();
+        CountingResolver firstOnlyResolver = new CountingResolver(IndexedEnum.FIRST);
+
+        resolver.resolve(IndexedEnum.class, IndexedEnum.SECOND.name());
+
+        assertThrows(
+                IllegalArgumentException.class,
+                () -> firstOnlyResolver.resolve(IndexedEnum.class, IndexedEnum.SECOND.name())
+        );
+        assertArrayEquals(new DataSupplier<?>[]{IndexedEnum.FIRST},
+                          firstOnlyResolver.resolve(IndexedEnum.class, IndexedEnum.FIRST.name()));
+        assertEquals(1, resolver.retrievals.get());
+        assertEquals(1, firstOnlyResolver.retrievals.get());
+    }
+
+    @Test
+    @DisplayName("Should throw IllegalArgumentException when constant name does not exist")
+    void resolve_withUnknownName_shouldThrowIllegalArgumentException() {
+        assertThrows(
+                IllegalArgumentException.class,
+                () -> new CountingResolver().resolve(IndexedEnum.class, "UNKNOWN")
+        );
+    }
+
+    private static final class CountingResolver extends AbstractEnumDataSupplierResolver<String> {
+
+        private final AtomicInteger retrievals = new AtomicInteger();
+
+        private final DataSupplier<String>[] constants;
+
+        private CountingResolver(StringDataSupplier... constants) {
+            super(StringDataSupplier[]::new);
+            this.constants = constants;
+        }
+
+        @Override
+        protected DataSupplier<String>[] resolveConstants(Class<? extends DataSupplier<String>> enumType) {
+            retrievals.incrementAndGet();
+            return constants.length == 0 ? enumType.getEnumConstants() : constants;
+        }
+    }
+
+    public enum IndexedEnum implements StringDataSupplier {
+
+        FIRST {
+            @Override
+            public String[] get() {
+                return new String[]{"First"};
+            }
+        },
+
+        SECOND {
+            @Override
+            public String[] get() {
+                return new String[]{"Second"};
+            }
+        }
+    }
+}